@@ -0,0 +1,77 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import org.opentcs.data.model.TCSResourceReference;
+
+/**
+ * Emitted when the scheduler does not grant an allocation because it would result in its clients
+ * waiting for each other's resources in a cycle.
+ */
+public class DeadlockPredictedEvent
+    implements
+      Serializable {
+
+  /**
+   * The IDs of the clients that would wait for each other, starting with the requesting client.
+   */
+  private final List<String> clientIds;
+  /**
+   * References to the resources requested.
+   */
+  private final Set<TCSResourceReference<?>> resources;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clientIds The IDs of the clients that would wait for each other, starting with the
+   * requesting client. Every client waits for the next one, the last one for the first one.
+   * @param resources References to the resources requested.
+   */
+  public DeadlockPredictedEvent(
+      @Nonnull
+      List<String> clientIds,
+      @Nonnull
+      Set<TCSResourceReference<?>> resources
+  ) {
+    this.clientIds = List.copyOf(requireNonNull(clientIds, "clientIds"));
+    this.resources = Set.copyOf(requireNonNull(resources, "resources"));
+  }
+
+  /**
+   * Returns the IDs of the clients that would wait for each other, starting with the requesting
+   * client.
+   * Every client waits for the next one, the last one for the first one.
+   *
+   * @return The IDs of the clients that would wait for each other.
+   */
+  @Nonnull
+  public List<String> getClientIds() {
+    return clientIds;
+  }
+
+  /**
+   * Returns references to the resources requested.
+   *
+   * @return References to the resources requested.
+   */
+  @Nonnull
+  public Set<TCSResourceReference<?>> getResources() {
+    return resources;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + '{'
+        + "clientIds=" + clientIds
+        + ", resources=" + resources
+        + '}';
+  }
+}
@@ -7,6 +7,7 @@ import java.rmi.RemoteException;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.TCSObject;
@@ -51,6 +52,13 @@ public interface RemoteTCSObjectService
   )
       throws RemoteException;
 
+  <T extends TCSObject<T>, K> Set<T> fetchObjectsByIndex(
+      ClientID clientId,
+      TCSObjectIndex<T, K> index,
+      K key
+  )
+      throws RemoteException;
+
   void updateObjectProperty(
       ClientID clientId,
       TCSObjectReference<?> ref,
@@ -5,7 +5,9 @@ package org.opentcs.access.rmi.services;
 import java.rmi.RemoteException;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
@@ -79,6 +81,28 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
     }
   }
 
+  @Override
+  public <T extends TCSObject<T>, K> Set<T> fetchObjectsByIndex(
+      TCSObjectIndex<T, K> index,
+      K key
+  )
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      if (index.isPredefined()) {
+        return getRemoteService().fetchObjectsByIndex(getClientId(), index, key);
+      }
+      // Only predefined indexes can be passed to the remote service, so filter the objects here.
+      return getRemoteService().fetchObjects(getClientId(), index.getObjectClass()).stream()
+          .filter(object -> key.equals(index.extractKey(object)))
+          .collect(Collectors.toSet());
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
   @Override
   public void updateObjectProperty(TCSObjectReference<?> ref, String key, String value)
       throws ObjectUnknownException,
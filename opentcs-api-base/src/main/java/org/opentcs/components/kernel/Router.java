@@ -4,6 +4,7 @@ package org.opentcs.components.kernel;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -243,6 +244,50 @@ public interface Router
         .orElse(Set.of());
   }
 
+  /**
+   * Returns possible routes from one point to each of several other points, passable by a given
+   * vehicle.
+   * <p>
+   * This is meant for finding the nearest of several points (e.g. parking or recharge positions).
+   * Implementations may compute the routes to all of the given points with a single search. The
+   * default implementation computes them separately via
+   * {@link #getRoutes(Vehicle, Point, Point, Set, int)}.
+   * </p>
+   * <p>
+   * This method is supposed to be called only from the kernel executor thread.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the calculated routes must be passable.
+   * @param sourcePoint The starting point of the routes to calculate.
+   * @param destinationPoints The end points of the routes to calculate.
+   * @param resourcesToAvoid Resources to avoid when calculating the routes.
+   * @param maxRouteCount The maximum number of routes to return per end point.
+   * @return The routes to each of the given end points. End points to which no routes exist are not
+   * contained in the returned map.
+   */
+  @Nonnull
+  default Map<Point, Set<Route>> getRoutesToPoints(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Set<Point> destinationPoints,
+      @Nonnull
+      Set<TCSResourceReference<?>> resourcesToAvoid,
+      int maxRouteCount
+  ) {
+    Map<Point, Set<Route>> result = new HashMap<>();
+    for (Point destinationPoint : destinationPoints) {
+      Set<Route> routes
+          = getRoutes(vehicle, sourcePoint, destinationPoint, resourcesToAvoid, maxRouteCount);
+      if (!routes.isEmpty()) {
+        result.put(destinationPoint, routes);
+      }
+    }
+    return result;
+  }
+
   /**
    * Returns the costs for travelling a route from one point to another with a
    * given vehicle.
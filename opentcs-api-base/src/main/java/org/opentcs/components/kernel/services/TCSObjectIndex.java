@@ -0,0 +1,222 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.components.kernel.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * Declares a secondary index on objects of a specific class, i.e. a mapping of a key derived from
+ * each object to the set of objects with that key.
+ * <p>
+ * Implementations of {@link TCSObjectService} may maintain such indexes (incrementally, as objects
+ * are modified) to answer {@link TCSObjectService#fetchObjectsByIndex(TCSObjectIndex, Object)}
+ * without having to look at every object of the respective class.
+ * </p>
+ * <p>
+ * Only the {@link #predefinedIndexes() predefined} indexes can be serialized (e.g. to be passed to
+ * remote services). They are serialized by their names and resolved to the respective constants
+ * upon deserialization.
+ * </p>
+ *
+ * @param <T> The type of the indexed objects.
+ * @param <K> The type of the index keys.
+ */
+public final class TCSObjectIndex<T extends TCSObject<T>, K>
+    implements
+      Serializable {
+
+  /**
+   * Indexes transport orders by their state.
+   */
+  public static final TCSObjectIndex<TransportOrder, TransportOrder.State> ORDERS_BY_STATE
+      = new TCSObjectIndex<>("ORDERS_BY_STATE", TransportOrder.class, TransportOrder::getState);
+  /**
+   * Indexes transport orders by the name of the vehicle intended to process them.
+   */
+  public static final TCSObjectIndex<TransportOrder, String> ORDERS_BY_INTENDED_VEHICLE
+      = new TCSObjectIndex<>(
+          "ORDERS_BY_INTENDED_VEHICLE",
+          TransportOrder.class,
+          order -> nameOf(order.getIntendedVehicle())
+      );
+  /**
+   * Indexes peripheral jobs by their state.
+   */
+  public static final TCSObjectIndex<PeripheralJob, PeripheralJob.State> PERIPHERAL_JOBS_BY_STATE
+      = new TCSObjectIndex<>(
+          "PERIPHERAL_JOBS_BY_STATE",
+          PeripheralJob.class,
+          PeripheralJob::getState
+      );
+  /**
+   * Indexes peripheral jobs by the name of the location of their peripheral operation.
+   */
+  public static final TCSObjectIndex<PeripheralJob, String> PERIPHERAL_JOBS_BY_LOCATION
+      = new TCSObjectIndex<>(
+          "PERIPHERAL_JOBS_BY_LOCATION",
+          PeripheralJob.class,
+          job -> nameOf(job.getPeripheralOperation().getLocation())
+      );
+  /**
+   * The name of this index.
+   */
+  private final String name;
+  /**
+   * The class of the indexed objects.
+   */
+  private final Class<T> objectClass;
+  /**
+   * The function providing an object's index key.
+   */
+  private final Function<? super T, ? extends K> keyFunction;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name The name of this index.
+   * @param objectClass The class of the indexed objects.
+   * @param keyFunction The function providing an object's index key. Objects for which it returns
+   * {@code null} are not indexed.
+   */
+  public TCSObjectIndex(
+      @Nonnull
+      String name,
+      @Nonnull
+      Class<T> objectClass,
+      @Nonnull
+      Function<? super T, ? extends K> keyFunction
+  ) {
+    this.name = requireNonNull(name, "name");
+    this.objectClass = requireNonNull(objectClass, "objectClass");
+    this.keyFunction = requireNonNull(keyFunction, "keyFunction");
+  }
+
+  /**
+   * Returns the indexes that are predefined by this class.
+   *
+   * @return The indexes that are predefined by this class.
+   */
+  @Nonnull
+  public static List<TCSObjectIndex<?, ?>> predefinedIndexes() {
+    return List.of(
+        ORDERS_BY_STATE,
+        ORDERS_BY_INTENDED_VEHICLE,
+        PERIPHERAL_JOBS_BY_STATE,
+        PERIPHERAL_JOBS_BY_LOCATION
+    );
+  }
+
+  /**
+   * Returns the name of this index.
+   *
+   * @return The name of this index.
+   */
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the class of the indexed objects.
+   *
+   * @return The class of the indexed objects.
+   */
+  @Nonnull
+  public Class<T> getObjectClass() {
+    return objectClass;
+  }
+
+  /**
+   * Returns the index key for the given object.
+   *
+   * @param object The object.
+   * @return The index key for the given object, or {@code null}, if the object is not to be
+   * indexed.
+   */
+  @Nullable
+  public K extractKey(
+      @Nonnull
+      T object
+  ) {
+    requireNonNull(object, "object");
+
+    return keyFunction.apply(object);
+  }
+
+  @Override
+  public String toString() {
+    return "TCSObjectIndex{"
+        + "name=" + name
+        + ", objectClass=" + objectClass.getName()
+        + '}';
+  }
+
+  /**
+   * Returns whether this is one of the {@link #predefinedIndexes() predefined} indexes.
+   *
+   * @return {@code true} if, and only if, this is one of the predefined indexes.
+   */
+  public boolean isPredefined() {
+    return predefinedIndexes().contains(this);
+  }
+
+  private Object writeReplace()
+      throws ObjectStreamException {
+    if (!isPredefined()) {
+      throw new NotSerializableException("Not a predefined index: " + name);
+    }
+    return new SerializedIndex(name);
+  }
+
+  private void readObject(ObjectInputStream in)
+      throws InvalidObjectException {
+    throw new InvalidObjectException("Indexes are serialized by their names only.");
+  }
+
+  @Nullable
+  private static String nameOf(
+      @Nullable
+      TCSObjectReference<?> ref
+  ) {
+    return ref == null ? null : ref.getName();
+  }
+
+  /**
+   * The serialized form of a predefined index.
+   */
+  private static class SerializedIndex
+      implements
+        Serializable {
+
+    /**
+     * The name of the index.
+     */
+    private final String name;
+
+    SerializedIndex(String name) {
+      this.name = requireNonNull(name, "name");
+    }
+
+    private Object readResolve()
+        throws ObjectStreamException {
+      return predefinedIndexes().stream()
+          .filter(index -> index.getName().equals(name))
+          .findAny()
+          .orElseThrow(() -> new InvalidObjectException("Not a predefined index: " + name));
+    }
+  }
+}
@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.Set;
@@ -11,6 +13,7 @@ import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning {@link TCSObject}s.
@@ -73,6 +76,36 @@ public interface TCSObjectService {
   )
       throws KernelRuntimeException;
 
+  /**
+   * Returns all existing {@link TCSObject}s that are mapped to the given key by the given index.
+   * <p>
+   * Implementations maintaining the given index can answer this without looking at every object of
+   * the index's object class. The default implementation does not rely on any index and filters
+   * all objects of the index's object class.
+   * </p>
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param <K> The type of the index key.
+   * @param index The index.
+   * @param key The index key.
+   * @return Copies of all existing objects that are mapped to the given key by the given index. If
+   * no such objects exist, the returned set will be empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "7.0", details = "Default implementation will be removed.")
+  default <T extends TCSObject<T>, K> Set<T> fetchObjectsByIndex(
+      @Nonnull
+      TCSObjectIndex<T, K> index,
+      @Nonnull
+      K key
+  )
+      throws KernelRuntimeException {
+    requireNonNull(index, "index");
+    requireNonNull(key, "key");
+
+    return fetchObjects(index.getObjectClass(), object -> key.equals(index.extractKey(object)));
+  }
+
   /**
    * Updates a {@link TCSObject}'s property.
    *
@@ -0,0 +1,560 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.opentcs.data.TCSObjectEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link EventBus} that delivers events to its subscribers asynchronously.
+ * <p>
+ * Each subscriber gets a bounded buffer and a dedicated thread delivering the events from that
+ * buffer, so that slow subscribers neither delay the thread emitting events nor each other. The
+ * emitting thread is never blocked; if a subscriber's buffer is full, events are discarded
+ * according to the subscriber's {@link BackpressurePolicy}. Events are delivered to each subscriber
+ * in the order in which they were emitted. Handlers implementing
+ * {@link SynchronousEventHandler} are not given a buffer, but are called directly on the emitting
+ * thread, like with {@link SimpleEventBus}.
+ * </p>
+ * <p>
+ * For every subscriber, this event bus keeps statistics about the number of buffered events and
+ * the time events spent in the buffer (i.e. the subscriber's lag).
+ * </p>
+ */
+public class AsynchronousEventBus
+    implements
+      EventBus {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(AsynchronousEventBus.class);
+  /**
+   * The default capacity of subscribers' buffers.
+   */
+  private final int defaultCapacity;
+  /**
+   * The default policy applied when subscribers' buffers are full.
+   */
+  private final BackpressurePolicy defaultPolicy;
+  /**
+   * The handlers to be called synchronously.
+   */
+  private final Set<EventHandler> synchronousHandlers = new CopyOnWriteArraySet<>();
+  /**
+   * The subscribers to which events are delivered asynchronously.
+   */
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+  /**
+   * Periodically logs the subscribers' statistics, if requested.
+   */
+  private final ScheduledExecutorService statisticsLogger;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param defaultCapacity The default capacity of subscribers' buffers.
+   * @param defaultPolicy The default policy to apply when subscribers' buffers are full.
+   * @param statisticsLogInterval The interval (in ms) in which the subscribers' statistics are to
+   * be logged. If zero, statistics are not logged.
+   */
+  public AsynchronousEventBus(
+      int defaultCapacity,
+      @Nonnull
+      BackpressurePolicy defaultPolicy,
+      long statisticsLogInterval
+  ) {
+    checkArgument(defaultCapacity > 0, "defaultCapacity < 1: %s", defaultCapacity);
+    checkArgument(statisticsLogInterval >= 0, "statisticsLogInterval < 0");
+    this.defaultCapacity = defaultCapacity;
+    this.defaultPolicy = requireNonNull(defaultPolicy, "defaultPolicy");
+
+    if (statisticsLogInterval > 0) {
+      statisticsLogger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "eventBusStatisticsLogger");
+        thread.setDaemon(true);
+        return thread;
+      });
+      statisticsLogger.scheduleWithFixedDelay(
+          this::logStatistics,
+          statisticsLogInterval,
+          statisticsLogInterval,
+          TimeUnit.MILLISECONDS
+      );
+    }
+    else {
+      statisticsLogger = null;
+    }
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    for (EventHandler handler : synchronousHandlers) {
+      try {
+        handler.onEvent(event);
+      }
+      catch (Exception exc) {
+        LOG.warn("Exception thrown by event handler", exc);
+      }
+    }
+    for (Subscriber subscriber : subscribers) {
+      subscriber.enqueue(event);
+    }
+  }
+
+  /**
+   * Subscribes the given listener to events emitted by this source.
+   * <p>
+   * If the listener implements {@link SynchronousEventHandler}, it will be called synchronously.
+   * Otherwise, events will be delivered to it asynchronously, using a buffer with the default
+   * capacity and the default backpressure policy.
+   * </p>
+   *
+   * @param listener The listener to be subscribed.
+   */
+  @Override
+  public void subscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    if (listener instanceof SynchronousEventHandler) {
+      synchronousHandlers.add(listener);
+    }
+    else {
+      subscribe(listener, defaultCapacity, defaultPolicy);
+    }
+  }
+
+  /**
+   * Subscribes the given listener to events emitted by this source, which will be delivered to it
+   * asynchronously.
+   *
+   * @param listener The listener to be subscribed.
+   * @param capacity The capacity of the listener's buffer.
+   * @param policy The policy to apply when the listener's buffer is full.
+   */
+  public void subscribe(
+      @Nonnull
+      EventHandler listener,
+      int capacity,
+      @Nonnull
+      BackpressurePolicy policy
+  ) {
+    requireNonNull(listener, "listener");
+    requireNonNull(policy, "policy");
+    checkArgument(capacity > 0, "capacity < 1: %s", capacity);
+
+    synchronized (subscribers) {
+      if (subscribers.stream().anyMatch(subscriber -> subscriber.handler == listener)) {
+        return;
+      }
+      Subscriber subscriber = new Subscriber(listener, capacity, policy);
+      subscribers.add(subscriber);
+      subscriber.start();
+    }
+  }
+
+  @Override
+  public void unsubscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    synchronousHandlers.remove(listener);
+    synchronized (subscribers) {
+      for (Subscriber subscriber : subscribers) {
+        if (subscriber.handler == listener) {
+          subscribers.remove(subscriber);
+          subscriber.close();
+        }
+      }
+    }
+  }
+
+  /**
+   * Unsubscribes all asynchronous subscribers, discarding all events not delivered to them, yet,
+   * and stops logging statistics.
+   */
+  public void close() {
+    synchronized (subscribers) {
+      for (Subscriber subscriber : subscribers) {
+        subscriber.close();
+      }
+      subscribers.clear();
+    }
+    if (statisticsLogger != null) {
+      statisticsLogger.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns the current statistics of all asynchronous subscribers.
+   *
+   * @return The current statistics of all asynchronous subscribers.
+   */
+  @Nonnull
+  public List<SubscriberStatistics> getSubscriberStatistics() {
+    List<SubscriberStatistics> result = new ArrayList<>();
+    for (Subscriber subscriber : subscribers) {
+      result.add(subscriber.statistics());
+    }
+    return result;
+  }
+
+  private void logStatistics() {
+    for (SubscriberStatistics statistics : getSubscriberStatistics()) {
+      LOG.info("Event bus statistics: {}", statistics);
+    }
+  }
+
+  /**
+   * Defines what happens when an event is to be delivered to a subscriber whose buffer is full.
+   */
+  public enum BackpressurePolicy {
+    /**
+     * The oldest event in the subscriber's buffer is discarded.
+     */
+    DROP_OLDEST,
+    /**
+     * A {@link TCSObjectEvent} of type {@link TCSObjectEvent.Type#OBJECT_MODIFIED} is merged with
+     * the event most recently added to the subscriber's buffer if that one is a modification event
+     * for the same object, so that the subscriber receives only one event containing the earlier
+     * previous and the later current object state.
+     * <p>
+     * Only events emitted directly after each other are merged, so the order in which the
+     * subscriber receives events is not changed. Events that cannot be merged are handled as with
+     * {@link #DROP_OLDEST}.
+     * </p>
+     */
+    COALESCE_BY_OBJECT;
+  }
+
+  /**
+   * A snapshot of an asynchronous subscriber's statistics.
+   */
+  public static class SubscriberStatistics {
+
+    private final String subscriber;
+    private final int bufferedEvents;
+    private final int maxBufferedEvents;
+    private final long deliveredEvents;
+    private final long droppedEvents;
+    private final long coalescedEvents;
+    private final Duration averageLag;
+    private final Duration maxLag;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param subscriber A description of the subscriber.
+     * @param bufferedEvents The number of events currently in the subscriber's buffer.
+     * @param maxBufferedEvents The maximum number of events that have been in the subscriber's
+     * buffer at the same time.
+     * @param deliveredEvents The number of events delivered to the subscriber.
+     * @param droppedEvents The number of events dropped because the subscriber's buffer was full.
+     * @param coalescedEvents The number of events merged into events already in the buffer.
+     * @param averageLag The average time events spent in the subscriber's buffer.
+     * @param maxLag The maximum time an event spent in the subscriber's buffer.
+     */
+    public SubscriberStatistics(
+        @Nonnull
+        String subscriber,
+        int bufferedEvents,
+        int maxBufferedEvents,
+        long deliveredEvents,
+        long droppedEvents,
+        long coalescedEvents,
+        @Nonnull
+        Duration averageLag,
+        @Nonnull
+        Duration maxLag
+    ) {
+      this.subscriber = requireNonNull(subscriber, "subscriber");
+      this.bufferedEvents = bufferedEvents;
+      this.maxBufferedEvents = maxBufferedEvents;
+      this.deliveredEvents = deliveredEvents;
+      this.droppedEvents = droppedEvents;
+      this.coalescedEvents = coalescedEvents;
+      this.averageLag = requireNonNull(averageLag, "averageLag");
+      this.maxLag = requireNonNull(maxLag, "maxLag");
+    }
+
+    /**
+     * Returns a description of the subscriber.
+     *
+     * @return A description of the subscriber.
+     */
+    @Nonnull
+    public String getSubscriber() {
+      return subscriber;
+    }
+
+    /**
+     * Returns the number of events currently in the subscriber's buffer.
+     *
+     * @return The number of events currently in the subscriber's buffer.
+     */
+    public int getBufferedEvents() {
+      return bufferedEvents;
+    }
+
+    /**
+     * Returns the maximum number of events that have been in the subscriber's buffer at the same
+     * time.
+     *
+     * @return The maximum number of events that have been in the subscriber's buffer at the same
+     * time.
+     */
+    public int getMaxBufferedEvents() {
+      return maxBufferedEvents;
+    }
+
+    /**
+     * Returns the number of events delivered to the subscriber.
+     *
+     * @return The number of events delivered to the subscriber.
+     */
+    public long getDeliveredEvents() {
+      return deliveredEvents;
+    }
+
+    /**
+     * Returns the number of events dropped because the subscriber's buffer was full.
+     *
+     * @return The number of events dropped because the subscriber's buffer was full.
+     */
+    public long getDroppedEvents() {
+      return droppedEvents;
+    }
+
+    /**
+     * Returns the number of events merged into events already in the subscriber's buffer.
+     *
+     * @return The number of events merged into events already in the subscriber's buffer.
+     */
+    public long getCoalescedEvents() {
+      return coalescedEvents;
+    }
+
+    /**
+     * Returns the average time events spent in the subscriber's buffer.
+     *
+     * @return The average time events spent in the subscriber's buffer.
+     */
+    @Nonnull
+    public Duration getAverageLag() {
+      return averageLag;
+    }
+
+    /**
+     * Returns the maximum time an event spent in the subscriber's buffer.
+     *
+     * @return The maximum time an event spent in the subscriber's buffer.
+     */
+    @Nonnull
+    public Duration getMaxLag() {
+      return maxLag;
+    }
+
+    @Override
+    public String toString() {
+      return "SubscriberStatistics{"
+          + "subscriber=" + subscriber
+          + ", bufferedEvents=" + bufferedEvents
+          + ", maxBufferedEvents=" + maxBufferedEvents
+          + ", deliveredEvents=" + deliveredEvents
+          + ", droppedEvents=" + droppedEvents
+          + ", coalescedEvents=" + coalescedEvents
+          + ", averageLag=" + averageLag
+          + ", maxLag=" + maxLag
+          + '}';
+    }
+  }
+
+  /**
+   * An asynchronous subscriber with its ring buffer and delivery thread.
+   */
+  private static class Subscriber {
+
+    private final EventHandler handler;
+    private final BackpressurePolicy policy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Entry[] buffer;
+    private final Thread deliveryThread;
+    private int head;
+    private int size;
+    private boolean closed;
+    private int maxSize;
+    private long deliveredEvents;
+    private long droppedEvents;
+    private long coalescedEvents;
+    private long totalLag;
+    private long maxLag;
+
+    Subscriber(EventHandler handler, int capacity, BackpressurePolicy policy) {
+      this.handler = handler;
+      this.policy = policy;
+      this.buffer = new Entry[capacity];
+      this.deliveryThread = new Thread(
+          this::deliverEvents,
+          "eventDelivery-" + handler.getClass().getSimpleName()
+      );
+      deliveryThread.setDaemon(true);
+    }
+
+    void start() {
+      deliveryThread.start();
+    }
+
+    void close() {
+      lock.lock();
+      try {
+        closed = true;
+        notEmpty.signalAll();
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+
+    void enqueue(Object event) {
+      lock.lock();
+      try {
+        if (closed) {
+          return;
+        }
+
+        Object key = policy == BackpressurePolicy.COALESCE_BY_OBJECT
+            ? ObjectEventCoalescing.coalescingKey(event)
+            : null;
+        if (key != null && mergeIntoLastEvent(key, event)) {
+          return;
+        }
+
+        if (size == buffer.length) {
+          poll();
+          droppedEvents++;
+        }
+
+        buffer[(head + size) % buffer.length] = new Entry(event, key);
+        size++;
+        maxSize = Math.max(maxSize, size);
+        notEmpty.signal();
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+
+    SubscriberStatistics statistics() {
+      lock.lock();
+      try {
+        return new SubscriberStatistics(
+            handler.toString(),
+            size,
+            maxSize,
+            deliveredEvents,
+            droppedEvents,
+            coalescedEvents,
+            Duration.ofNanos(deliveredEvents == 0 ? 0 : totalLag / deliveredEvents),
+            Duration.ofNanos(maxLag)
+        );
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private boolean mergeIntoLastEvent(Object key, Object event) {
+      if (size == 0) {
+        return false;
+      }
+      // Only merge with the most recently buffered event, as merging with an earlier one would
+      // deliver the merged event before events emitted in between.
+      Entry entry = buffer[(head + size - 1) % buffer.length];
+      if (!key.equals(entry.key)) {
+        return false;
+      }
+      TCSObjectEvent merged = ObjectEventCoalescing.merge(entry.event, event);
+      if (merged == null) {
+        return false;
+      }
+      entry.event = merged;
+      coalescedEvents++;
+      return true;
+    }
+
+    /**
+     * Must be called while holding the lock and with a non-empty buffer.
+     */
+    private Entry poll() {
+      Entry entry = buffer[head];
+      buffer[head] = null;
+      head = (head + 1) % buffer.length;
+      size--;
+      return entry;
+    }
+
+    private void deliverEvents() {
+      while (true) {
+        Entry entry;
+        lock.lock();
+        try {
+          while (size == 0 && !closed) {
+            notEmpty.awaitUninterruptibly();
+          }
+          if (closed) {
+            return;
+          }
+          entry = poll();
+          long lag = System.nanoTime() - entry.enqueueTime;
+          deliveredEvents++;
+          totalLag += lag;
+          maxLag = Math.max(maxLag, lag);
+        }
+        finally {
+          lock.unlock();
+        }
+
+        try {
+          handler.onEvent(entry.event);
+        }
+        catch (Exception exc) {
+          LOG.warn("Exception thrown by event handler", exc);
+        }
+      }
+    }
+  }
+
+  /**
+   * A buffered event.
+   */
+  private static class Entry {
+
+    private final Object key;
+    private final long enqueueTime = System.nanoTime();
+    private Object event;
+
+    Entry(Object event, Object key) {
+      this.event = event;
+      this.key = key;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opentcs.data.TCSObjectEvent;
+
+/**
+ * A batch of events in which {@link TCSObjectEvent}s of type
+ * {@link TCSObjectEvent.Type#OBJECT_MODIFIED} for the same object are merged.
+ * <p>
+ * A modification event is merged with the latest pending event for the same object, if that is a
+ * modification event, too, even if events for other objects have been added in between. The
+ * merged event takes the position of the newer event, so events for the same object are always
+ * kept in the order in which they were added. Merged events contain the previous object state of
+ * the earlier and the current object state of the later event. All other events are kept
+ * unmodified.
+ * </p>
+ * <p>
+ * Note that instances of this class are not thread-safe.
+ * </p>
+ */
+public class CoalescingEventBatch {
+
+  /**
+   * The events added, with {@code null} entries for events that have been merged with later ones.
+   */
+  private final List<Object> events = new ArrayList<>();
+  /**
+   * The positions of the latest pending events, mapped to references to the objects they were
+   * emitted for.
+   */
+  private final Map<Object, Integer> latestEventPositions = new HashMap<>();
+  /**
+   * The number of events added to this batch.
+   */
+  private int addedEvents;
+
+  /**
+   * Creates a new instance.
+   */
+  public CoalescingEventBatch() {
+  }
+
+  /**
+   * Adds the given event to this batch, merging it with the latest pending event for the same
+   * object, if possible.
+   *
+   * @param event The event.
+   * @return {@code true} if, and only if, the given event was merged with a pending one.
+   */
+  public boolean add(
+      @Nonnull
+      Object event
+  ) {
+    requireNonNull(event, "event");
+
+    addedEvents++;
+    Object key = ObjectEventCoalescing.coalescingKey(event);
+    if (key == null) {
+      events.add(event);
+      return false;
+    }
+
+    Integer latestPosition = latestEventPositions.put(key, events.size());
+    if (latestPosition != null) {
+      TCSObjectEvent merged = ObjectEventCoalescing.merge(events.get(latestPosition), event);
+      if (merged != null) {
+        events.set(latestPosition, null);
+        events.add(merged);
+        return true;
+      }
+    }
+    events.add(event);
+    return false;
+  }
+
+  /**
+   * Indicates whether this batch is empty.
+   *
+   * @return {@code true} if, and only if, no events have been added to this batch since it was
+   * created or last drained.
+   */
+  public boolean isEmpty() {
+    return addedEvents == 0;
+  }
+
+  /**
+   * Returns the number of events added to this batch since it was created or last drained.
+   * With merged events, this is higher than the number of events returned when draining.
+   *
+   * @return The number of events added to this batch.
+   */
+  public int getAddedEvents() {
+    return addedEvents;
+  }
+
+  /**
+   * Returns the events of this batch in the order in which they were added, with merged events
+   * taking the position of the newer event merged, and clears this batch.
+   *
+   * @return The events of this batch.
+   */
+  @Nonnull
+  public List<Object> drain() {
+    List<Object> result = events.stream()
+        .filter(Objects::nonNull)
+        .toList();
+    events.clear();
+    latestEventPositions.clear();
+    addedEvents = 0;
+    return result;
+  }
+}
@@ -0,0 +1,161 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.TCSObjectEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EventHandler} that collects events in batches and forwards them to a delegate handler,
+ * merging {@link TCSObjectEvent}s of type {@link TCSObjectEvent.Type#OBJECT_MODIFIED} for the same
+ * object within a batch.
+ * <p>
+ * A batch is started with the first event received after the previous batch was forwarded, and it
+ * is forwarded (on a thread of this handler's own) once the configured time window has passed.
+ * Modification events for the same object are merged even if events for other objects were
+ * received in between, with the merged event being forwarded at the position of the latest one.
+ * Events for the same object are thus always forwarded in the order in which they were received.
+ * See {@link CoalescingEventBatch} for details.
+ * </p>
+ * <p>
+ * Handlers that are interested only in the latest state of objects may subscribe to an event
+ * source via an instance of this class to reduce the number of events they need to process.
+ * </p>
+ */
+public class CoalescingEventHandler
+    implements
+      EventHandler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CoalescingEventHandler.class);
+  /**
+   * The handler to forward events to.
+   */
+  private final EventHandler delegate;
+  /**
+   * The time window (in ms) in which events are collected before they are forwarded.
+   */
+  private final long window;
+  /**
+   * Forwards batches of events to the delegate, or {@code null}, if events are forwarded
+   * immediately.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * The events of the current batch.
+   */
+  private final CoalescingEventBatch batch = new CoalescingEventBatch();
+  /**
+   * The number of events received.
+   */
+  private long receivedEvents;
+  /**
+   * The number of events forwarded.
+   */
+  private long forwardedEvents;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delegate The handler to forward events to.
+   * @param window The time window (in ms) in which events are collected before they are forwarded.
+   * If zero, events are forwarded immediately and without being merged.
+   */
+  public CoalescingEventHandler(
+      @Nonnull
+      EventHandler delegate,
+      long window
+  ) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    checkArgument(window >= 0, "window < 0: %s", window);
+    this.window = window;
+    this.executor = window == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(
+          runnable,
+          "eventCoalescing-" + delegate.getClass().getSimpleName()
+      );
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (window == 0) {
+      synchronized (this) {
+        receivedEvents++;
+        forwardedEvents++;
+      }
+      delegate.onEvent(event);
+      return;
+    }
+
+    synchronized (this) {
+      if (executor.isShutdown()) {
+        return;
+      }
+      receivedEvents++;
+      if (batch.isEmpty()) {
+        executor.schedule(this::forwardBatch, window, TimeUnit.MILLISECONDS);
+      }
+      batch.add(event);
+    }
+  }
+
+  /**
+   * Stops forwarding events, discarding all events that have not been forwarded, yet.
+   */
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns the number of events received by this handler.
+   *
+   * @return The number of events received by this handler.
+   */
+  public synchronized long getReceivedEvents() {
+    return receivedEvents;
+  }
+
+  /**
+   * Returns the number of events forwarded to the delegate.
+   * With merged events, this is lower than the number of events received.
+   *
+   * @return The number of events forwarded to the delegate.
+   */
+  public synchronized long getForwardedEvents() {
+    return forwardedEvents;
+  }
+
+  private void forwardBatch() {
+    // Batches are forwarded one after the other, as the executor has only a single thread.
+    List<Object> events;
+    synchronized (this) {
+      events = batch.drain();
+      forwardedEvents += events.size();
+    }
+
+    for (Object event : events) {
+      try {
+        delegate.onEvent(event);
+      }
+      catch (Exception exc) {
+        LOG.warn("Exception thrown by event handler", exc);
+      }
+    }
+  }
+}
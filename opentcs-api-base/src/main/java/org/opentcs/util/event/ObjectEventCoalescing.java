@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import jakarta.annotation.Nullable;
+import org.opentcs.data.TCSObjectEvent;
+
+/**
+ * Utility methods for coalescing {@link TCSObjectEvent}s.
+ */
+final class ObjectEventCoalescing {
+
+  /**
+   * Prevents instantiation.
+   */
+  private ObjectEventCoalescing() {
+  }
+
+  /**
+   * Returns the key by which the given event may be coalesced with other events.
+   *
+   * @param event The event.
+   * @return A reference to the object the given event was emitted for, or {@code null}, if the
+   * given event is not a {@link TCSObjectEvent}.
+   */
+  @Nullable
+  static Object coalescingKey(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return null;
+    }
+    return objectEvent.getCurrentOrPreviousObjectState().getReference();
+  }
+
+  /**
+   * Merges two modification events for the same object into one, which contains the previous
+   * object state of the earlier and the current object state of the later event.
+   *
+   * @param earlier The earlier event.
+   * @param later The later event.
+   * @return The merged event, or {@code null}, if the given events cannot be merged because they
+   * are not both of type {@link TCSObjectEvent.Type#OBJECT_MODIFIED}.
+   */
+  @Nullable
+  static TCSObjectEvent merge(Object earlier, Object later) {
+    if (!(earlier instanceof TCSObjectEvent earlierEvent)
+        || !(later instanceof TCSObjectEvent laterEvent)
+        || earlierEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
+        || laterEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      return null;
+    }
+    return new TCSObjectEvent(
+        laterEvent.getCurrentObjectState(),
+        earlierEvent.getPreviousObjectState(),
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+  }
+}
@@ -0,0 +1,24 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+/**
+ * An {@link EventHandler} that needs to be called synchronously, i.e. on the thread emitting the
+ * events.
+ * <p>
+ * Event buses that deliver events asynchronously (like {@link AsynchronousEventBus}) call handlers
+ * implementing this interface directly from within {@link EventHandler#onEvent(Object)}, before
+ * handing the event over to any asynchronous subscribers. Other event buses treat them like any
+ * other handler.
+ * </p>
+ * <p>
+ * Handlers should implement this interface only if they rely on being called on the emitting
+ * thread (e.g. because they modify state that is confined to the kernel executor) or need to see
+ * events before the emitting thread continues.
+ * </p>
+ */
+public interface SynchronousEventHandler
+    extends
+      EventHandler {
+
+}
@@ -0,0 +1,63 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Tests for {@link DeadlockPredictedEvent}.
+ */
+class DeadlockPredictedEventTest {
+
+  @Test
+  void serializeAndDeserialize()
+      throws Exception {
+    Point point1 = new Point("point1");
+    Point point2 = new Point("point2");
+    Path path = new Path("path", point1.getReference(), point2.getReference());
+    DeadlockPredictedEvent event = new DeadlockPredictedEvent(
+        List.of("client1", "client2"),
+        Set.of(point2.getReference(), path.getReference())
+    );
+
+    DeadlockPredictedEvent result = (DeadlockPredictedEvent) deserialize(serialize(event));
+
+    assertThat(result.getClientIds(), contains("client1", "client2"));
+    assertThat(
+        result.getResources(),
+        containsInAnyOrder(point2.getReference(), path.getReference())
+    );
+  }
+
+  private byte[] serialize(Object object)
+      throws IOException {
+    try (ByteArrayOutputStream os = new ByteArrayOutputStream();
+         ObjectOutputStream oos = new ObjectOutputStream(os)) {
+      oos.writeObject(object);
+      oos.flush();
+      return os.toByteArray();
+    }
+  }
+
+  private Object deserialize(byte[] serializedObject)
+      throws IOException,
+        ClassNotFoundException {
+    try (ByteArrayInputStream is = new ByteArrayInputStream(serializedObject);
+         ObjectInputStream ois = new ObjectInputStream(is)) {
+      return ois.readObject();
+    }
+  }
+}
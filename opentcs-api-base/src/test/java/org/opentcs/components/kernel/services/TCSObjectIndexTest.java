@@ -0,0 +1,65 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.components.kernel.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Tests for {@link TCSObjectIndex}.
+ */
+class TCSObjectIndexTest {
+
+  @Test
+  void deserializePredefinedIndexToSameInstance()
+      throws Exception {
+    for (TCSObjectIndex<?, ?> index : TCSObjectIndex.predefinedIndexes()) {
+      assertTrue(index.isPredefined());
+      assertThat(deserialize(serialize(index)), is(sameInstance(index)));
+    }
+  }
+
+  @Test
+  void refuseToSerializeCustomIndex() {
+    TCSObjectIndex<TransportOrder, String> index = new TCSObjectIndex<>(
+        "ORDERS_BY_TYPE",
+        TransportOrder.class,
+        TransportOrder::getType
+    );
+
+    assertFalse(index.isPredefined());
+    assertThrows(NotSerializableException.class, () -> serialize(index));
+  }
+
+  private byte[] serialize(Object object)
+      throws IOException {
+    try (ByteArrayOutputStream os = new ByteArrayOutputStream();
+         ObjectOutputStream oos = new ObjectOutputStream(os)) {
+      oos.writeObject(object);
+      oos.flush();
+      return os.toByteArray();
+    }
+  }
+
+  private Object deserialize(byte[] serializedObject)
+      throws IOException,
+        ClassNotFoundException {
+    try (ByteArrayInputStream is = new ByteArrayInputStream(serializedObject);
+         ObjectInputStream ois = new ObjectInputStream(is)) {
+      return ois.readObject();
+    }
+  }
+}
@@ -0,0 +1,204 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link AsynchronousEventBus}.
+ */
+class AsynchronousEventBusTest {
+
+  private AsynchronousEventBus eventBus;
+
+  @BeforeEach
+  void setUp() {
+    eventBus = new AsynchronousEventBus(
+        100,
+        AsynchronousEventBus.BackpressurePolicy.DROP_OLDEST,
+        0
+    );
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventBus.close();
+  }
+
+  @Test
+  void deliverEventsToSubscribersInOrder()
+      throws InterruptedException {
+    BlockingQueue<Object> receivedObjects = new LinkedBlockingQueue<>();
+    eventBus.subscribe(receivedObjects::add);
+
+    eventBus.onEvent("event-1");
+    eventBus.onEvent("event-2");
+    eventBus.onEvent("event-3");
+
+    assertThat(receiveEvents(receivedObjects, 3), contains("event-1", "event-2", "event-3"));
+  }
+
+  @Test
+  void callSynchronousHandlersOnEmittingThread() {
+    List<Thread> callingThreads = new ArrayList<>();
+    SynchronousEventHandler handler = event -> callingThreads.add(Thread.currentThread());
+    eventBus.subscribe(handler);
+
+    eventBus.onEvent("event");
+
+    assertThat(callingThreads, contains(Thread.currentThread()));
+  }
+
+  @Test
+  void stopDeliveringEventsAfterUnsubscribing()
+      throws InterruptedException {
+    BlockingQueue<Object> receivedObjects = new LinkedBlockingQueue<>();
+    EventHandler handler = receivedObjects::add;
+    eventBus.subscribe(handler);
+    eventBus.onEvent("event-1");
+    assertThat(receivedObjects.poll(5, TimeUnit.SECONDS), is("event-1"));
+
+    eventBus.unsubscribe(handler);
+    eventBus.onEvent("event-2");
+
+    assertThat(receivedObjects.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+    assertThat(eventBus.getSubscriberStatistics().isEmpty(), is(true));
+  }
+
+  @Test
+  void dropOldestEventsWhenBufferIsFull()
+      throws InterruptedException {
+    BlockingHandler handler = new BlockingHandler();
+    eventBus.subscribe(handler, 2, AsynchronousEventBus.BackpressurePolicy.DROP_OLDEST);
+
+    eventBus.onEvent("event-1");
+    handler.awaitFirstEvent();
+    eventBus.onEvent("event-2");
+    eventBus.onEvent("event-3");
+    eventBus.onEvent("event-4");
+    handler.release();
+
+    assertThat(
+        receiveEvents(handler.receivedObjects, 3),
+        contains("event-1", "event-3", "event-4")
+    );
+    assertThat(eventBus.getSubscriberStatistics().get(0).getDroppedEvents(), is(1L));
+  }
+
+  @Test
+  void coalesceConsecutiveModificationEventsForSameObject()
+      throws InterruptedException {
+    BlockingHandler handler = new BlockingHandler();
+    eventBus.subscribe(handler, 10, AsynchronousEventBus.BackpressurePolicy.COALESCE_BY_OBJECT);
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+    Point point1v2 = point1v1.withProperty("key", "2");
+    Point point2 = new Point("point-2");
+
+    eventBus.onEvent("event-1");
+    handler.awaitFirstEvent();
+    eventBus.onEvent(modified(point1v1, point1v0));
+    eventBus.onEvent(modified(point1v2, point1v1));
+    eventBus.onEvent(new TCSObjectEvent(point2, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    handler.release();
+
+    List<Object> events = receiveEvents(handler.receivedObjects, 3);
+    TCSObjectEvent mergedEvent = (TCSObjectEvent) events.get(1);
+    assertThat(mergedEvent.getPreviousObjectState(), is(sameInstance(point1v0)));
+    assertThat(mergedEvent.getCurrentObjectState(), is(sameInstance(point1v2)));
+    assertThat(
+        ((TCSObjectEvent) events.get(2)).getCurrentObjectState(),
+        is(sameInstance(point2))
+    );
+    assertThat(eventBus.getSubscriberStatistics().get(0).getCoalescedEvents(), is(1L));
+  }
+
+  @Test
+  void keepOrderOfModificationEventsEmittedNonConsecutively()
+      throws InterruptedException {
+    BlockingHandler handler = new BlockingHandler();
+    eventBus.subscribe(handler, 10, AsynchronousEventBus.BackpressurePolicy.COALESCE_BY_OBJECT);
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+    Point point1v2 = point1v1.withProperty("key", "2");
+    Point point2 = new Point("point-2");
+    TCSObjectEvent event1 = modified(point1v1, point1v0);
+    TCSObjectEvent event2 = new TCSObjectEvent(point2, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent event3 = modified(point1v2, point1v1);
+
+    eventBus.onEvent("event-0");
+    handler.awaitFirstEvent();
+    eventBus.onEvent(event1);
+    eventBus.onEvent(event2);
+    eventBus.onEvent(event3);
+    handler.release();
+
+    assertThat(
+        receiveEvents(handler.receivedObjects, 4),
+        contains("event-0", event1, event2, event3)
+    );
+    assertThat(eventBus.getSubscriberStatistics().get(0).getCoalescedEvents(), is(0L));
+  }
+
+  private static TCSObjectEvent modified(Point current, Point previous) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  private static List<Object> receiveEvents(BlockingQueue<Object> queue, int count)
+      throws InterruptedException {
+    List<Object> result = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      result.add(queue.poll(5, TimeUnit.SECONDS));
+    }
+    return result;
+  }
+
+  /**
+   * Blocks when handling the first event until released.
+   */
+  private static class BlockingHandler
+      implements
+        EventHandler {
+
+    private final BlockingQueue<Object> receivedObjects = new LinkedBlockingQueue<>();
+    private final CountDownLatch firstEventReceived = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @Override
+    public void onEvent(Object event) {
+      receivedObjects.add(event);
+      firstEventReceived.countDown();
+      try {
+        released.await(5, TimeUnit.SECONDS);
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    void awaitFirstEvent()
+        throws InterruptedException {
+      firstEventReceived.await(5, TimeUnit.SECONDS);
+    }
+
+    void release() {
+      released.countDown();
+    }
+  }
+}
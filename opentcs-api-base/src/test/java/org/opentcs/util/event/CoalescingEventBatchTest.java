@@ -0,0 +1,94 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link CoalescingEventBatch}.
+ */
+class CoalescingEventBatchTest {
+
+  private CoalescingEventBatch batch;
+
+  @BeforeEach
+  void setUp() {
+    batch = new CoalescingEventBatch();
+  }
+
+  @Test
+  void mergeInterleavedModificationEventsAtPositionOfLatestEvent() {
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+    Point point1v2 = point1v1.withProperty("key", "2");
+    Point point2v0 = new Point("point-2");
+    Point point2v1 = point2v0.withProperty("key", "1");
+    Point point2v2 = point2v1.withProperty("key", "2");
+    Point point2v3 = point2v2.withProperty("key", "3");
+
+    assertFalse(batch.add(modified(point1v1, point1v0)));
+    assertFalse(batch.add(modified(point2v1, point2v0)));
+    assertTrue(batch.add(modified(point2v2, point2v1)));
+    assertTrue(batch.add(modified(point1v2, point1v1)));
+    assertTrue(batch.add(modified(point2v3, point2v2)));
+
+    assertThat(batch.getAddedEvents(), is(5));
+    List<Object> events = batch.drain();
+    assertThat(events, hasSize(2));
+    TCSObjectEvent firstEvent = (TCSObjectEvent) events.get(0);
+    assertThat(firstEvent.getPreviousObjectState(), is(sameInstance(point1v0)));
+    assertThat(firstEvent.getCurrentObjectState(), is(sameInstance(point1v2)));
+    TCSObjectEvent secondEvent = (TCSObjectEvent) events.get(1);
+    assertThat(secondEvent.getPreviousObjectState(), is(sameInstance(point2v0)));
+    assertThat(secondEvent.getCurrentObjectState(), is(sameInstance(point2v3)));
+  }
+
+  @Test
+  void doNotMergeAcrossOtherEventsForSameObject() {
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+    Point point1v2 = point1v1.withProperty("key", "2");
+    TCSObjectEvent created = new TCSObjectEvent(point1v0, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent modified1 = modified(point1v1, point1v0);
+    TCSObjectEvent removed = new TCSObjectEvent(null, point1v1, TCSObjectEvent.Type.OBJECT_REMOVED);
+    TCSObjectEvent modified2 = modified(point1v2, point1v1);
+
+    batch.add(created);
+    batch.add(modified1);
+    batch.add("some other event");
+    batch.add(removed);
+    batch.add(modified2);
+
+    assertThat(batch.drain(), contains(created, modified1, "some other event", removed, modified2));
+  }
+
+  @Test
+  void clearBatchWhenDraining() {
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+    batch.add(modified(point1v1, point1v0));
+
+    batch.drain();
+
+    assertTrue(batch.isEmpty());
+    assertThat(batch.drain(), is(empty()));
+    assertFalse(batch.add(modified(point1v1, point1v0)));
+  }
+
+  private static TCSObjectEvent modified(Point current, Point previous) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
@@ -0,0 +1,134 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link CoalescingEventHandler}.
+ */
+class CoalescingEventHandlerTest {
+
+  private BlockingQueue<Object> receivedObjects;
+  private CoalescingEventHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    receivedObjects = new LinkedBlockingQueue<>();
+    handler = new CoalescingEventHandler(receivedObjects::add, 50);
+  }
+
+  @AfterEach
+  void tearDown() {
+    handler.close();
+  }
+
+  @Test
+  void mergeConsecutiveModificationEventsForSameObject()
+      throws InterruptedException {
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+    Point point1v2 = point1v1.withProperty("key", "2");
+    Point point2v0 = new Point("point-2");
+    Point point2v1 = point2v0.withProperty("key", "1");
+
+    handler.onEvent(modified(point1v1, point1v0));
+    handler.onEvent(modified(point1v2, point1v1));
+    handler.onEvent(modified(point2v1, point2v0));
+
+    List<Object> events = receiveEvents(2);
+    TCSObjectEvent firstEvent = (TCSObjectEvent) events.get(0);
+    assertThat(firstEvent.getPreviousObjectState(), is(sameInstance(point1v0)));
+    assertThat(firstEvent.getCurrentObjectState(), is(sameInstance(point1v2)));
+    TCSObjectEvent secondEvent = (TCSObjectEvent) events.get(1);
+    assertThat(secondEvent.getPreviousObjectState(), is(sameInstance(point2v0)));
+    assertThat(secondEvent.getCurrentObjectState(), is(sameInstance(point2v1)));
+    assertThat(receivedObjects.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+    assertThat(handler.getReceivedEvents(), is(3L));
+    assertThat(handler.getForwardedEvents(), is(2L));
+  }
+
+  @Test
+  void mergeInterleavedModificationEventsForDifferentObjects()
+      throws InterruptedException {
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+    Point point1v2 = point1v1.withProperty("key", "2");
+    Point point2v0 = new Point("point-2");
+    Point point2v1 = point2v0.withProperty("key", "1");
+    Point point2v2 = point2v1.withProperty("key", "2");
+
+    handler.onEvent(modified(point1v1, point1v0));
+    handler.onEvent(modified(point2v1, point2v0));
+    handler.onEvent(modified(point1v2, point1v1));
+    handler.onEvent(modified(point2v2, point2v1));
+
+    List<Object> events = receiveEvents(2);
+    TCSObjectEvent firstEvent = (TCSObjectEvent) events.get(0);
+    assertThat(firstEvent.getPreviousObjectState(), is(sameInstance(point1v0)));
+    assertThat(firstEvent.getCurrentObjectState(), is(sameInstance(point1v2)));
+    TCSObjectEvent secondEvent = (TCSObjectEvent) events.get(1);
+    assertThat(secondEvent.getPreviousObjectState(), is(sameInstance(point2v0)));
+    assertThat(secondEvent.getCurrentObjectState(), is(sameInstance(point2v2)));
+    assertThat(receivedObjects.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+    assertThat(handler.getForwardedEvents(), is(2L));
+  }
+
+  @Test
+  void doNotMergeAcrossOtherEventTypes()
+      throws InterruptedException {
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+    TCSObjectEvent created = new TCSObjectEvent(point1v0, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent modified = modified(point1v1, point1v0);
+    TCSObjectEvent removed = new TCSObjectEvent(null, point1v1, TCSObjectEvent.Type.OBJECT_REMOVED);
+
+    handler.onEvent(created);
+    handler.onEvent(modified);
+    handler.onEvent(removed);
+    handler.onEvent("some other event");
+
+    assertThat(receiveEvents(4), contains(created, modified, removed, "some other event"));
+  }
+
+  @Test
+  void forwardEventsImmediatelyWithoutWindow() {
+    List<Object> forwardedObjects = new ArrayList<>();
+    CoalescingEventHandler immediateHandler = new CoalescingEventHandler(forwardedObjects::add, 0);
+    Point point1v0 = new Point("point-1");
+    Point point1v1 = point1v0.withProperty("key", "1");
+
+    immediateHandler.onEvent(modified(point1v1, point1v0));
+    immediateHandler.onEvent(modified(point1v1, point1v0));
+
+    assertThat(forwardedObjects.size(), is(2));
+  }
+
+  private static TCSObjectEvent modified(Point current, Point previous) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  private List<Object> receiveEvents(int count)
+      throws InterruptedException {
+    List<Object> result = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      result.add(receivedObjects.poll(5, TimeUnit.SECONDS));
+    }
+    return result;
+  }
+}
@@ -56,6 +56,21 @@ public interface ServiceWebApiConfiguration {
   )
   int statusEventsCapacity();
 
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The time window (in ms) for which status events are collected before they are merged "
+              + "and made available to clients.",
+          "Modification events for the same object within the window are merged into one, "
+              + "which takes the position of the latest event merged. Events for the same object "
+              + "are kept in order.",
+          "If zero, events are made available to clients immediately and are not merged."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "4_1"
+  )
+  long eventCoalescingWindow();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
@@ -24,6 +24,7 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.OrderSta
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.PeripheralJobStatusMessage;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.VehicleStatusMessage;
+import org.opentcs.util.event.CoalescingEventHandler;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
 import org.slf4j.Logger;
@@ -49,6 +50,10 @@ public class StatusEventDispatcher
    * Where we register for application events.
    */
   private final EventSource eventSource;
+  /**
+   * The handler subscribed to the event source (this instance or a coalescing handler for it).
+   */
+  private EventHandler subscribedHandler;
   /**
    * The events collected.
    */
@@ -82,7 +87,10 @@ public class StatusEventDispatcher
       return;
     }
 
-    eventSource.subscribe(this);
+    subscribedHandler = configuration.eventCoalescingWindow() > 0
+        ? new CoalescingEventHandler(this, configuration.eventCoalescingWindow())
+        : this;
+    eventSource.subscribe(subscribedHandler);
 
     initialized = true;
   }
@@ -98,7 +106,11 @@ public class StatusEventDispatcher
       return;
     }
 
-    eventSource.unsubscribe(this);
+    eventSource.unsubscribe(subscribedHandler);
+    if (subscribedHandler instanceof CoalescingEventHandler coalescingEventHandler) {
+      coalescingEventHandler.close();
+    }
+    subscribedHandler = null;
 
     initialized = false;
   }
@@ -20,6 +20,7 @@ import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
@@ -135,11 +136,13 @@ public class TransportOrderHandler {
         throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
       }
 
-      return orderService.fetchObjects(
-          TransportOrder.class,
-          Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
-      )
-          .stream()
+      Set<TransportOrder> orders = intendedVehicleRef == null
+          ? orderService.fetchObjects(TransportOrder.class)
+          : orderService.fetchObjectsByIndex(
+              TCSObjectIndex.ORDERS_BY_INTENDED_VEHICLE,
+              intendedVehicleRef.getName()
+          );
+      return orders.stream()
           .map(GetTransportOrderResponseTO::fromTransportOrder)
           .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
           .collect(Collectors.toList());
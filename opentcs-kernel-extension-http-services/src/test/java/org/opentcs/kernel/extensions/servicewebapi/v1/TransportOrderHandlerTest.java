@@ -27,6 +27,7 @@ import org.mockito.ArgumentMatchers;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.Vehicle;
@@ -158,9 +159,7 @@ class TransportOrderHandlerTest {
     TransportOrder transportOrder1 = new TransportOrder("some-order", List.of());
     TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of());
 
-    given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any())
-    )
+    given(orderService.fetchObjects(TransportOrder.class))
         .willReturn(Set.of(transportOrder1, transportOrder2));
 
     // Act
@@ -168,7 +167,7 @@ class TransportOrderHandlerTest {
 
     // Assert
     assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any());
+    then(orderService).should().fetchObjects(TransportOrder.class);
   }
 
   @Test
@@ -183,14 +182,15 @@ class TransportOrderHandlerTest {
     )
         .willReturn(vehicle);
     given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any())
+        orderService.fetchObjectsByIndex(TCSObjectIndex.ORDERS_BY_INTENDED_VEHICLE, "some-vehicle")
     )
         .willReturn(Set.of(transportOrder1, transportOrder2));
 
     // Act & Assert: happy path
     List<GetTransportOrderResponseTO> result = handler.getTransportOrders("some-vehicle");
     assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any());
+    then(orderService).should()
+        .fetchObjectsByIndex(TCSObjectIndex.ORDERS_BY_INTENDED_VEHICLE, "some-vehicle");
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
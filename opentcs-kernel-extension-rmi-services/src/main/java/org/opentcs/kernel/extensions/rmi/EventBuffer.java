@@ -7,16 +7,17 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Predicate;
-import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.util.event.CoalescingEventBatch;
 import org.opentcs.util.event.EventHandler;
 
 /**
  * Stores events and keeps them until a client fetches them.
+ * <p>
+ * Modification events for the same object are merged while they are stored.
+ * See {@link CoalescingEventBatch} for details.
+ * </p>
  */
 public class EventBuffer
     implements
@@ -25,7 +26,7 @@ public class EventBuffer
   /**
    * The buffered events.
    */
-  private final Deque<Object> events = new LinkedList<>();
+  private final CoalescingEventBatch events = new CoalescingEventBatch();
   /**
    * This buffer's event filter.
    */
@@ -53,9 +54,7 @@ public class EventBuffer
     requireNonNull(event, "event");
     synchronized (events) {
       if (eventFilter.test(event)) {
-        if (!tryMergeWithPreviousEvent(event)) {
-          events.add(event);
-        }
+        events.add(event);
 
         // If the client is waiting for an event, wake it up, since there is one now.
         if (waitingClient) {
@@ -94,9 +93,7 @@ public class EventBuffer
           waitingClient = false;
         }
       }
-      List<Object> result = new ArrayList<>(events);
-      events.clear();
-      return result;
+      return new ArrayList<>(events.drain());
     }
   }
 
@@ -126,40 +123,4 @@ public class EventBuffer
       this.eventFilter = requireNonNull(eventFilter);
     }
   }
-
-  /**
-   * If possible, merge the given new event with the previous one in the buffer.
-   *
-   * @param event The new event.
-   * @return <code>true</code> if the new event was merged with the previous one.
-   */
-  private boolean tryMergeWithPreviousEvent(Object event) {
-    if (!(event instanceof TCSObjectEvent currentEvent)
-        || !(events.peekLast() instanceof TCSObjectEvent previousEvent)) {
-      return false;
-    }
-
-    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
-        || previousEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
-      return false;
-    }
-
-    if (!Objects.equals(
-        currentEvent.getCurrentObjectState().getReference(),
-        previousEvent.getCurrentObjectState().getReference()
-    )) {
-      return false;
-    }
-
-    events.removeLast();
-    events.add(
-        new TCSObjectEvent(
-            currentEvent.getCurrentObjectState(),
-            previousEvent.getPreviousObjectState(),
-            TCSObjectEvent.Type.OBJECT_MODIFIED
-        )
-    );
-
-    return true;
-  }
 }
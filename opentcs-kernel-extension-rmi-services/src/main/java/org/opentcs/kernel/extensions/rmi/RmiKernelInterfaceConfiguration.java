@@ -130,6 +130,21 @@ public interface RmiKernelInterfaceConfiguration {
   )
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The time window (in ms) for which events are collected before they are merged and "
+              + "passed on to clients.",
+          "Modification events for the same object within the window are merged into one, "
+              + "which takes the position of the latest event merged. Events for the same object "
+              + "are kept in order.",
+          "If zero, events are passed on to clients immediately and are not merged."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events"
+  )
+  long eventCoalescingWindow();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
@@ -11,6 +11,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.services.RemoteTCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectHistory;
@@ -92,6 +93,17 @@ public abstract class StandardRemoteTCSObjectService
     return objectService.fetchObjects(clazz, predicate);
   }
 
+  @Override
+  public <T extends TCSObject<T>, K> Set<T> fetchObjectsByIndex(
+      ClientID clientId,
+      TCSObjectIndex<T, K> index,
+      K key
+  ) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return objectService.fetchObjectsByIndex(index, key);
+  }
+
   @Override
   public void updateObjectProperty(
       ClientID clientId,
@@ -25,6 +25,7 @@ import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.util.event.CoalescingEventHandler;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
 import org.slf4j.Logger;
@@ -46,6 +47,10 @@ public class UserManager
    * Where we register for application events.
    */
   private final EventSource eventSource;
+  /**
+   * The handler subscribed to the event source (this instance or a coalescing handler for it).
+   */
+  private EventHandler subscribedHandler;
   /**
    * The kernel's executor.
    */
@@ -112,7 +117,10 @@ public class UserManager
 
     // Register the user manager as an event listener so that the user manager can collect events
     // and pass them to known clients polling events.
-    eventSource.subscribe(this);
+    subscribedHandler = configuration.eventCoalescingWindow() > 0
+        ? new CoalescingEventHandler(this, configuration.eventCoalescingWindow())
+        : this;
+    eventSource.subscribe(subscribedHandler);
 
     knownUsers.clear();
     for (UserAccount curAccount : userAccountProvider.getUserAccounts()) {
@@ -149,7 +157,11 @@ public class UserManager
 
     knownUsers.clear();
 
-    eventSource.unsubscribe(this);
+    eventSource.unsubscribe(subscribedHandler);
+    if (subscribedHandler instanceof CoalescingEventHandler coalescingEventHandler) {
+      coalescingEventHandler.close();
+    }
+    subscribedHandler = null;
 
     initialized = false;
   }
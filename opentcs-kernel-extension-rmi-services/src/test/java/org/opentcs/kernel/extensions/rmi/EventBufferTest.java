@@ -69,7 +69,7 @@ class EventBufferTest {
   }
 
   @Test
-  void aggregateConsecutiveTcsObjectEventsForSameObjects() {
+  void aggregateTcsObjectEventsForSameObjects() {
     Point point = new Point("point");
     Point pointA = point.withType(Point.Type.PARK_POSITION);
     Point pointB = pointA.withProperty("some-key", "some-value");
@@ -119,24 +119,23 @@ class EventBufferTest {
     eventBuffer.onEvent(event6);
 
     List<Object> result = eventBuffer.getEvents(0);
-    assertThat(result, hasSize(3));
-    assertThat(result.get(0), is(theInstance(event1)));
+    assertThat(result, hasSize(2));
 
     assertThat(
-        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
+        ((TCSObjectEvent) result.get(0)).getPreviousObjectState(),
         is(theInstance(vehicle))
     );
     assertThat(
-        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
+        ((TCSObjectEvent) result.get(0)).getCurrentObjectState(),
         is(theInstance(vehicleC))
     );
 
     assertThat(
-        ((TCSObjectEvent) result.get(2)).getPreviousObjectState(),
-        is(theInstance(pointA))
+        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
+        is(theInstance(point))
     );
     assertThat(
-        ((TCSObjectEvent) result.get(2)).getCurrentObjectState(),
+        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
         is(theInstance(pointC))
     );
   }
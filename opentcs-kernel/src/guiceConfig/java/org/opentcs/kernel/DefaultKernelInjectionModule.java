@@ -76,6 +76,7 @@ import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
 import org.opentcs.kernel.workingset.TCSObjectManager;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
 import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.util.event.AsynchronousEventBus;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.SimpleEventBus;
@@ -238,7 +239,22 @@ public class DefaultKernelInjectionModule
   }
 
   private void configureEventHub() {
-    EventBus newEventBus = new SimpleEventBus();
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(
+            KernelApplicationConfiguration.PREFIX,
+            KernelApplicationConfiguration.class
+        );
+    EventBus newEventBus;
+    if (configuration.asynchronousEventDelivery()) {
+      newEventBus = new AsynchronousEventBus(
+          configuration.eventDeliveryBufferCapacity(),
+          configuration.eventDeliveryBackpressurePolicy(),
+          configuration.eventDeliveryStatisticsLogInterval()
+      );
+    }
+    else {
+      newEventBus = new SimpleEventBus();
+    }
     bind(EventHandler.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
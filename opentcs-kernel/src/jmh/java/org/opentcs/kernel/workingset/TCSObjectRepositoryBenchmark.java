@@ -0,0 +1,118 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Measures the cost of name-based lookups and duplicate name checks in {@link TCSObjectRepository}
+ * for different numbers of contained objects.
+ * <p>
+ * With names being indexed, the cost of these operations is expected to stay (roughly) constant
+ * regardless of the number of objects.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TCSObjectRepositoryBenchmark {
+
+  /**
+   * The number of objects (of each class) in the repository.
+   */
+  @Param({"1000", "10000", "200000"})
+  private int objectCount;
+  /**
+   * The repository.
+   */
+  private TCSObjectRepository repository;
+  /**
+   * The names of the transport orders in the repository.
+   */
+  private String[] orderNames;
+  /**
+   * The index of the name to be looked up next.
+   */
+  private int nextNameIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public TCSObjectRepositoryBenchmark() {
+  }
+
+  /**
+   * Fills the repository with points, paths and transport orders.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    repository = new TCSObjectRepository();
+    orderNames = new String[objectCount];
+
+    Point previousPoint = null;
+    for (int i = 0; i < objectCount; i++) {
+      Point point = new Point(String.format("Point-%06d", i));
+      repository.addObject(point);
+      if (previousPoint != null) {
+        repository.addObject(
+            new Path(
+                String.format("Path-%06d", i),
+                previousPoint.getReference(),
+                point.getReference()
+            )
+        );
+      }
+      previousPoint = point;
+
+      orderNames[i] = String.format("TOrder-%06d", i);
+      repository.addObject(new TransportOrder(orderNames[i], List.of()));
+    }
+  }
+
+  /**
+   * Looks up a transport order by its name only.
+   *
+   * @return The object found.
+   */
+  @Benchmark
+  public TCSObject<?> getObjectByName() {
+    return repository.getObjectOrNull(nextOrderName());
+  }
+
+  /**
+   * Adds a new object (which implies checking for a duplicate name) and removes it again.
+   *
+   * @return The object removed.
+   */
+  @Benchmark
+  public TCSObject<?> addAndRemoveObject() {
+    TransportOrder order = new TransportOrder("TOrder-new", List.of());
+    repository.addObject(order);
+    return repository.removeObject(order.getReference());
+  }
+
+  private String nextOrderName() {
+    nextNameIndex = (nextNameIndex + 1) % orderNames.length;
+    return orderNames[nextNameIndex];
+  }
+}
@@ -4,6 +4,7 @@ package org.opentcs.kernel;
 
 import org.opentcs.configuration.ConfigurationEntry;
 import org.opentcs.configuration.ConfigurationPrefix;
+import org.opentcs.util.event.AsynchronousEventBus;
 
 /**
  * Provides common kernel configuration entries.
@@ -92,6 +93,56 @@ public interface KernelApplicationConfiguration {
   )
   VehicleResourceManagementType vehicleResourceManagementType();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to deliver events from the application event bus to subscribers "
+              + "asynchronously.",
+          "If 'true', each subscriber gets a bounded buffer and a dedicated thread delivering "
+              + "events to it, so slow subscribers do not delay the kernel. Subscribers that rely "
+              + "on being called on the emitting thread are still called synchronously.",
+          "If 'false', events are delivered to all subscribers synchronously."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_events_0"
+  )
+  boolean asynchronousEventDelivery();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The capacity of each subscriber's buffer with asynchronous event delivery.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_events_1"
+  )
+  int eventDeliveryBufferCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The policy to apply with asynchronous event delivery when a subscriber's buffer is "
+              + "full. (The kernel never waits for a subscriber's buffer to have space again.)",
+          "DROP_OLDEST: The oldest event in the subscriber's buffer is discarded.",
+          "COALESCE_BY_OBJECT: A modification event is merged with the previous event in the "
+              + "subscriber's buffer if that is a modification event for the same object. "
+              + "Otherwise, like DROP_OLDEST."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_events_2"
+  )
+  AsynchronousEventBus.BackpressurePolicy eventDeliveryBackpressurePolicy();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The interval (in ms) in which the buffer and lag statistics of subscribers are logged "
+              + "with asynchronous event delivery.",
+          "If zero, statistics are not logged."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_events_3"
+  )
+  long eventDeliveryStatisticsLogInterval();
+
   /**
    * Defines the different types of how vehicle resources (i.e., paths, points and locations
    * allocated by vehicles) are managed.
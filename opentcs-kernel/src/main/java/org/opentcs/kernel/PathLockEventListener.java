@@ -14,14 +14,14 @@ import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.util.event.EventBus;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 
 /**
  * Listens to path lock events and updates the routing topology.
  */
 public class PathLockEventListener
     implements
-      EventHandler,
+      SynchronousEventHandler,
       Lifecycle {
 
   /**
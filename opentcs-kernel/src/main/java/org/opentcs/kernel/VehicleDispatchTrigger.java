@@ -14,7 +14,7 @@ import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.util.event.EventBus;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,7 +23,7 @@ import org.slf4j.LoggerFactory;
  */
 public class VehicleDispatchTrigger
     implements
-      EventHandler,
+      SynchronousEventHandler,
       Lifecycle {
 
   /**
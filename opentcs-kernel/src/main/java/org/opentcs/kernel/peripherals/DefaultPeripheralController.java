@@ -23,7 +23,7 @@ import org.opentcs.drivers.peripherals.PeripheralProcessModel;
 import org.opentcs.drivers.peripherals.management.PeripheralProcessModelEvent;
 import org.opentcs.util.ExplainedBoolean;
 import org.opentcs.util.event.EventBus;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +34,7 @@ import org.slf4j.LoggerFactory;
 public class DefaultPeripheralController
     implements
       PeripheralController,
-      EventHandler {
+      SynchronousEventHandler {
 
   /**
    * This class's Logger.
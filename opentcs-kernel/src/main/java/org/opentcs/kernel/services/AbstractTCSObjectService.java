@@ -10,6 +10,7 @@ import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
@@ -76,6 +77,20 @@ public abstract class AbstractTCSObjectService
     return getObjectService().fetchObjects(clazz, predicate);
   }
 
+  @Override
+  public <T extends TCSObject<T>, K> Set<T> fetchObjectsByIndex(
+      @Nonnull
+      TCSObjectIndex<T, K> index,
+      @Nonnull
+      K key
+  )
+      throws CredentialsException {
+    requireNonNull(index, "index");
+    requireNonNull(key, "key");
+
+    return getObjectService().fetchObjectsByIndex(index, key);
+  }
+
   @Override
   public void updateObjectProperty(
       TCSObjectReference<?> ref,
@@ -7,9 +7,9 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.ObjectHistory;
@@ -21,6 +21,11 @@ import org.opentcs.kernel.workingset.TCSObjectRepository;
 
 /**
  * This class is the standard implementation of the {@link TCSObjectService} interface.
+ * <p>
+ * Reading objects does not require synchronization, as the underlying object repository provides
+ * consistent point-in-time views of its content. Only modifications are synchronized using the
+ * kernel's global synchronization object.
+ * </p>
  */
 public class StandardTCSObjectService
     implements
@@ -56,32 +61,21 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(ref, "ref");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, ref);
-    }
+    return getObjectRepo().getObjectOrNull(clazz, ref);
   }
 
   @Override
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
     requireNonNull(clazz, "clazz");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, name);
-    }
+    return getObjectRepo().getObjectOrNull(clazz, name);
   }
 
   @Override
   public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
     requireNonNull(clazz, "clazz");
 
-    synchronized (getGlobalSyncObject()) {
-      Set<T> objects = getObjectRepo().getObjects(clazz);
-      Set<T> copies = new HashSet<>();
-      for (T object : objects) {
-        copies.add(object);
-      }
-      return copies;
-    }
+    return getObjectRepo().getObjects(clazz);
   }
 
   @Override
@@ -94,9 +88,20 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjects(clazz, predicate);
-    }
+    return getObjectRepo().getObjects(clazz, predicate);
+  }
+
+  @Override
+  public <T extends TCSObject<T>, K> Set<T> fetchObjectsByIndex(
+      @Nonnull
+      TCSObjectIndex<T, K> index,
+      @Nonnull
+      K key
+  ) {
+    requireNonNull(index, "index");
+    requireNonNull(key, "key");
+
+    return getObjectRepo().getObjectsByIndex(index, key);
   }
 
   @Override
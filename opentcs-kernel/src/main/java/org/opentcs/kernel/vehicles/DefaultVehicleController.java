@@ -59,7 +59,7 @@ import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.vehicles.transformers.VehicleDataTransformerRegistry;
 import org.opentcs.util.ExplainedBoolean;
 import org.opentcs.util.event.EventBus;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,7 +72,7 @@ public class DefaultVehicleController
       VehicleController,
       Scheduler.Client,
       PropertyChangeListener,
-      EventHandler {
+      SynchronousEventHandler {
 
   /**
    * This class's Logger.
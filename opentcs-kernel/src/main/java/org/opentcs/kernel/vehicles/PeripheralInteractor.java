@@ -26,8 +26,8 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
 import org.opentcs.drivers.vehicle.MovementCommand;
-import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +37,7 @@ import org.slf4j.LoggerFactory;
  */
 public class PeripheralInteractor
     implements
-      EventHandler,
+      SynchronousEventHandler,
       Lifecycle {
 
   /**
@@ -0,0 +1,454 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An immutable (persistent) hash map.
+ * <p>
+ * Modifications do not change an instance, but return a new instance that shares all unmodified
+ * parts of its structure with the original one. Hence, a modification costs O(log32 n) instead of
+ * the O(n) a full copy would cost, and instances can safely be shared between threads without any
+ * synchronization.
+ * </p>
+ * <p>
+ * The implementation is a hash array mapped trie (HAMT). Neither keys nor values may be
+ * {@code null}.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+final class PersistentHashMap<K, V> {
+
+  /**
+   * The empty map.
+   */
+  private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+  /**
+   * The number of hash bits consumed per trie level.
+   */
+  private static final int BITS_PER_LEVEL = 5;
+  /**
+   * The mask for extracting a trie level's bits from a hash.
+   */
+  private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+  /**
+   * The root node, or {@code null}, if this map is empty.
+   */
+  private final Node root;
+  /**
+   * The number of entries in this map.
+   */
+  private final int size;
+
+  private PersistentHashMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Returns the empty map.
+   *
+   * @param <K> The type of the keys.
+   * @param <V> The type of the values.
+   * @return The empty map.
+   */
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Returns the number of entries in this map.
+   *
+   * @return The number of entries in this map.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether this map is empty.
+   *
+   * @return {@code true} if, and only if, this map does not contain any entries.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the value mapped to the given key.
+   *
+   * @param key The key.
+   * @return The value mapped to the given key, or {@code null}, if there is no such value.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public V get(
+      @Nonnull
+      Object key
+  ) {
+    requireNonNull(key, "key");
+
+    if (root == null) {
+      return null;
+    }
+    return (V) root.find(0, hash(key), key);
+  }
+
+  /**
+   * Checks whether this map contains a mapping for the given key.
+   *
+   * @param key The key.
+   * @return {@code true} if, and only if, this map contains a mapping for the given key.
+   */
+  public boolean containsKey(
+      @Nonnull
+      Object key
+  ) {
+    return get(key) != null;
+  }
+
+  /**
+   * Returns a map containing all entries of this one plus the given one.
+   * If this map already contains a mapping for the given key, it is replaced in the returned map.
+   *
+   * @param key The key.
+   * @param value The value.
+   * @return A map containing all entries of this one plus the given one.
+   */
+  @Nonnull
+  public PersistentHashMap<K, V> plus(
+      @Nonnull
+      K key,
+      @Nonnull
+      V value
+  ) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+
+    boolean[] addedLeaf = new boolean[1];
+    Node newRoot = (root == null ? BitmapIndexedNode.EMPTY : root)
+        .assoc(0, hash(key), key, value, addedLeaf);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentHashMap<>(newRoot, addedLeaf[0] ? size + 1 : size);
+  }
+
+  /**
+   * Returns a map containing all entries of this one except for the one with the given key.
+   *
+   * @param key The key.
+   * @return A map containing all entries of this one except for the one with the given key.
+   */
+  @Nonnull
+  public PersistentHashMap<K, V> minus(
+      @Nonnull
+      Object key
+  ) {
+    requireNonNull(key, "key");
+
+    if (root == null) {
+      return this;
+    }
+    Node newRoot = root.without(0, hash(key), key);
+    if (newRoot == root) {
+      return this;
+    }
+    return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+  }
+
+  /**
+   * Performs the given action for each entry in this map.
+   *
+   * @param action The action.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(
+      @Nonnull
+      BiConsumer<? super K, ? super V> action
+  ) {
+    requireNonNull(action, "action");
+
+    if (root != null) {
+      root.forEach((key, value) -> action.accept((K) key, (V) value));
+    }
+  }
+
+  /**
+   * Performs the given action for each value in this map.
+   *
+   * @param action The action.
+   */
+  public void forEachValue(
+      @Nonnull
+      Consumer<? super V> action
+  ) {
+    requireNonNull(action, "action");
+
+    forEach((key, value) -> action.accept(value));
+  }
+
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    // Spread higher bits downwards, as the lower ones are used for the first trie levels.
+    return h ^ (h >>> 16);
+  }
+
+  private static int bitpos(int hash, int shift) {
+    return 1 << ((hash >>> shift) & LEVEL_MASK);
+  }
+
+  private static Node createNode(
+      int shift,
+      Object key1,
+      Object value1,
+      int key2Hash,
+      Object key2,
+      Object value2
+  ) {
+    int key1Hash = hash(key1);
+    if (key1Hash == key2Hash) {
+      return new HashCollisionNode(key1Hash, new Object[]{key1, value1, key2, value2});
+    }
+    boolean[] addedLeaf = new boolean[1];
+    return BitmapIndexedNode.EMPTY
+        .assoc(shift, key1Hash, key1, value1, addedLeaf)
+        .assoc(shift, key2Hash, key2, value2, addedLeaf);
+  }
+
+  private static Object[] copyWith(Object[] array, int index, Object value) {
+    Object[] result = array.clone();
+    result[index] = value;
+    return result;
+  }
+
+  /**
+   * A node in the trie.
+   */
+  private interface Node {
+
+    Object find(int shift, int hash, Object key);
+
+    Node assoc(int shift, int hash, Object key, Object value, boolean[] addedLeaf);
+
+    Node without(int shift, int hash, Object key);
+
+    void forEach(BiConsumer<Object, Object> action);
+  }
+
+  /**
+   * A node containing up to 32 entries or sub-nodes, with a bitmap indicating which of the 32
+   * possible slots are occupied.
+   * <p>
+   * Slots are stored as pairs in the array. If the first element of a pair is {@code null}, the
+   * second one is a sub-node. Otherwise, the pair is a key and its value.
+   * </p>
+   */
+  private static final class BitmapIndexedNode
+      implements
+        Node {
+
+    private static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(0, new Object[0]);
+
+    private final int bitmap;
+    private final Object[] array;
+
+    BitmapIndexedNode(int bitmap, Object[] array) {
+      this.bitmap = bitmap;
+      this.array = array;
+    }
+
+    @Override
+    public Object find(int shift, int hash, Object key) {
+      int bit = bitpos(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      int idx = index(bit);
+      Object keyOrNull = array[2 * idx];
+      Object valueOrNode = array[2 * idx + 1];
+      if (keyOrNull == null) {
+        return ((Node) valueOrNode).find(shift + BITS_PER_LEVEL, hash, key);
+      }
+      return key.equals(keyOrNull) ? valueOrNode : null;
+    }
+
+    @Override
+    public Node assoc(int shift, int hash, Object key, Object value, boolean[] addedLeaf) {
+      int bit = bitpos(hash, shift);
+      int idx = index(bit);
+
+      if ((bitmap & bit) == 0) {
+        addedLeaf[0] = true;
+        int count = Integer.bitCount(bitmap);
+        Object[] newArray = new Object[2 * (count + 1)];
+        System.arraycopy(array, 0, newArray, 0, 2 * idx);
+        newArray[2 * idx] = key;
+        newArray[2 * idx + 1] = value;
+        System.arraycopy(array, 2 * idx, newArray, 2 * (idx + 1), 2 * (count - idx));
+        return new BitmapIndexedNode(bitmap | bit, newArray);
+      }
+
+      Object keyOrNull = array[2 * idx];
+      Object valueOrNode = array[2 * idx + 1];
+      if (keyOrNull == null) {
+        Node newNode = ((Node) valueOrNode)
+            .assoc(shift + BITS_PER_LEVEL, hash, key, value, addedLeaf);
+        if (newNode == valueOrNode) {
+          return this;
+        }
+        return new BitmapIndexedNode(bitmap, copyWith(array, 2 * idx + 1, newNode));
+      }
+      if (key.equals(keyOrNull)) {
+        if (value == valueOrNode) {
+          return this;
+        }
+        return new BitmapIndexedNode(bitmap, copyWith(array, 2 * idx + 1, value));
+      }
+
+      addedLeaf[0] = true;
+      Object[] newArray = array.clone();
+      newArray[2 * idx] = null;
+      newArray[2 * idx + 1]
+          = createNode(shift + BITS_PER_LEVEL, keyOrNull, valueOrNode, hash, key, value);
+      return new BitmapIndexedNode(bitmap, newArray);
+    }
+
+    @Override
+    public Node without(int shift, int hash, Object key) {
+      int bit = bitpos(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int idx = index(bit);
+      Object keyOrNull = array[2 * idx];
+      Object valueOrNode = array[2 * idx + 1];
+      if (keyOrNull == null) {
+        Node newNode = ((Node) valueOrNode).without(shift + BITS_PER_LEVEL, hash, key);
+        if (newNode == valueOrNode) {
+          return this;
+        }
+        if (newNode != null) {
+          return new BitmapIndexedNode(bitmap, copyWith(array, 2 * idx + 1, newNode));
+        }
+        return removeSlot(bit, idx);
+      }
+      if (key.equals(keyOrNull)) {
+        return removeSlot(bit, idx);
+      }
+      return this;
+    }
+
+    @Override
+    public void forEach(BiConsumer<Object, Object> action) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (array[i] == null) {
+          ((Node) array[i + 1]).forEach(action);
+        }
+        else {
+          action.accept(array[i], array[i + 1]);
+        }
+      }
+    }
+
+    private Node removeSlot(int bit, int idx) {
+      if (bitmap == bit) {
+        return null;
+      }
+      Object[] newArray = new Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, 2 * idx);
+      System.arraycopy(array, 2 * (idx + 1), newArray, 2 * idx, newArray.length - 2 * idx);
+      return new BitmapIndexedNode(bitmap ^ bit, newArray);
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+  }
+
+  /**
+   * A node containing entries whose keys have the same hash.
+   */
+  private static final class HashCollisionNode
+      implements
+        Node {
+
+    private final int hash;
+    private final Object[] array;
+
+    HashCollisionNode(int hash, Object[] array) {
+      this.hash = hash;
+      this.array = array;
+    }
+
+    @Override
+    public Object find(int shift, int hash, Object key) {
+      int idx = findIndex(key);
+      return idx < 0 ? null : array[idx + 1];
+    }
+
+    @Override
+    public Node assoc(int shift, int hash, Object key, Object value, boolean[] addedLeaf) {
+      if (hash != this.hash) {
+        // Nest this node in a bitmap indexed node and add the new entry to that one.
+        return new BitmapIndexedNode(bitpos(this.hash, shift), new Object[]{null, this})
+            .assoc(shift, hash, key, value, addedLeaf);
+      }
+
+      int idx = findIndex(key);
+      if (idx >= 0) {
+        if (array[idx + 1] == value) {
+          return this;
+        }
+        return new HashCollisionNode(hash, copyWith(array, idx + 1, value));
+      }
+
+      addedLeaf[0] = true;
+      Object[] newArray = Arrays.copyOf(array, array.length + 2);
+      newArray[array.length] = key;
+      newArray[array.length + 1] = value;
+      return new HashCollisionNode(hash, newArray);
+    }
+
+    @Override
+    public Node without(int shift, int hash, Object key) {
+      int idx = findIndex(key);
+      if (idx < 0) {
+        return this;
+      }
+      if (array.length == 2) {
+        return null;
+      }
+      Object[] newArray = new Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, idx);
+      System.arraycopy(array, idx + 2, newArray, idx, newArray.length - idx);
+      return new HashCollisionNode(hash, newArray);
+    }
+
+    @Override
+    public void forEach(BiConsumer<Object, Object> action) {
+      for (int i = 0; i < array.length; i += 2) {
+        action.accept(array[i], array[i + 1]);
+      }
+    }
+
+    private int findIndex(Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+}
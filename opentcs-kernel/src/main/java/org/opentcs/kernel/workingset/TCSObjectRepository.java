@@ -7,11 +7,14 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
@@ -22,18 +25,50 @@ import org.opentcs.data.TCSObjectReference;
  * <p>
  * Provides access to a set of data objects and ensures they have unique names.
  * </p>
+ * <p>
+ * Reading from an instance of this class is thread-safe and does not require any synchronization.
+ * Modifications, however, are not synchronized inside this class and must be synchronized
+ * externally.
+ * </p>
  */
 public class TCSObjectRepository {
 
   /**
-   * The objects contained in this pool, mapped by their names, grouped by their classes.
+   * The current state of this pool.
+   * <p>
+   * Modifications do not change a snapshot but replace it with a new one (sharing all unmodified
+   * parts with the previous one). Readers therefore always work on a consistent point-in-time
+   * state without requiring any synchronization, while writers are expected to be serialized
+   * externally.
+   * </p>
    */
-  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  /**
+   * The secondary indexes maintained by this pool, grouped by the classes of the indexed objects.
+   */
+  private final Map<Class<?>, List<TCSObjectIndex<?, ?>>> indexesByClass;
 
   /**
-   * Creates a new instance.
+   * Creates a new instance maintaining the {@link TCSObjectIndex#predefinedIndexes() predefined}
+   * secondary indexes.
    */
   public TCSObjectRepository() {
+    this(TCSObjectIndex.predefinedIndexes());
+  }
+
+  /**
+   * Creates a new instance maintaining the given secondary indexes.
+   *
+   * @param indexes The secondary indexes to maintain.
+   */
+  public TCSObjectRepository(
+      @Nonnull
+      Collection<TCSObjectIndex<?, ?>> indexes
+  ) {
+    requireNonNull(indexes, "indexes");
+
+    this.indexesByClass = indexes.stream()
+        .collect(Collectors.groupingBy(TCSObjectIndex::getObjectClass));
   }
 
   /**
@@ -50,16 +85,12 @@ public class TCSObjectRepository {
       throws ObjectExistsException {
     requireNonNull(newObject, "newObject");
 
-    if (containsName(newObject.getName())) {
+    Snapshot current = snapshot;
+    if (current.objectsByName.containsKey(newObject.getName())) {
       throw new ObjectExistsException("Object name already exists: " + newObject.getName());
     }
 
-    Map<String, TCSObject<?>> objectsByName = objects.get(newObject.getClass());
-    if (objectsByName == null) {
-      objectsByName = new HashMap<>();
-      objects.put(newObject.getClass(), objectsByName);
-    }
-    objectsByName.put(newObject.getName(), newObject);
+    snapshot = current.withObject(null, newObject, indexesFor(newObject));
   }
 
   /**
@@ -77,7 +108,8 @@ public class TCSObjectRepository {
   )
       throws IllegalArgumentException {
     requireNonNull(object, "object");
-    TCSObject<?> oldObject = getObjectOrNull(object.getName());
+    Snapshot current = snapshot;
+    TCSObject<?> oldObject = current.objectsByName.get(object.getName());
     checkArgument(
         oldObject != null,
         "Object named '%s' does not exist",
@@ -91,7 +123,7 @@ public class TCSObjectRepository {
         oldObject.getClass().getName()
     );
 
-    objects.get(object.getClass()).put(object.getName(), object);
+    snapshot = current.withObject(oldObject, object, indexesFor(object));
   }
 
   /**
@@ -107,7 +139,7 @@ public class TCSObjectRepository {
   ) {
     requireNonNull(ref);
 
-    return objects.getOrDefault(ref.getReferentClass(), Map.of()).get(ref.getName());
+    return snapshot.objectsByClass(ref.getReferentClass()).get(ref.getName());
   }
 
   /**
@@ -150,7 +182,7 @@ public class TCSObjectRepository {
     requireNonNull(clazz, "clazz");
     requireNonNull(ref, "ref");
 
-    TCSObject<?> result = objects.getOrDefault(clazz, Map.of()).get(ref.getName());
+    TCSObject<?> result = snapshot.objectsByClass(clazz).get(ref.getName());
     if (clazz.isInstance(result)) {
       return clazz.cast(result);
     }
@@ -198,11 +230,7 @@ public class TCSObjectRepository {
   ) {
     requireNonNull(name, "name");
 
-    return objects.values().stream()
-        .map(objectsByName -> objectsByName.get(name))
-        .filter(object -> object != null)
-        .findAny()
-        .orElse(null);
+    return snapshot.objectsByName.get(name);
   }
 
   /**
@@ -245,7 +273,7 @@ public class TCSObjectRepository {
     requireNonNull(clazz, "clazz");
     requireNonNull(name, "name");
 
-    TCSObject<?> result = objects.getOrDefault(clazz, Map.of()).get(name);
+    TCSObject<?> result = snapshot.objectsByClass(clazz).get(name);
     if (clazz.isInstance(result)) {
       return clazz.cast(result);
     }
@@ -291,9 +319,11 @@ public class TCSObjectRepository {
       @Nonnull
       Class<T> clazz
   ) {
-    return objects.getOrDefault(clazz, Map.of()).values().stream()
-        .map(object -> clazz.cast(object))
-        .collect(Collectors.toSet());
+    requireNonNull(clazz, "clazz");
+
+    Set<T> result = new HashSet<>();
+    snapshot.objectsByClass(clazz).forEachValue(object -> result.add(clazz.cast(object)));
+    return result;
   }
 
   /**
@@ -315,10 +345,14 @@ public class TCSObjectRepository {
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
-    return objects.getOrDefault(clazz, Map.of()).values().stream()
-        .map(object -> clazz.cast(object))
-        .filter(predicate)
-        .collect(Collectors.toSet());
+    Set<T> result = new HashSet<>();
+    snapshot.objectsByClass(clazz).forEachValue(object -> {
+      T castObject = clazz.cast(object);
+      if (predicate.test(castObject)) {
+        result.add(castObject);
+      }
+    });
+    return result;
   }
 
   /**
@@ -336,15 +370,217 @@ public class TCSObjectRepository {
       throws ObjectUnknownException {
     requireNonNull(ref, "ref");
 
-    Map<String, TCSObject<?>> map = objects.get(ref.getReferentClass());
-    TCSObject<?> obj = (map == null) ? null : map.remove(ref.getName());
+    Snapshot current = snapshot;
+    TCSObject<?> obj = current.objectsByClass(ref.getReferentClass()).get(ref.getName());
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    snapshot = current.withoutObject(obj, indexesFor(obj));
     return obj;
   }
 
-  private boolean containsName(String name) {
-    return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
+  /**
+   * Returns a set of objects that are mapped to the given key by the given index.
+   * <p>
+   * If the given index is maintained by this pool, this does not require looking at every object of
+   * the index's object class.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param <K> The type of the index key.
+   * @param index The index.
+   * @param key The index key.
+   * @return A set of objects that are mapped to the given key by the given index. If no such
+   * objects exist, the returned set is empty.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> Set<T> getObjectsByIndex(
+      @Nonnull
+      TCSObjectIndex<T, K> index,
+      @Nonnull
+      K key
+  ) {
+    requireNonNull(index, "index");
+    requireNonNull(key, "key");
+
+    if (!indexesByClass.getOrDefault(index.getObjectClass(), List.of()).contains(index)) {
+      return getObjects(index.getObjectClass(), object -> key.equals(index.extractKey(object)));
+    }
+
+    Set<T> result = new HashSet<>();
+    snapshot.indexedObjects(index, key)
+        .forEachValue(object -> result.add(index.getObjectClass().cast(object)));
+    return result;
+  }
+
+  private List<TCSObjectIndex<?, ?>> indexesFor(TCSObject<?> object) {
+    return indexesByClass.getOrDefault(object.getClass(), List.of());
+  }
+
+  @Nullable
+  private static <T extends TCSObject<T>> Object indexKey(
+      TCSObjectIndex<T, ?> index,
+      @Nullable
+      TCSObject<?> object
+  ) {
+    return object == null ? null : index.extractKey(index.getObjectClass().cast(object));
+  }
+
+  /**
+   * An immutable, point-in-time state of the pool.
+   */
+  private static final class Snapshot {
+
+    /**
+     * The empty snapshot.
+     */
+    private static final Snapshot EMPTY = new Snapshot(
+        PersistentHashMap.empty(),
+        PersistentHashMap.empty(),
+        PersistentHashMap.empty()
+    );
+    /**
+     * The objects, mapped by their names, grouped by their classes.
+     */
+    private final PersistentHashMap<Class<?>, PersistentHashMap<String, TCSObject<?>>> objects;
+    /**
+     * All objects, mapped by their names.
+     * Since names are unique across all classes, this allows lookups by bare names without having
+     * to look into every class's map.
+     */
+    private final PersistentHashMap<String, TCSObject<?>> objectsByName;
+    /**
+     * The content of the secondary indexes, mapped by the indexes.
+     */
+    private final PersistentHashMap<TCSObjectIndex<?, ?>, IndexContent> indexContents;
+
+    private Snapshot(
+        PersistentHashMap<Class<?>, PersistentHashMap<String, TCSObject<?>>> objects,
+        PersistentHashMap<String, TCSObject<?>> objectsByName,
+        PersistentHashMap<TCSObjectIndex<?, ?>, IndexContent> indexContents
+    ) {
+      this.objects = objects;
+      this.objectsByName = objectsByName;
+      this.indexContents = indexContents;
+    }
+
+    private PersistentHashMap<String, TCSObject<?>> objectsByClass(Class<?> clazz) {
+      PersistentHashMap<String, TCSObject<?>> result = objects.get(clazz);
+      return result == null ? PersistentHashMap.empty() : result;
+    }
+
+    private PersistentHashMap<String, TCSObject<?>> indexedObjects(
+        TCSObjectIndex<?, ?> index,
+        Object key
+    ) {
+      IndexContent content = indexContents.get(index);
+      return content == null ? PersistentHashMap.empty() : content.objectsWithKey(key);
+    }
+
+    private Snapshot withObject(
+        @Nullable
+        TCSObject<?> previousObject,
+        TCSObject<?> object,
+        List<TCSObjectIndex<?, ?>> indexes
+    ) {
+      PersistentHashMap<TCSObjectIndex<?, ?>, IndexContent> newIndexContents = indexContents;
+      for (TCSObjectIndex<?, ?> index : indexes) {
+        Object previousKey = indexKey(index, previousObject);
+        Object key = indexKey(index, object);
+        IndexContent content = indexContents.get(index);
+        if (content == null) {
+          content = IndexContent.EMPTY;
+        }
+        newIndexContents = newIndexContents.plus(
+            index,
+            content.without(previousKey, object.getName()).with(key, object)
+        );
+      }
+
+      return new Snapshot(
+          objects.plus(
+              object.getClass(),
+              objectsByClass(object.getClass()).plus(object.getName(), object)
+          ),
+          objectsByName.plus(object.getName(), object),
+          newIndexContents
+      );
+    }
+
+    private Snapshot withoutObject(TCSObject<?> object, List<TCSObjectIndex<?, ?>> indexes) {
+      PersistentHashMap<TCSObjectIndex<?, ?>, IndexContent> newIndexContents = indexContents;
+      for (TCSObjectIndex<?, ?> index : indexes) {
+        IndexContent content = indexContents.get(index);
+        if (content != null) {
+          newIndexContents = newIndexContents.plus(
+              index,
+              content.without(indexKey(index, object), object.getName())
+          );
+        }
+      }
+
+      PersistentHashMap<String, TCSObject<?>> remaining
+          = objectsByClass(object.getClass()).minus(object.getName());
+      return new Snapshot(
+          remaining.isEmpty()
+              ? objects.minus(object.getClass())
+              : objects.plus(object.getClass(), remaining),
+          objectsByName.minus(object.getName()),
+          newIndexContents
+      );
+    }
+  }
+
+  /**
+   * The immutable content of a secondary index.
+   */
+  private static final class IndexContent {
+
+    /**
+     * The empty index content.
+     */
+    private static final IndexContent EMPTY = new IndexContent(PersistentHashMap.empty());
+    /**
+     * The indexed objects, mapped by their names, grouped by their index keys.
+     */
+    private final PersistentHashMap<Object, PersistentHashMap<String, TCSObject<?>>> objectsByKey;
+
+    private IndexContent(
+        PersistentHashMap<Object, PersistentHashMap<String, TCSObject<?>>> objectsByKey
+    ) {
+      this.objectsByKey = objectsByKey;
+    }
+
+    private PersistentHashMap<String, TCSObject<?>> objectsWithKey(Object key) {
+      PersistentHashMap<String, TCSObject<?>> result = objectsByKey.get(key);
+      return result == null ? PersistentHashMap.empty() : result;
+    }
+
+    private IndexContent with(
+        @Nullable
+        Object key,
+        TCSObject<?> object
+    ) {
+      if (key == null) {
+        return this;
+      }
+      return new IndexContent(
+          objectsByKey.plus(key, objectsWithKey(key).plus(object.getName(), object))
+      );
+    }
+
+    private IndexContent without(
+        @Nullable
+        Object key,
+        String objectName
+    ) {
+      if (key == null) {
+        return this;
+      }
+      PersistentHashMap<String, TCSObject<?>> remaining = objectsWithKey(key).minus(objectName);
+      return new IndexContent(
+          remaining.isEmpty() ? objectsByKey.minus(key) : objectsByKey.plus(key, remaining)
+      );
+    }
   }
 }
@@ -0,0 +1,132 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PersistentHashMap}.
+ */
+class PersistentHashMapTest {
+
+  @Test
+  void returnAddedValues() {
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+        .plus("a", 1)
+        .plus("b", 2);
+
+    assertThat(map.size(), is(2));
+    assertThat(map.get("a"), is(1));
+    assertThat(map.get("b"), is(2));
+    assertThat(map.get("c"), is(nullValue()));
+  }
+
+  @Test
+  void replaceValueForExistingKey() {
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+        .plus("a", 1)
+        .plus("a", 2);
+
+    assertThat(map.size(), is(1));
+    assertThat(map.get("a"), is(2));
+  }
+
+  @Test
+  void removeValues() {
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+        .plus("a", 1)
+        .plus("b", 2)
+        .minus("a");
+
+    assertThat(map.size(), is(1));
+    assertThat(map.containsKey("a"), is(false));
+    assertThat(map.get("b"), is(2));
+  }
+
+  @Test
+  void returnSameInstanceWhenRemovingNonexistentKey() {
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+        .plus("a", 1);
+
+    assertThat(map.minus("b"), is(sameInstance(map)));
+  }
+
+  @Test
+  void leaveOriginalMapUnmodified() {
+    PersistentHashMap<String, Integer> original = PersistentHashMap.<String, Integer>empty()
+        .plus("a", 1);
+
+    PersistentHashMap<String, Integer> modified = original.plus("a", 2).plus("b", 3).minus("a");
+
+    assertThat(original.size(), is(1));
+    assertThat(original.get("a"), is(1));
+    assertThat(original.containsKey("b"), is(false));
+    assertThat(modified.size(), is(1));
+    assertThat(modified.get("b"), is(3));
+  }
+
+  @Test
+  void handleKeysWithCollidingHashes() {
+    CollidingKey key1 = new CollidingKey("key1");
+    CollidingKey key2 = new CollidingKey("key2");
+    CollidingKey key3 = new CollidingKey("key3");
+
+    PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.<CollidingKey, Integer>empty()
+        .plus(key1, 1)
+        .plus(key2, 2)
+        .plus(key3, 3)
+        .minus(key2);
+
+    assertThat(map.size(), is(2));
+    assertThat(map.get(key1), is(1));
+    assertThat(map.get(key2), is(nullValue()));
+    assertThat(map.get(key3), is(3));
+  }
+
+  @Test
+  void behaveLikeHashMapForManyEntries() {
+    Map<String, Integer> expected = new HashMap<>();
+    PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+
+    for (int i = 0; i < 10000; i++) {
+      expected.put("key-" + i, i);
+      map = map.plus("key-" + i, i);
+    }
+    for (int i = 0; i < 10000; i += 3) {
+      expected.remove("key-" + i);
+      map = map.minus("key-" + i);
+    }
+
+    Map<String, Integer> actual = new HashMap<>();
+    map.forEach(actual::put);
+
+    assertThat(map.size(), is(expected.size()));
+    assertThat(actual, is(expected));
+  }
+
+  private static class CollidingKey {
+
+    private final String name;
+
+    CollidingKey(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public int hashCode() {
+      return 42;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof CollidingKey && ((CollidingKey) obj).name.equals(name);
+    }
+  }
+}
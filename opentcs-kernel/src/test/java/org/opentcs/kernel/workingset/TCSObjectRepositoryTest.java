@@ -10,14 +10,18 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
 
 /**
  * Unit tests for {@link TCSObjectRepository}.
@@ -186,6 +190,17 @@ class TCSObjectRepositoryTest {
     assertThat(pool.getObjects(Point.class), contains(pointV2));
   }
 
+  @Test
+  void returnReplacingObjectByName() {
+    Point pointV1 = new Point("some-point").withType(Point.Type.HALT_POSITION);
+    Point pointV2 = pointV1.withType(Point.Type.PARK_POSITION);
+
+    pool.addObject(pointV1);
+    pool.replaceObject(pointV2);
+
+    assertThat(pool.getObjectOrNull("some-point"), is(pointV2));
+  }
+
   @Test
   void throwOnReplaceObjectWithNonexistentName() {
     Point point1 = new Point("some-point").withType(Point.Type.HALT_POSITION);
@@ -214,6 +229,28 @@ class TCSObjectRepositoryTest {
     assertThat(pool.getObjectOrNull(point1.getReference()), is(nullValue()));
   }
 
+  @Test
+  void returnNullForRemovedObjectByName() {
+    Point point1 = new Point("Point-00001");
+
+    pool.addObject(point1);
+    pool.removeObject(point1.getReference());
+
+    assertThat(pool.getObjectOrNull("Point-00001"), is(nullValue()));
+  }
+
+  @Test
+  void allowAddingObjectWithNameOfRemovedObject() {
+    Point point = new Point("my-object");
+    LocationType locationType = new LocationType("my-object");
+
+    pool.addObject(point);
+    pool.removeObject(point.getReference());
+    pool.addObject(locationType);
+
+    assertThat(pool.getObjectOrNull("my-object"), is(locationType));
+  }
+
   @Test
   void throwOnRemoveNonexistentObjectByRef() {
     assertThrows(
@@ -228,4 +265,100 @@ class TCSObjectRepositoryTest {
     // Another object with the same name.
     assertThrows(ObjectExistsException.class, () -> pool.addObject(new Point("some-point")));
   }
+
+  @Test
+  void throwOnAddObjectWithExistingNameOfDifferentClass() {
+    pool.addObject(new Point("my-object"));
+    // Another object with the same name, but of a different class.
+    assertThrows(ObjectExistsException.class, () -> pool.addObject(new LocationType("my-object")));
+  }
+
+  @Test
+  void returnObjectsByIndex() {
+    TransportOrder order1 = new TransportOrder("T1", List.of()).withState(TransportOrder.State.RAW);
+    TransportOrder order2 = new TransportOrder("T2", List.of()).withState(TransportOrder.State.RAW);
+    TransportOrder order3 = new TransportOrder("T3", List.of())
+        .withState(TransportOrder.State.ACTIVE);
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+    pool.addObject(order3);
+
+    assertThat(
+        pool.getObjectsByIndex(TCSObjectIndex.ORDERS_BY_STATE, TransportOrder.State.RAW),
+        containsInAnyOrder(order1, order2)
+    );
+    assertThat(
+        pool.getObjectsByIndex(TCSObjectIndex.ORDERS_BY_STATE, TransportOrder.State.ACTIVE),
+        contains(order3)
+    );
+    assertThat(
+        pool.getObjectsByIndex(TCSObjectIndex.ORDERS_BY_STATE, TransportOrder.State.FAILED),
+        is(empty())
+    );
+  }
+
+  @Test
+  void updateIndexOnReplaceObject() {
+    TransportOrder orderV1 = new TransportOrder("T1", List.of())
+        .withState(TransportOrder.State.RAW);
+    TransportOrder orderV2 = orderV1.withState(TransportOrder.State.ACTIVE);
+
+    pool.addObject(orderV1);
+    pool.replaceObject(orderV2);
+
+    assertThat(
+        pool.getObjectsByIndex(TCSObjectIndex.ORDERS_BY_STATE, TransportOrder.State.RAW),
+        is(empty())
+    );
+    assertThat(
+        pool.getObjectsByIndex(TCSObjectIndex.ORDERS_BY_STATE, TransportOrder.State.ACTIVE),
+        contains(orderV2)
+    );
+  }
+
+  @Test
+  void updateIndexOnRemoveObject() {
+    TransportOrder order = new TransportOrder("T1", List.of()).withState(TransportOrder.State.RAW);
+
+    pool.addObject(order);
+    pool.removeObject(order.getReference());
+
+    assertThat(
+        pool.getObjectsByIndex(TCSObjectIndex.ORDERS_BY_STATE, TransportOrder.State.RAW),
+        is(empty())
+    );
+  }
+
+  @Test
+  void doNotIndexObjectsWithoutKey() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    TransportOrder order1 = new TransportOrder("T1", List.of());
+    TransportOrder order2 = new TransportOrder("T2", List.of())
+        .withIntendedVehicle(vehicle.getReference());
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+
+    assertThat(
+        pool.getObjectsByIndex(TCSObjectIndex.ORDERS_BY_INTENDED_VEHICLE, "some-vehicle"),
+        contains(order2)
+    );
+  }
+
+  @Test
+  void returnObjectsByIndexNotMaintainedByPool() {
+    pool = new TCSObjectRepository(List.of());
+    TransportOrder order1 = new TransportOrder("T1", List.of()).withState(TransportOrder.State.RAW);
+    TransportOrder order2 = new TransportOrder("T2", List.of())
+        .withState(TransportOrder.State.ACTIVE);
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+
+    assertThat(
+        pool.getObjectsByIndex(TCSObjectIndex.ORDERS_BY_STATE, TransportOrder.State.RAW),
+        contains(order1)
+    );
+  }
 }
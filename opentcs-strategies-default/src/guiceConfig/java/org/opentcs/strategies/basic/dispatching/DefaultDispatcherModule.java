@@ -114,6 +114,8 @@ public class DefaultDispatcherModule
 
     bind(OrderReservationPool.class)
         .in(Singleton.class);
+    bind(DirtyObjectTracker.class)
+        .in(Singleton.class);
 
     bind(ParkingPositionSupplier.class)
         .to(DefaultParkingPositionSupplier.class)
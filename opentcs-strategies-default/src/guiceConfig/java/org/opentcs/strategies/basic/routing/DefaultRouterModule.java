@@ -6,6 +6,8 @@ import com.google.inject.assistedinject.FactoryModuleBuilder;
 import jakarta.inject.Singleton;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.strategies.basic.routing.ch.ContractionHierarchyPointRouterFactory;
+import org.opentcs.strategies.basic.routing.csr.CsrPointRouterFactory;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorBoundingBox;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorDistance;
@@ -47,13 +49,13 @@ public class DefaultRouterModule
   }
 
   private void configureRouterDependencies() {
-    bind(DefaultRouterConfiguration.class)
-        .toInstance(
-            getConfigBindingProvider().get(
-                DefaultRouterConfiguration.PREFIX,
-                DefaultRouterConfiguration.class
-            )
+    DefaultRouterConfiguration configuration
+        = getConfigBindingProvider().get(
+            DefaultRouterConfiguration.PREFIX,
+            DefaultRouterConfiguration.class
         );
+    bind(DefaultRouterConfiguration.class)
+        .toInstance(configuration);
 
     ShortestPathConfiguration spConfiguration
         = getConfigBindingProvider().get(
@@ -67,6 +69,14 @@ public class DefaultRouterModule
 
     bind(GraphProvider.class)
         .in(Singleton.class);
+    bind(PointRouteMemo.class)
+        .in(Singleton.class);
+    bind(ShortestPathTreeCache.class)
+        .in(Singleton.class);
+    bind(DerivedPointRouterCache.class)
+        .in(Singleton.class);
+    bind(CongestionHeatMap.class)
+        .in(Singleton.class);
 
     switch (spConfiguration.algorithm()) {
       case DIJKSTRA:
@@ -81,6 +91,16 @@ public class DefaultRouterModule
         bind(PointRouterFactory.class)
             .to(FloydWarshallPointRouterFactory.class);
         break;
+      case DIJKSTRA_CSR:
+      case ASTAR:
+        bind(PointRouterFactory.class)
+            .to(CsrPointRouterFactory.class);
+        break;
+      case CONTRACTION_HIERARCHIES:
+        bind(PointRouterFactory.class)
+            .to(ContractionHierarchyPointRouterFactory.class)
+            .in(Singleton.class);
+        break;
       default:
         LOG.warn(
             "Unhandled algorithm selected ({}), falling back to Dijkstra's algorithm.",
@@ -90,6 +110,16 @@ public class DefaultRouterModule
             .to(DijkstraPointRouterFactory.class);
     }
 
+    if ((configuration.congestionPenaltyPerAllocation() > 0
+        || configuration.congestionPenaltyPerClaim() > 0)
+        && spConfiguration.algorithm() != ShortestPathConfiguration.Algorithm.DIJKSTRA_CSR
+        && spConfiguration.algorithm() != ShortestPathConfiguration.Algorithm.ASTAR) {
+      LOG.warn(
+          "Congestion penalties are not supported with the selected algorithm ({}), ignoring them.",
+          spConfiguration.algorithm()
+      );
+    }
+
     edgeEvaluatorBinder()
         .addBinding(EdgeEvaluatorDistance.CONFIGURATION_KEY)
         .to(EdgeEvaluatorDistance.class);
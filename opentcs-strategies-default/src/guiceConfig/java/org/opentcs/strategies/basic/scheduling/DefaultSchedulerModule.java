@@ -6,6 +6,7 @@ import com.google.inject.multibindings.Multibinder;
 import jakarta.inject.Singleton;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.strategies.basic.scheduling.modules.DeadlockPredictionModule;
 import org.opentcs.strategies.basic.scheduling.modules.PausedVehicleModule;
 import org.opentcs.strategies.basic.scheduling.modules.SameDirectionBlockModule;
 import org.opentcs.strategies.basic.scheduling.modules.SingleVehicleBlockModule;
@@ -33,12 +34,22 @@ public class DefaultSchedulerModule
   }
 
   private void configureSchedulerDependencies() {
+    DefaultSchedulerConfiguration configuration
+        = getConfigBindingProvider().get(
+            DefaultSchedulerConfiguration.PREFIX,
+            DefaultSchedulerConfiguration.class
+        );
+    bind(DefaultSchedulerConfiguration.class).toInstance(configuration);
+
     bind(ReservationPool.class).in(Singleton.class);
 
     Multibinder<Scheduler.Module> moduleBinder = schedulerModuleBinder();
     moduleBinder.addBinding().to(SingleVehicleBlockModule.class);
     moduleBinder.addBinding().to(SameDirectionBlockModule.class);
     moduleBinder.addBinding().to(PausedVehicleModule.class);
+    if (configuration.deadlockPrediction()) {
+      moduleBinder.addBinding().to(DeadlockPredictionModule.class);
+    }
 
     moduleBinder.addBinding().to(AreaAllocationModule.class);
     bind(AreaProvider.class)
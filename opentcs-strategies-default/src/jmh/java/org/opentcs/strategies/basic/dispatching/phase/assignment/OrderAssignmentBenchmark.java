@@ -0,0 +1,421 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
+import org.opentcs.strategies.basic.dispatching.LowestCostRouteSelector;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
+import org.opentcs.strategies.basic.routing.OrderRouteSearch;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.ShortestPathTreeCache;
+import org.opentcs.strategies.basic.routing.ShortestPathTreeCachingPointRouter;
+import org.opentcs.strategies.basic.routing.csr.CsrGraph;
+import org.opentcs.strategies.basic.routing.csr.CsrPointRouter;
+
+/**
+ * Measures the time {@link OrderAssigner} needs to assign transport orders to vehicles with each
+ * of the available order assignment strategies.
+ * <p>
+ * The plant model is a grid of points connected by bidirectional paths, with vehicles placed at
+ * random points and transport orders leading to locations linked to random points. Routes are
+ * computed on the model with a {@link CsrPointRouter}, with shortest path trees being cached
+ * across invocations as they would be across dispatch runs with an unchanged routing topology.
+ * Assigning a transport order to a vehicle only records the assignment, so every invocation
+ * starts from the same state.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderAssignmentBenchmark {
+
+  /**
+   * The number of points along each side of the grid.
+   */
+  private static final int GRID_SIZE = 30;
+  /**
+   * The distance between two neighbouring points (in mm).
+   */
+  private static final int GRID_SPACING = 5000;
+  /**
+   * The number of vehicles (and transport orders).
+   */
+  @Param({"20", "50", "100"})
+  private int vehicleCount;
+  /**
+   * The order assignment strategy to use.
+   */
+  @Param({"GREEDY", "MIN_COST_MATCHING"})
+  private DefaultDispatcherConfiguration.OrderAssignmentStrategy strategy;
+  /**
+   * The vehicles available for order assignment.
+   */
+  private List<Vehicle> vehicles;
+  /**
+   * The transport orders available to be assigned to vehicles.
+   */
+  private List<TransportOrder> orders;
+  /**
+   * The order assigner.
+   */
+  private OrderAssigner orderAssigner;
+
+  /**
+   * Creates a new instance.
+   */
+  public OrderAssignmentBenchmark() {
+  }
+
+  /**
+   * Creates the plant model, vehicles and transport orders and sets up the order assigner.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(4711);
+    ModelObjectService objectService = new ModelObjectService();
+
+    Point[][] grid = new Point[GRID_SIZE][GRID_SIZE];
+    Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (int x = 0; x < GRID_SIZE; x++) {
+      for (int y = 0; y < GRID_SIZE; y++) {
+        grid[x][y] = objectService.add(
+            new Point("Point-" + x + "-" + y)
+                .withPose(
+                    new Pose(new Triple(x * GRID_SPACING, y * GRID_SPACING, 0), Double.NaN)
+                )
+        );
+        graph.addVertex(grid[x][y].getName());
+        if (x > 0) {
+          connect(objectService, graph, grid[x - 1][y], grid[x][y]);
+        }
+        if (y > 0) {
+          connect(objectService, graph, grid[x][y - 1], grid[x][y]);
+        }
+      }
+    }
+
+    LocationType locationType = objectService.add(new LocationType("Station"));
+    vehicles = new ArrayList<>(vehicleCount);
+    orders = new ArrayList<>(vehicleCount);
+    for (int i = 0; i < vehicleCount; i++) {
+      vehicles.add(
+          objectService.add(
+              new Vehicle("Vehicle-" + i)
+                  .withCurrentPosition(randomPoint(random, grid).getReference())
+          )
+      );
+
+      Location location = new Location("Location-" + i, locationType.getReference());
+      location = objectService.add(
+          location.withAttachedLinks(
+              Set.of(
+                  new Location.Link(
+                      location.getReference(),
+                      randomPoint(random, grid).getReference()
+                  )
+              )
+          )
+      );
+      orders.add(
+          objectService.add(
+              new TransportOrder(
+                  "TOrder-" + i,
+                  List.of(new DriveOrder(new DriveOrder.Destination(location.getReference())))
+              )
+          )
+      );
+    }
+
+    PointRouter pointRouter = new ShortestPathTreeCachingPointRouter(
+        "",
+        new CsrPointRouter(CsrGraph.fromGraph(graph), objectService.fetchObjects(Point.class)),
+        new ShortestPathTreeCache(vehicleCount)
+    );
+
+    DefaultDispatcherConfiguration configuration = mock();
+    when(configuration.orderAssignmentStrategy()).thenReturn(strategy);
+
+    orderAssigner = new OrderAssigner(
+        objectService,
+        new OrderReservationPool(),
+        new CompositeVehicleComparator(configuration, Map.of()),
+        new CompositeOrderComparator(configuration, Map.of()),
+        new CompositeOrderCandidateComparator(configuration, Map.of()),
+        new CompositeVehicleCandidateComparator(configuration, Map.of()),
+        new CompositeAssignmentCandidateSelectionFilter(Set.of()),
+        mock(TransportOrderUtil.class, withSettings().stubOnly()),
+        new DispatchingStatusMarker(objectService),
+        new DriveOrderRouteAssigner(
+            new ModelRouter(objectService, pointRouter),
+            new LowestCostRouteSelector(),
+            configuration
+        ),
+        new CandidateCostEstimator(objectService),
+        configuration
+    );
+  }
+
+  /**
+   * Assigns the transport orders to the vehicles.
+   *
+   * @return The order assigner.
+   */
+  @Benchmark
+  public OrderAssigner tryAssignments() {
+    orderAssigner.tryAssignments(vehicles, orders);
+    return orderAssigner;
+  }
+
+  private static void connect(
+      ModelObjectService objectService,
+      Graph<String, Edge> graph,
+      Point point1,
+      Point point2
+  ) {
+    Path path = objectService.add(
+        new Path(
+            point1.getName() + " --- " + point2.getName(),
+            point1.getReference(),
+            point2.getReference()
+        )
+            .withLength(GRID_SPACING)
+    );
+    Edge forwardEdge = new Edge(path, false);
+    graph.addEdge(point1.getName(), point2.getName(), forwardEdge);
+    graph.setEdgeWeight(forwardEdge, GRID_SPACING);
+    Edge reverseEdge = new Edge(path, true);
+    graph.addEdge(point2.getName(), point1.getName(), reverseEdge);
+    graph.setEdgeWeight(reverseEdge, GRID_SPACING);
+  }
+
+  private static Point randomPoint(Random random, Point[][] grid) {
+    return grid[random.nextInt(GRID_SIZE)][random.nextInt(GRID_SIZE)];
+  }
+
+  /**
+   * Provides the objects of the plant model, ignoring any updates to them.
+   */
+  private static class ModelObjectService
+      implements
+        TCSObjectService {
+
+    private final Map<String, TCSObject<?>> objects = new HashMap<>();
+
+    ModelObjectService() {
+    }
+
+    <T extends TCSObject<T>> T add(T object) {
+      objects.put(object.getName(), object);
+      return object;
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
+      return fetchObject(clazz, ref.getName());
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
+      TCSObject<?> object = objects.get(name);
+      return clazz.isInstance(object) ? clazz.cast(object) : null;
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
+      return fetchObjects(clazz, object -> true);
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> fetchObjects(
+        Class<T> clazz,
+        Predicate<? super T> predicate
+    ) {
+      return objects.values().stream()
+          .filter(clazz::isInstance)
+          .map(clazz::cast)
+          .filter(predicate)
+          .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void updateObjectProperty(TCSObjectReference<?> ref, String key, String value) {
+    }
+
+    @Override
+    public void appendObjectHistoryEntry(TCSObjectReference<?> ref, ObjectHistory.Entry entry) {
+    }
+  }
+
+  /**
+   * Computes routes for transport orders on the plant model via {@link OrderRouteSearch}.
+   */
+  private static class ModelRouter
+      implements
+        Router {
+
+    private final TCSObjectService objectService;
+    private final PointRouter pointRouter;
+
+    ModelRouter(TCSObjectService objectService, PointRouter pointRouter) {
+      this.objectService = objectService;
+      this.pointRouter = pointRouter;
+    }
+
+    @Override
+    public void initialize() {
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public void terminate() {
+    }
+
+    @Override
+    public Set<List<Route>> getRoutes(
+        @Nonnull
+        Vehicle vehicle,
+        @Nonnull
+        Point sourcePoint,
+        @Nonnull
+        TransportOrder transportOrder,
+        int maxRouteCount
+    ) {
+      List<Set<Point>> destinationPoints = transportOrder.getFutureDriveOrders().stream()
+          .map(driveOrder -> destinationPoints(driveOrder.getDestination()))
+          .collect(Collectors.toList());
+      List<Route> routes = OrderRouteSearch.computeCheapestRoute(
+          sourcePoint,
+          destinationPoints,
+          pointRouter,
+          false
+      );
+      return routes == null ? Set.of() : Set.of(routes);
+    }
+
+    private Set<Point> destinationPoints(DriveOrder.Destination destination) {
+      return objectService.fetchObject(Location.class, destination.getDestination().getName())
+          .getAttachedLinks().stream()
+          .map(link -> objectService.fetchObject(Point.class, link.getPoint()))
+          .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void updateRoutingTopology(Set<Path> paths) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Vehicle> checkRoutability(TransportOrder order) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public Optional<List<DriveOrder>> getRoute(
+        Vehicle vehicle,
+        Point sourcePoint,
+        TransportOrder transportOrder
+    ) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public Optional<Route> getRoute(
+        Vehicle vehicle,
+        Point sourcePoint,
+        Point destinationPoint,
+        Set<TCSResourceReference<?>> resourcesToAvoid
+    ) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public long getCosts(
+        Vehicle vehicle,
+        Point srcPoint,
+        Point destPoint,
+        Set<TCSResourceReference<?>> resourcesToAvoid
+    ) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public void selectRoute(Vehicle vehicle, List<DriveOrder> driveOrders) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @Deprecated
+    public Map<Vehicle, List<DriveOrder>> getSelectedRoutes() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Point> getTargetedPoints() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
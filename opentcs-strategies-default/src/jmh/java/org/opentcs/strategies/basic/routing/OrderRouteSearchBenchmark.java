@@ -0,0 +1,225 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+
+/**
+ * Compares the layered search of {@link OrderRouteSearch} with an exhaustive search enumerating
+ * every combination of destination points, for transport orders whose drive orders lead to
+ * locations with several linked points each.
+ * <p>
+ * Points are placed randomly in a square area, with the routing costs between them being their
+ * Manhattan distance.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderRouteSearchBenchmark {
+
+  /**
+   * The number of drive orders in the transport order.
+   */
+  @Param({"2", "4", "6"})
+  private int stopCount;
+  /**
+   * The number of points linked to each destination location.
+   */
+  @Param({"4"})
+  private int linkCount;
+  /**
+   * The point at which the routes start.
+   */
+  private Point startPoint;
+  /**
+   * For each drive order, the points at which it could be processed.
+   */
+  private List<Set<Point>> destinationPoints;
+  /**
+   * The point router to use.
+   */
+  private ManhattanPointRouter pointRouter;
+
+  /**
+   * Creates a new instance.
+   */
+  public OrderRouteSearchBenchmark() {
+  }
+
+  /**
+   * Places the points and verifies that both searches find routes with the same costs.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(4711);
+    int areaSize = 100000;
+    pointRouter = new ManhattanPointRouter();
+
+    startPoint = pointRouter.addPoint("start", random.nextInt(areaSize), random.nextInt(areaSize));
+    destinationPoints = new ArrayList<>(stopCount);
+    for (int stop = 0; stop < stopCount; stop++) {
+      Set<Point> points = new LinkedHashSet<>();
+      for (int link = 0; link < linkCount; link++) {
+        points.add(
+            pointRouter.addPoint(
+                "stop-" + stop + "-link-" + link,
+                random.nextInt(areaSize),
+                random.nextInt(areaSize)
+            )
+        );
+      }
+      destinationPoints.add(points);
+    }
+
+    long layeredCosts = totalCosts(searchLayered());
+    long exhaustiveCosts = totalCosts(searchExhaustively());
+    if (layeredCosts != exhaustiveCosts) {
+      throw new IllegalStateException(
+          String.format(
+              "Costs of layered search (%d) differ from exhaustive search (%d).",
+              layeredCosts,
+              exhaustiveCosts
+          )
+      );
+    }
+  }
+
+  /**
+   * Computes the cheapest route via {@link OrderRouteSearch}.
+   *
+   * @return For each drive order, the route to the destination point at which it is processed.
+   */
+  @Benchmark
+  public List<Route> searchLayered() {
+    return OrderRouteSearch.computeCheapestRoute(
+        startPoint,
+        destinationPoints,
+        pointRouter,
+        false
+    );
+  }
+
+  /**
+   * Computes the cheapest route by recursively trying every combination of destination points.
+   *
+   * @return For each drive order, the route to the destination point at which it is processed.
+   */
+  @Benchmark
+  public List<Route> searchExhaustively() {
+    Route[] currentRoute = new Route[stopCount];
+    Route[] bestRoute = new Route[stopCount];
+    long[] bestCosts = {Long.MAX_VALUE};
+    searchExhaustively(startPoint, 0, 0, currentRoute, bestRoute, bestCosts);
+    return bestCosts[0] == Long.MAX_VALUE ? null : List.of(bestRoute);
+  }
+
+  private void searchExhaustively(
+      Point hopStart,
+      int hopIndex,
+      long currentCosts,
+      Route[] currentRoute,
+      Route[] bestRoute,
+      long[] bestCosts
+  ) {
+    if (hopIndex == stopCount) {
+      if (currentCosts < bestCosts[0]) {
+        System.arraycopy(currentRoute, 0, bestRoute, 0, currentRoute.length);
+        bestCosts[0] = currentCosts;
+      }
+      return;
+    }
+
+    for (Point hopDest : destinationPoints.get(hopIndex)) {
+      PointRoute pointRoute = pointRouter.getRoute(hopStart, hopDest);
+      if (!pointRoute.exists()) {
+        continue;
+      }
+      Route hopRoute = new Route(pointRoute.getSteps());
+      currentRoute[hopIndex] = hopRoute;
+      searchExhaustively(
+          hopDest,
+          hopIndex + 1,
+          currentCosts + hopRoute.getCosts(),
+          currentRoute,
+          bestRoute,
+          bestCosts
+      );
+    }
+  }
+
+  private static long totalCosts(List<Route> routes) {
+    return routes.stream().mapToLong(Route::getCosts).sum();
+  }
+
+  /**
+   * Routes directly between points, with the costs being the points' Manhattan distance.
+   */
+  private static class ManhattanPointRouter
+      implements
+        PointRouter {
+
+    private final Map<String, int[]> positions = new HashMap<>();
+
+    ManhattanPointRouter() {
+    }
+
+    Point addPoint(String name, int x, int y) {
+      positions.put(name, new int[]{x, y});
+      return new Point(name);
+    }
+
+    @Override
+    public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+      return getRoute(srcPoint, destPoint).getSteps();
+    }
+
+    @Override
+    public long getCosts(
+        TCSObjectReference<Point> srcPointRef,
+        TCSObjectReference<Point> destPointRef
+    ) {
+      int[] srcPosition = positions.get(srcPointRef.getName());
+      int[] destPosition = positions.get(destPointRef.getName());
+      return Math.abs(srcPosition[0] - destPosition[0])
+          + Math.abs(srcPosition[1] - destPosition[1]);
+    }
+
+    @Override
+    public PointRoute getRoute(Point srcPoint, Point destPoint) {
+      long costs = getCosts(srcPoint.getReference(), destPoint.getReference());
+      return PointRoute.of(
+          costs,
+          List.of(
+              new Route.Step(null, srcPoint, destPoint, Vehicle.Orientation.FORWARD, 0, costs)
+          )
+      );
+    }
+  }
+}
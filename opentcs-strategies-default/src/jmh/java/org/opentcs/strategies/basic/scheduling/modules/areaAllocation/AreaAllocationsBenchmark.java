@@ -0,0 +1,193 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Compares the spatially indexed checks of {@link AreaAllocations} with checking the requested
+ * areas against the areas allocated by every other vehicle, for vehicles with envelopes on a dense
+ * layout.
+ * <p>
+ * The layout is a grid of points with every vehicle occupying a random row segment, allocating the
+ * envelopes of the points in it. Every vehicle requests the envelopes of the points following its
+ * segment.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AreaAllocationsBenchmark {
+
+  /**
+   * The distance between neighbouring points of the grid.
+   */
+  private static final int POINT_DISTANCE = 1000;
+  /**
+   * The width and height of the (square) vehicle envelopes.
+   */
+  private static final int ENVELOPE_SIZE = 1200;
+  /**
+   * The number of vehicles.
+   */
+  @Param({"50", "200"})
+  private int vehicleCount;
+  /**
+   * The number of points each vehicle allocates and requests the envelopes of.
+   */
+  @Param({"4"})
+  private int pointsPerVehicle;
+  /**
+   * The vehicles.
+   */
+  private List<TCSObjectReference<Vehicle>> vehicleRefs;
+  /**
+   * The areas requested by each vehicle.
+   */
+  private List<GeometryCollection> requestedAreas;
+  /**
+   * The indexed area allocations.
+   */
+  private AreaAllocations areaAllocations;
+  /**
+   * The areas allocated by each vehicle, for checking them without an index.
+   */
+  private Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreasByVehicles;
+
+  /**
+   * Creates a new instance.
+   */
+  public AreaAllocationsBenchmark() {
+  }
+
+  /**
+   * Allocates the vehicles' areas and verifies that both checks allow the same requests.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(4711);
+    GeometryFactory geometryFactory = new GeometryFactory();
+    // Make the grid just large enough for the vehicles to occupy a fourth of its points.
+    int rowLength = 4 * pointsPerVehicle;
+    int rowCount = vehicleCount;
+
+    vehicleRefs = new ArrayList<>(vehicleCount);
+    requestedAreas = new ArrayList<>(vehicleCount);
+    areaAllocations = new AreaAllocations();
+    allocatedAreasByVehicles = new HashMap<>();
+    for (int i = 0; i < vehicleCount; i++) {
+      TCSObjectReference<Vehicle> vehicleRef = new Vehicle("vehicle-" + i).getReference();
+      int row = random.nextInt(rowCount);
+      int column = random.nextInt(rowLength - 2 * pointsPerVehicle);
+
+      GeometryCollection allocatedAreas
+          = createEnvelopes(geometryFactory, row, column, pointsPerVehicle);
+      areaAllocations.setAreaAllocation(vehicleRef, allocatedAreas);
+      allocatedAreasByVehicles.put(vehicleRef, allocatedAreas);
+
+      vehicleRefs.add(vehicleRef);
+      requestedAreas.add(
+          createEnvelopes(geometryFactory, row, column + pointsPerVehicle, pointsPerVehicle)
+      );
+    }
+
+    int allowedIndexed = checkIndexed();
+    int allowedUnindexed = checkUnindexed();
+    if (allowedIndexed != allowedUnindexed) {
+      throw new IllegalStateException(
+          String.format(
+              "Requests allowed by indexed check (%d) differ from unindexed check (%d).",
+              allowedIndexed,
+              allowedUnindexed
+          )
+      );
+    }
+  }
+
+  /**
+   * Checks the requested areas of all vehicles using the spatial index.
+   *
+   * @return The number of requests allowed.
+   */
+  @Benchmark
+  public int checkIndexed() {
+    int result = 0;
+    for (int i = 0; i < vehicleCount; i++) {
+      if (areaAllocations.isAreaAllocationAllowed(vehicleRefs.get(i), requestedAreas.get(i))) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks the requested areas of all vehicles against the areas allocated by every other vehicle.
+   *
+   * @return The number of requests allowed.
+   */
+  @Benchmark
+  public int checkUnindexed() {
+    int result = 0;
+    for (int i = 0; i < vehicleCount; i++) {
+      TCSObjectReference<Vehicle> vehicleRef = vehicleRefs.get(i);
+      GeometryCollection requested = requestedAreas.get(i);
+      if (allocatedAreasByVehicles.entrySet().stream()
+          .filter(entry -> !Objects.equals(entry.getKey(), vehicleRef))
+          .noneMatch(entry -> entry.getValue().intersects(requested))) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  private GeometryCollection createEnvelopes(
+      GeometryFactory geometryFactory,
+      int row,
+      int firstColumn,
+      int count
+  ) {
+    Geometry[] envelopes = new Geometry[count];
+    for (int i = 0; i < count; i++) {
+      double centerX = (firstColumn + i) * POINT_DISTANCE;
+      double centerY = row * POINT_DISTANCE;
+      double halfSize = ENVELOPE_SIZE / 2.0;
+      envelopes[i] = geometryFactory.createPolygon(
+          new Coordinate[]{
+              new Coordinate(centerX - halfSize, centerY - halfSize),
+              new Coordinate(centerX + halfSize, centerY - halfSize),
+              new Coordinate(centerX + halfSize, centerY + halfSize),
+              new Coordinate(centerX - halfSize, centerY + halfSize),
+              new Coordinate(centerX - halfSize, centerY - halfSize)
+          }
+      );
+    }
+    return geometryFactory.createGeometryCollection(envelopes);
+  }
+}
@@ -53,6 +53,8 @@ public class DefaultDispatcher
 
   private final FullDispatchTask fullDispatchTask;
 
+  private final DispatchScheduler dispatchScheduler;
+
   private final Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider;
 
   private final DefaultDispatcherConfiguration configuration;
@@ -77,6 +79,7 @@ public class DefaultDispatcher
    * @param vehicleService The vehicle service.
    * @param kernelExecutor Executes dispatching tasks.
    * @param fullDispatchTask The full dispatch task.
+   * @param dispatchScheduler Collapses dispatch triggers into dispatch runs.
    * @param periodicDispatchTaskProvider Provides the periodic vehicle redospatching task.
    * @param configuration The dispatcher configuration.
    * @param rerouteUtil The reroute util.
@@ -92,6 +95,7 @@ public class DefaultDispatcher
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
       FullDispatchTask fullDispatchTask,
+      DispatchScheduler dispatchScheduler,
       Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider,
       DefaultDispatcherConfiguration configuration,
       RerouteUtil rerouteUtil,
@@ -103,6 +107,7 @@ public class DefaultDispatcher
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.fullDispatchTask = requireNonNull(fullDispatchTask, "fullDispatchTask");
+    this.dispatchScheduler = requireNonNull(dispatchScheduler, "dispatchScheduler");
     this.periodicDispatchTaskProvider = requireNonNull(
         periodicDispatchTaskProvider,
         "periodicDispatchTaskProvider"
@@ -128,6 +133,7 @@ public class DefaultDispatcher
     orderReservationPool.clear();
 
     fullDispatchTask.initialize();
+    dispatchScheduler.initialize();
 
     LOG.debug(
         "Scheduling periodic dispatch task with interval of {} ms...",
@@ -154,6 +160,7 @@ public class DefaultDispatcher
     periodicDispatchTaskFuture.cancel(false);
     periodicDispatchTaskFuture = null;
 
+    dispatchScheduler.terminate();
     fullDispatchTask.terminate();
 
     initialized = false;
@@ -166,8 +173,8 @@ public class DefaultDispatcher
 
   @Override
   public void dispatch() {
-    LOG.debug("Executing dispatch task...");
-    fullDispatchTask.run();
+    LOG.debug("Triggering dispatch task...");
+    dispatchScheduler.trigger(fullDispatchTask);
   }
 
   @Override
@@ -92,6 +92,36 @@ public interface DefaultDispatcherConfiguration {
   )
   int maxRoutesToConsider();
 
+  @ConfigurationEntry(
+      type = "String",
+      description = {"The strategy to use for assigning transport orders to vehicles.",
+          "GREEDY: Assign orders to vehicles one after the other, each time picking the best "
+              + "candidate according to the configured candidate priorities.",
+          "MIN_COST_MATCHING: Assign orders to vehicles in one batch, minimizing the total routing "
+              + "costs to the orders' first destinations. The configured order priorities and, "
+              + "after them, the configured vehicle priorities still take precedence over the "
+              + "routing costs when not all orders and vehicles can be assigned. The configured "
+              + "candidate priorities are not applied."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_special_2"
+  )
+  OrderAssignmentStrategy orderAssignmentStrategy();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {"The maximum number of candidates to compute routes for when looking for a "
+          + "transport order for a vehicle or a vehicle for a transport order.",
+          "Candidates are ranked by the straight-line distance to the transport order's first "
+              + "destination, and routes are computed only for the closest ones. The configured "
+              + "priorities then select among these candidates as usual.",
+          "If none of the closest candidates can be routed and passes the candidate filters, "
+              + "routes are computed for all remaining candidates, too.",
+          "0 means routes are computed for all candidates."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_special_3"
+  )
+  int maxCandidatesToRoute();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether orders to the current position with no operation should be assigned.",
@@ -182,6 +212,30 @@ public interface DefaultDispatcherConfiguration {
   )
   boolean keepRechargingUntilFullyCharged();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to dispatch incrementally, i.e. to consider only vehicles and transport orders "
+              + "that changed since the previous dispatch run when assigning transport orders and "
+              + "when creating parking and recharge orders.",
+          "Changes to any other objects (e.g. paths or locations) still result in a full dispatch "
+              + "run.",
+          "Note that vehicles becoming eligible for parking or recharging only after a delay are "
+              + "then considered with the next full dispatch run."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "4_incremental_0"
+  )
+  boolean incrementalDispatching();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "With incremental dispatching, the interval (in ms) after which a dispatch run "
+          + "considers all vehicles and transport orders again.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "4_incremental_1"
+  )
+  long incrementalDispatchingFullRunInterval();
+
   @ConfigurationEntry(
       type = "Integer",
       description = "The interval (in ms) between redispatching of vehicles.",
@@ -190,6 +244,41 @@ public interface DefaultDispatcherConfiguration {
   )
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The time (in ms) that must pass without further dispatch triggers and since the last "
+              + "dispatch run before a pending dispatch run is executed.",
+          "Dispatch triggers arriving within this time are collapsed into the pending run.",
+          "If 0, every dispatch trigger immediately results in a separate dispatch run."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "9_misc_1"
+  )
+  long dispatchTriggerMinInterval();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The maximum time (in ms) by which a pending dispatch run may be postponed "
+          + "by further dispatch triggers.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "9_misc_2"
+  )
+  long dispatchTriggerMaxDelay();
+
+  /**
+   * The available strategies for assigning transport orders to vehicles.
+   */
+  enum OrderAssignmentStrategy {
+    /**
+     * Assign orders to vehicles one after the other, each time picking the best candidate.
+     */
+    GREEDY,
+    /**
+     * Assign orders to vehicles in one batch, minimizing the total routing costs.
+     */
+    MIN_COST_MATCHING;
+  }
+
   /**
    * The available strategies for situations in which rerouting is not possible.
    */
@@ -0,0 +1,305 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.SynchronousEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of vehicles and transport orders that changed since the previous dispatch run, so
+ * that dispatch runs can be restricted to them with incremental dispatching enabled.
+ * <p>
+ * Every dispatch run is started via {@link #startRun()}, which takes over all changes recorded
+ * until then. A dispatch run is a full one, i.e. it considers all vehicles and transport orders,
+ * if incremental dispatching is disabled, if the configured full run interval has passed since
+ * the previous full run or if objects changed that may affect any vehicle or transport order.
+ * </p>
+ * <p>
+ * Changes to points, paths and locations only require a full run if they affect the routing
+ * topology or the positions vehicles may be sent to, i.e. if such objects are created or removed,
+ * paths or locations are locked or unlocked, point types change or properties change. Changes to
+ * the vehicle occupying a point only mark the vehicles previously and currently occupying it as
+ * changed, and other changes to these objects (e.g. new history entries) are ignored.
+ * </p>
+ *
+ * @see DefaultDispatcherConfiguration#incrementalDispatching()
+ * @see DefaultDispatcherConfiguration#incrementalDispatchingFullRunInterval()
+ */
+public class DirtyObjectTracker
+    implements
+      SynchronousEventHandler,
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DirtyObjectTracker.class);
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * The kernel's event bus.
+   */
+  private final EventBus eventBus;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The vehicles that changed since the start of the current dispatch run.
+   */
+  private Set<TCSObjectReference<Vehicle>> pendingVehicles = new HashSet<>();
+  /**
+   * The transport orders that changed since the start of the current dispatch run.
+   */
+  private Set<TCSObjectReference<TransportOrder>> pendingOrders = new HashSet<>();
+  /**
+   * Whether objects changed since the start of the current dispatch run that require the next
+   * dispatch run to be a full one.
+   */
+  private boolean pendingFullRun = true;
+  /**
+   * The vehicles to be considered in the current dispatch run.
+   */
+  private Set<TCSObjectReference<Vehicle>> currentVehicles = new HashSet<>();
+  /**
+   * The transport orders to be considered in the current dispatch run.
+   */
+  private Set<TCSObjectReference<TransportOrder>> currentOrders = new HashSet<>();
+  /**
+   * Whether the current dispatch run is a full one.
+   */
+  private boolean currentFullRun = true;
+  /**
+   * The time (in ms) at which the latest full dispatch run was started.
+   */
+  private long lastFullRunTime;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param eventBus The kernel's event bus.
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public DirtyObjectTracker(
+      TCSObjectService objectService,
+      @ApplicationEventBus
+      EventBus eventBus,
+      DefaultDispatcherConfiguration configuration
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public synchronized void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    pendingVehicles.clear();
+    pendingOrders.clear();
+    pendingFullRun = true;
+    eventBus.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public synchronized boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public synchronized void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventBus.unsubscribe(this);
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    synchronized (this) {
+      if (object instanceof Vehicle vehicle) {
+        pendingVehicles.add(vehicle.getReference());
+      }
+      else if (object instanceof TransportOrder order) {
+        pendingOrders.add(order.getReference());
+      }
+      else if (object instanceof OrderSequence sequence) {
+        // Changes to order sequences affect the dispatchability of the orders they contain.
+        pendingOrders.addAll(sequence.getOrders());
+        if (sequence.getProcessingVehicle() != null) {
+          pendingVehicles.add(sequence.getProcessingVehicle());
+        }
+      }
+      else if (object instanceof Point
+          || object instanceof Path
+          || object instanceof Location) {
+        if (affectsAllVehicles(objectEvent)) {
+          pendingFullRun = true;
+        }
+        else if (objectEvent.getCurrentObjectState() instanceof Point point) {
+          // A vehicle occupying a point may have arrived at or left it.
+          addOccupyingVehicle(point);
+          addOccupyingVehicle((Point) objectEvent.getPreviousObjectState());
+        }
+      }
+      else if (!(object instanceof PeripheralJob)) {
+        pendingFullRun = true;
+      }
+    }
+  }
+
+  private boolean affectsAllVehicles(TCSObjectEvent event) {
+    if (event.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      return true;
+    }
+
+    TCSObject<?> previous = event.getPreviousObjectState();
+    TCSObject<?> current = event.getCurrentObjectState();
+    if (!Objects.equals(previous.getProperties(), current.getProperties())) {
+      return true;
+    }
+    if (current instanceof Point currentPoint) {
+      return currentPoint.getType() != ((Point) previous).getType();
+    }
+    if (current instanceof Path currentPath) {
+      return currentPath.isLocked() != ((Path) previous).isLocked();
+    }
+    return ((Location) current).isLocked() != ((Location) previous).isLocked();
+  }
+
+  private void addOccupyingVehicle(Point point) {
+    if (point.getOccupyingVehicle() != null) {
+      pendingVehicles.add(point.getOccupyingVehicle());
+    }
+  }
+
+  /**
+   * Starts a new dispatch run, taking over all changes recorded since the start of the previous
+   * one.
+   */
+  public synchronized void startRun() {
+    long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    currentVehicles = pendingVehicles;
+    currentOrders = pendingOrders;
+    currentFullRun = pendingFullRun
+        || !configuration.incrementalDispatching()
+        || now - lastFullRunTime >= configuration.incrementalDispatchingFullRunInterval();
+    pendingVehicles = new HashSet<>();
+    pendingOrders = new HashSet<>();
+    pendingFullRun = false;
+
+    if (currentFullRun) {
+      lastFullRunTime = now;
+    }
+    else {
+      LOG.debug(
+          "Starting incremental dispatch run for {} vehicle(s) and {} transport order(s).",
+          currentVehicles.size(),
+          currentOrders.size()
+      );
+    }
+  }
+
+  /**
+   * Indicates whether the current dispatch run is a full one.
+   *
+   * @return {@code true} if, and only if, all vehicles and transport orders are to be considered
+   * in the current dispatch run.
+   */
+  public synchronized boolean isFullRun() {
+    return currentFullRun;
+  }
+
+  /**
+   * Checks whether the given vehicle is to be considered in the current dispatch run.
+   *
+   * @param vehicle The vehicle.
+   * @return {@code true} if, and only if, the current dispatch run is a full one or the vehicle
+   * changed since the previous dispatch run.
+   */
+  public synchronized boolean isDirty(
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    return currentFullRun || currentVehicles.contains(vehicle.getReference());
+  }
+
+  /**
+   * Checks whether the given transport order is to be considered in the current dispatch run.
+   *
+   * @param order The transport order.
+   * @return {@code true} if, and only if, the current dispatch run is a full one or the transport
+   * order changed since the previous dispatch run.
+   */
+  public synchronized boolean isDirty(
+      @Nonnull
+      TransportOrder order
+  ) {
+    return currentFullRun || currentOrders.contains(order.getReference());
+  }
+
+  /**
+   * Returns the (current states of the) vehicles to be considered in the current dispatch run.
+   *
+   * @return All vehicles, if the current dispatch run is a full one, or the vehicles that changed
+   * since the previous dispatch run.
+   */
+  public Set<Vehicle> fetchDirtyVehicles() {
+    Set<TCSObjectReference<Vehicle>> vehicleRefs;
+    synchronized (this) {
+      if (currentFullRun) {
+        return objectService.fetchObjects(Vehicle.class);
+      }
+      vehicleRefs = currentVehicles;
+    }
+
+    return vehicleRefs.stream()
+        .map(vehicleRef -> objectService.fetchObject(Vehicle.class, vehicleRef))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+}
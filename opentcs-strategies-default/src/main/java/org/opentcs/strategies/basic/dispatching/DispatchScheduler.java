@@ -0,0 +1,239 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collapses dispatch triggers arriving in quick succession into a single dispatch run.
+ * <p>
+ * With a minimum interval configured, a dispatch trigger does not result in an immediate dispatch
+ * run, but in a pending run that is executed on the kernel executor once the minimum interval has
+ * passed since both the latest trigger and the latest run. All triggers arriving in the meantime
+ * are collapsed into the pending run, which is postponed by at most the configured maximum delay,
+ * though.
+ * </p>
+ *
+ * @see DefaultDispatcherConfiguration#dispatchTriggerMinInterval()
+ * @see DefaultDispatcherConfiguration#dispatchTriggerMaxDelay()
+ */
+public class DispatchScheduler
+    implements
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DispatchScheduler.class);
+  /**
+   * The kernel's executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The future of the pending dispatch run, or {@code null}, if there is none.
+   */
+  private ScheduledFuture<?> pendingRunFuture;
+  /**
+   * The dispatch run to be executed for the pending triggers.
+   */
+  private Runnable pendingRun;
+  /**
+   * The number of triggers collapsed into the pending dispatch run.
+   */
+  private long pendingTriggers;
+  /**
+   * The time (in ms) at which the first trigger for the pending dispatch run arrived.
+   */
+  private long firstPendingTriggerTime;
+  /**
+   * The time (in ms) at which the latest trigger arrived.
+   */
+  private long lastTriggerTime;
+  /**
+   * The time (in ms) at which the latest dispatch run was started.
+   */
+  private long lastRunTime = Long.MIN_VALUE;
+  /**
+   * The total number of triggers received.
+   */
+  private long triggerCount;
+  /**
+   * The total number of dispatch runs executed.
+   */
+  private long runCount;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor Executes pending dispatch runs.
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public DispatchScheduler(
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      DefaultDispatcherConfiguration configuration
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public synchronized void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public synchronized boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public synchronized void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (pendingRunFuture != null) {
+      pendingRunFuture.cancel(false);
+      pendingRunFuture = null;
+      pendingRun = null;
+      pendingTriggers = 0;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Triggers the given dispatch run.
+   * <p>
+   * If no minimum interval is configured or this scheduler is not initialized, the dispatch run is
+   * executed immediately, on the calling thread. Otherwise, it is collapsed with other triggers
+   * into a pending dispatch run.
+   * </p>
+   *
+   * @param dispatchRun The dispatch run.
+   */
+  public void trigger(
+      @Nonnull
+      Runnable dispatchRun
+  ) {
+    requireNonNull(dispatchRun, "dispatchRun");
+
+    long minInterval = configuration.dispatchTriggerMinInterval();
+    synchronized (this) {
+      triggerCount++;
+      if (minInterval <= 0 || !isInitialized()) {
+        lastRunTime = currentTime();
+        runCount++;
+      }
+      else {
+        long now = currentTime();
+        lastTriggerTime = now;
+        pendingTriggers++;
+        pendingRun = dispatchRun;
+        if (pendingRunFuture == null) {
+          firstPendingTriggerTime = now;
+          pendingRunFuture = kernelExecutor.schedule(
+              this::executePendingRun,
+              nextRunTime() - now,
+              TimeUnit.MILLISECONDS
+          );
+        }
+        return;
+      }
+    }
+
+    dispatchRun.run();
+  }
+
+  /**
+   * Returns the total number of dispatch triggers received.
+   *
+   * @return The total number of dispatch triggers received.
+   */
+  public synchronized long getTriggerCount() {
+    return triggerCount;
+  }
+
+  /**
+   * Returns the total number of dispatch runs executed.
+   * With triggers being collapsed, this is lower than the number of triggers received.
+   *
+   * @return The total number of dispatch runs executed.
+   */
+  public synchronized long getRunCount() {
+    return runCount;
+  }
+
+  private void executePendingRun() {
+    Runnable run;
+    synchronized (this) {
+      if (pendingRun == null) {
+        return;
+      }
+
+      long now = currentTime();
+      long delay = nextRunTime() - now;
+      if (delay > 0) {
+        // Further triggers arrived in the meantime, so wait a bit longer.
+        pendingRunFuture = kernelExecutor.schedule(
+            this::executePendingRun,
+            delay,
+            TimeUnit.MILLISECONDS
+        );
+        return;
+      }
+
+      runCount++;
+      LOG.debug(
+          "Executing dispatch run for {} trigger(s), {} trigger(s) and {} run(s) in total.",
+          pendingTriggers,
+          triggerCount,
+          runCount
+      );
+
+      run = pendingRun;
+      pendingRun = null;
+      pendingRunFuture = null;
+      pendingTriggers = 0;
+      lastRunTime = now;
+    }
+
+    run.run();
+  }
+
+  private long nextRunTime() {
+    long minInterval = configuration.dispatchTriggerMinInterval();
+    return Math.min(
+        Math.max(lastTriggerTime, lastRunTime) + minInterval,
+        firstPendingTriggerTime + configuration.dispatchTriggerMaxDelay()
+    );
+  }
+
+  private long currentTime() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+  }
+}
@@ -16,6 +16,8 @@ import org.opentcs.strategies.basic.dispatching.phase.parking.ParkIdleVehiclesPh
 import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedParkingPhase;
 import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedReparkPhase;
 import org.opentcs.strategies.basic.dispatching.phase.recharging.RechargeIdleVehiclesPhase;
+import org.opentcs.strategies.basic.routing.CongestionHeatMap;
+import org.opentcs.strategies.basic.routing.PointRouteMemo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +44,9 @@ public class FullDispatchTask
   private final PrioritizedReparkPhase prioritizedReparkPhase;
   private final PrioritizedParkingPhase prioritizedParkingPhase;
   private final ParkIdleVehiclesPhase parkIdleVehiclesPhase;
+  private final DirtyObjectTracker dirtyObjectTracker;
+  private final PointRouteMemo pointRouteMemo;
+  private final CongestionHeatMap congestionHeatMap;
   /**
    * Indicates whether this component is enabled.
    */
@@ -58,7 +63,10 @@ public class FullDispatchTask
       RechargeIdleVehiclesPhase rechargeIdleVehiclesPhase,
       PrioritizedReparkPhase prioritizedReparkPhase,
       PrioritizedParkingPhase prioritizedParkingPhase,
-      ParkIdleVehiclesPhase parkIdleVehiclesPhase
+      ParkIdleVehiclesPhase parkIdleVehiclesPhase,
+      DirtyObjectTracker dirtyObjectTracker,
+      PointRouteMemo pointRouteMemo,
+      CongestionHeatMap congestionHeatMap
   ) {
     this.checkNewOrdersPhase = requireNonNull(checkNewOrdersPhase, "checkNewOrdersPhase");
     this.finishWithdrawalsPhase = requireNonNull(finishWithdrawalsPhase, "finishWithdrawalsPhase");
@@ -85,6 +93,9 @@ public class FullDispatchTask
         "prioritizedParkingPhase"
     );
     this.parkIdleVehiclesPhase = requireNonNull(parkIdleVehiclesPhase, "parkIdleVehiclesPhase");
+    this.dirtyObjectTracker = requireNonNull(dirtyObjectTracker, "dirtyObjectTracker");
+    this.pointRouteMemo = requireNonNull(pointRouteMemo, "pointRouteMemo");
+    this.congestionHeatMap = requireNonNull(congestionHeatMap, "congestionHeatMap");
   }
 
   @Override
@@ -93,6 +104,7 @@ public class FullDispatchTask
       return;
     }
 
+    dirtyObjectTracker.initialize();
     checkNewOrdersPhase.initialize();
     finishWithdrawalsPhase.initialize();
     assignNextDriveOrdersPhase.initialize();
@@ -123,6 +135,7 @@ public class FullDispatchTask
     prioritizedReparkPhase.terminate();
     prioritizedParkingPhase.terminate();
     parkIdleVehiclesPhase.terminate();
+    dirtyObjectTracker.terminate();
 
     initialized = false;
   }
@@ -135,6 +148,11 @@ public class FullDispatchTask
   @Override
   public final void run() {
     LOG.debug("Starting full dispatch run...");
+    dirtyObjectTracker.startRun();
+    // Routes remembered during the previous dispatch run are not needed any more.
+    pointRouteMemo.clear();
+    // Let routes computed during this dispatch run avoid the currently congested areas.
+    congestionHeatMap.refresh();
 
     checkNewOrdersPhase.run();
     // Check what vehicles involved in a process should do.
@@ -6,6 +6,7 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
@@ -74,7 +75,8 @@ public class CheckNewOrdersPhase
 
   @Override
   public void run() {
-    objectService.fetchObjects(TransportOrder.class, this::inRawState).stream()
+    objectService.fetchObjectsByIndex(TCSObjectIndex.ORDERS_BY_STATE, TransportOrder.State.RAW)
+        .stream()
         .forEach(order -> checkRawTransportOrder(order));
   }
 
@@ -103,8 +105,4 @@ public class CheckNewOrdersPhase
       );
     }
   }
-
-  private boolean inRawState(TransportOrder order) {
-    return order.hasState(TransportOrder.State.RAW);
-  }
 }
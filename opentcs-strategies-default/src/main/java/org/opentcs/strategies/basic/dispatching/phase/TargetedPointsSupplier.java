@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.TransportOrder;
@@ -33,9 +34,9 @@ public class TargetedPointsSupplier {
    */
   public Set<Point> getTargetedPoints() {
     return objectService
-        .fetchObjects(
-            TransportOrder.class,
-            order -> order.hasState(TransportOrder.State.BEING_PROCESSED)
+        .fetchObjectsByIndex(
+            TCSObjectIndex.ORDERS_BY_STATE,
+            TransportOrder.State.BEING_PROCESSED
         )
         .stream()
         .map(
@@ -9,10 +9,12 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DirtyObjectTracker;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.phase.OrderFilterResult;
@@ -64,6 +66,10 @@ public class AssignFreeOrdersPhase
    * Provides methods to check and update the dispatching status of transport orders.
    */
   private final DispatchingStatusMarker dispatchingStatusMarker;
+  /**
+   * Keeps track of vehicles and transport orders that changed since the previous dispatch run.
+   */
+  private final DirtyObjectTracker dirtyObjectTracker;
   /**
    * Indicates whether this component is initialized.
    */
@@ -78,7 +84,8 @@ public class AssignFreeOrdersPhase
       CompositeTransportOrderSelectionFilter transportOrderSelectionFilter,
       OrderAssigner orderAssigner,
       DispatchingStatusMarker dispatchingStatusMarker,
-      TransportOrderUtil transportOrderUtil
+      TransportOrderUtil transportOrderUtil,
+      DirtyObjectTracker dirtyObjectTracker
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
@@ -97,6 +104,7 @@ public class AssignFreeOrdersPhase
         "dispatchingStatusMarker"
     );
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.dirtyObjectTracker = requireNonNull(dirtyObjectTracker, "dirtyObjectTracker");
   }
 
   @Override
@@ -143,28 +151,69 @@ public class AssignFreeOrdersPhase
     // Select only dispatchable orders first, then apply the composite filter, handle
     // the orders that can be tried as usual and mark the others as filtered (if they aren't, yet).
     Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter
-        = objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle)
+        = objectService
+            .fetchObjectsByIndex(
+                TCSObjectIndex.ORDERS_BY_STATE,
+                TransportOrder.State.DISPATCHABLE
+            )
             .stream()
+            .filter(isFreelyDispatchableToAnyVehicle)
             .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
     markNewlyFilteredOrders(ordersSplitByFilter.get(Boolean.FALSE));
 
-    orderAssigner.tryAssignments(
-        availableVehicles,
-        ordersSplitByFilter.get(Boolean.TRUE).stream()
-            .map(OrderFilterResult::getOrder)
-            .collect(Collectors.toList())
-    );
+    List<TransportOrder> availableOrders = ordersSplitByFilter.get(Boolean.TRUE).stream()
+        .map(OrderFilterResult::getOrder)
+        .collect(Collectors.toList());
+
+    if (dirtyObjectTracker.isFullRun()) {
+      orderAssigner.tryAssignments(availableVehicles, availableOrders);
+    }
+    else {
+      tryIncrementalAssignments(availableVehicles, availableOrders);
+    }
+  }
+
+  private void tryIncrementalAssignments(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders
+  ) {
+    // Combinations of vehicles and transport orders that did not change since the previous
+    // dispatch run have already been tried then, so only try combinations with changed ones.
+    Map<Boolean, List<Vehicle>> vehiclesSplitByChange = availableVehicles.stream()
+        .collect(Collectors.partitioningBy(dirtyObjectTracker::isDirty));
+
+    if (!vehiclesSplitByChange.get(Boolean.TRUE).isEmpty()) {
+      orderAssigner.tryAssignments(vehiclesSplitByChange.get(Boolean.TRUE), availableOrders);
+    }
+
+    if (vehiclesSplitByChange.get(Boolean.FALSE).isEmpty()) {
+      return;
+    }
+
+    // Some of the changed orders may have just been assigned to changed vehicles, so check their
+    // current states again.
+    List<TransportOrder> changedOrders = availableOrders.stream()
+        .filter(dirtyObjectTracker::isDirty)
+        .map(order -> objectService.fetchObject(TransportOrder.class, order.getReference()))
+        .filter(isFreelyDispatchableToAnyVehicle)
+        .collect(Collectors.toList());
+
+    if (!changedOrders.isEmpty()) {
+      orderAssigner.tryAssignments(vehiclesSplitByChange.get(Boolean.FALSE), changedOrders);
+    }
   }
 
   private void markFirstDispatchableOrderInUnassignedSequences() {
-    objectService.fetchObjects(
-        TransportOrder.class,
-        order -> order.hasState(TransportOrder.State.DISPATCHABLE)
-            && order.getWrappingSequence() != null
-            && !partOfAnyVehiclesSequence(order)
-    )
+    objectService.fetchObjectsByIndex(
+        TCSObjectIndex.ORDERS_BY_STATE,
+        TransportOrder.State.DISPATCHABLE
+    ).stream()
+        .filter(
+            order -> order.getWrappingSequence() != null
+                && !partOfAnyVehiclesSequence(order)
+        )
         .forEach(
             order -> {
               transportOrderUtil
@@ -0,0 +1,116 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Cheaply estimates the costs for a vehicle to reach the first destination of a transport order,
+ * without computing a route.
+ * <p>
+ * The estimate is the straight-line distance between the vehicle's position and the closest point
+ * at which the first destination may be reached. It is meant to be used for ranking assignment
+ * candidates before the (expensive) routes are computed for them. As the estimate is a distance
+ * for every vehicle, estimates for different vehicles can be compared with each other, but they
+ * are not comparable to the routing costs.
+ * </p>
+ */
+public class CandidateCostEstimator {
+
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   */
+  @Inject
+  public CandidateCostEstimator(TCSObjectService objectService) {
+    this.objectService = requireNonNull(objectService, "objectService");
+  }
+
+  /**
+   * Estimates the costs for the given vehicle to reach the given transport order's first
+   * destination.
+   *
+   * @param vehicle The vehicle.
+   * @param vehiclePosition The vehicle's current position, or {@code null}, if unknown.
+   * @param order The transport order.
+   * @return The estimated costs, or 0, if the costs cannot be estimated (e.g. because the involved
+   * points do not have coordinates).
+   */
+  public double estimateInitialCosts(
+      @Nonnull
+      Vehicle vehicle,
+      @Nullable
+      Point vehiclePosition,
+      @Nonnull
+      TransportOrder order
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(order, "order");
+
+    Triple source = coordinatesOf(vehiclePosition);
+    List<DriveOrder> driveOrders = order.getFutureDriveOrders();
+    if (source == null || driveOrders.isEmpty()) {
+      return 0.0;
+    }
+
+    return destinationPoints(driveOrders.getFirst().getDestination())
+        .map(CandidateCostEstimator::coordinatesOf)
+        .filter(Objects::nonNull)
+        .mapToDouble(coordinates -> distanceBetween(source, coordinates))
+        .min()
+        .orElse(0.0);
+  }
+
+  private Stream<Point> destinationPoints(DriveOrder.Destination destination) {
+    TCSObjectReference<?> destRef = destination.getDestination();
+    if (destRef.getReferentClass() == Point.class) {
+      return Stream.ofNullable(objectService.fetchObject(Point.class, destRef.getName()));
+    }
+    if (destRef.getReferentClass() == Location.class) {
+      // Any of the attached points is at least as close as the one eventually routed to.
+      Location location = objectService.fetchObject(Location.class, destRef.getName());
+      if (location == null) {
+        return Stream.empty();
+      }
+      return location.getAttachedLinks().stream()
+          .map(link -> objectService.fetchObject(Point.class, link.getPoint()));
+    }
+    return Stream.empty();
+  }
+
+  @Nullable
+  private static Triple coordinatesOf(
+      @Nullable
+      Point point
+  ) {
+    return point == null ? null : point.getPose().getPosition();
+  }
+
+  private static double distanceBetween(Triple source, Triple destination) {
+    return Math.hypot(
+        (double) destination.getX() - source.getX(),
+        (double) destination.getY() - source.getY()
+    );
+  }
+}
@@ -0,0 +1,178 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Solves the assignment problem (minimum cost bipartite matching) for rectangular cost matrices
+ * using the Hungarian method, in O(n<sup>2</sup>m) for n &lt;= m.
+ * <p>
+ * Entries of {@link Double#POSITIVE_INFINITY} mark combinations that must not be matched. The
+ * matching found contains as many combinations as possible and, among all such matchings, has the
+ * lowest total cost.
+ * </p>
+ * <p>
+ * Forbidden combinations are internally replaced with a cost higher than that of any matching
+ * without them. As this cost grows with both the highest finite cost and the size of the matrix,
+ * their product must be low enough for the sums of costs to be represented precisely.
+ * </p>
+ */
+public final class MinCostMatching {
+
+  /**
+   * The highest cost that can be used for forbidden combinations, i.e. the highest value up to
+   * which all integers can be represented precisely.
+   */
+  private static final double MAX_FORBIDDEN_COST = 1L << 53;
+
+  /**
+   * Prevents instantiation.
+   */
+  private MinCostMatching() {
+  }
+
+  /**
+   * Computes a minimum cost matching of rows to columns.
+   *
+   * @param costs The cost matrix, with {@code costs[row][column]} being the cost of matching the
+   * given row with the given column. All rows must have the same length.
+   * @return For each row, the column it is matched with, or -1, if it is not matched.
+   */
+  @Nonnull
+  public static int[] solve(
+      @Nonnull
+      double[][] costs
+  ) {
+    requireNonNull(costs, "costs");
+
+    int rowCount = costs.length;
+    int columnCount = rowCount == 0 ? 0 : costs[0].length;
+    for (double[] row : costs) {
+      checkArgument(row.length == columnCount, "Cost matrix is not rectangular.");
+    }
+    if (rowCount == 0 || columnCount == 0) {
+      int[] result = new int[rowCount];
+      Arrays.fill(result, -1);
+      return result;
+    }
+
+    // Replace forbidden combinations with a cost that is higher than that of any matching without
+    // them, so that matching as many combinations as possible always takes precedence.
+    double maxCost = 0.0;
+    for (double[] row : costs) {
+      for (double cost : row) {
+        checkArgument(!Double.isNaN(cost) && cost >= 0, "Invalid cost: %s", cost);
+        if (cost != Double.POSITIVE_INFINITY) {
+          maxCost = Math.max(maxCost, cost);
+        }
+      }
+    }
+    double forbiddenCost = (maxCost + 1.0) * (Math.min(rowCount, columnCount) + 1);
+    checkArgument(
+        forbiddenCost <= MAX_FORBIDDEN_COST,
+        "Costs too high to be matched precisely: %s",
+        maxCost
+    );
+
+    boolean transposed = rowCount > columnCount;
+    int n = transposed ? columnCount : rowCount;
+    int m = transposed ? rowCount : columnCount;
+    double[][] matrix = new double[n][m];
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < m; j++) {
+        double cost = transposed ? costs[j][i] : costs[i][j];
+        matrix[i][j] = cost == Double.POSITIVE_INFINITY ? forbiddenCost : cost;
+      }
+    }
+
+    int[] columnsForRows = solveForFewerRows(matrix, n, m);
+
+    int[] result = new int[rowCount];
+    Arrays.fill(result, -1);
+    for (int i = 0; i < n; i++) {
+      int j = columnsForRows[i];
+      int row = transposed ? j : i;
+      int column = transposed ? i : j;
+      if (costs[row][column] != Double.POSITIVE_INFINITY) {
+        result[row] = column;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Solves the assignment problem for a matrix with no more rows than columns, matching every row.
+   */
+  private static int[] solveForFewerRows(double[][] matrix, int n, int m) {
+    // Potentials for rows and columns, with index 0 being a virtual row/column.
+    double[] rowPotentials = new double[n + 1];
+    double[] columnPotentials = new double[m + 1];
+    // The row matched with each column (0 for none), and the previous column on augmenting paths.
+    int[] rowsForColumns = new int[m + 1];
+    int[] previousColumns = new int[m + 1];
+    double[] minSlack = new double[m + 1];
+    boolean[] visited = new boolean[m + 1];
+
+    for (int i = 1; i <= n; i++) {
+      rowsForColumns[0] = i;
+      int currentColumn = 0;
+      Arrays.fill(minSlack, Double.POSITIVE_INFINITY);
+      Arrays.fill(visited, false);
+
+      do {
+        visited[currentColumn] = true;
+        int currentRow = rowsForColumns[currentColumn];
+        double delta = Double.POSITIVE_INFINITY;
+        int nextColumn = 0;
+        for (int j = 1; j <= m; j++) {
+          if (visited[j]) {
+            continue;
+          }
+          double slack = matrix[currentRow - 1][j - 1]
+              - rowPotentials[currentRow]
+              - columnPotentials[j];
+          if (slack < minSlack[j]) {
+            minSlack[j] = slack;
+            previousColumns[j] = currentColumn;
+          }
+          if (minSlack[j] < delta) {
+            delta = minSlack[j];
+            nextColumn = j;
+          }
+        }
+        for (int j = 0; j <= m; j++) {
+          if (visited[j]) {
+            rowPotentials[rowsForColumns[j]] += delta;
+            columnPotentials[j] -= delta;
+          }
+          else {
+            minSlack[j] -= delta;
+          }
+        }
+        currentColumn = nextColumn;
+      }
+      while (rowsForColumns[currentColumn] != 0);
+
+      // Augment the matching along the path found.
+      do {
+        int previousColumn = previousColumns[currentColumn];
+        rowsForColumns[currentColumn] = rowsForColumns[previousColumn];
+        currentColumn = previousColumn;
+      }
+      while (currentColumn != 0);
+    }
+
+    int[] columnsForRows = new int[n];
+    for (int j = 1; j <= m; j++) {
+      if (rowsForColumns[j] != 0) {
+        columnsForRows[rowsForColumns[j] - 1] = j - 1;
+      }
+    }
+    return columnsForRows;
+  }
+}
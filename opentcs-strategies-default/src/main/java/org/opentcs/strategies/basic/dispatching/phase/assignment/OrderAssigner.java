@@ -5,19 +5,26 @@ package org.opentcs.strategies.basic.dispatching.phase.assignment;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -78,6 +85,14 @@ public class OrderAssigner {
    * Assigns routes to drive orders.
    */
   private final DriveOrderRouteAssigner driveOrderRouteAssigner;
+  /**
+   * Estimates routing costs for ranking candidates before computing routes for them.
+   */
+  private final CandidateCostEstimator candidateCostEstimator;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
 
   @Inject
   public OrderAssigner(
@@ -90,7 +105,9 @@ public class OrderAssigner {
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DispatchingStatusMarker dispatchingStatusMarker,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      CandidateCostEstimator candidateCostEstimator,
+      DefaultDispatcherConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
@@ -117,6 +134,11 @@ public class OrderAssigner {
         driveOrderRouteAssigner,
         "driveOrderRouteAssigner"
     );
+    this.candidateCostEstimator = requireNonNull(
+        candidateCostEstimator,
+        "candidateCostEstimator"
+    );
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   /**
@@ -136,7 +158,11 @@ public class OrderAssigner {
     );
 
     AssignmentState assignmentState = new AssignmentState();
-    if (availableVehicles.size() < availableOrders.size()) {
+    if (configuration.orderAssignmentStrategy()
+        == DefaultDispatcherConfiguration.OrderAssignmentStrategy.MIN_COST_MATCHING) {
+      assignByMinCostMatching(availableVehicles, availableOrders, assignmentState);
+    }
+    else if (availableVehicles.size() < availableOrders.size()) {
       availableVehicles.stream()
           .sorted(vehicleComparator)
           .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
@@ -170,22 +196,20 @@ public class OrderAssigner {
 
     Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
 
+    List<TransportOrder> eligibleOrders = availableOrders.stream()
+        .filter(
+            order -> (!assignmentState.wasAssignedToVehicle(order)
+                && vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle))
+        )
+        .collect(Collectors.toList());
+
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableOrders.stream()
-            .filter(
-                order -> (!assignmentState.wasAssignedToVehicle(order)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(order -> computeCandidate(vehicle, vehiclePosition, order))
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
-            .map(
-                candidate -> new CandidateFilterResult(
-                    candidate,
-                    assignmentCandidateSelectionFilter.apply(candidate)
-                )
-            )
+        = computeFilterResults(
+            eligibleOrders,
+            order -> candidateCostEstimator.estimateInitialCosts(vehicle, vehiclePosition, order),
+            order -> computeCandidate(vehicle, vehiclePosition, order)
+        ).stream()
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
     ordersSplitByFilter.get(Boolean.FALSE).stream()
@@ -206,28 +230,31 @@ public class OrderAssigner {
   ) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
+    Map<Vehicle, Point> vehiclePositions = availableVehicles.stream()
+        .filter(
+            vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
+                && vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle))
+        )
+        .collect(
+            LinkedHashMap::new,
+            (map, vehicle) -> map.put(
+                vehicle,
+                objectService.fetchObject(Point.class, vehicle.getCurrentPosition())
+            ),
+            LinkedHashMap::putAll
+        );
+
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableVehicles.stream()
-            .filter(
-                vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(
-                vehicle -> computeCandidate(
-                    vehicle,
-                    objectService.fetchObject(Point.class, vehicle.getCurrentPosition()),
-                    order
-                )
-            )
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
-            .map(
-                candidate -> new CandidateFilterResult(
-                    candidate,
-                    assignmentCandidateSelectionFilter.apply(candidate)
-                )
-            )
+        = computeFilterResults(
+            vehiclePositions.keySet(),
+            vehicle -> candidateCostEstimator.estimateInitialCosts(
+                vehicle,
+                vehiclePositions.get(vehicle),
+                order
+            ),
+            vehicle -> computeCandidate(vehicle, vehiclePositions.get(vehicle), order)
+        ).stream()
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
     ordersSplitByFilter.get(Boolean.FALSE).stream()
@@ -241,6 +268,297 @@ public class OrderAssigner {
         .ifPresent(candidate -> assignOrder(candidate, assignmentState));
   }
 
+  /**
+   * Assigns transport orders to vehicles in one batch, minimizing the total routing costs to the
+   * orders' first destinations.
+   * <p>
+   * To keep the configured order and vehicle priorities, every order's and every vehicle's rank
+   * according to them is added to the costs. The ranks are weighted so that assigning a
+   * higher-ranked order always takes precedence over assigning a higher-ranked vehicle, which in
+   * turn always takes precedence over lower routing costs. For this, the routing costs are scaled
+   * down to values below 1, so the total routing costs of a matching are always lower than the
+   * weight of a single vehicle rank. The weight of a single order rank is higher than the largest
+   * possible difference between the vehicle ranks and routing costs of two matchings. This keeps
+   * all costs small enough to be compared precisely, regardless of the routing costs' magnitude.
+   * </p>
+   * <p>
+   * The configured candidate priorities are not applied, as the routing costs already determine
+   * which of the combinations with the same ranks are preferred.
+   * </p>
+   */
+  private void assignByMinCostMatching(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      AssignmentState assignmentState
+  ) {
+    List<Vehicle> vehicles = availableVehicles.stream()
+        .sorted(vehicleComparator)
+        .collect(Collectors.toList());
+    List<TransportOrder> orders = availableOrders.stream()
+        .sorted(orderComparator)
+        .collect(Collectors.toList());
+
+    List<Point> vehiclePositions = vehicles.stream()
+        .map(vehicle -> objectService.fetchObject(Point.class, vehicle.getCurrentPosition()))
+        .collect(Collectors.toList());
+    boolean[][] eligiblePairs = new boolean[vehicles.size()][orders.size()];
+    for (int i = 0; i < vehicles.size(); i++) {
+      for (int j = 0; j < orders.size(); j++) {
+        eligiblePairs[i][j] = vehicleCanTakeOrder(vehicles.get(i), orders.get(j))
+            && orderAssignableToVehicle(orders.get(j), vehicles.get(i));
+      }
+    }
+    boolean[][] pairsToRoute
+        = selectPairsToRoute(eligiblePairs, vehicles, vehiclePositions, orders);
+
+    AssignmentCandidate[][] candidates = new AssignmentCandidate[vehicles.size()][orders.size()];
+    computeCandidates(
+        pairsToRoute,
+        vehicles,
+        vehiclePositions,
+        orders,
+        candidates,
+        assignmentState
+    );
+    // For vehicles and orders without any assignable candidate among the pairs selected, fall back
+    // to all their pairs.
+    computeCandidates(
+        selectRemainingPairs(eligiblePairs, pairsToRoute, candidates),
+        vehicles,
+        vehiclePositions,
+        orders,
+        candidates,
+        assignmentState
+    );
+
+    long maxRoutingCosts = 0;
+    for (int i = 0; i < vehicles.size(); i++) {
+      for (int j = 0; j < orders.size(); j++) {
+        if (candidates[i][j] != null) {
+          maxRoutingCosts = Math.max(maxRoutingCosts, candidates[i][j].getInitialRoutingCosts());
+        }
+      }
+    }
+
+    // A matching contains at most this many combinations, so its total routing costs (scaled down
+    // to values below 1 per combination) are always lower than the weight of a vehicle rank.
+    int maxMatchingSize = Math.min(vehicles.size(), orders.size());
+    double vehicleRankWeight = maxMatchingSize;
+    // The sums of the vehicle ranks of two matchings with k combinations each differ by at most
+    // k * (vehicles - k), which is largest for k = vehicles / 2.
+    long matchedVehicles = Math.min(maxMatchingSize, vehicles.size() / 2);
+    double orderRankWeight
+        = vehicleRankWeight * matchedVehicles * (vehicles.size() - matchedVehicles)
+            + maxMatchingSize;
+    double routingCostsScale = maxRoutingCosts + 1.0;
+    double[][] costs = new double[vehicles.size()][orders.size()];
+    for (int i = 0; i < vehicles.size(); i++) {
+      for (int j = 0; j < orders.size(); j++) {
+        costs[i][j] = candidates[i][j] == null
+            ? Double.POSITIVE_INFINITY
+            : j * orderRankWeight
+                + i * vehicleRankWeight
+                + candidates[i][j].getInitialRoutingCosts() / routingCostsScale;
+      }
+    }
+
+    int[] matching = MinCostMatching.solve(costs);
+    for (int i = 0; i < matching.length; i++) {
+      if (matching[i] >= 0) {
+        assignOrder(candidates[i][matching[i]], assignmentState);
+      }
+    }
+  }
+
+  /**
+   * Selects the combinations of vehicles and transport orders to compute routes for in a batch
+   * assignment.
+   * <p>
+   * If the number of candidates to compute routes for is limited, a combination is selected only
+   * if it is among the cheapest ones (according to the estimated costs) for either the vehicle or
+   * the transport order.
+   * </p>
+   */
+  private boolean[][] selectPairsToRoute(
+      boolean[][] eligible,
+      List<Vehicle> vehicles,
+      List<Point> vehiclePositions,
+      List<TransportOrder> orders
+  ) {
+    int limit = configuration.maxCandidatesToRoute();
+    if (limit <= 0 || (vehicles.size() <= limit && orders.size() <= limit)) {
+      return eligible;
+    }
+
+    double[][] estimates = new double[vehicles.size()][orders.size()];
+    for (int i = 0; i < vehicles.size(); i++) {
+      for (int j = 0; j < orders.size(); j++) {
+        estimates[i][j] = eligible[i][j]
+            ? candidateCostEstimator.estimateInitialCosts(
+                vehicles.get(i),
+                vehiclePositions.get(i),
+                orders.get(j)
+            )
+            : Double.POSITIVE_INFINITY;
+      }
+    }
+
+    boolean[][] selected = new boolean[vehicles.size()][orders.size()];
+    for (int i = 0; i < vehicles.size(); i++) {
+      int row = i;
+      IntStream.range(0, orders.size())
+          .filter(j -> eligible[row][j])
+          .boxed()
+          .sorted(Comparator.comparingDouble(j -> estimates[row][j]))
+          .limit(limit)
+          .forEach(j -> selected[row][j] = true);
+    }
+    for (int j = 0; j < orders.size(); j++) {
+      int column = j;
+      IntStream.range(0, vehicles.size())
+          .filter(i -> eligible[i][column])
+          .boxed()
+          .sorted(Comparator.comparingDouble(i -> estimates[i][column]))
+          .limit(limit)
+          .forEach(i -> selected[i][column] = true);
+    }
+    return selected;
+  }
+
+  /**
+   * Selects the eligible combinations of vehicles and transport orders not routed, yet, for every
+   * vehicle and every transport order that does not have any assignable candidate.
+   */
+  private boolean[][] selectRemainingPairs(
+      boolean[][] eligible,
+      boolean[][] routed,
+      AssignmentCandidate[][] candidates
+  ) {
+    int vehicleCount = eligible.length;
+    int orderCount = vehicleCount == 0 ? 0 : eligible[0].length;
+    boolean[] vehiclesWithCandidates = new boolean[vehicleCount];
+    boolean[] ordersWithCandidates = new boolean[orderCount];
+    for (int i = 0; i < vehicleCount; i++) {
+      for (int j = 0; j < orderCount; j++) {
+        if (candidates[i][j] != null) {
+          vehiclesWithCandidates[i] = true;
+          ordersWithCandidates[j] = true;
+        }
+      }
+    }
+
+    boolean[][] selected = new boolean[vehicleCount][orderCount];
+    for (int i = 0; i < vehicleCount; i++) {
+      for (int j = 0; j < orderCount; j++) {
+        selected[i][j] = eligible[i][j]
+            && !routed[i][j]
+            && (!vehiclesWithCandidates[i] || !ordersWithCandidates[j]);
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Computes the assignment candidates for the given combinations of vehicles and transport
+   * orders, keeping the ones passing the candidate filters.
+   */
+  private void computeCandidates(
+      boolean[][] pairsToRoute,
+      List<Vehicle> vehicles,
+      List<Point> vehiclePositions,
+      List<TransportOrder> orders,
+      AssignmentCandidate[][] candidates,
+      AssignmentState assignmentState
+  ) {
+    for (int i = 0; i < vehicles.size(); i++) {
+      for (int j = 0; j < orders.size(); j++) {
+        if (!pairsToRoute[i][j]) {
+          continue;
+        }
+
+        Optional<AssignmentCandidate> optCandidate
+            = computeCandidate(vehicles.get(i), vehiclePositions.get(i), orders.get(j));
+        if (optCandidate.isEmpty()) {
+          continue;
+        }
+
+        CandidateFilterResult filterResult = new CandidateFilterResult(
+            optCandidate.get(),
+            assignmentCandidateSelectionFilter.apply(optCandidate.get())
+        );
+        if (filterResult.isFiltered()) {
+          assignmentState.addFilteredOrder(filterResult.toFilterResult());
+          continue;
+        }
+
+        candidates[i][j] = optCandidate.get();
+      }
+    }
+  }
+
+  /**
+   * Computes the assignment candidates for the given elements and applies the candidate filters to
+   * them.
+   * <p>
+   * If the number of candidates to compute routes for is limited, candidates are computed only for
+   * the elements with the lowest estimated costs first. Only if none of these candidates passes the
+   * filters, candidates are computed for the remaining elements, too.
+   * </p>
+   */
+  private <T> List<CandidateFilterResult> computeFilterResults(
+      Collection<T> elements,
+      ToDoubleFunction<T> costEstimator,
+      Function<T, Optional<AssignmentCandidate>> candidateComputer
+  ) {
+    int limit = configuration.maxCandidatesToRoute();
+    if (limit <= 0 || elements.size() <= limit) {
+      return computeFilterResults(elements, candidateComputer);
+    }
+
+    Map<T, Double> estimates = new HashMap<>();
+    for (T element : elements) {
+      estimates.put(element, costEstimator.applyAsDouble(element));
+    }
+    List<T> sortedElements = elements.stream()
+        .sorted(Comparator.comparingDouble(estimates::get))
+        .collect(Collectors.toList());
+
+    LOG.debug(
+        "Computing routes for only {} of {} candidates with the lowest estimated costs.",
+        limit,
+        elements.size()
+    );
+    List<CandidateFilterResult> filterResults
+        = computeFilterResults(sortedElements.subList(0, limit), candidateComputer);
+    if (filterResults.stream().allMatch(CandidateFilterResult::isFiltered)) {
+      LOG.debug("None of the cheapest candidates is assignable, computing routes for all others.");
+      filterResults.addAll(
+          computeFilterResults(
+              sortedElements.subList(limit, sortedElements.size()),
+              candidateComputer
+          )
+      );
+    }
+    return filterResults;
+  }
+
+  private <T> List<CandidateFilterResult> computeFilterResults(
+      Collection<T> elements,
+      Function<T, Optional<AssignmentCandidate>> candidateComputer
+  ) {
+    return elements.stream()
+        .map(candidateComputer)
+        .filter(optCandidate -> optCandidate.isPresent())
+        .map(optCandidate -> optCandidate.get())
+        .map(
+            candidate -> new CandidateFilterResult(
+                candidate,
+                assignmentCandidateSelectionFilter.apply(candidate)
+            )
+        )
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
   private void assignOrder(AssignmentCandidate candidate, AssignmentState assignmentState) {
     // If the vehicle currently has a (dispensable) order, we may not assign the new one here
     // directly, but must abort the old one (DefaultDispatcher.abortOrder()) and wait for the
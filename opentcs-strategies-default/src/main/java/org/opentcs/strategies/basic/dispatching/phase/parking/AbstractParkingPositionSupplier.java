@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nullable;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.RouteSelector;
@@ -14,6 +15,7 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
@@ -148,9 +150,16 @@ public abstract class AbstractParkingPositionSupplier
     }
 
     Point vehiclePos = plantModelService.fetchObject(Point.class, vehicle.getCurrentPosition());
+    Map<Point, Set<Route>> routes = router.getRoutesToPoints(
+        vehicle,
+        vehiclePos,
+        points,
+        Set.of(),
+        configuration.maxRoutesToConsider()
+    );
 
     return points.stream()
-        .map(point -> parkingPositionCandidate(vehicle, vehiclePos, point))
+        .map(point -> parkingPositionCandidate(point, routes.getOrDefault(point, Set.of())))
         .filter(candidate -> candidate.costs < Long.MAX_VALUE)
         .min(Comparator.comparingLong(candidate -> candidate.costs))
         .map(candidate -> candidate.point)
@@ -214,23 +223,11 @@ public abstract class AbstractParkingPositionSupplier
     return false;
   }
 
-  private PointCandidate parkingPositionCandidate(
-      Vehicle vehicle,
-      Point srcPosition,
-      Point destPosition
-  ) {
+  private PointCandidate parkingPositionCandidate(Point destPosition, Set<Route> routes) {
     return new PointCandidate(
         destPosition,
         routeSelector
-            .select(
-                router.getRoutes(
-                    vehicle,
-                    srcPosition,
-                    destPosition,
-                    Set.of(),
-                    configuration.maxRoutesToConsider()
-                )
-            )
+            .select(routes)
             .map(route -> route.getCosts())
             .orElse(Long.MAX_VALUE)
     );
@@ -6,8 +6,8 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
-import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DirtyObjectTracker;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
@@ -31,6 +31,10 @@ public class ParkIdleVehiclesPhase
    * A filter for selecting vehicles that may be parked.
    */
   private final CompositeParkVehicleSelectionFilter vehicleSelectionFilter;
+  /**
+   * Keeps track of vehicles that changed since the previous dispatch run.
+   */
+  private final DirtyObjectTracker dirtyObjectTracker;
 
   @Inject
   public ParkIdleVehiclesPhase(
@@ -40,7 +44,8 @@ public class ParkIdleVehiclesPhase
       TransportOrderUtil transportOrderUtil,
       DefaultDispatcherConfiguration configuration,
       CompositeParkVehicleSelectionFilter vehicleSelectionFilter,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      DirtyObjectTracker dirtyObjectTracker
   ) {
     super(
         orderService,
@@ -51,6 +56,7 @@ public class ParkIdleVehiclesPhase
         driveOrderRouteAssigner
     );
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
+    this.dirtyObjectTracker = requireNonNull(dirtyObjectTracker, "dirtyObjectTracker");
   }
 
   @Override
@@ -61,7 +67,7 @@ public class ParkIdleVehiclesPhase
 
     LOG.debug("Looking for vehicles to send to parking positions...");
 
-    getOrderService().fetchObjects(Vehicle.class).stream()
+    dirtyObjectTracker.fetchDirtyVehicles().stream()
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .forEach(vehicle -> createParkingOrder(vehicle));
   }
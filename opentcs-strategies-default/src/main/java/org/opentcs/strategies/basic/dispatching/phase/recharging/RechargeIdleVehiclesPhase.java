@@ -18,6 +18,7 @@ import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DirtyObjectTracker;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -61,6 +62,10 @@ public class RechargeIdleVehiclesPhase
    * Assigns routes to drive orders.
    */
   private final DriveOrderRouteAssigner driveOrderRouteAssigner;
+  /**
+   * Keeps track of vehicles that changed since the previous dispatch run.
+   */
+  private final DirtyObjectTracker dirtyObjectTracker;
   /**
    * Indicates whether this component is initialized.
    */
@@ -74,7 +79,8 @@ public class RechargeIdleVehiclesPhase
       CompositeRechargeVehicleSelectionFilter vehicleSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DefaultDispatcherConfiguration configuration,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      DirtyObjectTracker dirtyObjectTracker
   ) {
     this.orderService = requireNonNull(orderService, "orderService");
     this.rechargePosSupplier = requireNonNull(rechargePosSupplier, "rechargePosSupplier");
@@ -89,6 +95,7 @@ public class RechargeIdleVehiclesPhase
         driveOrderRouteAssigner,
         "driveOrderRouteAssigner"
     );
+    this.dirtyObjectTracker = requireNonNull(dirtyObjectTracker, "dirtyObjectTracker");
   }
 
   @Override
@@ -124,7 +131,7 @@ public class RechargeIdleVehiclesPhase
       return;
     }
 
-    orderService.fetchObjects(Vehicle.class).stream()
+    dirtyObjectTracker.fetchDirtyVehicles().stream()
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .forEach(vehicle -> createRechargeOrder(vehicle));
   }
@@ -8,7 +8,7 @@ import jakarta.inject.Inject;
 import org.opentcs.components.kernel.PeripheralJobDispatcher;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.order.TransportOrder;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,7 +17,7 @@ import org.slf4j.LoggerFactory;
  */
 public class ImplicitDispatchTrigger
     implements
-      EventHandler {
+      SynchronousEventHandler {
 
   /**
    * This class's Logger.
@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.PeripheralInformation;
@@ -101,9 +102,9 @@ public class AssignFreePeripheralsPhase
       LOG.debug("No peripherals available, skipping potentially expensive fetching of jobs.");
       return;
     }
-    Set<PeripheralJob> jobsToBeProcessed = objectService.fetchObjects(
-        PeripheralJob.class,
-        this::toBeProcessed
+    Set<PeripheralJob> jobsToBeProcessed = objectService.fetchObjectsByIndex(
+        TCSObjectIndex.PERIPHERAL_JOBS_BY_STATE,
+        PeripheralJob.State.TO_BE_PROCESSED
     );
     LOG.debug(
         "Available for dispatching: {} peripheral jobs and {} peripheral devices.",
@@ -130,10 +131,6 @@ public class AssignFreePeripheralsPhase
     return location.getPeripheralInformation().getReservationToken() != null;
   }
 
-  private boolean toBeProcessed(PeripheralJob job) {
-    return job.getState() == PeripheralJob.State.TO_BE_PROCESSED;
-  }
-
   private void tryAssignJob(Location location, Collection<PeripheralJob> availableJobs) {
     LOG.debug("Trying to find job for peripheral '{}'...", location.getName());
     jobSelectionStrategy
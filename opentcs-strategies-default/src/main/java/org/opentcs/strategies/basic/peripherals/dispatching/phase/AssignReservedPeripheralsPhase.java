@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import java.util.Objects;
 import java.util.Set;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.PeripheralInformation;
@@ -112,9 +113,11 @@ public class AssignReservedPeripheralsPhase
 
   private void checkForReservedJobs(Location location) {
     LOG.debug("Trying to find job for peripheral '{}'...", location.getName());
-    objectService.fetchObjects(PeripheralJob.class, this::toBeProcessed).stream()
+    objectService
+        .fetchObjectsByIndex(TCSObjectIndex.PERIPHERAL_JOBS_BY_LOCATION, location.getName())
+        .stream()
+        .filter(this::toBeProcessed)
         .filter(job -> matchesReservationToken(job, location))
-        .filter(job -> matchesLocation(job, location))
         .filter(job -> canProcess(location, job))
         .sorted(Comparators.jobsByAge())
         .findFirst()
@@ -132,13 +135,6 @@ public class AssignReservedPeripheralsPhase
     );
   }
 
-  private boolean matchesLocation(PeripheralJob job, Location location) {
-    return Objects.equals(
-        job.getPeripheralOperation().getLocation(),
-        location.getReference()
-    );
-  }
-
   private boolean canProcess(Location location, PeripheralJob job) {
     ExplainedBoolean canProcess
         = peripheralControllerPool.getPeripheralController(location.getReference()).canProcess(job);
@@ -0,0 +1,274 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the points and paths currently allocated or claimed by vehicles and provides
+ * penalties for routing via them.
+ * <p>
+ * The penalties are meant to be added to the weights computed by the configured edge evaluators
+ * while searching for routes, i.e. as an overlay on top of the routing graphs' weights, so that
+ * routes avoid congested areas without the routing graphs and point routers having to be created
+ * again.
+ * The penalties are only updated when the heat map is {@link #refresh() refreshed}, which
+ * increments its version if they changed.
+ * </p>
+ * <p>
+ * The penalties are kept per vehicle allocating or claiming a point or path, so that routes for a
+ * vehicle are not penalized for the vehicle's own allocations and claims
+ * (see {@link #getPenalty(Edge, String)}).
+ * </p>
+ *
+ * @see DefaultRouterConfiguration#congestionPenaltyPerAllocation()
+ * @see DefaultRouterConfiguration#congestionPenaltyPerClaim()
+ */
+public class CongestionHeatMap {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CongestionHeatMap.class);
+  /**
+   * The object service providing the vehicles' allocated and claimed resources.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Keeps the shortest path trees computed by the routing groups' point routers.
+   */
+  private final ShortestPathTreeCache shortestPathTreeCache;
+  /**
+   * The penalty for every vehicle allocating a point or path.
+   */
+  private final long penaltyPerAllocation;
+  /**
+   * The penalty for every vehicle claiming a point or path.
+   */
+  private final long penaltyPerClaim;
+  /**
+   * The current penalties, mapped to the names of the points and paths they apply to and the names
+   * of the vehicles causing them.
+   */
+  private volatile Map<String, Map<String, Long>> penaltiesByResource = Map.of();
+  /**
+   * The current version of the penalties.
+   */
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing the vehicles' allocated and claimed
+   * resources.
+   * @param shortestPathTreeCache Keeps the shortest path trees computed by the routing groups'
+   * point routers.
+   * @param configuration The router's configuration.
+   */
+  @Inject
+  public CongestionHeatMap(
+      @Nonnull
+      TCSObjectService objectService,
+      @Nonnull
+      ShortestPathTreeCache shortestPathTreeCache,
+      @Nonnull
+      DefaultRouterConfiguration configuration
+  ) {
+    this(
+        objectService,
+        shortestPathTreeCache,
+        configuration.congestionPenaltyPerAllocation(),
+        configuration.congestionPenaltyPerClaim()
+    );
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing the vehicles' allocated and claimed
+   * resources.
+   * @param shortestPathTreeCache Keeps the shortest path trees computed by the routing groups'
+   * point routers.
+   * @param penaltyPerAllocation The penalty for every vehicle allocating a point or path.
+   * @param penaltyPerClaim The penalty for every vehicle claiming a point or path.
+   */
+  public CongestionHeatMap(
+      @Nonnull
+      TCSObjectService objectService,
+      @Nonnull
+      ShortestPathTreeCache shortestPathTreeCache,
+      long penaltyPerAllocation,
+      long penaltyPerClaim
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.shortestPathTreeCache = requireNonNull(shortestPathTreeCache, "shortestPathTreeCache");
+    this.penaltyPerAllocation = penaltyPerAllocation;
+    this.penaltyPerClaim = penaltyPerClaim;
+  }
+
+  /**
+   * Indicates whether this heat map provides any penalties at all.
+   *
+   * @return {@code true} if, and only if, the penalty per allocation or claim is positive.
+   */
+  public boolean isEnabled() {
+    return penaltyPerAllocation > 0 || penaltyPerClaim > 0;
+  }
+
+  /**
+   * Updates the penalties with respect to the points and paths currently allocated and claimed by
+   * vehicles.
+   * <p>
+   * If the penalties changed, the heat map's version is incremented and the shortest path trees
+   * computed with the previous penalties are dropped.
+   * </p>
+   */
+  public void refresh() {
+    if (!isEnabled()) {
+      return;
+    }
+
+    Map<String, Map<String, Long>> penalties = new HashMap<>();
+    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
+      addPenalties(penalties, vehicle, vehicle.getAllocatedResources(), penaltyPerAllocation);
+      addPenalties(penalties, vehicle, vehicle.getClaimedResources(), penaltyPerClaim);
+    }
+
+    if (penalties.equals(penaltiesByResource)) {
+      return;
+    }
+
+    LOG.debug("Applying penalties for {} congested points and paths.", penalties.size());
+    penaltiesByResource = penalties;
+    version.incrementAndGet();
+    shortestPathTreeCache.invalidate();
+  }
+
+  /**
+   * Returns the penalty for routing via the given edge, i.e. the penalties for the edge's path and
+   * the point the edge leads to.
+   *
+   * @param edge The edge.
+   * @return The penalty for routing via the given edge.
+   */
+  public long getPenalty(
+      @Nonnull
+      Edge edge
+  ) {
+    requireNonNull(edge, "edge");
+
+    Map<String, Map<String, Long>> penalties = penaltiesByResource;
+    return getPenalty(penalties.get(edge.getPath().getName()), null)
+        + getPenalty(penalties.get(edge.getTargetVertex()), null);
+  }
+
+  /**
+   * Returns the penalty for routing the given vehicle via the given edge, i.e. the penalties for
+   * the edge's path and the point the edge leads to, excluding the penalties caused by the
+   * vehicle's own allocations and claims.
+   *
+   * @param edge The edge.
+   * @param vehicleName The name of the vehicle to be routed.
+   * @return The penalty for routing the given vehicle via the given edge.
+   */
+  public long getPenalty(
+      @Nonnull
+      Edge edge,
+      @Nonnull
+      String vehicleName
+  ) {
+    requireNonNull(edge, "edge");
+    requireNonNull(vehicleName, "vehicleName");
+
+    Map<String, Map<String, Long>> penalties = penaltiesByResource;
+    return getPenalty(penalties.get(edge.getPath().getName()), vehicleName)
+        + getPenalty(penalties.get(edge.getTargetVertex()), vehicleName);
+  }
+
+  /**
+   * Returns the names of the points and paths the given vehicle currently causes penalties for,
+   * i.e. the ones it allocates or claims.
+   *
+   * @param vehicleName The name of the vehicle.
+   * @return The names of the points and paths the given vehicle currently causes penalties for.
+   */
+  @Nonnull
+  public Set<String> getCongestedResources(
+      @Nonnull
+      String vehicleName
+  ) {
+    requireNonNull(vehicleName, "vehicleName");
+
+    return penaltiesByResource.entrySet().stream()
+        .filter(entry -> entry.getValue().containsKey(vehicleName))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the current version of the penalties.
+   *
+   * @return The current version of the penalties.
+   */
+  public long getVersion() {
+    return version.get();
+  }
+
+  private long getPenalty(
+      @Nullable
+      Map<String, Long> penaltiesByVehicle,
+      @Nullable
+      String excludedVehicleName
+  ) {
+    if (penaltiesByVehicle == null) {
+      return 0;
+    }
+
+    long penalty = 0;
+    for (Map.Entry<String, Long> entry : penaltiesByVehicle.entrySet()) {
+      if (!entry.getKey().equals(excludedVehicleName)) {
+        penalty += entry.getValue();
+      }
+    }
+    return penalty;
+  }
+
+  private void addPenalties(
+      Map<String, Map<String, Long>> penalties,
+      Vehicle vehicle,
+      List<Set<TCSResourceReference<?>>> resourceSets,
+      long penalty
+  ) {
+    if (penalty <= 0) {
+      return;
+    }
+
+    for (Set<TCSResourceReference<?>> resourceSet : resourceSets) {
+      for (TCSResourceReference<?> resource : resourceSet) {
+        if (resource.getReferentClass() == Point.class
+            || resource.getReferentClass() == Path.class) {
+          penalties.computeIfAbsent(resource.getName(), name -> new HashMap<>())
+              .merge(vehicle.getName(), penalty, Long::sum);
+        }
+      }
+    }
+  }
+}
@@ -3,7 +3,6 @@
 package org.opentcs.strategies.basic.routing;
 
 import static java.util.Objects.requireNonNull;
-import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
 import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.inject.Inject;
@@ -30,8 +29,6 @@ import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * A basic {@link Router} implementation.
@@ -40,10 +37,6 @@ public class DefaultRouter
     implements
       Router {
 
-  /**
-   * This class's Logger.
-   */
-  private static final Logger LOG = LoggerFactory.getLogger(DefaultRouter.class);
   /**
    * This class's configuration.
    */
@@ -99,6 +92,7 @@ public class DefaultRouter
     synchronized (this) {
       routesByVehicle.clear();
       pointRouterProvider.invalidate();
+      pointRouterProvider.warmUp();
       initialized = true;
     }
   }
@@ -136,20 +130,18 @@ public class DefaultRouter
 
     synchronized (this) {
       Set<Vehicle> result = new HashSet<>();
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+      List<Set<Point>> destinationPoints = getDestinationPoints(order.getFutureDriveOrders());
 
       for (Map.Entry<String, PointRouter> curEntry : pointRouterProvider
           .getPointRoutersByVehicleGroup().entrySet()) {
-        // Get all points at the first location at which a vehicle of the current
-        // type can execute the desired operation and check if an acceptable route
-        // originating in one of them exists.
-        for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-          if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
-            result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
-            break;
-          }
+        // Check if an acceptable route originating in any of the points at the first location at
+        // which a vehicle of the current type can execute the desired operation exists.
+        if (OrderRouteSearch.isRoutable(
+            destinationPoints.get(0),
+            destinationPoints.subList(1, destinationPoints.size()),
+            curEntry.getValue()
+        )) {
+          result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
         }
       }
       return result;
@@ -161,14 +153,18 @@ public class DefaultRouter
     requireNonNull(order, "order");
 
     synchronized (this) {
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+      List<Set<Point>> destinationPoints = getDestinationPoints(order.getFutureDriveOrders());
+      List<Set<Point>> remainingDestinationPoints
+          = destinationPoints.subList(1, destinationPoints.size());
 
       PointRouter generalPointRouter = pointRouterProvider.getGeneralPointRouter(order);
 
-      for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-        if (!isRoutable(curStartPoint, driveOrders, 1, generalPointRouter)) {
+      for (Point curStartPoint : destinationPoints.get(0)) {
+        if (!OrderRouteSearch.isRoutable(
+            Set.of(curStartPoint),
+            remainingDestinationPoints,
+            generalPointRouter
+        )) {
           return false;
         }
       }
@@ -237,18 +233,19 @@ public class DefaultRouter
     synchronized (this) {
       // TODO: Once maxRouteCount is actually used, ensure to cap it at
       //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
-      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
-      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
       PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
           vehicle,
           transportOrder
       );
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
+      List<Route> cheapestRoute = OrderRouteSearch.computeCheapestRoute(
+          sourcePoint,
+          getDestinationPoints(transportOrder.getFutureDriveOrders()),
+          pointRouter,
+          configuration.routeToCurrentPosition()
+      );
+      return (cheapestRoute == null)
           ? Set.of()
-          : Set.of(List.of(resultStruct.bestRoute));
+          : Set.of(cheapestRoute);
     }
   }
 
@@ -273,24 +270,42 @@ public class DefaultRouter
           pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid)
               .getRouteSteps(sourcePoint, destinationPoint)
       )
-          .map(steps -> {
-            if (steps.isEmpty()) {
-              return List.of(
-                  // If the list of steps is empty, we're already at the destination point create a
-                  // single step without a path.
-                  new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0)
-              );
-            }
-            else {
-              return steps;
-            }
-          })
-          .map(Route::new)
+          .map(steps -> toRoute(sourcePoint, steps))
           .map(Set::of)
           .orElse(Set.of());
     }
   }
 
+  @Override
+  public Map<Point, Set<Route>> getRoutesToPoints(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Set<Point> destinationPoints,
+      Set<TCSResourceReference<?>> resourcesToAvoid,
+      int maxRouteCount
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoints, "destinationPoints");
+    requireNonNull(resourcesToAvoid, "resourcesToAvoid");
+    checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
+
+    synchronized (this) {
+      // Compute the routes to all destination points with a single search.
+      ShortestPathTree tree = pointRouterProvider
+          .getPointRouterForVehicle(vehicle, resourcesToAvoid)
+          .getShortestPathTree(sourcePoint);
+      Map<Point, Set<Route>> result = new HashMap<>();
+      for (Point destinationPoint : destinationPoints) {
+        PointRoute pointRoute = tree.getRoute(destinationPoint);
+        if (pointRoute.exists()) {
+          result.put(destinationPoint, Set.of(toRoute(sourcePoint, pointRoute.getSteps())));
+        }
+      }
+      return result;
+    }
+  }
+
   @Deprecated
   @Override
   public long getCosts(
@@ -348,117 +363,29 @@ public class DefaultRouter
     }
   }
 
-  /**
-   * Checks if a route exists for a vehicle of a given type which allows the
-   * vehicle to process a given list of drive orders.
-   *
-   * @param startPoint The point at which the route is supposed to start.
-   * @param driveOrders The list of drive orders, in the order they are to be
-   * processed.
-   * @param nextHopIndex The index of the next drive order in the list.
-   * @param pointRouter The point router to use.
-   * @return <code>true</code> if, and only if, at least one route exists which
-   * would allow a vehicle of the given type to process the whole list of drive
-   * orders.
-   */
-  private boolean isRoutable(
-      Point startPoint,
-      DriveOrder[] driveOrders,
-      int nextHopIndex,
-      PointRouter pointRouter
-  ) {
-    assert startPoint != null;
-    assert driveOrders != null;
-    assert pointRouter != null;
-
-    if (nextHopIndex < driveOrders.length) {
-      for (Point curPoint : getDestinationPoints(driveOrders[nextHopIndex])) {
-        // Check if there is a route from the starting point to the current
-        // point and if the rest of the orders are routable from there, too.
-        if (pointRouter.getCosts(startPoint, curPoint) != INFINITE_COSTS
-            && isRoutable(curPoint, driveOrders, nextHopIndex + 1, pointRouter)) {
-          // If it was possible to reach the end of the order list from here,
-          // propagate the result back to the caller.
-          return true;
-        }
-      }
-      // If we haven't found an acceptable route, return false.
-      return false;
-    }
-    // If we have reached the end of the list, it seems we have found a route.
-    else {
-      return true;
+  private Route toRoute(Point sourcePoint, List<Route.Step> steps) {
+    if (steps.isEmpty()) {
+      // If the list of steps is empty, we're already at the destination point - create a single
+      // step without a path.
+      return new Route(
+          List.of(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0))
+      );
     }
+    return new Route(steps);
   }
 
   /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
+   * Returns, for each of the given drive orders, all points at which a vehicle could process it.
    *
-   * @param startPoint The current checkpoint which to start at.
-   * @param params A struct describing parameters for the route to be computed.
-   * @param hopIndex The current index in the list of drive orders/checkpoints.
-   * @param result A struct for keeping the (partial) result in.
+   * @param driveOrders The drive orders to be processed.
+   * @return For each drive order, the set of acceptable destination points.
    */
-  private void computeCheapestOrderRoute(
-      Point startPoint,
-      OrderRouteParameterStruct params,
-      int hopIndex,
-      OrderRouteResultStruct result
-  ) {
-    assert startPoint != null;
-    assert params != null;
-    assert result != null;
-    // If we haven't reached the final drive order in the list, yet...
-    if (hopIndex < params.driveOrders.length) {
-      // ...try every possible destination point of the current drive order as
-      // the next checkpoint and recursively route from there.
-      final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
-      // If the set of destination points contains the starting point, keep only
-      // that one. This is just a shortcut - it is the cheapest way to go.
-      if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
-        LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
-      }
-      boolean routable = false;
-      for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (hopCosts == INFINITE_COSTS) {
-          continue;
-        }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
-        }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps);
-        // Place the computed route in the result struct.
-        result.currentRoute[hopIndex] = hopRoute;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
-        computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
-      }
-      if (!routable) {
-        // Setting currentCosts is not strictly necessary for this algorithm,
-        // but might help with debugging.
-        result.currentCosts = Long.MAX_VALUE;
-      }
+  private List<Set<Point>> getDestinationPoints(List<DriveOrder> driveOrders) {
+    List<Set<Point>> result = new ArrayList<>(driveOrders.size());
+    for (DriveOrder driveOrder : driveOrders) {
+      result.add(getDestinationPoints(driveOrder));
     }
-    // If we have reached the final drive order, ...
-    else // If the route computed is cheaper than the best route found so far,
-      // replace the latter.
-      if (result.currentCosts < result.bestCosts) {
-        System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
-        result.bestCosts = result.currentCosts;
-      }
+    return result;
   }
 
   /**
@@ -535,71 +462,4 @@ public class DefaultRouter
     }
     return result;
   }
-
-  /**
-   * Contains parameters for a route to be computed.
-   */
-  private static final class OrderRouteParameterStruct {
-
-    /**
-     * The drive orders containing the route's checkpoints.
-     */
-    private final DriveOrder[] driveOrders;
-    /**
-     * The point router for the vehicle type.
-     */
-    private final PointRouter pointRouter;
-
-    /**
-     * Creates a new OrderRouteParameterStruct.
-     *
-     * @param driveOrders A list of drive orders to be processed as checkpoints
-     * of the route to be computed.
-     * @param pointRouter The point router for the vehicle type.
-     */
-    OrderRouteParameterStruct(
-        DriveOrder[] driveOrders,
-        PointRouter pointRouter
-    ) {
-      this.driveOrders = requireNonNull(driveOrders, "driveOrders");
-      this.pointRouter = requireNonNull(pointRouter, "pointRouter");
-    }
-  }
-
-  /**
-   * A struct supporting cheapest route calculation.
-   */
-  private static final class OrderRouteResultStruct {
-
-    /**
-     * The (possibly partial) route currently being examined.
-     */
-    private Route[] currentRoute;
-    /**
-     * The costs of the route currently being examined.
-     */
-    private long currentCosts;
-    /**
-     * The best route found so far.
-     */
-    private Route[] bestRoute;
-    /**
-     * The costs of the best route found so far.
-     */
-    private long bestCosts;
-
-    /**
-     * Creates a new OrderRouteResultStruct.
-     *
-     * @param driveOrderCount The number of <code>DriveOrder</code>s in the
-     * <code>TransportOrder</code> for which this struct is to store the
-     * routing result.
-     */
-    OrderRouteResultStruct(int driveOrderCount) {
-      currentRoute = new Route[driveOrderCount];
-      currentCosts = 0;
-      bestRoute = new Route[driveOrderCount];
-      bestCosts = Long.MAX_VALUE;
-    }
-  }
 }
@@ -30,4 +30,83 @@ public interface DefaultRouterConfiguration {
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
   )
   boolean routeToCurrentPosition();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to remember the routes computed for routing groups until the next dispatch "
+              + "run starts or the routing topology changes.",
+          "Avoids computing the same route repeatedly within a dispatch run, e.g. for checking a "
+              + "transport order's routability, assigning it and selecting parking positions."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  boolean memoizeRoutes();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of shortest path trees (i.e. the routes from one point to all other "
+              + "points) to keep for routing groups until the routing topology changes.",
+          "Avoids searching again when looking for the nearest parking or recharge position for a "
+              + "vehicle at the same position, for instance. 0 disables keeping them."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int shortestPathTreeCacheSize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of point routers to keep for routing groups with resources to avoid "
+              + "(e.g. for transport orders with resources to avoid) until the routing topology "
+              + "changes.",
+          "Avoids deriving the same routing graph again for every request avoiding the same "
+              + "resources. 0 disables keeping them."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int derivedPointRouterCacheSize();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to create the point routers for all routing groups in parallel in the "
+              + "background when the router is initialized or the routing topology changes.",
+          "Point routers requested before they have been created in the background are created "
+              + "on demand. Requires the configured edge evaluators to be thread-safe."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  boolean warmUpPointRoutersInParallel();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The penalty added to the routing costs of a point or path for every vehicle allocating "
+              + "it.",
+          "Applied on top of the costs computed by the configured edge evaluators, so that "
+              + "routes avoid areas congested by other vehicles. Only updated at the start of every "
+              + "dispatch run, i.e. allocations changing during a dispatch run are not considered "
+              + "before the next one. Only supported by the routing algorithms DIJKSTRA_CSR and "
+              + "ASTAR. 0 disables the penalty."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int congestionPenaltyPerAllocation();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The penalty added to the routing costs of a point or path for every vehicle claiming "
+              + "it, i.e. intending to allocate it for its current route.",
+          "Applied on top of the costs computed by the configured edge evaluators, so that "
+              + "routes avoid areas congested by other vehicles. Only updated at the start of every "
+              + "dispatch run, i.e. allocations changing during a dispatch run are not considered "
+              + "before the next one. Only supported by the routing algorithms DIJKSTRA_CSR and "
+              + "ASTAR. 0 disables the penalty."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int congestionPenaltyPerClaim();
 }
@@ -0,0 +1,161 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Keeps the point routers most recently created for routing groups with points and paths to be
+ * avoided (e.g. for transport orders with resources to avoid), so that requests avoiding the same
+ * resources do not require the same routing graph to be derived and the same point router to be
+ * created again.
+ * <p>
+ * Point routers are kept per routing group and set of avoided resources in a
+ * {@link VersionedLruCache}, which is invalidated whenever the routing topology changes.
+ * </p>
+ *
+ * @see DefaultRouterConfiguration#derivedPointRouterCacheSize()
+ */
+public class DerivedPointRouterCache {
+
+  /**
+   * The cached point routers, keyed by routing group, points to be avoided and paths to be
+   * avoided, and weighted by the number of avoided resources.
+   */
+  private final VersionedLruCache<List<Object>, PointRouter> pointRouters;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The router's configuration.
+   */
+  @Inject
+  public DerivedPointRouterCache(DefaultRouterConfiguration configuration) {
+    this(configuration.derivedPointRouterCacheSize());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param maxSize The maximum number of point routers to keep.
+   */
+  public DerivedPointRouterCache(int maxSize) {
+    this.pointRouters = new VersionedLruCache<>(
+        "point routers avoiding resources",
+        maxSize,
+        key -> ((Set<?>) key.get(1)).size() + ((Set<?>) key.get(2)).size()
+    );
+  }
+
+  /**
+   * Indicates whether this cache keeps any point routers at all.
+   *
+   * @return {@code true} if, and only if, the configured maximum number of point routers is
+   * positive.
+   */
+  public boolean isEnabled() {
+    return pointRouters.isEnabled();
+  }
+
+  /**
+   * Returns the cached point router for the given routing group and the given points and paths to
+   * be avoided, creating and caching it first, if necessary.
+   *
+   * @param routingGroup The routing group.
+   * @param pointsToAvoid The points to be avoided.
+   * @param pathsToAvoid The paths to be avoided.
+   * @param pointRouterSupplier Creates the point router, if necessary.
+   * @return The point router.
+   */
+  @Nonnull
+  public PointRouter getPointRouter(
+      @Nonnull
+      String routingGroup,
+      @Nonnull
+      Set<Point> pointsToAvoid,
+      @Nonnull
+      Set<Path> pathsToAvoid,
+      @Nonnull
+      Supplier<PointRouter> pointRouterSupplier
+  ) {
+    return pointRouters.get(
+        List.of(routingGroup, Set.copyOf(pointsToAvoid), Set.copyOf(pathsToAvoid)),
+        pointRouterSupplier
+    );
+  }
+
+  /**
+   * Drops all cached point routers, increments the topology version and resets the hit, miss and
+   * eviction counts.
+   */
+  public void invalidate() {
+    pointRouters.invalidate();
+  }
+
+  /**
+   * Returns the current topology version.
+   *
+   * @return The current topology version.
+   */
+  public long getTopologyVersion() {
+    return pointRouters.getVersion();
+  }
+
+  /**
+   * Returns the number of point routers currently cached.
+   *
+   * @return The number of point routers currently cached.
+   */
+  public int getSize() {
+    return pointRouters.getSize();
+  }
+
+  /**
+   * Returns the total number of points and paths avoided by the point routers currently cached.
+   * <p>
+   * As every cached point router works on a routing graph of its own, this is an indicator for the
+   * memory used by the cache, along with the number of point routers cached.
+   * </p>
+   *
+   * @return The total number of points and paths avoided by the point routers currently cached.
+   */
+  public long getAvoidedResourceCount() {
+    return pointRouters.getTotalWeight();
+  }
+
+  /**
+   * Returns the number of lookups that were answered with a cached point router since the cache
+   * was invalidated.
+   *
+   * @return The number of hits.
+   */
+  public long getHitCount() {
+    return pointRouters.getHitCount();
+  }
+
+  /**
+   * Returns the number of lookups that required a point router to be created since the cache was
+   * invalidated.
+   *
+   * @return The number of misses.
+   */
+  public long getMissCount() {
+    return pointRouters.getMissCount();
+  }
+
+  /**
+   * Returns the number of point routers dropped to make room for others since the cache was
+   * invalidated.
+   *
+   * @return The number of evictions.
+   */
+  public long getEvictionCount() {
+    return pointRouters.getEvictionCount();
+  }
+}
@@ -0,0 +1,125 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+
+/**
+ * A point router for a routing group that remembers computed routes in a {@link PointRouteMemo}
+ * and delegates to another point router only for routes not remembered, yet.
+ */
+public class MemoizingPointRouter
+    implements
+      PointRouter {
+
+  /**
+   * The routing group the point router is used for.
+   */
+  private final String routingGroup;
+  /**
+   * The point router computing routes.
+   */
+  private final PointRouter delegate;
+  /**
+   * The memo remembering computed routes.
+   */
+  private final PointRouteMemo memo;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param routingGroup The routing group the point router is used for.
+   * @param delegate The point router computing routes.
+   * @param memo The memo remembering computed routes.
+   */
+  public MemoizingPointRouter(
+      @Nonnull
+      String routingGroup,
+      @Nonnull
+      PointRouter delegate,
+      @Nonnull
+      PointRouteMemo memo
+  ) {
+    this.routingGroup = requireNonNull(routingGroup, "routingGroup");
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.memo = requireNonNull(memo, "memo");
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    return getRoute(srcPoint, destPoint).getSteps();
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    // Without the points themselves, the route's steps cannot be computed and remembered, so only
+    // use a route that has already been remembered.
+    PointRoute route = memo.lookupRoute(
+        routingGroup,
+        srcPointRef.getName(),
+        destPointRef.getName()
+    );
+    return route != null ? route.getCosts() : delegate.getCosts(srcPointRef, destPointRef);
+  }
+
+  @Override
+  public long getCosts(Point srcPoint, Point destPoint) {
+    return getRoute(srcPoint, destPoint).getCosts();
+  }
+
+  @Override
+  public PointRoute getRoute(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    return memo.getRoute(
+        routingGroup,
+        srcPoint.getName(),
+        destPoint.getName(),
+        () -> delegate.getRoute(srcPoint, destPoint)
+    );
+  }
+
+  @Override
+  public ShortestPathTree getShortestPathTree(Point srcPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+
+    ShortestPathTree tree = delegate.getShortestPathTree(srcPoint);
+    // Remember the routes looked up in the tree, too.
+    return new ShortestPathTree() {
+      @Override
+      public Point getSourcePoint() {
+        return tree.getSourcePoint();
+      }
+
+      @Override
+      public long getCosts(Point destPoint) {
+        return tree.getCosts(destPoint);
+      }
+
+      @Override
+      public PointRoute getRoute(Point destPoint) {
+        requireNonNull(destPoint, "destPoint");
+
+        return memo.getRoute(
+            routingGroup,
+            srcPoint.getName(),
+            destPoint.getName(),
+            () -> tree.getRoute(destPoint)
+        );
+      }
+    };
+  }
+}
@@ -0,0 +1,212 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes along sequences of drive orders, each of which may have several acceptable
+ * destination points.
+ * <p>
+ * Instead of enumerating every combination of destination points, the search proceeds drive order
+ * by drive order (layer by layer) and keeps only the cheapest way to reach each destination point
+ * of the current drive order (as in the Viterbi algorithm). The costs to all destination points of
+ * a drive order are taken from a single {@link ShortestPathTree} per point reached with the
+ * previous one, so for n drive orders with up to k destination points each, this requires
+ * O(n k) searches instead of O(k<sup>n</sup>).
+ * </p>
+ */
+public final class OrderRouteSearch {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(OrderRouteSearch.class);
+
+  /**
+   * Prevents instantiation.
+   */
+  private OrderRouteSearch() {
+  }
+
+  /**
+   * Computes the cheapest route along the given sequence of drive orders.
+   *
+   * @param startPoint The point at which the route starts.
+   * @param destinationPoints For each drive order, in the order they are to be processed, the
+   * points at which a vehicle could process it.
+   * @param pointRouter The point router to use.
+   * @param routeToCurrentPosition Whether a route to a destination point should be computed even
+   * if the vehicle is already at one of the drive order's destination points. If {@code false},
+   * staying at the current point is the only option considered in this case.
+   * @return For each drive order, the route to the destination point at which it is processed, or
+   * {@code null}, if no route along the whole sequence of drive orders exists.
+   */
+  @Nullable
+  public static List<Route> computeCheapestRoute(
+      @Nonnull
+      Point startPoint,
+      @Nonnull
+      List<Set<Point>> destinationPoints,
+      @Nonnull
+      PointRouter pointRouter,
+      boolean routeToCurrentPosition
+  ) {
+    requireNonNull(startPoint, "startPoint");
+    requireNonNull(destinationPoints, "destinationPoints");
+    requireNonNull(pointRouter, "pointRouter");
+
+    Map<Point, Hop> layer = new LinkedHashMap<>();
+    layer.put(startPoint, new Hop(null, startPoint, null, 0));
+
+    for (Set<Point> destPoints : destinationPoints) {
+      Map<Point, Hop> nextLayer = new LinkedHashMap<>();
+      for (Hop predecessor : layer.values()) {
+        Point hopStart = predecessor.destPoint;
+        // If the vehicle would already be at one of the destination points, staying there is the
+        // cheapest way to go.
+        if (!routeToCurrentPosition && destPoints.contains(hopStart)) {
+          LOG.debug("Shortcutting route to {}", hopStart);
+          addHop(nextLayer, new Hop(predecessor, hopStart, null, predecessor.costs));
+          continue;
+        }
+        // Get the costs to all destination points of the current drive order with a single search.
+        ShortestPathTree tree = pointRouter.getShortestPathTree(hopStart);
+        for (Point hopDest : destPoints) {
+          long hopCosts = tree.getCosts(hopDest);
+          if (hopCosts != PointRouter.INFINITE_COSTS) {
+            addHop(nextLayer, new Hop(predecessor, hopDest, tree, predecessor.costs + hopCosts));
+          }
+        }
+      }
+      if (nextLayer.isEmpty()) {
+        return null;
+      }
+      layer = nextLayer;
+    }
+
+    Hop best = null;
+    for (Hop hop : layer.values()) {
+      if (best == null || hop.costs < best.costs) {
+        best = hop;
+      }
+    }
+    return toRoutes(best, destinationPoints.size());
+  }
+
+  /**
+   * Checks whether there is a route along the given sequence of drive orders starting at any of
+   * the given points.
+   *
+   * @param startPoints The points at which the route may start.
+   * @param destinationPoints For each drive order, in the order they are to be processed, the
+   * points at which a vehicle could process it.
+   * @param pointRouter The point router to use.
+   * @return {@code true} if, and only if, such a route exists.
+   */
+  public static boolean isRoutable(
+      @Nonnull
+      Set<Point> startPoints,
+      @Nonnull
+      List<Set<Point>> destinationPoints,
+      @Nonnull
+      PointRouter pointRouter
+  ) {
+    requireNonNull(startPoints, "startPoints");
+    requireNonNull(destinationPoints, "destinationPoints");
+    requireNonNull(pointRouter, "pointRouter");
+
+    Set<Point> reachablePoints = startPoints;
+    for (Set<Point> destPoints : destinationPoints) {
+      Set<Point> nextReachablePoints = new HashSet<>();
+      for (Point reachablePoint : reachablePoints) {
+        ShortestPathTree tree = pointRouter.getShortestPathTree(reachablePoint);
+        for (Point destPoint : destPoints) {
+          if (!nextReachablePoints.contains(destPoint)
+              && tree.getCosts(destPoint) != PointRouter.INFINITE_COSTS) {
+            nextReachablePoints.add(destPoint);
+          }
+        }
+        if (nextReachablePoints.size() == destPoints.size()) {
+          break;
+        }
+      }
+      if (nextReachablePoints.isEmpty()) {
+        return false;
+      }
+      reachablePoints = nextReachablePoints;
+    }
+    return !reachablePoints.isEmpty();
+  }
+
+  private static void addHop(Map<Point, Hop> layer, Hop hop) {
+    Hop current = layer.get(hop.destPoint);
+    if (current == null || hop.costs < current.costs) {
+      layer.put(hop.destPoint, hop);
+    }
+  }
+
+  private static List<Route> toRoutes(Hop lastHop, int hopCount) {
+    // Routes (including their steps) are only looked up for the hops of the cheapest route.
+    Route[] routes = new Route[hopCount];
+    for (Hop hop = lastHop; hop.predecessor != null; hop = hop.predecessor) {
+      List<Route.Step> steps = hop.tree == null
+          ? List.of()
+          : hop.tree.getRoute(hop.destPoint).getSteps();
+      if (steps.isEmpty()) {
+        // If the list of steps is empty, we're already at the destination point of the drive
+        // order - create a single step without a path.
+        steps = new ArrayList<>(1);
+        steps.add(new Route.Step(null, null, hop.destPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+      }
+      hopCount--;
+      routes[hopCount] = new Route(steps);
+    }
+    return List.of(routes);
+  }
+
+  /**
+   * The cheapest known way to reach a destination point of a drive order.
+   */
+  private static final class Hop {
+
+    /**
+     * The hop to the previous drive order's destination point, or {@code null} for the start.
+     */
+    private final Hop predecessor;
+    /**
+     * The destination point reached with this hop.
+     */
+    private final Point destPoint;
+    /**
+     * The shortest routes from the previous destination point, or {@code null} if the hop does not
+     * require moving.
+     */
+    private final ShortestPathTree tree;
+    /**
+     * The costs of the whole route up to the destination point.
+     */
+    private final long costs;
+
+    Hop(Hop predecessor, Point destPoint, ShortestPathTree tree, long costs) {
+      this.predecessor = predecessor;
+      this.destPoint = destPoint;
+      this.tree = tree;
+      this.costs = costs;
+    }
+  }
+}
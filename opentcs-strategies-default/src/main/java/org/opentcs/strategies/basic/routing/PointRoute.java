@@ -0,0 +1,104 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import org.opentcs.data.order.Route;
+
+/**
+ * The result of computing the shortest route from one point to another, i.e. the route's costs
+ * along with its steps.
+ */
+public final class PointRoute {
+
+  /**
+   * The result for the case that no route exists.
+   */
+  private static final PointRoute NO_ROUTE = new PointRoute(INFINITE_COSTS, null);
+  /**
+   * The costs for travelling the route.
+   */
+  private final long costs;
+  /**
+   * The route's steps, or {@code null}, if no route exists.
+   */
+  private final List<Route.Step> steps;
+
+  private PointRoute(long costs, List<Route.Step> steps) {
+    this.costs = costs;
+    this.steps = steps;
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param costs The costs for travelling the route.
+   * @param steps The route's steps, which must be empty if source and destination point are
+   * identical.
+   * @return The new instance.
+   */
+  @Nonnull
+  public static PointRoute of(
+      long costs,
+      @Nonnull
+      List<Route.Step> steps
+  ) {
+    requireNonNull(steps, "steps");
+
+    return new PointRoute(costs, List.copyOf(steps));
+  }
+
+  /**
+   * Returns the result for the case that no route exists.
+   *
+   * @return The result for the case that no route exists.
+   */
+  @Nonnull
+  public static PointRoute noRoute() {
+    return NO_ROUTE;
+  }
+
+  /**
+   * Indicates whether a route exists.
+   *
+   * @return {@code true} if, and only if, a route exists.
+   */
+  public boolean exists() {
+    return steps != null;
+  }
+
+  /**
+   * Returns the costs for travelling the route.
+   *
+   * @return The costs for travelling the route, or {@link PointRouter#INFINITE_COSTS}, if no route
+   * exists.
+   */
+  public long getCosts() {
+    return costs;
+  }
+
+  /**
+   * Returns the route's steps.
+   *
+   * @return The route's steps (which is an unmodifiable list), or {@code null}, if no route
+   * exists.
+   * @see PointRouter#getRouteSteps(org.opentcs.data.model.Point, org.opentcs.data.model.Point)
+   */
+  @Nullable
+  public List<Route.Step> getSteps() {
+    return steps;
+  }
+
+  @Override
+  public String toString() {
+    return "PointRoute{"
+        + "costs=" + costs
+        + ", steps=" + steps
+        + '}';
+  }
+}
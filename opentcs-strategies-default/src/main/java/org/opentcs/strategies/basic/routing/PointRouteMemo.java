@@ -0,0 +1,113 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the routes computed by the point routers of routing groups, so that computing the same
+ * route for the same routing group again (e.g. for checking an order's routability, assigning it
+ * to a vehicle and looking for parking positions) does not require another search.
+ * <p>
+ * Remembered routes are only valid as long as the point routers they were computed with are used.
+ * The memo is thus cleared whenever point routers are invalidated and, to limit its size, at the
+ * beginning of every dispatch run.
+ * </p>
+ *
+ * @see MemoizingPointRouter
+ * @see DefaultRouterConfiguration#memoizeRoutes()
+ */
+public class PointRouteMemo {
+
+  /**
+   * The remembered routes, keyed by routing group, source point name and destination point name.
+   */
+  private final VersionedLruCache<List<String>, PointRoute> routes
+      = new VersionedLruCache<>("remembered routes", Integer.MAX_VALUE);
+
+  /**
+   * Creates a new instance.
+   */
+  @Inject
+  public PointRouteMemo() {
+  }
+
+  /**
+   * Returns the remembered route from the given source point to the given destination point for
+   * the given routing group, computing and remembering it first, if necessary.
+   *
+   * @param routingGroup The routing group.
+   * @param srcPointName The name of the source point.
+   * @param destPointName The name of the destination point.
+   * @param routeSupplier Computes the route, if necessary.
+   * @return The route.
+   */
+  @Nonnull
+  public PointRoute getRoute(
+      @Nonnull
+      String routingGroup,
+      @Nonnull
+      String srcPointName,
+      @Nonnull
+      String destPointName,
+      @Nonnull
+      Supplier<PointRoute> routeSupplier
+  ) {
+    return routes.get(List.of(routingGroup, srcPointName, destPointName), routeSupplier);
+  }
+
+  /**
+   * Returns the remembered route from the given source point to the given destination point for
+   * the given routing group, if any.
+   * <p>
+   * This method does not compute any routes, but it counts the lookup as a hit or miss.
+   * </p>
+   *
+   * @param routingGroup The routing group.
+   * @param srcPointName The name of the source point.
+   * @param destPointName The name of the destination point.
+   * @return The remembered route, or {@code null}, if there is none.
+   */
+  @Nullable
+  public PointRoute lookupRoute(
+      @Nonnull
+      String routingGroup,
+      @Nonnull
+      String srcPointName,
+      @Nonnull
+      String destPointName
+  ) {
+    return routes.lookup(List.of(routingGroup, srcPointName, destPointName));
+  }
+
+  /**
+   * Forgets all remembered routes and resets the hit and miss counts.
+   */
+  public void clear() {
+    routes.invalidate();
+  }
+
+  /**
+   * Returns the number of lookups that were answered with a remembered route since the memo was
+   * cleared.
+   *
+   * @return The number of hits.
+   */
+  public long getHitCount() {
+    return routes.getHitCount();
+  }
+
+  /**
+   * Returns the number of lookups that required a route to be computed since the memo was
+   * cleared.
+   *
+   * @return The number of misses.
+   */
+  public long getMissCount() {
+    return routes.getMissCount();
+  }
+}
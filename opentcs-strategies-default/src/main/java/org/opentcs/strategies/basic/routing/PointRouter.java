@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route;
 
 /**
@@ -61,4 +62,78 @@ public interface PointRouter {
 
     return getCosts(srcPoint.getReference(), destPoint.getReference());
   }
+
+  /**
+   * Returns the costs for travelling the shortest route from one point to another along with the
+   * route's steps.
+   * <p>
+   * This default implementation delegates to {@link #getRouteSteps(Point, Point)} and
+   * {@link #getCosts(Point, Point)}. Implementations should override it to compute both with a
+   * single search.
+   * </p>
+   *
+   * @param srcPoint The source point.
+   * @param destPoint The destination point.
+   * @return The costs and steps of the shortest route, as they would be returned by
+   * {@link #getCosts(Point, Point)} and {@link #getRouteSteps(Point, Point)}.
+   */
+  default PointRoute getRoute(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    List<Route.Step> steps = getRouteSteps(srcPoint, destPoint);
+    if (steps == null) {
+      return PointRoute.noRoute();
+    }
+    return PointRoute.of(getCosts(srcPoint, destPoint), steps);
+  }
+
+  /**
+   * Returns the shortest routes from the given source point to all other points.
+   * <p>
+   * This default implementation returns a tree that computes every route requested from it
+   * separately, via {@link #getCosts(Point, Point)} and {@link #getRoute(Point, Point)}.
+   * Implementations should override it to compute the routes to all points with a single search.
+   * </p>
+   *
+   * @param srcPoint The source point.
+   * @return The shortest routes from the given source point.
+   */
+  default ShortestPathTree getShortestPathTree(Point srcPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+
+    PointRouter pointRouter = this;
+    return new ShortestPathTree() {
+      @Override
+      public Point getSourcePoint() {
+        return srcPoint;
+      }
+
+      @Override
+      public long getCosts(Point destPoint) {
+        return pointRouter.getCosts(srcPoint, destPoint);
+      }
+
+      @Override
+      public PointRoute getRoute(Point destPoint) {
+        return pointRouter.getRoute(srcPoint, destPoint);
+      }
+    };
+  }
+
+  /**
+   * Returns a point router computing routes for the given vehicle, e.g. one that does not penalize
+   * routes for the vehicle's own allocations.
+   * <p>
+   * This default implementation returns this point router itself.
+   * </p>
+   *
+   * @param vehicle The vehicle to be routed.
+   * @return A point router computing routes for the given vehicle.
+   */
+  default PointRouter forVehicle(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    return this;
+  }
 }
@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing;
 
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.Set;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
@@ -45,4 +47,32 @@ public interface PointRouterFactory {
       Set<Point> pointsToExclude,
       Set<Path> pathsToExclude
   );
+
+  /**
+   * Updates a point router created for the given vehicle (without excluding any points or paths)
+   * after the given paths have changed.
+   * <p>
+   * This is called after the routing graphs have been updated with respect to the given paths,
+   * allowing implementations to apply the changes to the point router instead of constructing a
+   * new one from scratch.
+   * This default implementation returns {@code null}.
+   * </p>
+   *
+   * @param pointRouter The point router to update.
+   * @param vehicle The vehicle the point router was created for.
+   * @param paths The paths that have changed.
+   * @return The updated point router (which may be the given one), or {@code null}, if a new point
+   * router needs to be created.
+   */
+  @Nullable
+  default PointRouter updatePointRouter(
+      @Nonnull
+      PointRouter pointRouter,
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Path> paths
+  ) {
+    return null;
+  }
 }
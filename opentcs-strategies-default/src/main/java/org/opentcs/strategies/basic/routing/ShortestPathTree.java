@@ -0,0 +1,52 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import jakarta.annotation.Nonnull;
+import org.opentcs.data.model.Point;
+
+/**
+ * Provides the shortest routes from one source point to all other points.
+ * <p>
+ * Implementations are expected to compute the routes to all points with a single search, so that
+ * looking up the routes to many destination points is considerably cheaper than computing each of
+ * them separately.
+ * </p>
+ *
+ * @see PointRouter#getShortestPathTree(Point)
+ */
+public interface ShortestPathTree {
+
+  /**
+   * Returns the source point of all routes in this tree.
+   *
+   * @return The source point.
+   */
+  @Nonnull
+  Point getSourcePoint();
+
+  /**
+   * Returns the costs for travelling the shortest route from the source point to the given point.
+   *
+   * @param destPoint The destination point.
+   * @return The costs for travelling the shortest route, or
+   * {@link PointRouter#INFINITE_COSTS INFINITE_COSTS}, if no route exists.
+   */
+  long getCosts(
+      @Nonnull
+      Point destPoint
+  );
+
+  /**
+   * Returns the shortest route from the source point to the given point.
+   *
+   * @param destPoint The destination point.
+   * @return The costs and steps of the shortest route, as they would be returned by
+   * {@link PointRouter#getRoute(Point, Point)}.
+   */
+  @Nonnull
+  PointRoute getRoute(
+      @Nonnull
+      Point destPoint
+  );
+}
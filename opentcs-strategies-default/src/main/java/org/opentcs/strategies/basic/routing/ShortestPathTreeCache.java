@@ -0,0 +1,122 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the shortest path trees most recently computed by the point routers of routing groups, so
+ * that questions like "which of these points is nearest to the vehicle?" can be answered for the
+ * same source point repeatedly without another search.
+ * <p>
+ * Trees are kept per routing group and source point in a {@link VersionedLruCache}, which is
+ * invalidated whenever the routing topology changes.
+ * </p>
+ *
+ * @see ShortestPathTreeCachingPointRouter
+ * @see DefaultRouterConfiguration#shortestPathTreeCacheSize()
+ */
+public class ShortestPathTreeCache {
+
+  /**
+   * The cached trees, keyed by routing group and source point name.
+   */
+  private final VersionedLruCache<List<String>, ShortestPathTree> trees;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The router's configuration.
+   */
+  @Inject
+  public ShortestPathTreeCache(DefaultRouterConfiguration configuration) {
+    this(configuration.shortestPathTreeCacheSize());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param maxSize The maximum number of trees to keep.
+   */
+  public ShortestPathTreeCache(int maxSize) {
+    this.trees = new VersionedLruCache<>("shortest path trees", maxSize);
+  }
+
+  /**
+   * Indicates whether this cache keeps any trees at all.
+   *
+   * @return {@code true} if, and only if, the configured maximum number of trees is positive.
+   */
+  public boolean isEnabled() {
+    return trees.isEnabled();
+  }
+
+  /**
+   * Returns the cached tree for the given routing group and source point, computing and caching
+   * it first, if necessary.
+   *
+   * @param routingGroup The routing group.
+   * @param srcPointName The name of the source point.
+   * @param treeSupplier Computes the tree, if necessary.
+   * @return The tree.
+   */
+  @Nonnull
+  public ShortestPathTree getTree(
+      @Nonnull
+      String routingGroup,
+      @Nonnull
+      String srcPointName,
+      @Nonnull
+      Supplier<ShortestPathTree> treeSupplier
+  ) {
+    return trees.get(List.of(routingGroup, srcPointName), treeSupplier);
+  }
+
+  /**
+   * Drops all cached trees, increments the topology version and resets the hit and miss counts.
+   */
+  public void invalidate() {
+    trees.invalidate();
+  }
+
+  /**
+   * Returns the current topology version.
+   *
+   * @return The current topology version.
+   */
+  public long getTopologyVersion() {
+    return trees.getVersion();
+  }
+
+  /**
+   * Returns the number of trees currently cached.
+   *
+   * @return The number of trees currently cached.
+   */
+  public int getSize() {
+    return trees.getSize();
+  }
+
+  /**
+   * Returns the number of lookups that were answered with a cached tree since the cache was
+   * invalidated.
+   *
+   * @return The number of hits.
+   */
+  public long getHitCount() {
+    return trees.getHitCount();
+  }
+
+  /**
+   * Returns the number of lookups that required a tree to be computed since the cache was
+   * invalidated.
+   *
+   * @return The number of misses.
+   */
+  public long getMissCount() {
+    return trees.getMissCount();
+  }
+}
@@ -0,0 +1,90 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+
+/**
+ * A point router for a routing group that keeps the shortest path trees computed by another point
+ * router in a {@link ShortestPathTreeCache}.
+ * <p>
+ * All other requests are delegated to the other point router as they are.
+ * </p>
+ */
+public class ShortestPathTreeCachingPointRouter
+    implements
+      PointRouter {
+
+  /**
+   * The routing group the point router is used for.
+   */
+  private final String routingGroup;
+  /**
+   * The point router computing routes.
+   */
+  private final PointRouter delegate;
+  /**
+   * The cache keeping computed shortest path trees.
+   */
+  private final ShortestPathTreeCache cache;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param routingGroup The routing group the point router is used for.
+   * @param delegate The point router computing routes.
+   * @param cache The cache keeping computed shortest path trees.
+   */
+  public ShortestPathTreeCachingPointRouter(
+      @Nonnull
+      String routingGroup,
+      @Nonnull
+      PointRouter delegate,
+      @Nonnull
+      ShortestPathTreeCache cache
+  ) {
+    this.routingGroup = requireNonNull(routingGroup, "routingGroup");
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.cache = requireNonNull(cache, "cache");
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    return delegate.getRouteSteps(srcPoint, destPoint);
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    return delegate.getCosts(srcPointRef, destPointRef);
+  }
+
+  @Override
+  public long getCosts(Point srcPoint, Point destPoint) {
+    return delegate.getCosts(srcPoint, destPoint);
+  }
+
+  @Override
+  public PointRoute getRoute(Point srcPoint, Point destPoint) {
+    return delegate.getRoute(srcPoint, destPoint);
+  }
+
+  @Override
+  public ShortestPathTree getShortestPathTree(Point srcPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+
+    return cache.getTree(
+        routingGroup,
+        srcPoint.getName(),
+        () -> delegate.getShortestPathTree(srcPoint)
+    );
+  }
+}
@@ -0,0 +1,285 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps values computed for the routing topology, e.g. routes or shortest path trees.
+ * <p>
+ * Invalidating the cache (whenever the routing topology changes) drops all values and increments
+ * the cache's version, so values still being computed with the previous topology are never kept
+ * afterwards. The number of values kept is limited, with the least recently used ones being dropped
+ * first.
+ * </p>
+ * <p>
+ * Optionally, a weight can be assigned to every key (e.g. as an indicator for the memory used by
+ * the corresponding value), with the cache keeping track of the total weight of the values kept.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+final class VersionedLruCache<K, V> {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(VersionedLruCache.class);
+  /**
+   * A description of the values kept, used for logging.
+   */
+  private final String valueDescription;
+  /**
+   * The maximum number of values to keep.
+   */
+  private final int maxSize;
+  /**
+   * Provides the weight of the values for a key.
+   */
+  private final ToIntFunction<K> keyWeigher;
+  /**
+   * The cached values, in access order.
+   */
+  private final Map<K, V> values;
+  /**
+   * The current version.
+   */
+  private final AtomicLong version = new AtomicLong();
+  /**
+   * The number of lookups that were answered with a cached value since the cache was invalidated.
+   */
+  private final AtomicLong hitCount = new AtomicLong();
+  /**
+   * The number of lookups that required a value to be computed since the cache was invalidated.
+   */
+  private final AtomicLong missCount = new AtomicLong();
+  /**
+   * The number of values dropped to make room for others since the cache was invalidated.
+   */
+  private final AtomicLong evictionCount = new AtomicLong();
+  /**
+   * The total weight of the values kept.
+   */
+  private long totalWeight;
+
+  /**
+   * Creates a new instance with every value having a weight of 1.
+   *
+   * @param valueDescription A description of the values kept (e.g. "routes"), used for logging.
+   * @param maxSize The maximum number of values to keep.
+   */
+  VersionedLruCache(
+      @Nonnull
+      String valueDescription,
+      int maxSize
+  ) {
+    this(valueDescription, maxSize, key -> 1);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param valueDescription A description of the values kept (e.g. "routes"), used for logging.
+   * @param maxSize The maximum number of values to keep.
+   * @param keyWeigher Provides the weight of the value for a key.
+   */
+  VersionedLruCache(
+      @Nonnull
+      String valueDescription,
+      int maxSize,
+      @Nonnull
+      ToIntFunction<K> keyWeigher
+  ) {
+    this.valueDescription = requireNonNull(valueDescription, "valueDescription");
+    this.maxSize = maxSize;
+    this.keyWeigher = requireNonNull(keyWeigher, "keyWeigher");
+    this.values = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        if (size() <= VersionedLruCache.this.maxSize) {
+          return false;
+        }
+        evictionCount.incrementAndGet();
+        totalWeight -= VersionedLruCache.this.keyWeigher.applyAsInt(eldest.getKey());
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Indicates whether this cache keeps any values at all.
+   *
+   * @return {@code true} if, and only if, the maximum number of values is positive.
+   */
+  boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * Returns the cached value for the given key, computing and caching it first, if necessary.
+   * <p>
+   * The value is computed without holding the cache's lock, so lookups of other values are not
+   * blocked. It is only cached if the cache has not been invalidated in the meantime.
+   * </p>
+   *
+   * @param key The key.
+   * @param valueSupplier Computes the value, if necessary.
+   * @return The value.
+   */
+  @Nonnull
+  V get(
+      @Nonnull
+      K key,
+      @Nonnull
+      Supplier<V> valueSupplier
+  ) {
+    requireNonNull(key, "key");
+    requireNonNull(valueSupplier, "valueSupplier");
+
+    long keyVersion;
+    synchronized (values) {
+      V value = values.get(key);
+      if (value != null) {
+        hitCount.incrementAndGet();
+        return value;
+      }
+      keyVersion = version.get();
+    }
+
+    missCount.incrementAndGet();
+    V value = requireNonNull(valueSupplier.get(), "value");
+    synchronized (values) {
+      if (keyVersion == version.get() && values.put(key, value) == null) {
+        totalWeight += keyWeigher.applyAsInt(key);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Returns the cached value for the given key, if any.
+   * <p>
+   * This method does not compute any values, but it counts the lookup as a hit or miss.
+   * </p>
+   *
+   * @param key The key.
+   * @return The cached value, or {@code null}, if there is none.
+   */
+  @Nullable
+  V lookup(
+      @Nonnull
+      K key
+  ) {
+    requireNonNull(key, "key");
+
+    V value;
+    synchronized (values) {
+      value = values.get(key);
+    }
+    if (value != null) {
+      hitCount.incrementAndGet();
+    }
+    else {
+      missCount.incrementAndGet();
+    }
+    return value;
+  }
+
+  /**
+   * Drops all cached values, increments the version and resets the hit, miss and eviction counts.
+   */
+  void invalidate() {
+    synchronized (values) {
+      version.incrementAndGet();
+      long hits = hitCount.getAndSet(0);
+      long misses = missCount.getAndSet(0);
+      long evictions = evictionCount.getAndSet(0);
+      if (hits + misses > 0) {
+        LOG.debug(
+            "Dropping {} {} with a total weight of {} after {} hits, {} misses and {} evictions "
+                + "(hit rate {}%).",
+            values.size(),
+            valueDescription,
+            totalWeight,
+            hits,
+            misses,
+            evictions,
+            hits * 100 / (hits + misses)
+        );
+      }
+      values.clear();
+      totalWeight = 0;
+    }
+  }
+
+  /**
+   * Returns the current version.
+   *
+   * @return The current version.
+   */
+  long getVersion() {
+    return version.get();
+  }
+
+  /**
+   * Returns the number of values currently cached.
+   *
+   * @return The number of values currently cached.
+   */
+  int getSize() {
+    synchronized (values) {
+      return values.size();
+    }
+  }
+
+  /**
+   * Returns the total weight of the values currently cached.
+   *
+   * @return The total weight of the values currently cached.
+   */
+  long getTotalWeight() {
+    synchronized (values) {
+      return totalWeight;
+    }
+  }
+
+  /**
+   * Returns the number of lookups that were answered with a cached value since the cache was
+   * invalidated.
+   *
+   * @return The number of hits.
+   */
+  long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of lookups that required a value to be computed since the cache was
+   * invalidated.
+   *
+   * @return The number of misses.
+   */
+  long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Returns the number of values dropped to make room for others since the cache was invalidated.
+   *
+   * @return The number of evictions.
+   */
+  long getEvictionCount() {
+    return evictionCount.get();
+  }
+}
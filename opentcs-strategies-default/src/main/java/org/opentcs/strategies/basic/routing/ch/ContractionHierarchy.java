@@ -0,0 +1,246 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.ch;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+import org.opentcs.strategies.basic.routing.csr.CsrGraph;
+
+/**
+ * A contraction hierarchy, i.e. a {@link ContractionHierarchyTopology} customized with the edge
+ * weights of a routing graph.
+ * <p>
+ * For every arc of the topology, the weights for travelling it upward (from the lower-ranked to
+ * the higher-ranked vertex) and downward are stored. An arc either directly represents the
+ * cheapest edge of the routing graph between its vertices or is a shortcut via a lower-ranked
+ * vertex.
+ * </p>
+ */
+public final class ContractionHierarchy {
+
+  /**
+   * The topology.
+   */
+  private final ContractionHierarchyTopology topology;
+  /**
+   * The routing graph whose edge weights were applied.
+   */
+  private final CsrGraph graph;
+  /**
+   * The routing graph's vertex for every vertex of the topology, or -1, if the routing graph does
+   * not contain it.
+   */
+  private final int[] graphVertices;
+  /**
+   * The weights for travelling arcs upward.
+   */
+  private final double[] upWeights;
+  /**
+   * The weights for travelling arcs downward.
+   */
+  private final double[] downWeights;
+  /**
+   * The routing graph's edge represented by travelling an arc upward, or -1, if it is a shortcut.
+   */
+  private final int[] upEdges;
+  /**
+   * The routing graph's edge represented by travelling an arc downward, or -1, if it is a
+   * shortcut.
+   */
+  private final int[] downEdges;
+  /**
+   * The vertex via which a shortcut leads when travelling an arc upward.
+   */
+  private final int[] upVias;
+  /**
+   * The vertex via which a shortcut leads when travelling an arc downward.
+   */
+  private final int[] downVias;
+
+  private ContractionHierarchy(ContractionHierarchyTopology topology, CsrGraph graph) {
+    this.topology = topology;
+    this.graph = graph;
+    this.graphVertices = new int[topology.getVertexCount()];
+    this.upWeights = new double[topology.getArcCount()];
+    this.downWeights = new double[topology.getArcCount()];
+    this.upEdges = new int[topology.getArcCount()];
+    this.downEdges = new int[topology.getArcCount()];
+    this.upVias = new int[topology.getArcCount()];
+    this.downVias = new int[topology.getArcCount()];
+  }
+
+  /**
+   * Customizes the given topology with the edge weights of the given routing graph.
+   *
+   * @param topology The topology.
+   * @param graph The routing graph.
+   * @return The customized contraction hierarchy, or {@code null}, if the routing graph contains
+   * vertices or edges that are not part of the topology.
+   */
+  @Nullable
+  public static ContractionHierarchy customize(
+      @Nonnull
+      ContractionHierarchyTopology topology,
+      @Nonnull
+      CsrGraph graph
+  ) {
+    requireNonNull(topology, "topology");
+    requireNonNull(graph, "graph");
+
+    ContractionHierarchy hierarchy = new ContractionHierarchy(topology, graph);
+    if (!hierarchy.applyEdgeWeights()) {
+      return null;
+    }
+    hierarchy.applyShortcutWeights();
+    return hierarchy;
+  }
+
+  /**
+   * Returns the topology.
+   *
+   * @return The topology.
+   */
+  @Nonnull
+  public ContractionHierarchyTopology getTopology() {
+    return topology;
+  }
+
+  /**
+   * Returns the routing graph whose edge weights were applied.
+   *
+   * @return The routing graph.
+   */
+  @Nonnull
+  public CsrGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the routing graph's vertex for the given vertex of the topology.
+   *
+   * @param vertex The topology's vertex.
+   * @return The routing graph's vertex, or -1, if the routing graph does not contain it.
+   */
+  public int getGraphVertex(int vertex) {
+    return graphVertices[vertex];
+  }
+
+  /**
+   * Returns the weight for travelling the given arc in the given direction.
+   *
+   * @param arc The arc's index.
+   * @param upward Whether the arc is travelled upward.
+   * @return The weight, which is {@link Double#POSITIVE_INFINITY} if the arc cannot be travelled.
+   */
+  public double getWeight(int arc, boolean upward) {
+    return upward ? upWeights[arc] : downWeights[arc];
+  }
+
+  /**
+   * Returns the routing graph's edge represented by travelling the given arc in the given
+   * direction.
+   *
+   * @param arc The arc's index.
+   * @param upward Whether the arc is travelled upward.
+   * @return The routing graph's edge, or -1, if travelling the arc means travelling a shortcut.
+   */
+  public int getEdge(int arc, boolean upward) {
+    return upward ? upEdges[arc] : downEdges[arc];
+  }
+
+  /**
+   * Returns the vertex via which the shortcut represented by travelling the given arc in the
+   * given direction leads.
+   *
+   * @param arc The arc's index.
+   * @param upward Whether the arc is travelled upward.
+   * @return The vertex the shortcut leads via.
+   */
+  public int getVia(int arc, boolean upward) {
+    return upward ? upVias[arc] : downVias[arc];
+  }
+
+  private boolean applyEdgeWeights() {
+    Arrays.fill(upWeights, Double.POSITIVE_INFINITY);
+    Arrays.fill(downWeights, Double.POSITIVE_INFINITY);
+    Arrays.fill(upEdges, -1);
+    Arrays.fill(downEdges, -1);
+    Arrays.fill(upVias, -1);
+    Arrays.fill(downVias, -1);
+    Arrays.fill(graphVertices, -1);
+
+    int[] topologyVertices = new int[graph.getVertexCount()];
+    for (int graphVertex = 0; graphVertex < graph.getVertexCount(); graphVertex++) {
+      int vertex = topology.getVertexIndex(graph.getVertexName(graphVertex));
+      if (vertex < 0) {
+        return false;
+      }
+      topologyVertices[graphVertex] = vertex;
+      graphVertices[vertex] = graphVertex;
+    }
+
+    for (int edge = 0; edge < graph.getEdgeCount(); edge++) {
+      int source = topologyVertices[graph.getEdgeSource(edge)];
+      int target = topologyVertices[graph.getEdgeTarget(edge)];
+      if (source == target) {
+        continue;
+      }
+
+      boolean upward = topology.getRank(source) < topology.getRank(target);
+      int arc = upward ? topology.findArc(source, target) : topology.findArc(target, source);
+      if (arc < 0) {
+        return false;
+      }
+
+      double weight = graph.getEdgeWeight(edge);
+      if (upward && weight < upWeights[arc]) {
+        upWeights[arc] = weight;
+        upEdges[arc] = edge;
+      }
+      else if (!upward && weight < downWeights[arc]) {
+        downWeights[arc] = weight;
+        downEdges[arc] = edge;
+      }
+    }
+
+    return true;
+  }
+
+  private void applyShortcutWeights() {
+    // Process lower triangles in order of their lowest-ranked vertex, so that the weights of the
+    // arcs from that vertex are final when they are used.
+    int[] verticesByRank = new int[topology.getVertexCount()];
+    for (int vertex = 0; vertex < topology.getVertexCount(); vertex++) {
+      verticesByRank[topology.getRank(vertex)] = vertex;
+    }
+
+    for (int via : verticesByRank) {
+      int lastArc = topology.getFirstArc(via + 1);
+      for (int arc1 = topology.getFirstArc(via); arc1 < lastArc; arc1++) {
+        int lower = topology.getArcHead(arc1);
+        for (int arc2 = arc1 + 1; arc2 < lastArc; arc2++) {
+          int higher = topology.getArcHead(arc2);
+          int arc = topology.findArc(lower, higher);
+
+          // lower -> via -> higher
+          double upWeight = downWeights[arc1] + upWeights[arc2];
+          if (upWeight < upWeights[arc]) {
+            upWeights[arc] = upWeight;
+            upEdges[arc] = -1;
+            upVias[arc] = via;
+          }
+          // higher -> via -> lower
+          double downWeight = downWeights[arc2] + upWeights[arc1];
+          if (downWeight < downWeights[arc]) {
+            downWeights[arc] = downWeight;
+            downEdges[arc] = -1;
+            downVias[arc] = via;
+          }
+        }
+      }
+    }
+  }
+}
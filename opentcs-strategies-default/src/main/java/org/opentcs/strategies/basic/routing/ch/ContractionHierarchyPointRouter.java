@@ -0,0 +1,374 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.ch;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRoute;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.csr.CsrGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points using a {@link ContractionHierarchy}.
+ * <p>
+ * A query relaxes the upward arcs of all ancestors of the source vertex and the downward arcs of
+ * all ancestors of the target vertex in the topology's elimination tree. The shortest route leads
+ * via the common ancestor with the lowest sum of both distances. As the elimination tree is
+ * usually shallow, this requires neither a priority queue nor visiting more than a small fraction
+ * of the graph's vertices.
+ * </p>
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ */
+public class ContractionHierarchyPointRouter
+    implements
+      PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(ContractionHierarchyPointRouter.class);
+  /**
+   * The contraction hierarchy to compute routes with.
+   */
+  private final ContractionHierarchy hierarchy;
+  /**
+   * The topology of the contraction hierarchy.
+   */
+  private final ContractionHierarchyTopology topology;
+  /**
+   * The routing graph the contraction hierarchy was customized with.
+   */
+  private final CsrGraph graph;
+  /**
+   * The points, indexed by the routing graph's vertices representing them.
+   */
+  private final Point[] points;
+  /**
+   * The distance of each vertex from the source vertex, valid only for ancestors of the source
+   * vertex in the current query.
+   */
+  private final double[] forwardDistances;
+  /**
+   * The arc via which each vertex was reached from the source vertex.
+   */
+  private final int[] forwardArcs;
+  /**
+   * The distance of each vertex to the target vertex, valid only for ancestors of the target
+   * vertex in the current query.
+   */
+  private final double[] backwardDistances;
+  /**
+   * The arc via which each vertex was reached from the target vertex.
+   */
+  private final int[] backwardArcs;
+  /**
+   * The query in which each vertex was found to be an ancestor of the target vertex most recently.
+   */
+  private final int[] backwardQuery;
+  /**
+   * The lower-ranked vertex of each arc.
+   */
+  private final int[] arcTails;
+  /**
+   * The number identifying the current query.
+   */
+  private int currentQuery;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param hierarchy The contraction hierarchy to compute routes with.
+   * @param points The points represented by the routing graph's vertices.
+   */
+  public ContractionHierarchyPointRouter(
+      @Nonnull
+      ContractionHierarchy hierarchy,
+      @Nonnull
+      Collection<Point> points
+  ) {
+    this.hierarchy = requireNonNull(hierarchy, "hierarchy");
+    requireNonNull(points, "points");
+    this.topology = hierarchy.getTopology();
+    this.graph = hierarchy.getGraph();
+
+    this.points = new Point[graph.getVertexCount()];
+    for (Point point : points) {
+      int vertex = graph.getVertexIndex(point.getName());
+      if (vertex >= 0) {
+        this.points[vertex] = point;
+      }
+    }
+
+    int vertexCount = topology.getVertexCount();
+    this.forwardDistances = new double[vertexCount];
+    this.forwardArcs = new int[vertexCount];
+    this.backwardDistances = new double[vertexCount];
+    this.backwardArcs = new int[vertexCount];
+    this.backwardQuery = new int[vertexCount];
+    this.arcTails = new int[topology.getArcCount()];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      for (int arc = topology.getFirstArc(vertex); arc < topology.getFirstArc(vertex + 1); arc++) {
+        arcTails[arc] = vertex;
+      }
+    }
+  }
+
+  /**
+   * Returns the contraction hierarchy this point router computes routes with.
+   *
+   * @return The contraction hierarchy this point router computes routes with.
+   */
+  @Nonnull
+  public ContractionHierarchy getHierarchy() {
+    return hierarchy;
+  }
+
+  @Override
+  public synchronized List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    long timeBefore = System.currentTimeMillis();
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int meetingVertex = query(srcPoint.getName(), destPoint.getName());
+    if (meetingVertex < 0) {
+      return null;
+    }
+
+    List<Route.Step> result = translateToSteps(collectEdges(meetingVertex));
+
+    LOG.debug(
+        "Looking up route from {} to {} took {} milliseconds.",
+        srcPoint.getName(),
+        destPoint.getName(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    return result;
+  }
+
+  @Override
+  public synchronized long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int meetingVertex = query(srcPointRef.getName(), destPointRef.getName());
+    if (meetingVertex < 0) {
+      return INFINITE_COSTS;
+    }
+
+    return (long) (forwardDistances[meetingVertex] + backwardDistances[meetingVertex]);
+  }
+
+  @Override
+  public synchronized PointRoute getRoute(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return PointRoute.of(0, List.of());
+    }
+
+    int meetingVertex = query(srcPoint.getName(), destPoint.getName());
+    if (meetingVertex < 0) {
+      return PointRoute.noRoute();
+    }
+
+    return PointRoute.of(
+        (long) (forwardDistances[meetingVertex] + backwardDistances[meetingVertex]),
+        translateToSteps(collectEdges(meetingVertex))
+    );
+  }
+
+  /**
+   * Computes the distances from the source vertex and to the target vertex for their ancestors.
+   *
+   * @return The ancestor via which the shortest route leads, or -1, if there is no route.
+   */
+  private int query(String srcPointName, String destPointName) {
+    int srcVertex = topologyVertex(srcPointName);
+    int destVertex = topologyVertex(destPointName);
+    if (srcVertex < 0 || destVertex < 0) {
+      return -1;
+    }
+
+    startQuery();
+
+    for (int vertex = destVertex; vertex >= 0; vertex = topology.getParent(vertex)) {
+      backwardDistances[vertex] = Double.POSITIVE_INFINITY;
+      backwardQuery[vertex] = currentQuery;
+    }
+    backwardDistances[destVertex] = 0.0;
+    backwardArcs[destVertex] = -1;
+    for (int vertex = destVertex; vertex >= 0; vertex = topology.getParent(vertex)) {
+      relax(vertex, backwardDistances, backwardArcs, false);
+    }
+
+    for (int vertex = srcVertex; vertex >= 0; vertex = topology.getParent(vertex)) {
+      forwardDistances[vertex] = Double.POSITIVE_INFINITY;
+    }
+    forwardDistances[srcVertex] = 0.0;
+    forwardArcs[srcVertex] = -1;
+    int meetingVertex = -1;
+    double meetingDistance = Double.POSITIVE_INFINITY;
+    for (int vertex = srcVertex; vertex >= 0; vertex = topology.getParent(vertex)) {
+      relax(vertex, forwardDistances, forwardArcs, true);
+
+      if (backwardQuery[vertex] == currentQuery
+          && forwardDistances[vertex] + backwardDistances[vertex] < meetingDistance) {
+        meetingDistance = forwardDistances[vertex] + backwardDistances[vertex];
+        meetingVertex = vertex;
+      }
+    }
+
+    return meetingVertex;
+  }
+
+  private int topologyVertex(String pointName) {
+    // Points that are not part of the routing graph (e.g. because they are excluded) cannot be
+    // routed from or to.
+    if (graph.getVertexIndex(pointName) < 0) {
+      return -1;
+    }
+    return topology.getVertexIndex(pointName);
+  }
+
+  private void startQuery() {
+    if (currentQuery == Integer.MAX_VALUE) {
+      Arrays.fill(backwardQuery, 0);
+      currentQuery = 0;
+    }
+    currentQuery++;
+  }
+
+  private void relax(int vertex, double[] distances, int[] arcs, boolean upward) {
+    double vertexDistance = distances[vertex];
+    if (vertexDistance == Double.POSITIVE_INFINITY) {
+      return;
+    }
+
+    int lastArc = topology.getFirstArc(vertex + 1);
+    for (int arc = topology.getFirstArc(vertex); arc < lastArc; arc++) {
+      int head = topology.getArcHead(arc);
+      double headDistance = vertexDistance + hierarchy.getWeight(arc, upward);
+      if (headDistance < distances[head]) {
+        distances[head] = headDistance;
+        arcs[head] = arc;
+      }
+    }
+  }
+
+  private List<Integer> collectEdges(int meetingVertex) {
+    // The arcs leading upward from the source vertex to the meeting vertex...
+    List<Integer> forwardArcList = new ArrayList<>();
+    for (int arc = forwardArcs[meetingVertex]; arc >= 0; arc = forwardArcs[arcTails[arc]]) {
+      forwardArcList.add(arc);
+    }
+    // ...and the arcs leading downward from the meeting vertex to the target vertex.
+    List<Integer> backwardArcList = new ArrayList<>();
+    for (int arc = backwardArcs[meetingVertex]; arc >= 0; arc = backwardArcs[arcTails[arc]]) {
+      backwardArcList.add(arc);
+    }
+
+    List<Integer> result = new ArrayList<>();
+    for (int i = forwardArcList.size() - 1; i >= 0; i--) {
+      unpack(forwardArcList.get(i), true, result);
+    }
+    for (int arc : backwardArcList) {
+      unpack(arc, false, result);
+    }
+    return result;
+  }
+
+  private void unpack(int arc, boolean upward, List<Integer> edges) {
+    // Each stack entry is an arc and the direction it is travelled in, encoded as a single value.
+    Deque<Integer> stack = new ArrayDeque<>();
+    stack.push(encode(arc, upward));
+    while (!stack.isEmpty()) {
+      int entry = stack.pop();
+      int currentArc = entry >> 1;
+      boolean currentUpward = (entry & 1) != 0;
+
+      int edge = hierarchy.getEdge(currentArc, currentUpward);
+      if (edge >= 0) {
+        edges.add(edge);
+        continue;
+      }
+
+      int via = hierarchy.getVia(currentArc, currentUpward);
+      int lowerArc = topology.findArc(via, arcTails[currentArc]);
+      int higherArc = topology.findArc(via, topology.getArcHead(currentArc));
+      if (currentUpward) {
+        // lower -> via -> higher, pushed in reverse order.
+        stack.push(encode(higherArc, true));
+        stack.push(encode(lowerArc, false));
+      }
+      else {
+        // higher -> via -> lower, pushed in reverse order.
+        stack.push(encode(lowerArc, true));
+        stack.push(encode(higherArc, false));
+      }
+    }
+  }
+
+  private static int encode(int arc, boolean upward) {
+    return (arc << 1) | (upward ? 1 : 0);
+  }
+
+  private List<Route.Step> translateToSteps(List<Integer> edgeIndices) {
+    List<Route.Step> result = new ArrayList<>(edgeIndices.size());
+    int routeIndex = 0;
+    for (int edgeIndex : edgeIndices) {
+      Edge edge = graph.getEdge(edgeIndex);
+      Point sourcePoint = points[graph.getEdgeSource(edgeIndex)];
+      Point destPoint = points[graph.getEdgeTarget(edgeIndex)];
+
+      result.add(
+          new Route.Step(
+              edge.getPath(),
+              sourcePoint,
+              destPoint,
+              orientation(edge, sourcePoint),
+              routeIndex,
+              (long) graph.getEdgeWeight(edgeIndex)
+          )
+      );
+      routeIndex++;
+    }
+
+    return result;
+  }
+
+  private Vehicle.Orientation orientation(Edge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+}
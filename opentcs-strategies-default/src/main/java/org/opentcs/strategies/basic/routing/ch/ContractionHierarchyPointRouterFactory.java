@@ -0,0 +1,195 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.ch;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.Set;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.csr.CsrGraph;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link ContractionHierarchyPointRouter} instances.
+ * <p>
+ * The routing graphs are provided by the {@link GraphProvider}, just like with the other point
+ * router factories. The (comparatively expensive) {@link ContractionHierarchyTopology} only depends
+ * on the plant model's points and the paths connecting them, though, and is thus computed once and
+ * shared by all point routers. When a routing graph changes (e.g. because paths are locked or
+ * excluded), only the edge weights need to be applied to the topology again. The topology is
+ * recomputed only if a routing graph contains points or connections it does not know about.
+ * When paths change, only the edges of these paths are translated again before the edge weights
+ * are applied to the topology.
+ * </p>
+ */
+public class ContractionHierarchyPointRouterFactory
+    implements
+      PointRouterFactory {
+
+  private static final Logger LOG
+      = LoggerFactory.getLogger(ContractionHierarchyPointRouterFactory.class);
+  private final GraphProvider graphProvider;
+  /**
+   * The topology shared by all point routers, or {@code null}, if it has not been computed, yet.
+   */
+  private ContractionHierarchyTopology topology;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   */
+  @Inject
+  public ContractionHierarchyPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider
+  ) {
+    this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+  }
+
+  @Override
+  public PointRouter createPointRouter(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphResult graphResult;
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      graphResult = graphProvider.getGraphResult(vehicle);
+    }
+    else {
+      graphResult = graphProvider.getDerivedGraphResult(vehicle, pointsToExclude, pathsToExclude);
+    }
+
+    PointRouter router = createPointRouter(graphResult);
+
+    LOG.debug(
+        "Created point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  @Override
+  public PointRouter createGeneralPointRouter(
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphResult graphResult;
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      graphResult = graphProvider.getGeneralGraphResult();
+    }
+    else {
+      graphResult = graphProvider.getDerivedGeneralGraphResult(pointsToExclude, pathsToExclude);
+    }
+
+    PointRouter router = createPointRouter(graphResult);
+
+    LOG.debug(
+        "Created a general point router in {} milliseconds.",
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  @Override
+  public PointRouter updatePointRouter(
+      @Nonnull
+      PointRouter pointRouter,
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Path> paths
+  ) {
+    requireNonNull(pointRouter, "pointRouter");
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(paths, "paths");
+
+    if (!(pointRouter instanceof ContractionHierarchyPointRouter)) {
+      return null;
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphResult graphResult = graphProvider.getGraphResult(vehicle);
+    PointRouter router = createPointRouter(
+        graphResult,
+        ((ContractionHierarchyPointRouter) pointRouter).getHierarchy().getGraph()
+            .withUpdatedPaths(graphResult.getGraph(), paths)
+    );
+
+    LOG.debug(
+        "Updated point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  private PointRouter createPointRouter(GraphResult graphResult) {
+    return createPointRouter(graphResult, CsrGraph.fromGraph(graphResult.getGraph()));
+  }
+
+  private PointRouter createPointRouter(GraphResult graphResult, CsrGraph graph) {
+    Set<Point> points = new HashSet<>(graphResult.getPointBase());
+    points.removeAll(graphResult.getExcludedPoints());
+
+    return new ContractionHierarchyPointRouter(customize(graphResult, graph), points);
+  }
+
+  private synchronized ContractionHierarchy customize(GraphResult graphResult, CsrGraph graph) {
+    if (topology != null) {
+      ContractionHierarchy hierarchy = ContractionHierarchy.customize(topology, graph);
+      if (hierarchy != null) {
+        return hierarchy;
+      }
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+    topology = ContractionHierarchyTopology.build(
+        graphResult.getPointBase(),
+        graphResult.getPathBase()
+    );
+    LOG.debug(
+        "Computed contraction hierarchy topology with {} vertices and {} arcs in {} milliseconds.",
+        topology.getVertexCount(),
+        topology.getArcCount(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return requireNonNull(
+        ContractionHierarchy.customize(topology, graph),
+        "Routing graph does not match the topology computed for it"
+    );
+  }
+}
@@ -0,0 +1,287 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.ch;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * The metric-independent part of a (customizable) contraction hierarchy.
+ * <p>
+ * The topology is computed from a plant model's points and paths only, regardless of path
+ * directions, properties or locks. Vertices are contracted in an order determined by the minimum
+ * degree heuristic, and every vertex is connected to all of its neighbours at the time of its
+ * contraction via an arc to the respective higher-ranked vertex. The resulting arcs are a superset
+ * of all shortcuts needed for <em>any</em> edge weights, so that the edge weights of a routing
+ * graph can be applied to the topology by means of a (comparatively cheap) customization via
+ * {@link ContractionHierarchy#customize(ContractionHierarchyTopology,
+ * org.opentcs.strategies.basic.routing.csr.CsrGraph)}.
+ * </p>
+ */
+public final class ContractionHierarchyTopology {
+
+  /**
+   * The vertices' names, indexed by vertex.
+   */
+  private final String[] vertexNames;
+  /**
+   * The vertices' indices, mapped by vertex name.
+   */
+  private final Map<String, Integer> vertexIndices;
+  /**
+   * The rank (i.e. the position in the contraction order) of each vertex.
+   */
+  private final int[] ranks;
+  /**
+   * The index of each vertex's first upward arc, with an additional entry marking the end of the
+   * last vertex's arcs.
+   */
+  private final int[] firstArcs;
+  /**
+   * The higher-ranked vertex of each arc. The arcs of every vertex are sorted by the rank of
+   * their higher-ranked vertex.
+   */
+  private final int[] arcHeads;
+  /**
+   * The parent of each vertex in the elimination tree (i.e. its lowest-ranked upward neighbour),
+   * or -1 for roots.
+   */
+  private final int[] parents;
+
+  private ContractionHierarchyTopology(
+      String[] vertexNames,
+      Map<String, Integer> vertexIndices,
+      int[] ranks,
+      int[] firstArcs,
+      int[] arcHeads
+  ) {
+    this.vertexNames = vertexNames;
+    this.vertexIndices = vertexIndices;
+    this.ranks = ranks;
+    this.firstArcs = firstArcs;
+    this.arcHeads = arcHeads;
+    this.parents = new int[vertexNames.length];
+    for (int vertex = 0; vertex < vertexNames.length; vertex++) {
+      parents[vertex] = firstArcs[vertex] < firstArcs[vertex + 1]
+          ? arcHeads[firstArcs[vertex]]
+          : -1;
+    }
+  }
+
+  /**
+   * Computes the topology for the given points and paths.
+   *
+   * @param points The points.
+   * @param paths The paths.
+   * @return The topology.
+   */
+  @Nonnull
+  public static ContractionHierarchyTopology build(
+      @Nonnull
+      Collection<Point> points,
+      @Nonnull
+      Collection<Path> paths
+  ) {
+    requireNonNull(points, "points");
+    requireNonNull(paths, "paths");
+
+    String[] vertexNames = new String[points.size()];
+    Map<String, Integer> vertexIndices = new HashMap<>();
+    for (Point point : points) {
+      vertexNames[vertexIndices.size()] = point.getName();
+      vertexIndices.put(point.getName(), vertexIndices.size());
+    }
+
+    List<Set<Integer>> neighbours = new ArrayList<>(vertexNames.length);
+    for (int vertex = 0; vertex < vertexNames.length; vertex++) {
+      neighbours.add(new HashSet<>());
+    }
+    for (Path path : paths) {
+      Integer source = vertexIndices.get(path.getSourcePoint().getName());
+      Integer dest = vertexIndices.get(path.getDestinationPoint().getName());
+      if (source != null && dest != null && !source.equals(dest)) {
+        neighbours.get(source).add(dest);
+        neighbours.get(dest).add(source);
+      }
+    }
+
+    // Contract vertices in order of their (current) degree, connecting the remaining neighbours
+    // of every contracted vertex with each other.
+    int[] ranks = new int[vertexNames.length];
+    Arrays.fill(ranks, -1);
+    int[][] upwardNeighbours = new int[vertexNames.length][];
+    PriorityQueue<long[]> queue = new PriorityQueue<>(
+        (entry1, entry2) -> entry1[0] != entry2[0]
+            ? Long.compare(entry1[0], entry2[0])
+            : Long.compare(entry1[1], entry2[1])
+    );
+    for (int vertex = 0; vertex < vertexNames.length; vertex++) {
+      queue.add(new long[]{neighbours.get(vertex).size(), vertex});
+    }
+    int nextRank = 0;
+    while (!queue.isEmpty()) {
+      long[] entry = queue.poll();
+      int vertex = (int) entry[1];
+      if (ranks[vertex] >= 0 || entry[0] != neighbours.get(vertex).size()) {
+        continue;
+      }
+
+      ranks[vertex] = nextRank++;
+      Set<Integer> vertexNeighbours = neighbours.get(vertex);
+      upwardNeighbours[vertex] = vertexNeighbours.stream().mapToInt(Integer::intValue).toArray();
+      for (int neighbour : upwardNeighbours[vertex]) {
+        Set<Integer> neighbourNeighbours = neighbours.get(neighbour);
+        neighbourNeighbours.remove(vertex);
+        for (int otherNeighbour : upwardNeighbours[vertex]) {
+          if (otherNeighbour != neighbour) {
+            neighbourNeighbours.add(otherNeighbour);
+          }
+        }
+        queue.add(new long[]{neighbourNeighbours.size(), neighbour});
+      }
+      vertexNeighbours.clear();
+    }
+
+    int[] firstArcs = new int[vertexNames.length + 1];
+    for (int vertex = 0; vertex < vertexNames.length; vertex++) {
+      firstArcs[vertex + 1] = firstArcs[vertex] + upwardNeighbours[vertex].length;
+    }
+    int[] arcHeads = new int[firstArcs[vertexNames.length]];
+    for (int vertex = 0; vertex < vertexNames.length; vertex++) {
+      int[] heads = Arrays.stream(upwardNeighbours[vertex])
+          .boxed()
+          .sorted((head1, head2) -> Integer.compare(ranks[head1], ranks[head2]))
+          .mapToInt(Integer::intValue)
+          .toArray();
+      System.arraycopy(heads, 0, arcHeads, firstArcs[vertex], heads.length);
+    }
+
+    return new ContractionHierarchyTopology(
+        vertexNames,
+        vertexIndices,
+        ranks,
+        firstArcs,
+        arcHeads
+    );
+  }
+
+  /**
+   * Returns the number of vertices.
+   *
+   * @return The number of vertices.
+   */
+  public int getVertexCount() {
+    return vertexNames.length;
+  }
+
+  /**
+   * Returns the number of arcs.
+   *
+   * @return The number of arcs.
+   */
+  public int getArcCount() {
+    return arcHeads.length;
+  }
+
+  /**
+   * Returns the index of the vertex with the given name.
+   *
+   * @param vertexName The vertex's name.
+   * @return The index of the vertex with the given name, or -1, if there is no such vertex.
+   */
+  public int getVertexIndex(String vertexName) {
+    Integer index = vertexIndices.get(vertexName);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the name of the vertex with the given index.
+   *
+   * @param vertex The vertex's index.
+   * @return The name of the vertex with the given index.
+   */
+  @Nonnull
+  public String getVertexName(int vertex) {
+    return vertexNames[vertex];
+  }
+
+  /**
+   * Returns the rank of the given vertex.
+   *
+   * @param vertex The vertex's index.
+   * @return The rank of the given vertex.
+   */
+  public int getRank(int vertex) {
+    return ranks[vertex];
+  }
+
+  /**
+   * Returns the index of the given vertex's first upward arc.
+   *
+   * @param vertex The vertex's index, or {@link #getVertexCount()} to get the end of the last
+   * vertex's upward arcs.
+   * @return The index of the given vertex's first upward arc.
+   */
+  public int getFirstArc(int vertex) {
+    return firstArcs[vertex];
+  }
+
+  /**
+   * Returns the higher-ranked vertex of the given arc.
+   *
+   * @param arc The arc's index.
+   * @return The higher-ranked vertex of the given arc.
+   */
+  public int getArcHead(int arc) {
+    return arcHeads[arc];
+  }
+
+  /**
+   * Returns the parent of the given vertex in the elimination tree.
+   *
+   * @param vertex The vertex's index.
+   * @return The parent of the given vertex, or -1, if the vertex is a root.
+   */
+  public int getParent(int vertex) {
+    return parents[vertex];
+  }
+
+  /**
+   * Returns the arc connecting the given vertices.
+   *
+   * @param lower The lower-ranked vertex.
+   * @param higher The higher-ranked vertex.
+   * @return The index of the arc connecting the given vertices, or -1, if there is no such arc.
+   */
+  public int findArc(int lower, int higher) {
+    int low = firstArcs[lower];
+    int high = firstArcs[lower + 1] - 1;
+    int higherRank = ranks[higher];
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int middleRank = ranks[arcHeads[middle]];
+      if (middleRank < higherRank) {
+        low = middle + 1;
+      }
+      else if (middleRank > higherRank) {
+        high = middle - 1;
+      }
+      else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+}
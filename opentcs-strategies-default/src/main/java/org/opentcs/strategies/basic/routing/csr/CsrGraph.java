@@ -0,0 +1,317 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.csr;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+
+/**
+ * An immutable, compact representation of a weighted routing graph.
+ * <p>
+ * Vertices are identified by dense indices (0 to {@link #getVertexCount()} - 1), and the outgoing
+ * edges of all vertices are stored in primitive arrays in compressed sparse row (CSR) format: The
+ * outgoing edges of vertex {@code v} are the edges with indices from {@link #getFirstEdge(int)
+ * getFirstEdge(v)} (inclusive) to {@link #getFirstEdge(int) getFirstEdge(v + 1)} (exclusive).
+ * </p>
+ */
+public final class CsrGraph {
+
+  /**
+   * The vertices' names, indexed by vertex.
+   */
+  private final String[] vertexNames;
+  /**
+   * The vertices' indices, mapped by vertex name.
+   */
+  private final Map<String, Integer> vertexIndices;
+  /**
+   * The index of each vertex's first outgoing edge, with an additional entry marking the end of
+   * the last vertex's edges.
+   */
+  private final int[] firstEdges;
+  /**
+   * The source vertex of each edge.
+   */
+  private final int[] edgeSources;
+  /**
+   * The target vertex of each edge.
+   */
+  private final int[] edgeTargets;
+  /**
+   * The weight of each edge.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The original edge of each edge.
+   */
+  private final Edge[] edges;
+
+  private CsrGraph(
+      String[] vertexNames,
+      Map<String, Integer> vertexIndices,
+      int[] firstEdges,
+      int[] edgeSources,
+      int[] edgeTargets,
+      double[] edgeWeights,
+      Edge[] edges
+  ) {
+    this.vertexNames = vertexNames;
+    this.vertexIndices = vertexIndices;
+    this.firstEdges = firstEdges;
+    this.edgeSources = edgeSources;
+    this.edgeTargets = edgeTargets;
+    this.edgeWeights = edgeWeights;
+    this.edges = edges;
+  }
+
+  /**
+   * Creates a compact representation of the given graph.
+   *
+   * @param graph The graph.
+   * @return The compact representation of the given graph.
+   */
+  @Nonnull
+  public static CsrGraph fromGraph(
+      @Nonnull
+      Graph<String, Edge> graph
+  ) {
+    requireNonNull(graph, "graph");
+
+    int vertexCount = graph.vertexSet().size();
+    String[] vertexNames = new String[vertexCount];
+    Map<String, Integer> vertexIndices = new HashMap<>();
+    for (String vertex : graph.vertexSet()) {
+      vertexNames[vertexIndices.size()] = vertex;
+      vertexIndices.put(vertex, vertexIndices.size());
+    }
+
+    int[] firstEdges = new int[vertexCount + 1];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      firstEdges[vertex + 1] = firstEdges[vertex] + graph.outDegreeOf(vertexNames[vertex]);
+    }
+
+    int edgeCount = firstEdges[vertexCount];
+    int[] edgeSources = new int[edgeCount];
+    int[] edgeTargets = new int[edgeCount];
+    double[] edgeWeights = new double[edgeCount];
+    Edge[] edges = new Edge[edgeCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      int edgeIndex = firstEdges[vertex];
+      for (Edge edge : graph.outgoingEdgesOf(vertexNames[vertex])) {
+        edgeSources[edgeIndex] = vertex;
+        edgeTargets[edgeIndex] = vertexIndices.get(graph.getEdgeTarget(edge));
+        edgeWeights[edgeIndex] = graph.getEdgeWeight(edge);
+        edges[edgeIndex] = edge;
+        edgeIndex++;
+      }
+    }
+
+    return new CsrGraph(
+        vertexNames,
+        vertexIndices,
+        firstEdges,
+        edgeSources,
+        edgeTargets,
+        edgeWeights,
+        edges
+    );
+  }
+
+  /**
+   * Creates a compact representation of the given graph, which differs from the graph this one was
+   * created from only in the edges of the given paths.
+   * <p>
+   * Only the outgoing edges of the given paths' end points are taken from the given graph, while
+   * the outgoing edges of all other vertices are copied from this graph. If the given graph does
+   * not contain the same vertices as this one, it is translated completely.
+   * </p>
+   *
+   * @param graph The graph.
+   * @param paths The paths whose edges have changed.
+   * @return The compact representation of the given graph.
+   */
+  @Nonnull
+  public CsrGraph withUpdatedPaths(
+      @Nonnull
+      Graph<String, Edge> graph,
+      @Nonnull
+      Collection<Path> paths
+  ) {
+    requireNonNull(graph, "graph");
+    requireNonNull(paths, "paths");
+
+    int vertexCount = getVertexCount();
+    if (graph.vertexSet().size() != vertexCount) {
+      return fromGraph(graph);
+    }
+
+    boolean[] updatedVertices = new boolean[vertexCount];
+    for (Path path : paths) {
+      if (!markVertex(path.getSourcePoint().getName(), graph, updatedVertices)
+          || !markVertex(path.getDestinationPoint().getName(), graph, updatedVertices)) {
+        return fromGraph(graph);
+      }
+    }
+
+    int[] newFirstEdges = new int[vertexCount + 1];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      newFirstEdges[vertex + 1] = newFirstEdges[vertex]
+          + (updatedVertices[vertex]
+              ? graph.outDegreeOf(vertexNames[vertex])
+              : firstEdges[vertex + 1] - firstEdges[vertex]);
+    }
+
+    int edgeCount = newFirstEdges[vertexCount];
+    int[] newEdgeSources = new int[edgeCount];
+    int[] newEdgeTargets = new int[edgeCount];
+    double[] newEdgeWeights = new double[edgeCount];
+    Edge[] newEdges = new Edge[edgeCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      int edgeIndex = newFirstEdges[vertex];
+      if (!updatedVertices[vertex]) {
+        int length = firstEdges[vertex + 1] - firstEdges[vertex];
+        System.arraycopy(edgeSources, firstEdges[vertex], newEdgeSources, edgeIndex, length);
+        System.arraycopy(edgeTargets, firstEdges[vertex], newEdgeTargets, edgeIndex, length);
+        System.arraycopy(edgeWeights, firstEdges[vertex], newEdgeWeights, edgeIndex, length);
+        System.arraycopy(edges, firstEdges[vertex], newEdges, edgeIndex, length);
+        continue;
+      }
+
+      for (Edge edge : graph.outgoingEdgesOf(vertexNames[vertex])) {
+        int target = getVertexIndex(graph.getEdgeTarget(edge));
+        if (target < 0) {
+          return fromGraph(graph);
+        }
+        newEdgeSources[edgeIndex] = vertex;
+        newEdgeTargets[edgeIndex] = target;
+        newEdgeWeights[edgeIndex] = graph.getEdgeWeight(edge);
+        newEdges[edgeIndex] = edge;
+        edgeIndex++;
+      }
+    }
+
+    return new CsrGraph(
+        vertexNames,
+        vertexIndices,
+        newFirstEdges,
+        newEdgeSources,
+        newEdgeTargets,
+        newEdgeWeights,
+        newEdges
+    );
+  }
+
+  /**
+   * Returns the number of vertices in this graph.
+   *
+   * @return The number of vertices in this graph.
+   */
+  public int getVertexCount() {
+    return vertexNames.length;
+  }
+
+  /**
+   * Returns the number of edges in this graph.
+   *
+   * @return The number of edges in this graph.
+   */
+  public int getEdgeCount() {
+    return edges.length;
+  }
+
+  /**
+   * Returns the index of the vertex with the given name.
+   *
+   * @param vertexName The vertex's name.
+   * @return The index of the vertex with the given name, or -1, if this graph does not contain
+   * such a vertex.
+   */
+  public int getVertexIndex(
+      @Nullable
+      String vertexName
+  ) {
+    Integer index = vertexIndices.get(vertexName);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the name of the vertex with the given index.
+   *
+   * @param vertex The vertex's index.
+   * @return The name of the vertex with the given index.
+   */
+  @Nonnull
+  public String getVertexName(int vertex) {
+    return vertexNames[vertex];
+  }
+
+  /**
+   * Returns the index of the given vertex's first outgoing edge.
+   *
+   * @param vertex The vertex's index, or {@link #getVertexCount()} to get the end of the last
+   * vertex's outgoing edges.
+   * @return The index of the given vertex's first outgoing edge.
+   */
+  public int getFirstEdge(int vertex) {
+    return firstEdges[vertex];
+  }
+
+  /**
+   * Returns the source vertex of the given edge.
+   *
+   * @param edge The edge's index.
+   * @return The source vertex of the given edge.
+   */
+  public int getEdgeSource(int edge) {
+    return edgeSources[edge];
+  }
+
+  /**
+   * Returns the target vertex of the given edge.
+   *
+   * @param edge The edge's index.
+   * @return The target vertex of the given edge.
+   */
+  public int getEdgeTarget(int edge) {
+    return edgeTargets[edge];
+  }
+
+  /**
+   * Returns the weight of the given edge.
+   *
+   * @param edge The edge's index.
+   * @return The weight of the given edge.
+   */
+  public double getEdgeWeight(int edge) {
+    return edgeWeights[edge];
+  }
+
+  /**
+   * Returns the original edge for the given edge index.
+   *
+   * @param edge The edge's index.
+   * @return The original edge.
+   */
+  @Nonnull
+  public Edge getEdge(int edge) {
+    return edges[edge];
+  }
+
+  private boolean markVertex(String vertexName, Graph<String, Edge> graph, boolean[] vertices) {
+    int vertex = getVertexIndex(vertexName);
+    if (vertex >= 0) {
+      vertices[vertex] = true;
+      return true;
+    }
+    // A vertex unknown to this graph is fine as long as the given graph does not contain it either.
+    return !graph.containsVertex(vertexName);
+  }
+}
@@ -0,0 +1,540 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.csr;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.CongestionHeatMap;
+import org.opentcs.strategies.basic.routing.PointRoute;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.ShortestPathTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points on a {@link CsrGraph}.
+ * <p>
+ * If given a {@link CongestionHeatMap}, its penalties are added to the edges' weights.
+ * They are applied anew whenever the heat map's version changes, without the graph having to be
+ * translated again.
+ * Point routers for single vehicles (see {@link #forVehicle(Vehicle)}) do not add the penalties
+ * caused by the vehicle's own allocations and claims.
+ * </p>
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ */
+public class CsrPointRouter
+    implements
+      PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CsrPointRouter.class);
+  /**
+   * The graph to compute routes on.
+   */
+  private final CsrGraph graph;
+  /**
+   * The points, indexed by the vertices representing them.
+   */
+  private final Point[] points;
+  /**
+   * The search used for computing routes.
+   */
+  private final CsrShortestPathSearch search;
+  /**
+   * Provides penalties for congested points and paths, or {@code null}.
+   */
+  private final CongestionHeatMap congestionHeatMap;
+  /**
+   * The penalties currently added to the edges' weights, indexed by edge, or {@code null}.
+   */
+  private final double[] edgePenalties;
+  /**
+   * The version of the congestion heat map the current penalties were taken from.
+   */
+  private long edgePenaltiesVersion = -1;
+  /**
+   * The edges with penalties, mapped to the names of the points and paths they lead to or belong
+   * to.
+   */
+  private Map<String, List<Integer>> penalizedEdgesByResource = Map.of();
+
+  /**
+   * Creates a new instance that computes routes using Dijkstra's algorithm.
+   *
+   * @param graph The graph to compute routes on.
+   * @param points The points represented by the graph's vertices.
+   */
+  public CsrPointRouter(
+      @Nonnull
+      CsrGraph graph,
+      @Nonnull
+      Collection<Point> points
+  ) {
+    this(graph, points, null);
+  }
+
+  /**
+   * Creates a new instance that computes routes using the A* algorithm with the given heuristic.
+   *
+   * @param graph The graph to compute routes on.
+   * @param points The points represented by the graph's vertices.
+   * @param heuristic The heuristic to use, or {@code null} to use Dijkstra's algorithm.
+   */
+  public CsrPointRouter(
+      @Nonnull
+      CsrGraph graph,
+      @Nonnull
+      Collection<Point> points,
+      @Nullable
+      CsrShortestPathSearch.Heuristic heuristic
+  ) {
+    this(graph, points, heuristic, null);
+  }
+
+  /**
+   * Creates a new instance that computes routes using the A* algorithm with the given heuristic,
+   * adding the penalties provided by the given congestion heat map to the edges' weights.
+   *
+   * @param graph The graph to compute routes on.
+   * @param points The points represented by the graph's vertices.
+   * @param heuristic The heuristic to use, or {@code null} to use Dijkstra's algorithm.
+   * @param congestionHeatMap Provides penalties for congested points and paths, or {@code null}.
+   */
+  public CsrPointRouter(
+      @Nonnull
+      CsrGraph graph,
+      @Nonnull
+      Collection<Point> points,
+      @Nullable
+      CsrShortestPathSearch.Heuristic heuristic,
+      @Nullable
+      CongestionHeatMap congestionHeatMap
+  ) {
+    this.graph = requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+
+    this.points = new Point[graph.getVertexCount()];
+    for (Point point : points) {
+      int vertex = graph.getVertexIndex(point.getName());
+      if (vertex >= 0) {
+        this.points[vertex] = point;
+      }
+    }
+    this.congestionHeatMap = congestionHeatMap;
+    this.edgePenalties = congestionHeatMap == null ? null : new double[graph.getEdgeCount()];
+    this.search = new CsrShortestPathSearch(
+        graph,
+        heuristic == null ? (vertex, target) -> 0.0 : heuristic,
+        edgePenalties
+    );
+  }
+
+  /**
+   * Returns the graph this point router computes routes on.
+   *
+   * @return The graph this point router computes routes on.
+   */
+  @Nonnull
+  public CsrGraph getGraph() {
+    return graph;
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    return computeRouteSteps(srcPoint, destPoint, null);
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    return computeCosts(srcPointRef, destPointRef, null);
+  }
+
+  @Override
+  public PointRoute getRoute(Point srcPoint, Point destPoint) {
+    return computeRoute(srcPoint, destPoint, null);
+  }
+
+  @Override
+  public ShortestPathTree getShortestPathTree(Point srcPoint) {
+    return computeShortestPathTree(srcPoint, null);
+  }
+
+  @Override
+  public PointRouter forVehicle(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    return congestionHeatMap == null ? this : new VehiclePointRouter(vehicle.getName());
+  }
+
+  private synchronized List<Route.Step> computeRouteSteps(
+      Point srcPoint,
+      Point destPoint,
+      @Nullable
+      String vehicleName
+  ) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    long timeBefore = System.currentTimeMillis();
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int destVertex = graph.getVertexIndex(destPoint.getName());
+    List<Route.Step> result = withPenaltiesFor(vehicleName, () -> {
+      if (!search(srcPoint.getName(), destVertex)) {
+        return null;
+      }
+      return translateToSteps(destVertex, search::getPredecessorEdge);
+    });
+
+    LOG.debug(
+        "Looking up route from {} to {} took {} milliseconds.",
+        srcPoint.getName(),
+        destPoint.getName(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    return result;
+  }
+
+  private synchronized long computeCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef,
+      @Nullable
+      String vehicleName
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int destVertex = graph.getVertexIndex(destPointRef.getName());
+    return withPenaltiesFor(vehicleName, () -> {
+      if (!search(srcPointRef.getName(), destVertex)) {
+        return INFINITE_COSTS;
+      }
+      return (long) search.getDistance(destVertex);
+    });
+  }
+
+  private synchronized PointRoute computeRoute(
+      Point srcPoint,
+      Point destPoint,
+      @Nullable
+      String vehicleName
+  ) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return PointRoute.of(0, List.of());
+    }
+
+    int destVertex = graph.getVertexIndex(destPoint.getName());
+    return withPenaltiesFor(vehicleName, () -> {
+      if (!search(srcPoint.getName(), destVertex)) {
+        return PointRoute.noRoute();
+      }
+      return PointRoute.of(
+          (long) search.getDistance(destVertex),
+          translateToSteps(destVertex, search::getPredecessorEdge)
+      );
+    });
+  }
+
+  private synchronized ShortestPathTree computeShortestPathTree(
+      Point srcPoint,
+      @Nullable
+      String vehicleName
+  ) {
+    requireNonNull(srcPoint, "srcPoint");
+
+    long timeBefore = System.currentTimeMillis();
+    double[] distances = new double[graph.getVertexCount()];
+    int[] predecessorEdges = new int[graph.getVertexCount()];
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+    int srcVertex = graph.getVertexIndex(srcPoint.getName());
+    if (srcVertex >= 0) {
+      withPenaltiesFor(vehicleName, () -> {
+        search.searchAll(srcVertex);
+        return null;
+      });
+      for (int vertex = 0; vertex < distances.length; vertex++) {
+        distances[vertex] = search.getDistance(vertex);
+        predecessorEdges[vertex] = search.getPredecessorEdge(vertex);
+      }
+    }
+
+    LOG.debug(
+        "Computing shortest path tree from {} took {} milliseconds.",
+        srcPoint.getName(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    return new CsrShortestPathTree(srcPoint, distances, predecessorEdges, vehicleName);
+  }
+
+  private boolean search(String srcPointName, int destVertex) {
+    int srcVertex = graph.getVertexIndex(srcPointName);
+    if (srcVertex < 0 || destVertex < 0) {
+      return false;
+    }
+
+    return search.search(srcVertex, destVertex);
+  }
+
+  /**
+   * Computes a result with the penalties for the given vehicle applied to the edges' weights, i.e.
+   * without the penalties caused by the vehicle's own allocations and claims.
+   *
+   * @param vehicleName The name of the vehicle, or {@code null} to apply all penalties.
+   * @param computation Computes the result.
+   * @return The result.
+   */
+  private <T> T withPenaltiesFor(
+      @Nullable
+      String vehicleName,
+      Supplier<T> computation
+  ) {
+    updateEdgePenalties();
+    if (vehicleName == null || congestionHeatMap == null) {
+      return computation.get();
+    }
+
+    Map<Integer, Double> replacedPenalties = new HashMap<>();
+    for (String resource : congestionHeatMap.getCongestedResources(vehicleName)) {
+      for (int edge : penalizedEdgesByResource.getOrDefault(resource, List.of())) {
+        if (!replacedPenalties.containsKey(edge)) {
+          replacedPenalties.put(edge, edgePenalties[edge]);
+          edgePenalties[edge] = congestionHeatMap.getPenalty(graph.getEdge(edge), vehicleName);
+        }
+      }
+    }
+
+    try {
+      return computation.get();
+    }
+    finally {
+      replacedPenalties.forEach((edge, penalty) -> edgePenalties[edge] = penalty);
+    }
+  }
+
+  private void updateEdgePenalties() {
+    if (congestionHeatMap == null || congestionHeatMap.getVersion() == edgePenaltiesVersion) {
+      return;
+    }
+
+    edgePenaltiesVersion = congestionHeatMap.getVersion();
+    Map<String, List<Integer>> penalizedEdges = new HashMap<>();
+    for (int edge = 0; edge < edgePenalties.length; edge++) {
+      Edge graphEdge = graph.getEdge(edge);
+      edgePenalties[edge] = congestionHeatMap.getPenalty(graphEdge);
+      if (edgePenalties[edge] > 0) {
+        penalizedEdges.computeIfAbsent(graphEdge.getPath().getName(), name -> new ArrayList<>())
+            .add(edge);
+        penalizedEdges.computeIfAbsent(graphEdge.getTargetVertex(), name -> new ArrayList<>())
+            .add(edge);
+      }
+    }
+    penalizedEdgesByResource = penalizedEdges;
+  }
+
+  private double getEdgeCosts(int edge) {
+    return edgePenalties == null
+        ? graph.getEdgeWeight(edge)
+        : graph.getEdgeWeight(edge) + edgePenalties[edge];
+  }
+
+  private List<Route.Step> translateToSteps(int destVertex, IntUnaryOperator predecessorEdges) {
+    List<Integer> edgeIndices = new ArrayList<>();
+    int predecessorEdge = predecessorEdges.applyAsInt(destVertex);
+    while (predecessorEdge >= 0) {
+      edgeIndices.add(predecessorEdge);
+      predecessorEdge = predecessorEdges.applyAsInt(graph.getEdgeSource(predecessorEdge));
+    }
+    Collections.reverse(edgeIndices);
+
+    List<Route.Step> result = new ArrayList<>(edgeIndices.size());
+    int routeIndex = 0;
+    for (int edgeIndex : edgeIndices) {
+      Edge edge = graph.getEdge(edgeIndex);
+      Point sourcePoint = points[graph.getEdgeSource(edgeIndex)];
+      Point destPoint = points[graph.getEdgeTarget(edgeIndex)];
+
+      result.add(
+          new Route.Step(
+              edge.getPath(),
+              sourcePoint,
+              destPoint,
+              orientation(edge, sourcePoint),
+              routeIndex,
+              (long) getEdgeCosts(edgeIndex)
+          )
+      );
+      routeIndex++;
+    }
+
+    return result;
+  }
+
+  private Vehicle.Orientation orientation(Edge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+
+  /**
+   * The shortest routes from one source point, computed with a single search.
+   */
+  private class CsrShortestPathTree
+      implements
+        ShortestPathTree {
+
+    /**
+     * The source point.
+     */
+    private final Point srcPoint;
+    /**
+     * The distance of each vertex from the source vertex.
+     */
+    private final double[] distances;
+    /**
+     * The edge via which each vertex was reached from the source vertex.
+     */
+    private final int[] predecessorEdges;
+    /**
+     * The name of the vehicle the tree was computed for, or {@code null}.
+     */
+    private final String vehicleName;
+
+    CsrShortestPathTree(
+        Point srcPoint,
+        double[] distances,
+        int[] predecessorEdges,
+        @Nullable
+        String vehicleName
+    ) {
+      this.srcPoint = srcPoint;
+      this.distances = distances;
+      this.predecessorEdges = predecessorEdges;
+      this.vehicleName = vehicleName;
+    }
+
+    @Override
+    public Point getSourcePoint() {
+      return srcPoint;
+    }
+
+    @Override
+    public long getCosts(Point destPoint) {
+      requireNonNull(destPoint, "destPoint");
+
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        return 0;
+      }
+
+      int destVertex = graph.getVertexIndex(destPoint.getName());
+      if (destVertex < 0 || distances[destVertex] == Double.POSITIVE_INFINITY) {
+        return INFINITE_COSTS;
+      }
+      return (long) distances[destVertex];
+    }
+
+    @Override
+    public PointRoute getRoute(Point destPoint) {
+      requireNonNull(destPoint, "destPoint");
+
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        return PointRoute.of(0, List.of());
+      }
+
+      int destVertex = graph.getVertexIndex(destPoint.getName());
+      if (destVertex < 0 || distances[destVertex] == Double.POSITIVE_INFINITY) {
+        return PointRoute.noRoute();
+      }
+      synchronized (CsrPointRouter.this) {
+        return PointRoute.of(
+            (long) distances[destVertex],
+            withPenaltiesFor(
+                vehicleName,
+                () -> translateToSteps(destVertex, vertex -> predecessorEdges[vertex])
+            )
+        );
+      }
+    }
+  }
+
+  /**
+   * Computes routes for a single vehicle, without the penalties caused by the vehicle's own
+   * allocations and claims.
+   */
+  private class VehiclePointRouter
+      implements
+        PointRouter {
+
+    /**
+     * The name of the vehicle.
+     */
+    private final String vehicleName;
+
+    VehiclePointRouter(String vehicleName) {
+      this.vehicleName = requireNonNull(vehicleName, "vehicleName");
+    }
+
+    @Override
+    public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+      return computeRouteSteps(srcPoint, destPoint, vehicleName);
+    }
+
+    @Override
+    public long getCosts(
+        TCSObjectReference<Point> srcPointRef,
+        TCSObjectReference<Point> destPointRef
+    ) {
+      return computeCosts(srcPointRef, destPointRef, vehicleName);
+    }
+
+    @Override
+    public PointRoute getRoute(Point srcPoint, Point destPoint) {
+      return computeRoute(srcPoint, destPoint, vehicleName);
+    }
+
+    @Override
+    public ShortestPathTree getShortestPathTree(Point srcPoint) {
+      return computeShortestPathTree(srcPoint, vehicleName);
+    }
+
+    @Override
+    public PointRouter forVehicle(Vehicle vehicle) {
+      return CsrPointRouter.this.forVehicle(vehicle);
+    }
+  }
+}
@@ -0,0 +1,199 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.csr;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.CongestionHeatMap;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link CsrPointRouter} instances.
+ * <p>
+ * The routing graphs are provided by the {@link GraphProvider} (so that edge evaluation and the
+ * exclusion of points and paths work the same as with the other point router factories) and are
+ * translated to {@link CsrGraph}s for computing routes.
+ * </p>
+ * <p>
+ * With {@link ShortestPathConfiguration.Algorithm#ASTAR} configured, the created point routers use
+ * the A* algorithm with a {@link EuclideanHeuristic}. For graphs in which the points' coordinates
+ * do not provide any information about the edge weights, they fall back to Dijkstra's algorithm.
+ * </p>
+ * <p>
+ * If the {@link CongestionHeatMap} is enabled, the created point routers add its penalties to the
+ * edges' weights.
+ * </p>
+ */
+public class CsrPointRouterFactory
+    implements
+      PointRouterFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CsrPointRouterFactory.class);
+  private final GraphProvider graphProvider;
+  private final ShortestPathConfiguration configuration;
+  private final CongestionHeatMap congestionHeatMap;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   * @param configuration The configuration.
+   * @param congestionHeatMap Provides penalties for congested points and paths.
+   */
+  @Inject
+  public CsrPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider,
+      @Nonnull
+      ShortestPathConfiguration configuration,
+      @Nonnull
+      CongestionHeatMap congestionHeatMap
+  ) {
+    this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.congestionHeatMap = requireNonNull(congestionHeatMap, "congestionHeatMap");
+  }
+
+  @Override
+  public PointRouter createPointRouter(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphResult graphResult;
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      graphResult = graphProvider.getGraphResult(vehicle);
+    }
+    else {
+      graphResult = graphProvider.getDerivedGraphResult(vehicle, pointsToExclude, pathsToExclude);
+    }
+
+    PointRouter router = createPointRouter(graphResult);
+
+    LOG.debug(
+        "Created point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  @Override
+  public PointRouter createGeneralPointRouter(
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphResult graphResult;
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      graphResult = graphProvider.getGeneralGraphResult();
+    }
+    else {
+      graphResult = graphProvider.getDerivedGeneralGraphResult(pointsToExclude, pathsToExclude);
+    }
+
+    PointRouter router = createPointRouter(graphResult);
+
+    LOG.debug(
+        "Created a general point router in {} milliseconds.",
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  @Override
+  public PointRouter updatePointRouter(
+      @Nonnull
+      PointRouter pointRouter,
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Path> paths
+  ) {
+    requireNonNull(pointRouter, "pointRouter");
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(paths, "paths");
+
+    if (!(pointRouter instanceof CsrPointRouter)) {
+      return null;
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphResult graphResult = graphProvider.getGraphResult(vehicle);
+    PointRouter router = createPointRouter(
+        graphResult,
+        ((CsrPointRouter) pointRouter).getGraph().withUpdatedPaths(graphResult.getGraph(), paths)
+    );
+
+    LOG.debug(
+        "Updated point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  private PointRouter createPointRouter(GraphResult graphResult) {
+    return createPointRouter(graphResult, CsrGraph.fromGraph(graphResult.getGraph()));
+  }
+
+  private PointRouter createPointRouter(GraphResult graphResult, CsrGraph graph) {
+    Set<Point> points = new HashSet<>(graphResult.getPointBase());
+    points.removeAll(graphResult.getExcludedPoints());
+
+    CongestionHeatMap heatMap = congestionHeatMap.isEnabled() ? congestionHeatMap : null;
+    if (configuration.algorithm() != ShortestPathConfiguration.Algorithm.ASTAR) {
+      return new CsrPointRouter(graph, points, null, heatMap);
+    }
+
+    Optional<EuclideanHeuristic> heuristic = EuclideanHeuristic.create(graph, points);
+    if (heuristic.isEmpty()) {
+      LOG.debug(
+          "Point coordinates do not provide a lower bound for the edge weights of {}'s routing "
+              + "graph, falling back to Dijkstra's algorithm.",
+          graphResult.getVehicle().getName()
+      );
+      return new CsrPointRouter(graph, points, null, heatMap);
+    }
+
+    LOG.debug(
+        "Using A* with a heuristic scale of {} for {}'s routing graph.",
+        heuristic.get().getScale(),
+        graphResult.getVehicle().getName()
+    );
+    return new CsrPointRouter(graph, points, heuristic.get(), heatMap);
+  }
+}
@@ -0,0 +1,328 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.csr;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Finds shortest paths in a {@link CsrGraph} using Dijkstra's algorithm or, if given a
+ * {@link Heuristic}, the A* algorithm.
+ * <p>
+ * All data structures needed for a search are allocated once and reused for subsequent searches,
+ * so searches do not allocate any memory. As a consequence, instances of this class are not
+ * thread-safe, and the results of a search are only available until the next search is started.
+ * </p>
+ */
+public class CsrShortestPathSearch {
+
+  /**
+   * The graph to search.
+   */
+  private final CsrGraph graph;
+  /**
+   * Estimates the remaining distance from a vertex to the target vertex.
+   */
+  private final Heuristic heuristic;
+  /**
+   * The penalties added to the weights of the graph's edges, or {@code null}.
+   */
+  private final double[] edgePenalties;
+  /**
+   * The distance of each vertex from the source vertex, valid only for vertices reached in the
+   * current search.
+   */
+  private final double[] distances;
+  /**
+   * The priority of each vertex in the heap, i.e. its distance from the source vertex plus its
+   * estimated distance to the target vertex.
+   */
+  private final double[] priorities;
+  /**
+   * The edge via which each vertex was reached, valid only for vertices reached in the current
+   * search (and -1 for the source vertex).
+   */
+  private final int[] predecessorEdges;
+  /**
+   * The search in which each vertex was reached most recently.
+   */
+  private final int[] reachedInSearch;
+  /**
+   * The search in which each vertex was settled (i.e. its distance became final) most recently.
+   */
+  private final int[] settledInSearch;
+  /**
+   * A binary min-heap of reached but unsettled vertices, ordered by priority.
+   */
+  private final int[] heap;
+  /**
+   * The position of each vertex in the heap, valid only for reached but unsettled vertices.
+   */
+  private final int[] heapPositions;
+  /**
+   * The number of vertices in the heap.
+   */
+  private int heapSize;
+  /**
+   * The number identifying the current search.
+   */
+  private int currentSearch;
+
+  /**
+   * Creates a new instance using Dijkstra's algorithm.
+   *
+   * @param graph The graph to search.
+   */
+  public CsrShortestPathSearch(
+      @Nonnull
+      CsrGraph graph
+  ) {
+    this(graph, (vertex, target) -> 0.0);
+  }
+
+  /**
+   * Creates a new instance using the A* algorithm.
+   *
+   * @param graph The graph to search.
+   * @param heuristic Estimates the remaining distance from a vertex to the target vertex. Must be
+   * consistent, i.e. the estimate for a vertex must not exceed the weight of any of its outgoing
+   * edges plus the estimate for the edge's target vertex.
+   */
+  public CsrShortestPathSearch(
+      @Nonnull
+      CsrGraph graph,
+      @Nonnull
+      Heuristic heuristic
+  ) {
+    this(graph, heuristic, null);
+  }
+
+  /**
+   * Creates a new instance using the A* algorithm, adding the given penalties to the edges'
+   * weights.
+   * <p>
+   * The penalties are read during every search, so they may be changed between searches without
+   * creating a new instance.
+   * </p>
+   *
+   * @param graph The graph to search.
+   * @param heuristic Estimates the remaining distance from a vertex to the target vertex. Must be
+   * consistent with respect to the edges' weights without penalties.
+   * @param edgePenalties The (non-negative) penalties to add to the edges' weights, indexed by
+   * edge, or {@code null}.
+   */
+  public CsrShortestPathSearch(
+      @Nonnull
+      CsrGraph graph,
+      @Nonnull
+      Heuristic heuristic,
+      @Nullable
+      double[] edgePenalties
+  ) {
+    this.graph = requireNonNull(graph, "graph");
+    this.heuristic = requireNonNull(heuristic, "heuristic");
+    checkArgument(
+        edgePenalties == null || edgePenalties.length == graph.getEdgeCount(),
+        "edgePenalties must contain a penalty for every edge"
+    );
+    this.edgePenalties = edgePenalties;
+
+    int vertexCount = graph.getVertexCount();
+    this.distances = new double[vertexCount];
+    this.priorities = new double[vertexCount];
+    this.predecessorEdges = new int[vertexCount];
+    this.reachedInSearch = new int[vertexCount];
+    this.settledInSearch = new int[vertexCount];
+    this.heap = new int[vertexCount];
+    this.heapPositions = new int[vertexCount];
+  }
+
+  /**
+   * Searches for a shortest path from the given source vertex to the given target vertex.
+   *
+   * @param source The source vertex's index.
+   * @param target The target vertex's index.
+   * @return {@code true} if, and only if, a path from the source vertex to the target vertex
+   * exists.
+   */
+  public boolean search(int source, int target) {
+    return run(source, target);
+  }
+
+  /**
+   * Searches for shortest paths from the given source vertex to all vertices reachable from it.
+   * <p>
+   * The heuristic is not used for this search, as there is no target vertex to estimate the
+   * remaining distance to.
+   * </p>
+   *
+   * @param source The source vertex's index.
+   */
+  public void searchAll(int source) {
+    run(source, -1);
+  }
+
+  private boolean run(int source, int target) {
+    startSearch();
+
+    reach(source, 0.0, -1, target);
+    while (heapSize > 0) {
+      int vertex = poll();
+      settledInSearch[vertex] = currentSearch;
+      if (vertex == target) {
+        return true;
+      }
+
+      double vertexDistance = distances[vertex];
+      int lastEdge = graph.getFirstEdge(vertex + 1);
+      for (int edge = graph.getFirstEdge(vertex); edge < lastEdge; edge++) {
+        int neighbour = graph.getEdgeTarget(edge);
+        if (settledInSearch[neighbour] == currentSearch) {
+          continue;
+        }
+
+        double neighbourDistance = vertexDistance + getEdgeWeight(edge);
+        if (reachedInSearch[neighbour] != currentSearch) {
+          reach(neighbour, neighbourDistance, edge, target);
+        }
+        else if (neighbourDistance < distances[neighbour]) {
+          distances[neighbour] = neighbourDistance;
+          priorities[neighbour] = neighbourDistance + estimateDistance(neighbour, target);
+          predecessorEdges[neighbour] = edge;
+          siftUp(heapPositions[neighbour]);
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the distance of the given vertex from the source vertex of the latest search.
+   *
+   * @param vertex The vertex's index.
+   * @return The distance of the given vertex from the source vertex, or
+   * {@link Double#POSITIVE_INFINITY}, if the latest search did not settle the vertex.
+   */
+  public double getDistance(int vertex) {
+    return settledInSearch[vertex] == currentSearch ? distances[vertex] : Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Returns the edge via which the given vertex was reached in the latest search.
+   * <p>
+   * Following the predecessor edges from a vertex settled in the latest search leads back to the
+   * search's source vertex.
+   * </p>
+   *
+   * @param vertex The vertex's index.
+   * @return The index of the edge via which the given vertex was reached, or -1, if the vertex is
+   * the source vertex.
+   */
+  public int getPredecessorEdge(int vertex) {
+    return predecessorEdges[vertex];
+  }
+
+  private double getEdgeWeight(int edge) {
+    return edgePenalties == null
+        ? graph.getEdgeWeight(edge)
+        : graph.getEdgeWeight(edge) + edgePenalties[edge];
+  }
+
+  private void startSearch() {
+    if (currentSearch == Integer.MAX_VALUE) {
+      Arrays.fill(reachedInSearch, 0);
+      Arrays.fill(settledInSearch, 0);
+      currentSearch = 0;
+    }
+    currentSearch++;
+    heapSize = 0;
+  }
+
+  private void reach(int vertex, double distance, int predecessorEdge, int target) {
+    reachedInSearch[vertex] = currentSearch;
+    distances[vertex] = distance;
+    priorities[vertex] = distance + estimateDistance(vertex, target);
+    predecessorEdges[vertex] = predecessorEdge;
+    heap[heapSize] = vertex;
+    heapPositions[vertex] = heapSize;
+    heapSize++;
+    siftUp(heapSize - 1);
+  }
+
+  private double estimateDistance(int vertex, int target) {
+    return target < 0 ? 0.0 : heuristic.estimateDistance(vertex, target);
+  }
+
+  private int poll() {
+    int result = heap[0];
+    heapSize--;
+    if (heapSize > 0) {
+      heap[0] = heap[heapSize];
+      heapPositions[heap[0]] = 0;
+      siftDown(0);
+    }
+    return result;
+  }
+
+  private void siftUp(int position) {
+    int vertex = heap[position];
+    double priority = priorities[vertex];
+    while (position > 0) {
+      int parentPosition = (position - 1) / 2;
+      int parent = heap[parentPosition];
+      if (priorities[parent] <= priority) {
+        break;
+      }
+      heap[position] = parent;
+      heapPositions[parent] = position;
+      position = parentPosition;
+    }
+    heap[position] = vertex;
+    heapPositions[vertex] = position;
+  }
+
+  private void siftDown(int position) {
+    int vertex = heap[position];
+    double priority = priorities[vertex];
+    while (true) {
+      int childPosition = 2 * position + 1;
+      if (childPosition >= heapSize) {
+        break;
+      }
+      if (childPosition + 1 < heapSize
+          && priorities[heap[childPosition + 1]] < priorities[heap[childPosition]]) {
+        childPosition++;
+      }
+      int child = heap[childPosition];
+      if (priority <= priorities[child]) {
+        break;
+      }
+      heap[position] = child;
+      heapPositions[child] = position;
+      position = childPosition;
+    }
+    heap[position] = vertex;
+    heapPositions[vertex] = position;
+  }
+
+  /**
+   * Estimates the remaining distance from a vertex to a target vertex.
+   */
+  @FunctionalInterface
+  public interface Heuristic {
+
+    /**
+     * Estimates the remaining distance from the given vertex to the given target vertex.
+     *
+     * @param vertex The vertex's index.
+     * @param target The target vertex's index.
+     * @return The estimated distance, which must not exceed the actual distance.
+     */
+    double estimateDistance(int vertex, int target);
+  }
+}
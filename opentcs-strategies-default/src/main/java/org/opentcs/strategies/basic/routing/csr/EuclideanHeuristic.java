@@ -0,0 +1,138 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.csr;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Optional;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Triple;
+
+/**
+ * Estimates the remaining distance between two vertices of a {@link CsrGraph} based on the
+ * straight-line distance between the points they represent.
+ * <p>
+ * As edge weights are computed by the configured edge evaluators and are not necessarily related
+ * to the points' coordinates, the straight-line distance is scaled with the lowest ratio of edge
+ * weight to straight-line distance found among the graph's edges. (For the distance evaluator,
+ * for instance, this ratio is 1 if the paths' lengths match the points' coordinates, and for the
+ * travel time evaluator it is the reciprocal of the highest velocity.) The resulting estimate
+ * never exceeds the weight of any edge, and, due to the triangle inequality, never exceeds the
+ * actual distance via any number of edges, either, which makes it a consistent heuristic for the
+ * A* algorithm.
+ * </p>
+ */
+public final class EuclideanHeuristic
+    implements
+      CsrShortestPathSearch.Heuristic {
+
+  /**
+   * A factor slightly below 1 that the scale is multiplied with to keep rounding errors from
+   * resulting in estimates exceeding actual distances.
+   */
+  private static final double ROUNDING_TOLERANCE = 1.0 - 1.0E-9;
+  /**
+   * The x coordinate of each vertex.
+   */
+  private final double[] xCoordinates;
+  /**
+   * The y coordinate of each vertex.
+   */
+  private final double[] yCoordinates;
+  /**
+   * The factor to multiply straight-line distances with.
+   */
+  private final double scale;
+
+  private EuclideanHeuristic(double[] xCoordinates, double[] yCoordinates, double scale) {
+    this.xCoordinates = xCoordinates;
+    this.yCoordinates = yCoordinates;
+    this.scale = scale;
+  }
+
+  /**
+   * Creates a heuristic for the given graph.
+   *
+   * @param graph The graph.
+   * @param points The points represented by the graph's vertices.
+   * @return The heuristic, or an empty optional, if straight-line distances do not provide any
+   * information about the edge weights in the given graph (e.g. because the points do not have
+   * distinct coordinates or because edges that are not short in terms of coordinates have a weight
+   * of zero).
+   */
+  @Nonnull
+  public static Optional<EuclideanHeuristic> create(
+      @Nonnull
+      CsrGraph graph,
+      @Nonnull
+      Collection<Point> points
+  ) {
+    requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+
+    double[] xCoordinates = new double[graph.getVertexCount()];
+    double[] yCoordinates = new double[graph.getVertexCount()];
+    boolean[] known = new boolean[graph.getVertexCount()];
+    for (Point point : points) {
+      int vertex = graph.getVertexIndex(point.getName());
+      Triple position = point.getPose().getPosition();
+      if (vertex >= 0 && position != null) {
+        xCoordinates[vertex] = position.getX();
+        yCoordinates[vertex] = position.getY();
+        known[vertex] = true;
+      }
+    }
+    for (boolean vertexKnown : known) {
+      if (!vertexKnown) {
+        return Optional.empty();
+      }
+    }
+
+    double scale = Double.POSITIVE_INFINITY;
+    for (int edge = 0; edge < graph.getEdgeCount(); edge++) {
+      double distance = distance(
+          xCoordinates,
+          yCoordinates,
+          graph.getEdgeSource(edge),
+          graph.getEdgeTarget(edge)
+      );
+      if (distance > 0) {
+        scale = Math.min(scale, graph.getEdgeWeight(edge) / distance);
+      }
+    }
+    if (!(scale > 0) || scale == Double.POSITIVE_INFINITY) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        new EuclideanHeuristic(xCoordinates, yCoordinates, scale * ROUNDING_TOLERANCE)
+    );
+  }
+
+  /**
+   * Returns the factor that straight-line distances are multiplied with.
+   *
+   * @return The factor that straight-line distances are multiplied with.
+   */
+  public double getScale() {
+    return scale;
+  }
+
+  @Override
+  public double estimateDistance(int vertex, int target) {
+    return scale * distance(xCoordinates, yCoordinates, vertex, target);
+  }
+
+  private static double distance(
+      double[] xCoordinates,
+      double[] yCoordinates,
+      int vertex1,
+      int vertex2
+  ) {
+    double dx = xCoordinates[vertex1] - xCoordinates[vertex2];
+    double dy = yCoordinates[vertex1] - yCoordinates[vertex2];
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+}
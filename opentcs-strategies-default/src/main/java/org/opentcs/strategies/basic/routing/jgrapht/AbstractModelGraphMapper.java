@@ -6,9 +6,10 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.jgrapht.Graph;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.opentcs.components.kernel.routing.Edge;
@@ -93,44 +94,53 @@ public abstract class AbstractModelGraphMapper
     requireNonNull(vehicle, "vehicle");
     requireNonNull(graph, "graph");
 
-    LOG.debug("Updating graph for {}...", vehicle.getName());
-    long timeStampBefore = System.currentTimeMillis();
-
     Graph<String, Edge> updatedGraph = new DirectedWeightedMultigraph<>(Edge.class);
 
-    // First, copy all points from the original graph.
+    // First, copy all points and edges from the original graph.
     for (String vertex : graph.vertexSet()) {
       updatedGraph.addVertex(vertex);
     }
-
-    // Then, determine the edges that have not changed and copy these from the original graph as
-    // well.
-    Set<String> pathNames = paths.stream()
-        .map(Path::getName)
-        .collect(Collectors.toSet());
-    Set<Edge> unchangedEdges = graph.edgeSet().stream()
-        .filter(edge -> !pathNames.contains(edge.getPath().getName()))
-        .collect(Collectors.toSet());
-    LOG.debug(
-        "Adding {} (unchanged) edges (out of originally {}) to the graph...",
-        unchangedEdges.size(),
-        graph.edgeSet().size()
-    );
-    for (Edge edge : unchangedEdges) {
+    for (Edge edge : graph.edgeSet()) {
       updatedGraph.addEdge(edge.getSourceVertex(), edge.getTargetVertex(), edge);
       updatedGraph.setEdgeWeight(edge, graph.getEdgeWeight(edge));
     }
 
-    // Finally, map all paths that have changed and add the corresponding edges.
+    // Then, replace the edges of the paths that have changed in the copy.
+    replaceEdges(paths, vehicle, updatedGraph);
+
+    return updatedGraph;
+  }
+
+  private void replaceEdges(
+      Collection<Path> paths,
+      Vehicle vehicle,
+      Graph<String, Edge> graph
+  ) {
+    LOG.debug("Updating graph for {}...", vehicle.getName());
+    long timeStampBefore = System.currentTimeMillis();
+
+    // First, remove the edges of all paths that have changed. An edge for a path always starts at
+    // one of the path's end points, so only the outgoing edges of these need to be looked at.
+    Set<Edge> outdatedEdges = new HashSet<>();
+    for (Path path : paths) {
+      collectOutgoingEdges(graph, path.getSourcePoint().getName(), path, outdatedEdges);
+      collectOutgoingEdges(graph, path.getDestinationPoint().getName(), path, outdatedEdges);
+    }
+    LOG.debug("Removing {} (changed) edges from the graph...", outdatedEdges.size());
+    for (Edge edge : outdatedEdges) {
+      graph.removeEdge(edge);
+    }
+
+    // Then, map all paths that have changed and add the corresponding edges.
     Map<Edge, Double> changedEdges = pathEdgeMapper.translatePaths(paths, vehicle);
     LOG.debug("Adding {} (changed) edges to the graph...", changedEdges.size());
     for (Map.Entry<Edge, Double> edgeEntry : changedEdges.entrySet()) {
-      updatedGraph.addEdge(
+      graph.addEdge(
           edgeEntry.getKey().getSourceVertex(),
           edgeEntry.getKey().getTargetVertex(),
           edgeEntry.getKey()
       );
-      updatedGraph.setEdgeWeight(edgeEntry.getKey(), edgeEntry.getValue());
+      graph.setEdgeWeight(edgeEntry.getKey(), edgeEntry.getValue());
     }
 
     LOG.debug(
@@ -138,7 +148,22 @@ public abstract class AbstractModelGraphMapper
         vehicle.getName(),
         System.currentTimeMillis() - timeStampBefore
     );
+  }
 
-    return updatedGraph;
+  private void collectOutgoingEdges(
+      Graph<String, Edge> graph,
+      String vertex,
+      Path path,
+      Set<Edge> result
+  ) {
+    if (!graph.containsVertex(vertex)) {
+      return;
+    }
+
+    for (Edge edge : graph.outgoingEdgesOf(vertex)) {
+      if (Objects.equals(edge.getPath().getName(), path.getName())) {
+        result.add(edge);
+      }
+    }
   }
 }
@@ -34,7 +34,11 @@ public class FloydWarshallPointRouterFactory
   protected ShortestPathAlgorithm<String, Edge> createShortestPathAlgorithm(
       Graph<String, Edge> graph
   ) {
-    return new FloydWarshallShortestPaths<>(graph);
+    FloydWarshallShortestPaths<String, Edge> algorithm = new FloydWarshallShortestPaths<>(graph);
+    // The shortest paths are computed lazily with the first route requested, so compute them now,
+    // e.g. while the point routers are warmed up in the background.
+    algorithm.getShortestPathsCount();
+    return algorithm;
   }
 
 }
@@ -8,11 +8,11 @@ import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jgrapht.Graph;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
@@ -25,6 +25,10 @@ import org.opentcs.data.model.Vehicle;
  * Provides routing graphs for vehicles.
  * <p>
  * This provider caches computed routing graphs until it is {@link #invalidate() invalidated}.
+ * Routing graphs may be requested from several threads concurrently, e.g. while the point routers
+ * for all routing groups are created in parallel.
+ * Invalidating and updating the routing graphs is not safe while other threads request them,
+ * though.
  * </p>
  */
 public class GraphProvider {
@@ -37,11 +41,12 @@ public class GraphProvider {
   /**
    * Contains {@link GraphResult}s mapped to (vehicle) routing groups.
    */
-  private final Map<String, GraphResult> graphResultsByRoutingGroup = new HashMap<>();
+  private final Map<String, GraphResult> graphResultsByRoutingGroup = new ConcurrentHashMap<>();
   /**
    * A cache for derived {@link GraphResult}s.
    */
-  private final Map<String, GraphResult> derivedGraphResults = new WeakHashMap<>();
+  private final Map<String, GraphResult> derivedGraphResults
+      = Collections.synchronizedMap(new WeakHashMap<>());
   /**
    * The set of points that is currently used for computing routing graphs.
    */
@@ -202,6 +207,9 @@ public class GraphProvider {
   /**
    * Updates any {@link GraphResult}s that have already been calculated using the given paths.
    * <p>
+   * The routing graphs are not modified, as point routers created for them may still be in use.
+   * Instead, copies of them are created, with only the edges of the given paths being translated
+   * again.
    * The general graph result will not be updated as it does not consider locked paths
    * and therefore always stays the same.
    * </p>
@@ -257,7 +265,7 @@ public class GraphProvider {
     );
   }
 
-  private HashedResourceSet<Point> getCurrentPointBase() {
+  private synchronized HashedResourceSet<Point> getCurrentPointBase() {
     if (currentPointBase.isEmpty()) {
       currentPointBase.overrideResources(objectService.fetchObjects(Point.class));
     }
@@ -265,7 +273,7 @@ public class GraphProvider {
     return currentPointBase;
   }
 
-  private HashedResourceSet<Path> getCurrentPathBase() {
+  private synchronized HashedResourceSet<Path> getCurrentPathBase() {
     if (currentPathBase.isEmpty()) {
       currentPathBase.overrideResources(objectService.fetchObjects(Path.class));
     }
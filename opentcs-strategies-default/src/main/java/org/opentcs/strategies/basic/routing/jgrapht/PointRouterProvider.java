@@ -12,34 +12,74 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.CongestionHeatMap;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
+import org.opentcs.strategies.basic.routing.DerivedPointRouterCache;
+import org.opentcs.strategies.basic.routing.MemoizingPointRouter;
+import org.opentcs.strategies.basic.routing.PointRouteMemo;
 import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.ResourcesToAvoid;
+import org.opentcs.strategies.basic.routing.ShortestPathTreeCache;
+import org.opentcs.strategies.basic.routing.ShortestPathTreeCachingPointRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Provides point routers for vehicles (more specifically for routing groups of vehicles).
  * <p>
  * This provider caches constructed point routers until it is {@link #invalidate() invalidated}.
+ * When the routing topology changes, the cached point routers are updated, if possible.
+ * Point routers for vehicles with resources to avoid are cached in a
+ * {@link DerivedPointRouterCache}, if it is enabled.
+ * If the {@link CongestionHeatMap} is enabled, the point routers provided for a vehicle do not
+ * penalize routes for the vehicle's own allocations and claims.
+ * </p>
+ * <p>
+ * If configured, the point routers for all routing groups are created in parallel on the common
+ * fork-join pool after the routing topology has changed (see {@link #warmUp()}).
+ * Outdated point routers are never used, though: A point router requested before it has been
+ * created in the background is created on demand.
  * </p>
  */
 public class PointRouterProvider {
 
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(PointRouterProvider.class);
+
   private final TCSObjectService objectService;
   private final ResourceAvoidanceExtractor resourceAvoidanceExtractor;
   private final GroupMapper routingGroupMapper;
   private final PointRouterFactory pointRouterFactory;
   private final GraphProvider graphProvider;
+  private final PointRouteMemo pointRouteMemo;
+  private final ShortestPathTreeCache shortestPathTreeCache;
+  private final DerivedPointRouterCache derivedPointRouterCache;
+  private final CongestionHeatMap congestionHeatMap;
+  private final DefaultRouterConfiguration configuration;
   /**
-   * The point routers by vehicle routing group.
+   * The point routers currently used, replaced as a whole when they have been warmed up.
    */
-  private final Map<String, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+  private volatile PointRouterTable pointRouterTable = new PointRouterTable();
+  /**
+   * The warm-up currently running, if any.
+   */
+  private ForkJoinTask<?> warmUpTask;
+  /**
+   * Incremented whenever a warm-up is cancelled, so that it does not create any more point routers.
+   */
+  private long warmUpGeneration;
 
   /**
    * Creates a new instance.
@@ -49,6 +89,13 @@ public class PointRouterProvider {
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param pointRouterFactory A builder for constructing point routers (i.e., the routing tables).
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param pointRouteMemo Remembers the routes computed by the routing groups' point routers.
+   * @param shortestPathTreeCache Keeps the shortest path trees computed by the routing groups'
+   * point routers.
+   * @param derivedPointRouterCache Keeps the point routers created for routing groups with
+   * resources to avoid.
+   * @param congestionHeatMap Provides penalties for congested points and paths.
+   * @param configuration The router's configuration.
    */
   @Inject
   public PointRouterProvider(
@@ -56,7 +103,12 @@ public class PointRouterProvider {
       ResourceAvoidanceExtractor resourceAvoidanceExtractor,
       GroupMapper routingGroupMapper,
       PointRouterFactory pointRouterFactory,
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      PointRouteMemo pointRouteMemo,
+      ShortestPathTreeCache shortestPathTreeCache,
+      DerivedPointRouterCache derivedPointRouterCache,
+      CongestionHeatMap congestionHeatMap,
+      DefaultRouterConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.resourceAvoidanceExtractor = requireNonNull(
@@ -66,19 +118,50 @@ public class PointRouterProvider {
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.pointRouterFactory = requireNonNull(pointRouterFactory, "pointRouterFactory");
     this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.pointRouteMemo = requireNonNull(pointRouteMemo, "pointRouteMemo");
+    this.shortestPathTreeCache = requireNonNull(shortestPathTreeCache, "shortestPathTreeCache");
+    this.derivedPointRouterCache
+        = requireNonNull(derivedPointRouterCache, "derivedPointRouterCache");
+    this.congestionHeatMap = requireNonNull(congestionHeatMap, "congestionHeatMap");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   /**
    * Invalidates any point routers that have already been constructed.
    */
   public void invalidate() {
-    pointRoutersByVehicleGroup.clear();
+    cancelWarmUp();
+    pointRouterTable = new PointRouterTable();
+    pointRouteMemo.clear();
+    shortestPathTreeCache.invalidate();
+    derivedPointRouterCache.invalidate();
     graphProvider.invalidate();
   }
 
+  /**
+   * Creates the point routers for all routing groups in parallel, if configured.
+   * <p>
+   * The point routers are created in the background.
+   * Point routers requested before they have been created are created on demand.
+   * </p>
+   */
+  public void warmUp() {
+    if (configuration.warmUpPointRoutersInParallel()) {
+      cancelWarmUp();
+      startWarmUp();
+    }
+  }
+
   /**
    * Updates the routing topology with respect to the given paths.
    *
+   * <p>
+   * The routing graphs are updated with respect to the given paths only, and the point router
+   * factory is asked to update the point routers already constructed instead of constructing them
+   * again. Point routers the factory cannot update are invalidated and, if warming up point
+   * routers is configured, created again in the background.
+   * </p>
+   *
    * @param paths The paths to update in the routing topology. An empty set of paths results in any
    * constructed point routers to be invalidated.
    */
@@ -88,13 +171,23 @@ public class PointRouterProvider {
   ) {
     requireNonNull(paths, "paths");
 
-    pointRoutersByVehicleGroup.clear();
+    // A running warm-up works on routing graphs that are about to change, so wait for it first.
+    cancelWarmUp();
+    pointRouteMemo.clear();
+    shortestPathTreeCache.invalidate();
+    derivedPointRouterCache.invalidate();
 
     if (paths.isEmpty()) {
       graphProvider.invalidate();
+      pointRouterTable = new PointRouterTable();
     }
     else {
       graphProvider.updateGraphResults(paths);
+      updatePointRouters(paths);
+    }
+
+    if (configuration.warmUpPointRoutersInParallel()) {
+      startWarmUp();
     }
   }
 
@@ -155,7 +248,7 @@ public class PointRouterProvider {
     // all routing groups.
     createMissingPointRouters();
 
-    return Collections.unmodifiableMap(pointRoutersByVehicleGroup);
+    return Collections.unmodifiableMap(pointRouterTable.pointRoutersByVehicleGroup);
   }
 
   /**
@@ -177,31 +270,217 @@ public class PointRouterProvider {
   }
 
   private void createMissingPointRouters() {
+    // Lazily create point routers if they don't exist.
+    fetchDistinctRoutingGroups().forEach(
+        (routingGroup, vehicle) -> getPointRouterForVehicle(vehicle, (TransportOrder) null)
+    );
+  }
+
+  private void updatePointRouters(Set<Path> paths) {
+    PointRouterTable table = pointRouterTable;
+    for (String routingGroup : Set.copyOf(table.createdPointRoutersByVehicleGroup.keySet())) {
+      CreatedPointRouter created = table.createdPointRoutersByVehicleGroup.get(routingGroup);
+      PointRouter updatedRouter = pointRouterFactory.updatePointRouter(
+          created.getPointRouter(),
+          created.getVehicle(),
+          paths
+      );
+
+      if (updatedRouter == null) {
+        // The point router will be constructed again when it is requested the next time.
+        table.createdPointRoutersByVehicleGroup.remove(routingGroup);
+        table.pointRoutersByVehicleGroup.remove(routingGroup);
+      }
+      else if (updatedRouter != created.getPointRouter()) {
+        table.createdPointRoutersByVehicleGroup.put(
+            routingGroup,
+            new CreatedPointRouter(created.getVehicle(), updatedRouter)
+        );
+        table.pointRoutersByVehicleGroup.put(routingGroup, wrap(routingGroup, updatedRouter));
+      }
+    }
+  }
+
+  private Map<String, Vehicle> fetchDistinctRoutingGroups() {
     Map<String, Vehicle> distinctRoutingGroups = new HashMap<>();
     for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
       distinctRoutingGroups.putIfAbsent(routingGroupMapper.apply(vehicle), vehicle);
     }
+    return distinctRoutingGroups;
+  }
 
-    // Lazily create point routers if they don't exist.
-    distinctRoutingGroups.forEach(
-        (routingGroup, vehicle) -> getPointRouterForVehicle(vehicle, (TransportOrder) null)
+  private void startWarmUp() {
+    Map<String, Vehicle> distinctRoutingGroups = fetchDistinctRoutingGroups();
+
+    synchronized (this) {
+      long generation = warmUpGeneration;
+      warmUpTask = ForkJoinPool.commonPool().submit(
+          () -> warmUp(distinctRoutingGroups, generation)
+      );
+    }
+  }
+
+  private void warmUp(Map<String, Vehicle> distinctRoutingGroups, long generation) {
+    long timeStampBefore = System.currentTimeMillis();
+
+    try {
+      // The parallel stream is processed by the fork-join pool the warm-up is running on.
+      distinctRoutingGroups.values().parallelStream().forEach(vehicle -> {
+        if (!isCancelled(generation)) {
+          getPointRouterForVehicle(vehicle, (TransportOrder) null);
+        }
+      });
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Failed to warm up point routers, constructing them on demand instead.", e);
+      return;
+    }
+
+    LOG.debug(
+        "Warmed up point routers for {} routing groups in {} milliseconds.",
+        distinctRoutingGroups.size(),
+        System.currentTimeMillis() - timeStampBefore
     );
   }
 
+  private synchronized boolean isCancelled(long generation) {
+    return generation != warmUpGeneration;
+  }
+
+  /**
+   * Cancels the warm-up currently running, if any, and waits for it to finish.
+   */
+  private void cancelWarmUp() {
+    ForkJoinTask<?> task;
+    synchronized (this) {
+      warmUpGeneration++;
+      task = warmUpTask;
+      warmUpTask = null;
+    }
+
+    if (task != null) {
+      // Point routers still being constructed work on the routing graphs, so wait for them.
+      task.quietlyJoin();
+    }
+  }
+
+  /**
+   * Waits for the warm-up currently running, if any, to finish.
+   */
+  void awaitWarmUp() {
+    ForkJoinTask<?> task;
+    synchronized (this) {
+      task = warmUpTask;
+    }
+
+    if (task != null) {
+      task.quietlyJoin();
+    }
+  }
+
   private PointRouter getPointRouterForVehicle(Vehicle vehicle, ResourcesToAvoid resourcesToAvoid) {
     if (!resourcesToAvoid.isEmpty()) {
-      return pointRouterFactory.createPointRouter(
-          vehicle,
-          resourcesToAvoid.getPoints(),
-          resourcesToAvoid.getPaths()
-      );
+      PointRouter pointRouter = derivedPointRouterCache.isEnabled()
+          ? derivedPointRouterCache.getPointRouter(
+              routingGroupMapper.apply(vehicle),
+              resourcesToAvoid.getPoints(),
+              resourcesToAvoid.getPaths(),
+              () -> createDerivedPointRouter(vehicle, resourcesToAvoid)
+          )
+          : createDerivedPointRouter(vehicle, resourcesToAvoid);
+      return congestionHeatMap.isEnabled() ? pointRouter.forVehicle(vehicle) : pointRouter;
     }
 
     // In all other cases, create a point router if it does not yet exist for the vehicle's routing
     // group.
-    return pointRoutersByVehicleGroup.computeIfAbsent(
-        routingGroupMapper.apply(vehicle),
-        routingGroup -> pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of())
+    String routingGroup = routingGroupMapper.apply(vehicle);
+    PointRouterTable table = pointRouterTable;
+    PointRouter pointRouter = table.pointRoutersByVehicleGroup.computeIfAbsent(
+        routingGroup,
+        group -> {
+          PointRouter createdRouter
+              = pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of());
+          table.createdPointRoutersByVehicleGroup.put(
+              group,
+              new CreatedPointRouter(vehicle, createdRouter)
+          );
+          return wrap(group, createdRouter);
+        }
     );
+
+    CreatedPointRouter created = table.createdPointRoutersByVehicleGroup.get(routingGroup);
+    if (!congestionHeatMap.isEnabled() || created == null) {
+      return pointRouter;
+    }
+    PointRouter vehiclePointRouter = created.getPointRouter().forVehicle(vehicle);
+    if (vehiclePointRouter == created.getPointRouter()) {
+      return pointRouter;
+    }
+    // The point router computes routes specific to the vehicle (e.g. not penalizing its own
+    // allocations), so these must not be shared with other vehicles of the routing group.
+    return wrap(routingGroup + "/" + vehicle.getName(), vehiclePointRouter);
+  }
+
+  private PointRouter createDerivedPointRouter(
+      Vehicle vehicle,
+      ResourcesToAvoid resourcesToAvoid
+  ) {
+    return pointRouterFactory.createPointRouter(
+        vehicle,
+        resourcesToAvoid.getPoints(),
+        resourcesToAvoid.getPaths()
+    );
+  }
+
+  private PointRouter wrap(String cacheGroup, PointRouter pointRouter) {
+    if (shortestPathTreeCache.isEnabled()) {
+      pointRouter = new ShortestPathTreeCachingPointRouter(
+          cacheGroup,
+          pointRouter,
+          shortestPathTreeCache
+      );
+    }
+    return configuration.memoizeRoutes()
+        ? new MemoizingPointRouter(cacheGroup, pointRouter, pointRouteMemo)
+        : pointRouter;
+  }
+
+  /**
+   * The point routers for the vehicle routing groups.
+   */
+  private static class PointRouterTable {
+
+    /**
+     * The point routers by vehicle routing group.
+     */
+    private final Map<String, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+    /**
+     * The point routers as created by the point router factory (i.e. before they are wrapped for
+     * caching computed routes) by vehicle routing group.
+     */
+    private final Map<String, CreatedPointRouter> createdPointRoutersByVehicleGroup
+        = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * A point router created by the point router factory, along with the vehicle it was created for.
+   */
+  private static class CreatedPointRouter {
+
+    private final Vehicle vehicle;
+    private final PointRouter pointRouter;
+
+    CreatedPointRouter(Vehicle vehicle, PointRouter pointRouter) {
+      this.vehicle = requireNonNull(vehicle, "vehicle");
+      this.pointRouter = requireNonNull(pointRouter, "pointRouter");
+    }
+
+    public Vehicle getVehicle() {
+      return vehicle;
+    }
+
+    public PointRouter getPointRouter() {
+      return pointRouter;
+    }
   }
 }
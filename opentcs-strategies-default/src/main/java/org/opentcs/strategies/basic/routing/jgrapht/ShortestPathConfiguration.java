@@ -23,7 +23,17 @@ public interface ShortestPathConfiguration {
           "The routing algorithm to be used. Valid values:",
           "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
           "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."},
+          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+          "'DIJKSTRA_CSR': Routes are computed using Dijkstra's algorithm on a compact, "
+              + "array-based representation of the routing graph.",
+          "'ASTAR': Routes are computed using the A* algorithm on a compact, array-based "
+              + "representation of the routing graph, estimating remaining costs based on the "
+              + "points' coordinates. Falls back to Dijkstra's algorithm if the points' "
+              + "coordinates do not provide a lower bound for the costs computed by the "
+              + "configured edge evaluators.",
+          "'CONTRACTION_HIERARCHIES': Routes are computed using a contraction hierarchy that is "
+              + "prepared once for the plant model's topology and only updated with new costs "
+              + "when routing graphs change."},
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
   )
   Algorithm algorithm();
@@ -61,7 +71,19 @@ public interface ShortestPathConfiguration {
     /**
      * The Floyd-Warshall algorithm.
      */
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    /**
+     * The Dijkstra algorithm, working on a compact, array-based graph representation.
+     */
+    DIJKSTRA_CSR(false),
+    /**
+     * The A* algorithm, working on a compact, array-based graph representation.
+     */
+    ASTAR(false),
+    /**
+     * Queries on a customizable contraction hierarchy.
+     */
+    CONTRACTION_HIERARCHIES(false);
 
     private final boolean handlingNegativeCosts;
 
@@ -12,12 +12,15 @@ import java.util.Map;
 import java.util.Objects;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRoute;
 import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.ShortestPathTree;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -103,6 +106,71 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  @Override
+  public PointRoute getRoute(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return PointRoute.of(0, List.of());
+    }
+
+    GraphPath<String, Edge> graphPath = algo.getPath(srcPoint.getName(), destPoint.getName());
+    if (graphPath == null) {
+      return PointRoute.noRoute();
+    }
+
+    return PointRoute.of((long) graphPath.getWeight(), translateToSteps(graphPath));
+  }
+
+  @Override
+  public ShortestPathTree getShortestPathTree(Point srcPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+
+    long timeBefore = System.currentTimeMillis();
+    SingleSourcePaths<String, Edge> paths = algo.getPaths(srcPoint.getName());
+
+    LOG.debug(
+        "Computing shortest path tree from {} took {} milliseconds.",
+        srcPoint.getName(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    return new ShortestPathTree() {
+      @Override
+      public Point getSourcePoint() {
+        return srcPoint;
+      }
+
+      @Override
+      public long getCosts(Point destPoint) {
+        requireNonNull(destPoint, "destPoint");
+
+        if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+          return 0;
+        }
+
+        double weight = paths.getWeight(destPoint.getName());
+        return weight == Double.POSITIVE_INFINITY ? INFINITE_COSTS : (long) weight;
+      }
+
+      @Override
+      public PointRoute getRoute(Point destPoint) {
+        requireNonNull(destPoint, "destPoint");
+
+        if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+          return PointRoute.of(0, List.of());
+        }
+
+        GraphPath<String, Edge> graphPath = paths.getPath(destPoint.getName());
+        if (graphPath == null) {
+          return PointRoute.noRoute();
+        }
+        return PointRoute.of((long) graphPath.getWeight(), translateToSteps(graphPath));
+      }
+    };
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<String, Edge> graphPath) {
     List<Edge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
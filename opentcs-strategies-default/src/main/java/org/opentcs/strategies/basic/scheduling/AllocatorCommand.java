@@ -4,6 +4,7 @@ package org.opentcs.strategies.basic.scheduling;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nullable;
 import java.util.Set;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.data.model.TCSResource;
@@ -118,18 +119,48 @@ abstract class AllocatorCommand
         AllocatorCommand {
 
     /**
-     * Creates a new instance.
+     * The resources released, or <code>null</code>, if all deferred allocations should be retried.
+     */
+    private final Set<TCSResource<?>> releasedResources;
+
+    /**
+     * Creates a new instance for retrying all deferred allocations.
      *
      * @param client The scheduler client this command is associated with.
      */
     RetryAllocates(Client client) {
       super(3, client);
+      this.releasedResources = null;
+    }
+
+    /**
+     * Creates a new instance for retrying the deferred allocations that may be granted after the
+     * given resources have been released.
+     *
+     * @param client The scheduler client this command is associated with.
+     * @param releasedResources The resources released.
+     */
+    RetryAllocates(Client client, Set<TCSResource<?>> releasedResources) {
+      super(3, client);
+      this.releasedResources = requireNonNull(releasedResources, "releasedResources");
+    }
+
+    /**
+     * Returns the resources released.
+     *
+     * @return The resources released, or <code>null</code>, if all deferred allocations should be
+     * retried.
+     */
+    @Nullable
+    public Set<TCSResource<?>> getReleasedResources() {
+      return releasedResources;
     }
 
     @Override
     public String toString() {
       return "RetryAllocates{"
           + "client=" + getClient()
+          + ", releasedResources=" + releasedResources
           + '}';
     }
   }
@@ -5,7 +5,7 @@ package org.opentcs.strategies.basic.scheduling;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
-import java.util.Queue;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import org.opentcs.components.kernel.Scheduler;
@@ -37,7 +37,7 @@ class AllocatorTask
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations;
+  private final DeferredAllocations deferredAllocations;
   /**
    * Executes tasks.
    */
@@ -58,7 +58,7 @@ class AllocatorTask
       @Nonnull
       ReservationPool reservationPool,
       @Nonnull
-      Queue<AllocatorCommand.Allocate> deferredAllocations,
+      DeferredAllocations deferredAllocations,
       @Nonnull
       Scheduler.Module allocationAdvisor,
       @Nonnull
@@ -85,7 +85,7 @@ class AllocatorTask
       processAllocate((AllocatorCommand.Allocate) command);
     }
     else if (command instanceof AllocatorCommand.RetryAllocates) {
-      scheduleRetryWaitingAllocations();
+      retryAllocates((AllocatorCommand.RetryAllocates) command);
     }
     else if (command instanceof AllocatorCommand.CheckAllocationsPrepared) {
       checkAllocationsPrepared((AllocatorCommand.CheckAllocationsPrepared) command);
@@ -99,10 +99,20 @@ class AllocatorTask
   }
 
   private void processAllocate(AllocatorCommand.Allocate command) {
-    if (!tryAllocate(command)) {
-      LOG.debug("{}: Resources unavailable, deferring allocation...", command.getClient().getId());
-      deferredAllocations.add(command);
-      return;
+    synchronized (globalSyncObject) {
+      if (!tryAllocate(command)) {
+        Set<TCSResource<?>> blockingResources = reservationPool.getBlockingResources(
+            command.getResources(),
+            command.getClient()
+        );
+        LOG.debug(
+            "{}: Resources unavailable, deferring allocation until released: {}",
+            command.getClient().getId(),
+            blockingResources
+        );
+        deferredAllocations.add(command, blockingResources);
+        return;
+      }
     }
 
     checkAllocationsPrepared(command.getClient(), command.getResources());
@@ -135,7 +145,7 @@ class AllocatorTask
       );
       undoAllocate(client, resources);
       // See if others want the resources this one didn't, then.
-      scheduleRetryWaitingAllocations();
+      scheduleRetryWaitingAllocations(resources);
     }
     // Notify modules about the changes in claimed/allocated resources for this client.
     allocationAdvisor.setAllocationState(
@@ -211,11 +221,42 @@ class AllocatorTask
     }
   }
 
+  private void retryAllocates(AllocatorCommand.RetryAllocates command) {
+    if (command.getReleasedResources() == null) {
+      scheduleRetries(deferredAllocations.wakeUpAll());
+    }
+    else {
+      scheduleRetryWaitingAllocations(command.getReleasedResources());
+    }
+  }
+
   /**
-   * Moves all waiting allocations back into the incoming queue so they can be rechecked.
+   * Moves the waiting allocations that may be granted after the given resources have been released
+   * back into the incoming queue so they can be rechecked.
+   *
+   * @param releasedResources The released resources.
+   */
+  private void scheduleRetryWaitingAllocations(Set<TCSResource<?>> releasedResources) {
+    List<AllocatorCommand.Allocate> allocates;
+    synchronized (globalSyncObject) {
+      allocates = deferredAllocations.wakeUp(
+          releasedResources,
+          allocate -> reservationPool.getBlockingResources(
+              allocate.getResources(),
+              allocate.getClient()
+          )
+      );
+    }
+    scheduleRetries(allocates);
+  }
+
+  /**
+   * Moves the given waiting allocations back into the incoming queue so they can be rechecked.
+   *
+   * @param allocates The waiting allocations.
    */
-  private void scheduleRetryWaitingAllocations() {
-    for (AllocatorCommand.Allocate allocate : deferredAllocations) {
+  private void scheduleRetries(List<AllocatorCommand.Allocate> allocates) {
+    for (AllocatorCommand.Allocate allocate : allocates) {
       kernelExecutor.submit(
           new AllocatorTask(
               reservationPool,
@@ -227,6 +268,5 @@ class AllocatorTask
           )
       );
     }
-    deferredAllocations.clear();
   }
 }
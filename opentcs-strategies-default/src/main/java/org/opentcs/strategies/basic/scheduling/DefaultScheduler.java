@@ -12,10 +12,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.ResourceAllocationException;
@@ -32,7 +30,7 @@ import org.opentcs.strategies.basic.scheduling.AllocatorCommand.AllocationsRelea
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.CheckAllocationsPrepared;
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.RetryAllocates;
 import org.opentcs.util.event.EventBus;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +41,7 @@ import org.slf4j.LoggerFactory;
 public class DefaultScheduler
     implements
       Scheduler,
-      EventHandler {
+      SynchronousEventHandler {
 
   /**
    * This class's Logger.
@@ -60,7 +58,7 @@ public class DefaultScheduler
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations = new LinkedBlockingQueue<>();
+  private final DeferredAllocations deferredAllocations = new DeferredAllocations();
   /**
    * Executes scheduling tasks.
    */
@@ -230,12 +228,13 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
+    Set<TCSResource<?>> completelyFreeResources;
     synchronized (globalSyncObject) {
       LOG.debug("{}: Releasing resources: {}", client.getId(), resources);
       reservationPool.free(client, resources);
 
       // Check which resources are now completely free
-      Set<TCSResource<?>> completelyFreeResources = resources.stream()
+      completelyFreeResources = resources.stream()
           .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
           .collect(Collectors.toCollection(HashSet::new));
       new AllocatorTask(
@@ -254,7 +253,7 @@ public class DefaultScheduler
             allocationAdvisor,
             kernelExecutor,
             globalSyncObject,
-            new RetryAllocates(client)
+            new RetryAllocates(client, completelyFreeResources)
         )
     );
   }
@@ -263,8 +262,9 @@ public class DefaultScheduler
   public void freeAll(Client client) {
     requireNonNull(client, "client");
 
+    Set<TCSResource<?>> freedResources;
     synchronized (globalSyncObject) {
-      Set<TCSResource<?>> freedResources = reservationPool.allocatedResources(client);
+      freedResources = reservationPool.allocatedResources(client);
 
       LOG.debug("{}: Releasing all resources...", client.getId());
       reservationPool.freeAll(client);
@@ -286,7 +286,7 @@ public class DefaultScheduler
             allocationAdvisor,
             kernelExecutor,
             globalSyncObject,
-            new RetryAllocates(client)
+            new RetryAllocates(client, freedResources)
         )
     );
   }
@@ -0,0 +1,28 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure the {@link DefaultScheduler}.
+ */
+@ConfigurationPrefix(DefaultSchedulerConfiguration.PREFIX)
+public interface DefaultSchedulerConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "defaultscheduler";
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to predict deadlocks between vehicles waiting for each other's resources.",
+          "If enabled, allocations that would result in vehicles waiting for each other in a "
+              + "cycle are not granted, and a DeadlockPredictedEvent is emitted for them."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  boolean deadlockPrediction();
+}
@@ -0,0 +1,252 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.opentcs.data.model.TCSResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps allocations deferred because they couldn't be granted, yet, indexed by the resources they
+ * are waiting for.
+ * <p>
+ * Allocations blocked by resources allocated by other clients are only woken up once all of these
+ * resources have been released, so releasing resources does not require every deferred allocation
+ * to be retried. Allocations that were not granted for other reasons (e.g. because a module did
+ * not allow them) are woken up whenever any resources are released.
+ * Woken up allocations are returned in their natural order, i.e. by priority and age.
+ * </p>
+ */
+class DeferredAllocations {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DeferredAllocations.class);
+  /**
+   * All deferred allocations, in the order they were added, mapped to the resources they are
+   * blocked by.
+   */
+  private final Map<AllocatorCommand.Allocate, Set<TCSResource<?>>> blockingResourcesByAllocate
+      = new LinkedHashMap<>();
+  /**
+   * The deferred allocations blocked by resources, mapped to these resources.
+   */
+  private final Map<TCSResource<?>, Set<AllocatorCommand.Allocate>> allocatesByBlockingResource
+      = new HashMap<>();
+  /**
+   * The deferred allocations not blocked by any resources.
+   */
+  private final Set<AllocatorCommand.Allocate> unblockedAllocates = new LinkedHashSet<>();
+  /**
+   * The number of releases deferred allocations have been woken up for.
+   */
+  private long releaseCount;
+  /**
+   * The number of deferred allocations woken up in total.
+   */
+  private long wakeUpCount;
+
+  /**
+   * Creates a new instance.
+   */
+  DeferredAllocations() {
+  }
+
+  /**
+   * Adds a deferred allocation.
+   *
+   * @param allocate The allocation.
+   * @param blockingResources The resources the allocation is blocked by. May be empty if the
+   * allocation was not granted for other reasons.
+   */
+  synchronized void add(
+      @Nonnull
+      AllocatorCommand.Allocate allocate,
+      @Nonnull
+      Set<TCSResource<?>> blockingResources
+  ) {
+    requireNonNull(allocate, "allocate");
+    requireNonNull(blockingResources, "blockingResources");
+
+    remove(allocate);
+    index(allocate, Set.copyOf(blockingResources));
+  }
+
+  /**
+   * Removes all deferred allocations matching the given predicate.
+   *
+   * @param predicate The predicate.
+   */
+  synchronized void removeIf(
+      @Nonnull
+      Predicate<AllocatorCommand.Allocate> predicate
+  ) {
+    requireNonNull(predicate, "predicate");
+
+    for (AllocatorCommand.Allocate allocate : List.copyOf(blockingResourcesByAllocate.keySet())) {
+      if (predicate.test(allocate)) {
+        remove(allocate);
+      }
+    }
+  }
+
+  /**
+   * Removes and returns all deferred allocations.
+   *
+   * @return All deferred allocations, in their natural order.
+   */
+  @Nonnull
+  synchronized List<AllocatorCommand.Allocate> wakeUpAll() {
+    List<AllocatorCommand.Allocate> result = new ArrayList<>(blockingResourcesByAllocate.keySet());
+    result.sort(null);
+
+    blockingResourcesByAllocate.clear();
+    allocatesByBlockingResource.clear();
+    unblockedAllocates.clear();
+
+    releaseCount++;
+    wakeUpCount += result.size();
+    LOG.debug("Waking up all {} deferred allocations.", result.size());
+    return result;
+  }
+
+  /**
+   * Removes and returns the deferred allocations that may be granted after the given resources
+   * have been released.
+   * <p>
+   * These are the allocations waiting for any of the released resources and not blocked by any
+   * other resources any more, and all allocations not blocked by any resources.
+   * Allocations waiting for any of the released resources but still blocked by others are kept,
+   * waiting for the resources they are currently blocked by.
+   * </p>
+   *
+   * @param releasedResources The released resources.
+   * @param blockingResourcesProvider Provides the resources an allocation is currently blocked by.
+   * @return The deferred allocations that may be granted, in their natural order.
+   */
+  @Nonnull
+  synchronized List<AllocatorCommand.Allocate> wakeUp(
+      @Nonnull
+      Set<TCSResource<?>> releasedResources,
+      @Nonnull
+      Function<AllocatorCommand.Allocate, Set<TCSResource<?>>> blockingResourcesProvider
+  ) {
+    requireNonNull(releasedResources, "releasedResources");
+    requireNonNull(blockingResourcesProvider, "blockingResourcesProvider");
+
+    Set<AllocatorCommand.Allocate> candidates = new LinkedHashSet<>();
+    for (TCSResource<?> resource : releasedResources) {
+      candidates.addAll(allocatesByBlockingResource.getOrDefault(resource, Set.of()));
+    }
+
+    List<AllocatorCommand.Allocate> result = new ArrayList<>(unblockedAllocates);
+    unblockedAllocates.clear();
+    for (AllocatorCommand.Allocate allocate : candidates) {
+      remove(allocate);
+      Set<TCSResource<?>> blockingResources = blockingResourcesProvider.apply(allocate);
+      if (blockingResources.isEmpty()) {
+        result.add(allocate);
+      }
+      else {
+        index(allocate, Set.copyOf(blockingResources));
+      }
+    }
+    for (AllocatorCommand.Allocate allocate : result) {
+      blockingResourcesByAllocate.remove(allocate);
+    }
+    result.sort(null);
+
+    releaseCount++;
+    wakeUpCount += result.size();
+    LOG.debug(
+        "Released {} resources, waking up {} of {} deferred allocations.",
+        releasedResources.size(),
+        result.size(),
+        result.size() + blockingResourcesByAllocate.size()
+    );
+    return result;
+  }
+
+  /**
+   * Returns the number of deferred allocations.
+   *
+   * @return The number of deferred allocations.
+   */
+  synchronized int getWaiterCount() {
+    return blockingResourcesByAllocate.size();
+  }
+
+  /**
+   * Returns the number of deferred allocations blocked by resources allocated by other clients.
+   *
+   * @return The number of deferred allocations blocked by resources.
+   */
+  synchronized int getBlockedWaiterCount() {
+    return blockingResourcesByAllocate.size() - unblockedAllocates.size();
+  }
+
+  /**
+   * Returns the number of releases deferred allocations have been woken up for.
+   *
+   * @return The number of releases.
+   */
+  synchronized long getReleaseCount() {
+    return releaseCount;
+  }
+
+  /**
+   * Returns the number of deferred allocations woken up in total.
+   * <p>
+   * Divided by the number of releases, this is the average number of wake-ups per release.
+   * </p>
+   *
+   * @return The number of wake-ups.
+   */
+  synchronized long getWakeUpCount() {
+    return wakeUpCount;
+  }
+
+  private void index(AllocatorCommand.Allocate allocate, Set<TCSResource<?>> blockingResources) {
+    blockingResourcesByAllocate.put(allocate, blockingResources);
+    if (blockingResources.isEmpty()) {
+      unblockedAllocates.add(allocate);
+      return;
+    }
+
+    for (TCSResource<?> resource : blockingResources) {
+      allocatesByBlockingResource.computeIfAbsent(resource, res -> new LinkedHashSet<>())
+          .add(allocate);
+    }
+  }
+
+  private void remove(AllocatorCommand.Allocate allocate) {
+    Set<TCSResource<?>> blockingResources = blockingResourcesByAllocate.remove(allocate);
+    if (blockingResources == null) {
+      return;
+    }
+
+    unblockedAllocates.remove(allocate);
+    for (TCSResource<?> resource : blockingResources) {
+      Set<AllocatorCommand.Allocate> allocates = allocatesByBlockingResource.get(resource);
+      if (allocates != null) {
+        allocates.remove(allocate);
+        if (allocates.isEmpty()) {
+          allocatesByBlockingResource.remove(resource);
+        }
+      }
+    }
+  }
+}
@@ -5,6 +5,8 @@ package org.opentcs.strategies.basic.scheduling;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.data.model.TCSResource;
 import org.slf4j.Logger;
@@ -25,6 +27,10 @@ public class ReservationEntry {
    * Instance of resource that vehicle may claim for exclusive usage.
    */
   private final TCSResource<?> resource;
+  /**
+   * The reservation pool to be notified about the resource being allocated and freed, if any.
+   */
+  private final ReservationPool reservationPool;
   /**
    * The client for which the resource is currently reserved.
    */
@@ -42,7 +48,24 @@ public class ReservationEntry {
    * @param reqResource The resource.
    */
   public ReservationEntry(final TCSResource<?> reqResource) {
+    this(reqResource, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param reqResource The resource.
+   * @param reservationPool The reservation pool to be notified about the resource being allocated
+   * and freed, or <code>null</code>.
+   */
+  ReservationEntry(
+      @Nonnull
+      TCSResource<?> reqResource,
+      @Nullable
+      ReservationPool reservationPool
+  ) {
     this.resource = requireNonNull(reqResource, "reqResource");
+    this.reservationPool = reservationPool;
   }
 
   /**
@@ -75,6 +98,9 @@ public class ReservationEntry {
     if (this.client == null) {
       LOG.debug("Allocating resource {} for client {}", resource, client.getId());
       this.client = client;
+      if (reservationPool != null) {
+        reservationPool.resourceAllocated(client, resource);
+      }
     }
     else if (this.client != client) {
       // The resource is already allocated by someone else - may not happen.
@@ -102,7 +128,7 @@ public class ReservationEntry {
     checkState(counter > 0, "counter is already less than 1");
     counter--;
     if (counter == 0) {
-      client = null;
+      releaseClient();
     }
   }
 
@@ -112,7 +138,7 @@ public class ReservationEntry {
    */
   void freeCompletely() {
     counter = 0;
-    client = null;
+    releaseClient();
   }
 
   /**
@@ -136,6 +162,13 @@ public class ReservationEntry {
     return this.client == client;
   }
 
+  private void releaseClient() {
+    if (client != null && reservationPool != null) {
+      reservationPool.resourceFreed(client, resource);
+    }
+    client = null;
+  }
+
   @Override
   public String toString() {
     return "ReservationEntry{"
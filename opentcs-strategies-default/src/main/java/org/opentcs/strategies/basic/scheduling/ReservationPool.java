@@ -37,6 +37,15 @@ public class ReservationPool {
    * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
    */
   private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  /**
+   * The resources allocated by each client, maintained by the reservation entries.
+   */
+  private final Map<Scheduler.Client, Set<TCSResource<?>>> allocationsByClient = new HashMap<>();
+  /**
+   * A snapshot of all allocations, or <code>null</code>, if allocations changed since it was
+   * created.
+   */
+  private Map<String, Set<TCSResource<?>>> allocationsSnapshot;
 
   /**
    * Creates a new instance.
@@ -57,7 +66,7 @@ public class ReservationPool {
 
     ReservationEntry entry = reservations.get(resource);
     if (entry == null) {
-      entry = new ReservationEntry(resource);
+      entry = new ReservationEntry(resource, this);
       reservations.put(resource, entry);
     }
     return entry;
@@ -176,10 +185,7 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    return reservations.entrySet().stream()
-        .filter(entry -> entry.getValue().isAllocatedBy(client))
-        .map(entry -> entry.getKey())
-        .collect(Collectors.toSet());
+    return new HashSet<>(allocationsByClient.getOrDefault(client, Set.of()));
   }
 
   /**
@@ -215,6 +221,34 @@ public class ReservationPool {
     return true;
   }
 
+  /**
+   * Returns the resources in the given set of resources that are not available for the given
+   * client, i.e. that are currently allocated by other clients.
+   *
+   * @param resources The set of resources to be checked.
+   * @param client The client for which to check.
+   * @return The resources in the given set that are not available for the given client.
+   */
+  @Nonnull
+  public Set<TCSResource<?>> getBlockingResources(
+      @Nonnull
+      Set<TCSResource<?>> resources,
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(client, "client");
+
+    Set<TCSResource<?>> result = new HashSet<>();
+    for (TCSResource<?> curResource : resources) {
+      ReservationEntry entry = getReservationEntry(curResource);
+      if (!entry.isFree() && !entry.isAllocatedBy(client)) {
+        result.add(curResource);
+      }
+    }
+    return result;
+  }
+
   public void free(
       @Nonnull
       Scheduler.Client client,
@@ -236,32 +270,77 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    reservations.values().stream()
-        .filter(reservationEntry -> reservationEntry.isAllocatedBy(client))
-        .forEach(reservationEntry -> reservationEntry.freeCompletely());
+    for (TCSResource<?> curResource : allocatedResources(client)) {
+      getReservationEntry(curResource).freeCompletely();
+    }
   }
 
+  /**
+   * Returns all resource allocations as a map of client IDs to resources.
+   * <p>
+   * The returned map is an immutable snapshot that is only created again after allocations have
+   * changed.
+   * </p>
+   *
+   * @return All resource allocations as a map of client IDs to resources.
+   */
   @Nonnull
   public Map<String, Set<TCSResource<?>>> getAllocations() {
-    final Map<String, Set<TCSResource<?>>> result = new HashMap<>();
-    for (Map.Entry<TCSResource<?>, ReservationEntry> curEntry : reservations.entrySet()) {
-      final TCSResource<?> curResource = curEntry.getKey();
-      final Scheduler.Client curUser = curEntry.getValue().getClient();
-      if (curUser != null) {
-        Set<TCSResource<?>> userResources = result.get(curUser.getId());
-        if (userResources == null) {
-          userResources = new HashSet<>();
-        }
-        userResources.add(curResource);
-        result.put(curUser.getId(), userResources);
+    if (allocationsSnapshot == null) {
+      Map<String, Set<TCSResource<?>>> result = new HashMap<>();
+      for (Map.Entry<Scheduler.Client, Set<TCSResource<?>>> curEntry
+          : allocationsByClient.entrySet()) {
+        result.merge(
+            curEntry.getKey().getId(),
+            Set.copyOf(curEntry.getValue()),
+            (resources1, resources2) -> {
+              Set<TCSResource<?>> merged = new HashSet<>(resources1);
+              merged.addAll(resources2);
+              return Set.copyOf(merged);
+            }
+        );
       }
+      allocationsSnapshot = Map.copyOf(result);
     }
-    return result;
+    return allocationsSnapshot;
   }
 
   public void clear() {
     claimsByClient.clear();
     reservations.clear();
+    allocationsByClient.clear();
+    allocationsSnapshot = null;
+  }
+
+  /**
+   * Called by reservation entries when a resource has been allocated by a client that did not
+   * allocate it before.
+   *
+   * @param client The client.
+   * @param resource The resource.
+   */
+  void resourceAllocated(Scheduler.Client client, TCSResource<?> resource) {
+    allocationsByClient.computeIfAbsent(client, c -> new HashSet<>()).add(resource);
+    allocationsSnapshot = null;
+  }
+
+  /**
+   * Called by reservation entries when a resource has been freed completely by a client.
+   *
+   * @param client The client.
+   * @param resource The resource.
+   */
+  void resourceFreed(Scheduler.Client client, TCSResource<?> resource) {
+    Set<TCSResource<?>> resources = allocationsByClient.get(client);
+    if (resources == null) {
+      return;
+    }
+
+    resources.remove(resource);
+    if (resources.isEmpty()) {
+      allocationsByClient.remove(client);
+    }
+    allocationsSnapshot = null;
   }
 
   /**
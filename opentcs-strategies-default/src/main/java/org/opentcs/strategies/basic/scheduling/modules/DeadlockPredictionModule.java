@@ -0,0 +1,361 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling.modules;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.opentcs.access.DeadlockPredictedEvent;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.util.event.EventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prevents allocations that would result in clients waiting for each other's resources in a cycle,
+ * i.e. in a deadlock.
+ * <p>
+ * This module keeps a wait-for graph across all clients: A client waits for another one if the
+ * next set of resources it has claimed contains resources allocated by the other one.
+ * Allocating resources for a client adds edges to this graph, as the client will wait for the
+ * owners of the resources it has claimed next, and clients that have claimed the allocated
+ * resources next will wait for it.
+ * An allocation is not granted if any of these new edges would close a cycle, which is checked
+ * by searching the graph from the owners of the resources the client has claimed next only.
+ * For every predicted deadlock, a {@link DeadlockPredictedEvent} is emitted.
+ * </p>
+ */
+public class DeadlockPredictionModule
+    implements
+      Scheduler.Module {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DeadlockPredictionModule.class);
+  /**
+   * The event bus to emit predicted deadlocks to.
+   */
+  private final EventBus eventBus;
+  /**
+   * A global object to be used for synchronization within the kernel.
+   */
+  private final Object globalSyncObject;
+  /**
+   * The clients allocating resources, mapped to the resources.
+   */
+  private final Map<TCSResource<?>, Scheduler.Client> ownersByResource = new HashMap<>();
+  /**
+   * The resources allocated by clients, mapped to the clients.
+   */
+  private final Map<Scheduler.Client, Set<TCSResource<?>>> allocationsByClient = new HashMap<>();
+  /**
+   * The remaining claims of clients, mapped to the clients.
+   */
+  private final Map<Scheduler.Client, List<Set<TCSResource<?>>>> claimsByClient = new HashMap<>();
+  /**
+   * The clients that have claimed resources next, mapped to the resources.
+   */
+  private final Map<TCSResource<?>, Set<Scheduler.Client>> waitersByResource = new HashMap<>();
+  /**
+   * The deadlocks most recently predicted for clients, mapped to the clients.
+   */
+  private final Map<Scheduler.Client, List<String>> predictedDeadlocks = new HashMap<>();
+  /**
+   * Whether this module is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventBus The event bus to emit predicted deadlocks to.
+   * @param globalSyncObject The kernel threads' global synchronization object.
+   */
+  @Inject
+  public DeadlockPredictionModule(
+      @Nonnull
+      @ApplicationEventBus
+      EventBus eventBus,
+      @Nonnull
+      @GlobalSyncObject
+      Object globalSyncObject
+  ) {
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    synchronized (globalSyncObject) {
+      ownersByResource.clear();
+      allocationsByClient.clear();
+      claimsByClient.clear();
+      waitersByResource.clear();
+      predictedDeadlocks.clear();
+    }
+
+    initialized = false;
+  }
+
+  @Override
+  public void setAllocationState(
+      @Nonnull
+      Scheduler.Client client,
+      @Nonnull
+      Set<TCSResource<?>> alloc,
+      @Nonnull
+      List<Set<TCSResource<?>>> remainingClaim
+  ) {
+    requireNonNull(client, "client");
+    requireNonNull(alloc, "alloc");
+    requireNonNull(remainingClaim, "remainingClaim");
+
+    synchronized (globalSyncObject) {
+      for (TCSResource<?> resource : allocationsByClient.getOrDefault(client, Set.of())) {
+        ownersByResource.remove(resource, client);
+      }
+      allocationsByClient.remove(client);
+      for (TCSResource<?> resource : alloc) {
+        ownersByResource.put(resource, client);
+      }
+      if (!alloc.isEmpty()) {
+        allocationsByClient.put(client, new HashSet<>(alloc));
+      }
+
+      for (TCSResource<?> resource : nextClaim(client)) {
+        removeWaiter(resource, client);
+      }
+      if (remainingClaim.isEmpty()) {
+        claimsByClient.remove(client);
+      }
+      else {
+        claimsByClient.put(client, List.copyOf(remainingClaim));
+      }
+      for (TCSResource<?> resource : nextClaim(client)) {
+        waitersByResource.computeIfAbsent(resource, res -> new HashSet<>()).add(client);
+      }
+    }
+  }
+
+  @Override
+  public boolean mayAllocate(
+      @Nonnull
+      Scheduler.Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    requireNonNull(client, "client");
+    requireNonNull(resources, "resources");
+
+    synchronized (globalSyncObject) {
+      List<Scheduler.Client> cycle = findCycle(client, resources);
+      if (cycle.isEmpty()) {
+        predictedDeadlocks.remove(client);
+        return true;
+      }
+
+      List<String> clientIds = cycle.stream().map(Scheduler.Client::getId).toList();
+      LOG.debug(
+          "{}: Not allowing allocation of {}, as clients would wait for each other: {}",
+          client.getId(),
+          resources,
+          clientIds
+      );
+      // Emit every predicted deadlock only once, as allocations are retried frequently.
+      if (!Objects.equals(predictedDeadlocks.put(client, clientIds), clientIds)) {
+        eventBus.onEvent(
+            new DeadlockPredictedEvent(
+                clientIds,
+                resources.stream()
+                    .map(TCSResource::getReference)
+                    .collect(Collectors.toSet())
+            )
+        );
+      }
+      return false;
+    }
+  }
+
+  @Override
+  public void prepareAllocation(
+      @Nonnull
+      Scheduler.Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+  }
+
+  @Override
+  public boolean hasPreparedAllocation(
+      @Nonnull
+      Scheduler.Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    return true;
+  }
+
+  @Override
+  public void allocationReleased(
+      @Nonnull
+      Scheduler.Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    requireNonNull(client, "client");
+    requireNonNull(resources, "resources");
+
+    synchronized (globalSyncObject) {
+      removeAllocations(client, resources);
+    }
+  }
+
+  /**
+   * Returns the clients that would wait for each other in a cycle if the given resources were
+   * allocated by the given client.
+   *
+   * @param client The client.
+   * @param resources The resources to be allocated.
+   * @return The clients that would wait for each other, starting with the given client, or an
+   * empty list, if there would be no such cycle.
+   */
+  private List<Scheduler.Client> findCycle(
+      Scheduler.Client client,
+      Set<TCSResource<?>> resources
+  ) {
+    // The clients that would wait for the given one because of the allocation.
+    Set<Scheduler.Client> waitingClients = new HashSet<>();
+    for (TCSResource<?> resource : resources) {
+      waitingClients.addAll(waitersByResource.getOrDefault(resource, Set.of()));
+    }
+    waitingClients.remove(client);
+
+    // Search the wait-for graph, starting with the clients the given one would wait for after the
+    // allocation.
+    Map<Scheduler.Client, Scheduler.Client> predecessors = new HashMap<>();
+    Queue<Scheduler.Client> queue = new ArrayDeque<>();
+    for (Scheduler.Client owner : owners(claimAfter(client, resources), client)) {
+      if (predecessors.putIfAbsent(owner, client) == null) {
+        queue.add(owner);
+      }
+    }
+    while (!queue.isEmpty()) {
+      Scheduler.Client current = queue.remove();
+      if (waitingClients.contains(current)) {
+        return toCycle(client, current, predecessors);
+      }
+      for (Scheduler.Client owner : owners(nextClaim(current), current)) {
+        if (owner == client) {
+          // The current client already waits for resources allocated by the given one.
+          return toCycle(client, current, predecessors);
+        }
+        if (predecessors.putIfAbsent(owner, current) == null) {
+          queue.add(owner);
+        }
+      }
+    }
+    return List.of();
+  }
+
+  private List<Scheduler.Client> toCycle(
+      Scheduler.Client client,
+      Scheduler.Client last,
+      Map<Scheduler.Client, Scheduler.Client> predecessors
+  ) {
+    List<Scheduler.Client> result = new ArrayList<>();
+    for (Scheduler.Client current = last;
+        current != client;
+        current = predecessors.get(current)) {
+      result.add(current);
+    }
+    result.add(client);
+    Collections.reverse(result);
+    return result;
+  }
+
+  private Set<Scheduler.Client> owners(Set<TCSResource<?>> resources, Scheduler.Client client) {
+    Set<Scheduler.Client> result = new HashSet<>();
+    for (TCSResource<?> resource : resources) {
+      Scheduler.Client owner = ownersByResource.get(resource);
+      if (owner != null && owner != client) {
+        result.add(owner);
+      }
+    }
+    return result;
+  }
+
+  private Set<TCSResource<?>> nextClaim(Scheduler.Client client) {
+    List<Set<TCSResource<?>>> claim = claimsByClient.getOrDefault(client, List.of());
+    return claim.isEmpty() ? Set.of() : claim.get(0);
+  }
+
+  private Set<TCSResource<?>> claimAfter(
+      Scheduler.Client client,
+      Set<TCSResource<?>> resources
+  ) {
+    List<Set<TCSResource<?>>> claim = claimsByClient.getOrDefault(client, List.of());
+    if (claim.size() < 2 || !Objects.equals(claim.get(0), resources)) {
+      return Set.of();
+    }
+    return claim.get(1);
+  }
+
+  private void removeAllocations(Scheduler.Client client, Set<TCSResource<?>> resources) {
+    Set<TCSResource<?>> allocations = allocationsByClient.get(client);
+    for (TCSResource<?> resource : resources) {
+      ownersByResource.remove(resource, client);
+      if (allocations != null) {
+        allocations.remove(resource);
+      }
+    }
+    if (allocations != null && allocations.isEmpty()) {
+      allocationsByClient.remove(client);
+    }
+  }
+
+  private void removeWaiter(TCSResource<?> resource, Scheduler.Client client) {
+    Set<Scheduler.Client> waiters = waitersByResource.get(resource);
+    if (waiters == null) {
+      return;
+    }
+
+    waiters.remove(client);
+    if (waiters.isEmpty()) {
+      waitersByResource.remove(resource);
+    }
+  }
+}
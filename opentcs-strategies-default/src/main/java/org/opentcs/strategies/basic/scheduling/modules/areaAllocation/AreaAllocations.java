@@ -2,24 +2,43 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.quadtree.Quadtree;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 
 /**
  * A container for keeping track of areas allocated by vehicles.
+ * <p>
+ * The single geometries of the allocated areas are kept in a spatial index (a quadtree, which,
+ * unlike an STR-tree, can be updated without being built again), so that checking requested areas
+ * only requires full intersection tests with allocated geometries whose envelopes intersect the
+ * requested ones.
+ * </p>
  */
 public class AreaAllocations
     implements
       Lifecycle {
 
-  private final Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreasByVehicles
+  private final Map<TCSObjectReference<Vehicle>, List<AllocatedArea>> allocatedAreasByVehicles
       = new HashMap<>();
+  /**
+   * Spatial index of the single geometries allocated by all vehicles.
+   */
+  private Quadtree allocatedAreaIndex = new Quadtree();
   private boolean initialized = false;
 
   @Inject
@@ -56,6 +75,7 @@ public class AreaAllocations
    */
   public void clearAreaAllocations() {
     allocatedAreasByVehicles.clear();
+    allocatedAreaIndex = new Quadtree();
   }
 
   /**
@@ -69,7 +89,24 @@ public class AreaAllocations
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection allocatedAreas
   ) {
-    allocatedAreasByVehicles.put(vehicleRef, allocatedAreas);
+    requireNonNull(vehicleRef, "vehicleRef");
+    requireNonNull(allocatedAreas, "allocatedAreas");
+
+    clearAreaAllocation(vehicleRef);
+
+    List<AllocatedArea> areas = new ArrayList<>(allocatedAreas.getNumGeometries());
+    for (int i = 0; i < allocatedAreas.getNumGeometries(); i++) {
+      Geometry geometry = allocatedAreas.getGeometryN(i);
+      // Empty geometries do not intersect any others.
+      if (geometry.isEmpty()) {
+        continue;
+      }
+
+      AllocatedArea area = new AllocatedArea(vehicleRef, geometry);
+      allocatedAreaIndex.insert(area.getEnvelope(), area);
+      areas.add(area);
+    }
+    allocatedAreasByVehicles.put(vehicleRef, areas);
   }
 
   /**
@@ -78,7 +115,14 @@ public class AreaAllocations
    * @param vehicleRef The vehicle reference.
    */
   public void clearAreaAllocation(TCSObjectReference<Vehicle> vehicleRef) {
-    allocatedAreasByVehicles.remove(vehicleRef);
+    List<AllocatedArea> areas = allocatedAreasByVehicles.remove(vehicleRef);
+    if (areas == null) {
+      return;
+    }
+
+    for (AllocatedArea area : areas) {
+      allocatedAreaIndex.remove(area.getEnvelope(), area);
+    }
   }
 
   /**
@@ -94,9 +138,67 @@ public class AreaAllocations
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection requestedAreas
   ) {
-    return allocatedAreasByVehicles.entrySet().stream()
-        // Only check areas allocated by vehicles other than the given vehicle.
-        .filter(entry -> !Objects.equals(entry.getKey(), vehicleRef))
-        .noneMatch(entry -> entry.getValue().intersects(requestedAreas));
+    for (int i = 0; i < requestedAreas.getNumGeometries(); i++) {
+      Geometry requestedArea = requestedAreas.getGeometryN(i);
+      if (requestedArea.isEmpty()) {
+        continue;
+      }
+
+      Envelope requestedEnvelope = requestedArea.getEnvelopeInternal();
+      PreparedGeometry preparedArea = null;
+      for (Object item : allocatedAreaIndex.query(requestedEnvelope)) {
+        AllocatedArea allocatedArea = (AllocatedArea) item;
+        // Only check areas allocated by vehicles other than the given vehicle. As the quadtree may
+        // return areas not intersecting the requested envelope, check the envelopes first.
+        if (Objects.equals(allocatedArea.getVehicleRef(), vehicleRef)
+            || !allocatedArea.getEnvelope().intersects(requestedEnvelope)) {
+          continue;
+        }
+
+        if (preparedArea == null) {
+          preparedArea = prepare(requestedArea);
+        }
+        if (preparedArea.intersects(allocatedArea.getGeometry())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private PreparedGeometry prepare(Geometry area) {
+    // Areas provided by the CachingAreaProvider have already been prepared upon initialization.
+    if (area.getUserData() instanceof PreparedGeometry preparedArea) {
+      return preparedArea;
+    }
+    return PreparedGeometryFactory.prepare(area);
+  }
+
+  /**
+   * A single geometry allocated by a vehicle.
+   */
+  private static class AllocatedArea {
+
+    private final TCSObjectReference<Vehicle> vehicleRef;
+    private final Geometry geometry;
+    private final Envelope envelope;
+
+    AllocatedArea(TCSObjectReference<Vehicle> vehicleRef, Geometry geometry) {
+      this.vehicleRef = vehicleRef;
+      this.geometry = geometry;
+      this.envelope = geometry.getEnvelopeInternal();
+    }
+
+    TCSObjectReference<Vehicle> getVehicleRef() {
+      return vehicleRef;
+    }
+
+    Geometry getGeometry() {
+      return geometry;
+    }
+
+    Envelope getEnvelope() {
+      return envelope;
+    }
   }
 }
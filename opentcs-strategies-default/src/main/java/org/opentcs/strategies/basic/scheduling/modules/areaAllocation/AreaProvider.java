@@ -18,6 +18,10 @@ public interface AreaProvider
   /**
    * Provides the areas related to the given envelope key and the given set of resources as a
    * {@link GeometryCollection}.
+   * <p>
+   * Implementations may return the same instance to multiple callers, so callers must not modify
+   * the collection returned or the areas it contains.
+   * </p>
    *
    * @param envelopeKey The envelope key.
    * @param resources The set of resources.
@@ -8,6 +8,7 @@ import static org.opentcs.strategies.basic.scheduling.modules.areaAllocation.Cus
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -15,6 +16,8 @@ import java.util.Set;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Envelope;
 import org.opentcs.data.model.Path;
@@ -24,14 +27,50 @@ import org.opentcs.data.model.TCSResource;
 /**
  * An {@link AreaProvider} implementation that, upon initialization, computes and caches the areas
  * for the {@link Envelope}s defined at all {@link Point}s and {@link Path}s.
+ * <p>
+ * Along with every area, its envelope and a {@link PreparedGeometry} (set as the area's user data)
+ * are computed upon initialization, so that intersection tests with the same area do not require
+ * it to be analyzed again.
+ * The collections of areas provided for sets of resources (e.g. for the steps of vehicles' routes)
+ * are cached, too, with the least recently used ones being dropped first. The number of area
+ * collections kept is tied to the number of areas computed for the plant model.
+ * </p>
+ * <p>
+ * Note that the areas and area collections provided are shared between all callers and must not be
+ * modified.
+ * </p>
  */
 public class CachingAreaProvider
     implements
       AreaProvider {
 
+  /**
+   * The number of area collections to keep per area computed for the plant model.
+   * <p>
+   * Most sets of resources (e.g. the steps of vehicles' routes) consist of a path and its
+   * destination point, so their number is in the order of the number of areas.
+   * </p>
+   */
+  private static final int AREA_COLLECTIONS_PER_AREA = 2;
   private final TCSObjectService objectService;
   private final CustomGeometryFactory geometryFactory = new CustomGeometryFactory();
-  private final Map<CacheKey, Geometry> cache = new HashMap<>();
+  private final Map<AreaKey, Geometry> cache = new HashMap<>();
+  /**
+   * The area collections most recently provided for sets of resources, in access order.
+   */
+  private final Map<AreaCollectionKey, GeometryCollection> areaCollections
+      = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+            Map.Entry<AreaCollectionKey, GeometryCollection> eldest
+        ) {
+          return size() > maxAreaCollections;
+        }
+      };
+  /**
+   * The maximum number of area collections to keep.
+   */
+  private int maxAreaCollections;
   private boolean initialized;
 
   /**
@@ -51,6 +90,9 @@ public class CachingAreaProvider
     }
 
     populateCache();
+    synchronized (areaCollections) {
+      maxAreaCollections = AREA_COLLECTIONS_PER_AREA * cache.size();
+    }
 
     initialized = true;
   }
@@ -67,10 +109,20 @@ public class CachingAreaProvider
     }
 
     cache.clear();
+    synchronized (areaCollections) {
+      areaCollections.clear();
+    }
 
     initialized = false;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The collection returned (as well as the areas it contains) may be shared with other callers
+   * and must not be modified.
+   * </p>
+   */
   @Override
   public GeometryCollection getAreas(
       @Nonnull
@@ -81,6 +133,21 @@ public class CachingAreaProvider
     requireNonNull(envelopeKey, "envelopeKey");
     requireNonNull(resources, "resources");
 
+    AreaCollectionKey key = new AreaCollectionKey(envelopeKey, Set.copyOf(resources));
+    synchronized (areaCollections) {
+      GeometryCollection areas = areaCollections.get(key);
+      if (areas == null) {
+        areas = createAreaCollection(envelopeKey, resources);
+        areaCollections.put(key, areas);
+      }
+      return areas;
+    }
+  }
+
+  private GeometryCollection createAreaCollection(
+      String envelopeKey,
+      Set<TCSResource<?>> resources
+  ) {
     Geometry[] computedAreas = resources.stream()
         .map(resource -> lookupArea(envelopeKey, resource))
         .filter(geometry -> geometry != EMPTY_GEOMETRY)
@@ -98,7 +165,7 @@ public class CachingAreaProvider
       for (Map.Entry<String, Envelope> entry : point.getVehicleEnvelopes().entrySet()) {
         String envelopeKey = entry.getKey();
         computeArea(envelopeKey, point)
-            .ifPresent(geometry -> cache.put(new CacheKey(envelopeKey, point), geometry));
+            .ifPresent(geometry -> cache.put(new AreaKey(envelopeKey, point), geometry));
       }
     }
 
@@ -110,7 +177,7 @@ public class CachingAreaProvider
       for (Map.Entry<String, Envelope> entry : path.getVehicleEnvelopes().entrySet()) {
         String envelopeKey = entry.getKey();
         computeArea(envelopeKey, path)
-            .ifPresent(geometry -> cache.put(new CacheKey(envelopeKey, path), geometry));
+            .ifPresent(geometry -> cache.put(new AreaKey(envelopeKey, path), geometry));
       }
     }
   }
@@ -127,7 +194,13 @@ public class CachingAreaProvider
         .map(vertex -> new Coordinate(vertex.getX(), vertex.getY()))
         .toArray(Coordinate[]::new);
 
-    return Optional.of(geometryFactory.createPolygonOrEmptyGeometry(coordinates));
+    Geometry area = geometryFactory.createPolygonOrEmptyGeometry(coordinates);
+    if (area != EMPTY_GEOMETRY) {
+      // Compute the area's envelope and prepare it for intersection tests only once.
+      area.getEnvelopeInternal();
+      area.setUserData(PreparedGeometryFactory.prepare(area));
+    }
+    return Optional.of(area);
   }
 
   private Map<String, Envelope> extractVehicleEnvelopes(TCSResource<?> resource) {
@@ -143,14 +216,13 @@ public class CachingAreaProvider
   }
 
   private Geometry lookupArea(String envelopeKey, TCSResource<?> resource) {
-    return cache.getOrDefault(new CacheKey(envelopeKey, resource), EMPTY_GEOMETRY);
+    return cache.getOrDefault(new AreaKey(envelopeKey, resource), EMPTY_GEOMETRY);
   }
 
   /**
-   * Combines the envelope key and the resource (for which there is a corresponding area) to be used
-   * as the cache's key.
+   * Combines the envelope key and the resource for which there is a corresponding area.
    */
-  private static class CacheKey {
+  private static class AreaKey {
 
     private final String envelopeKey;
     private final TCSResource<?> resource;
@@ -161,7 +233,7 @@ public class CachingAreaProvider
      * @param envelopeKey The envelope key.
      * @param resource The resource.
      */
-    CacheKey(String envelopeKey, TCSResource<?> resource) {
+    AreaKey(String envelopeKey, TCSResource<?> resource) {
       this.envelopeKey = requireNonNull(envelopeKey, "envelopeKey");
       this.resource = requireNonNull(resource, "resource");
     }
@@ -179,13 +251,56 @@ public class CachingAreaProvider
       if (this == obj) {
         return true;
       }
-      if (!(obj instanceof CacheKey)) {
+      if (!(obj instanceof AreaKey)) {
         return false;
       }
 
-      CacheKey other = (CacheKey) obj;
+      AreaKey other = (AreaKey) obj;
       return Objects.equals(this.envelopeKey, other.envelopeKey)
           && Objects.equals(this.resource, other.resource);
     }
   }
+
+  /**
+   * Combines the envelope key and the set of resources for which there is a corresponding
+   * collection of areas.
+   */
+  private static class AreaCollectionKey {
+
+    private final String envelopeKey;
+    private final Set<TCSResource<?>> resources;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param envelopeKey The envelope key.
+     * @param resources The set of resources.
+     */
+    AreaCollectionKey(String envelopeKey, Set<TCSResource<?>> resources) {
+      this.envelopeKey = requireNonNull(envelopeKey, "envelopeKey");
+      this.resources = requireNonNull(resources, "resources");
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = 7;
+      hash = 37 * hash + Objects.hashCode(this.envelopeKey);
+      hash = 37 * hash + Objects.hashCode(this.resources);
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof AreaCollectionKey)) {
+        return false;
+      }
+
+      AreaCollectionKey other = (AreaCollectionKey) obj;
+      return Objects.equals(this.envelopeKey, other.envelopeKey)
+          && Objects.equals(this.resources, other.resources);
+    }
+  }
 }
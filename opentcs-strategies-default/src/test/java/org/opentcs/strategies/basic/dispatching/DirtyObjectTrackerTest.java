@@ -0,0 +1,161 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventBus;
+
+/**
+ * Unit tests for {@link DirtyObjectTracker}.
+ */
+class DirtyObjectTrackerTest {
+
+  private TCSObjectService objectService;
+  private DefaultDispatcherConfiguration configuration;
+  private DirtyObjectTracker tracker;
+  private Vehicle vehicle1;
+  private Vehicle vehicle2;
+  private TransportOrder order1;
+  private TransportOrder order2;
+
+  @BeforeEach
+  void setUp() {
+    objectService = mock(TCSObjectService.class);
+    configuration = mock(DefaultDispatcherConfiguration.class);
+    when(configuration.incrementalDispatching()).thenReturn(true);
+    when(configuration.incrementalDispatchingFullRunInterval()).thenReturn(3600000L);
+    tracker = new DirtyObjectTracker(objectService, mock(EventBus.class), configuration);
+    tracker.initialize();
+
+    vehicle1 = new Vehicle("vehicle-1");
+    vehicle2 = new Vehicle("vehicle-2");
+    order1 = new TransportOrder("order-1", List.of());
+    order2 = new TransportOrder("order-2", List.of());
+    when(objectService.fetchObject(Vehicle.class, vehicle1.getReference())).thenReturn(vehicle1);
+  }
+
+  @Test
+  void startWithFullRun() {
+    tracker.startRun();
+
+    assertThat(tracker.isFullRun(), is(true));
+    assertThat(tracker.isDirty(vehicle1), is(true));
+    assertThat(tracker.isDirty(order1), is(true));
+  }
+
+  @Test
+  void considerOnlyChangedObjectsInIncrementalRun() {
+    tracker.startRun();
+
+    tracker.onEvent(modified(vehicle1));
+    tracker.onEvent(modified(order1));
+    tracker.startRun();
+
+    assertThat(tracker.isFullRun(), is(false));
+    assertThat(tracker.isDirty(vehicle1), is(true));
+    assertThat(tracker.isDirty(vehicle2), is(false));
+    assertThat(tracker.isDirty(order1), is(true));
+    assertThat(tracker.isDirty(order2), is(false));
+    assertThat(tracker.fetchDirtyVehicles(), contains(vehicle1));
+
+    tracker.startRun();
+
+    assertThat(tracker.isDirty(vehicle1), is(false));
+    assertThat(tracker.isDirty(order1), is(false));
+  }
+
+  @Test
+  void markOrdersOfChangedSequencesAsDirty() {
+    tracker.startRun();
+
+    tracker.onEvent(
+        modified(
+            new OrderSequence("sequence")
+                .withOrder(order1.getReference())
+                .withProcessingVehicle(vehicle2.getReference())
+        )
+    );
+    tracker.startRun();
+
+    assertThat(tracker.isDirty(order1), is(true));
+    assertThat(tracker.isDirty(order2), is(false));
+    assertThat(tracker.isDirty(vehicle2), is(true));
+  }
+
+  @Test
+  void requireFullRunAfterChangesToOtherObjects() {
+    tracker.startRun();
+
+    Point point1 = new Point("point-1");
+    Point point2 = new Point("point-2");
+    Path path = new Path("path", point1.getReference(), point2.getReference());
+    tracker.onEvent(modified(path.withLocked(true), path));
+    tracker.startRun();
+
+    assertThat(tracker.isFullRun(), is(true));
+  }
+
+  @Test
+  void markOnlyOccupyingVehiclesAsDirtyAfterPointOccupancyChanges() {
+    tracker.startRun();
+
+    Point point = new Point("point");
+    tracker.onEvent(modified(point.withOccupyingVehicle(vehicle1.getReference()), point));
+    tracker.startRun();
+
+    assertThat(tracker.isFullRun(), is(false));
+    assertThat(tracker.isDirty(vehicle1), is(true));
+    assertThat(tracker.isDirty(vehicle2), is(false));
+    assertThat(tracker.isDirty(order1), is(false));
+  }
+
+  @Test
+  void ignoreOtherModificationsOfPaths() {
+    tracker.startRun();
+
+    Point point1 = new Point("point-1");
+    Point point2 = new Point("point-2");
+    Path path = new Path("path", point1.getReference(), point2.getReference());
+    tracker.onEvent(modified(path));
+    tracker.startRun();
+
+    assertThat(tracker.isFullRun(), is(false));
+    assertThat(tracker.isDirty(vehicle1), is(false));
+  }
+
+  @Test
+  void alwaysRunFullyWithIncrementalDispatchingDisabled() {
+    when(configuration.incrementalDispatching()).thenReturn(false);
+    tracker.startRun();
+
+    tracker.onEvent(modified(vehicle1));
+    tracker.startRun();
+
+    assertThat(tracker.isFullRun(), is(true));
+    assertThat(tracker.isDirty(vehicle2), is(true));
+  }
+
+  private static TCSObjectEvent modified(TCSObject<?> object) {
+    return new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  private static TCSObjectEvent modified(TCSObject<?> current, TCSObject<?> previous) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
@@ -0,0 +1,110 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DispatchScheduler}.
+ */
+class DispatchSchedulerTest {
+
+  private ScheduledExecutorService executor;
+  private DefaultDispatcherConfiguration configuration;
+  private DispatchScheduler scheduler;
+  private AtomicInteger dispatchRuns;
+
+  @BeforeEach
+  void setUp() {
+    executor = new ScheduledThreadPoolExecutor(1);
+    configuration = mock(DefaultDispatcherConfiguration.class);
+    when(configuration.dispatchTriggerMaxDelay()).thenReturn(10000L);
+    scheduler = new DispatchScheduler(executor, configuration);
+    scheduler.initialize();
+    dispatchRuns = new AtomicInteger();
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.terminate();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void executeEveryTriggerImmediatelyWithoutMinInterval() {
+    when(configuration.dispatchTriggerMinInterval()).thenReturn(0L);
+
+    scheduler.trigger(dispatchRuns::incrementAndGet);
+    scheduler.trigger(dispatchRuns::incrementAndGet);
+
+    assertThat(dispatchRuns.get(), is(2));
+    assertThat(scheduler.getTriggerCount(), is(2L));
+    assertThat(scheduler.getRunCount(), is(2L));
+  }
+
+  @Test
+  void collapseTriggersWithinMinInterval()
+      throws InterruptedException {
+    when(configuration.dispatchTriggerMinInterval()).thenReturn(50L);
+
+    scheduler.trigger(dispatchRuns::incrementAndGet);
+    scheduler.trigger(dispatchRuns::incrementAndGet);
+    scheduler.trigger(dispatchRuns::incrementAndGet);
+    assertThat(dispatchRuns.get(), is(0));
+
+    awaitExecutorIdle();
+
+    assertThat(dispatchRuns.get(), is(1));
+    assertThat(scheduler.getTriggerCount(), is(3L));
+    assertThat(scheduler.getRunCount(), is(1L));
+  }
+
+  @Test
+  void doNotPostponeRunsBeyondMaxDelay()
+      throws InterruptedException {
+    when(configuration.dispatchTriggerMinInterval()).thenReturn(10000L);
+    when(configuration.dispatchTriggerMaxDelay()).thenReturn(50L);
+
+    scheduler.trigger(dispatchRuns::incrementAndGet);
+    scheduler.trigger(dispatchRuns::incrementAndGet);
+
+    awaitExecutorIdle();
+
+    assertThat(dispatchRuns.get(), is(1));
+  }
+
+  @Test
+  void discardPendingRunsOnTermination()
+      throws InterruptedException {
+    when(configuration.dispatchTriggerMinInterval()).thenReturn(50L);
+
+    scheduler.trigger(dispatchRuns::incrementAndGet);
+    scheduler.terminate();
+
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.SECONDS);
+    assertThat(dispatchRuns.get(), is(0));
+  }
+
+  private void awaitExecutorIdle()
+      throws InterruptedException {
+    // Pending runs may reschedule themselves, so wait until there is nothing left to execute.
+    ScheduledThreadPoolExecutor stpe = (ScheduledThreadPoolExecutor) executor;
+    long deadline = System.currentTimeMillis() + 5000;
+    while ((!stpe.getQueue().isEmpty() || stpe.getActiveCount() > 0)
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -5,8 +5,6 @@ package org.opentcs.strategies.basic.dispatching.phase;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +12,7 @@ import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
@@ -88,7 +87,12 @@ public class TargetedPointsSupplierTest {
         )
     ).withState(TransportOrder.State.BEING_PROCESSED);
 
-    when(objectService.fetchObjects(eq(TransportOrder.class), any()))
+    when(
+        objectService.fetchObjectsByIndex(
+            TCSObjectIndex.ORDERS_BY_STATE,
+            TransportOrder.State.BEING_PROCESSED
+        )
+    )
         .thenReturn(Set.of(order1, order2));
 
     Set<Point> targetedPoints = targetedPointsSupplier.getTargetedPoints();
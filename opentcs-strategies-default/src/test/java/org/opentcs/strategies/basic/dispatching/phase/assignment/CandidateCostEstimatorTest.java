@@ -0,0 +1,105 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Unit tests for {@link CandidateCostEstimator}.
+ */
+class CandidateCostEstimatorTest {
+
+  private TCSObjectService objectService;
+  private CandidateCostEstimator estimator;
+  private Vehicle vehicle;
+  private Point vehiclePosition;
+
+  @BeforeEach
+  void setUp() {
+    objectService = mock(TCSObjectService.class);
+    estimator = new CandidateCostEstimator(objectService);
+    vehicle = new Vehicle("vehicle").withMaxVelocity(0);
+    vehiclePosition = pointAt("vehicle-position", 0, 0);
+  }
+
+  @Test
+  void estimateDistanceToDestinationPoint() {
+    Point destination = pointAt("destination", 3000, 4000);
+    TransportOrder order = orderTo(destination.getReference());
+
+    assertThat(estimator.estimateInitialCosts(vehicle, vehiclePosition, order), is(5000.0));
+  }
+
+  @Test
+  void estimateDistanceToClosestPointLinkedToDestinationLocation() {
+    Point farPoint = pointAt("far-point", 0, 10000);
+    Point nearPoint = pointAt("near-point", 0, 2000);
+    Location location = new Location("location", new LocationType("type").getReference());
+    location = location.withAttachedLinks(
+        Set.of(
+            new Location.Link(location.getReference(), farPoint.getReference()),
+            new Location.Link(location.getReference(), nearPoint.getReference())
+        )
+    );
+    when(objectService.fetchObject(Location.class, location.getName())).thenReturn(location);
+
+    assertThat(
+        estimator.estimateInitialCosts(vehicle, vehiclePosition, orderTo(location.getReference())),
+        is(2000.0)
+    );
+  }
+
+  @Test
+  void estimateSameCostsRegardlessOfMaximumVelocity() {
+    Point destination = pointAt("destination", 6000, 8000);
+    TransportOrder order = orderTo(destination.getReference());
+
+    assertThat(
+        estimator.estimateInitialCosts(vehicle.withMaxVelocity(1000), vehiclePosition, order),
+        is(10000.0)
+    );
+    assertThat(estimator.estimateInitialCosts(vehicle, vehiclePosition, order), is(10000.0));
+  }
+
+  @Test
+  void estimateZeroCostsForUnknownVehiclePosition() {
+    Point destination = pointAt("destination", 3000, 4000);
+
+    assertThat(
+        estimator.estimateInitialCosts(vehicle, null, orderTo(destination.getReference())),
+        is(0.0)
+    );
+  }
+
+  private Point pointAt(String name, long x, long y) {
+    Point point = new Point(name).withPose(new Pose(new Triple(x, y, 0), Double.NaN));
+    when(objectService.fetchObject(Point.class, name)).thenReturn(point);
+    when(objectService.fetchObject(Point.class, point.getReference())).thenReturn(point);
+    return point;
+  }
+
+  private static TransportOrder orderTo(TCSObjectReference<?> destination) {
+    return new TransportOrder(
+        "order",
+        List.of(new DriveOrder(new DriveOrder.Destination(destination)))
+    );
+  }
+}
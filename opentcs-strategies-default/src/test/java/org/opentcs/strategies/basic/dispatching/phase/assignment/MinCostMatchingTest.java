@@ -0,0 +1,132 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MinCostMatching}.
+ */
+class MinCostMatchingTest {
+
+  private static final double X = Double.POSITIVE_INFINITY;
+
+  @Test
+  void preferGloballyCheaperMatchingOverGreedyChoice() {
+    // Greedily matching row 0 with its cheapest column 0 would force row 1 into column 1 (cost
+    // 100), while the optimal matching costs only 2 + 2.
+    double[][] costs = {
+        {1, 2},
+        {2, 100}
+    };
+
+    assertThat(MinCostMatching.solve(costs), is(new int[]{1, 0}));
+  }
+
+  @Test
+  void matchOnlyAsManyRowsAsThereAreColumns() {
+    double[][] costs = {
+        {5},
+        {3},
+        {4}
+    };
+
+    assertThat(MinCostMatching.solve(costs), is(new int[]{-1, 0, -1}));
+  }
+
+  @Test
+  void matchOnlyAsManyColumnsAsThereAreRows() {
+    double[][] costs = {
+        {5, 3, 4}
+    };
+
+    assertThat(MinCostMatching.solve(costs), is(new int[]{1}));
+  }
+
+  @Test
+  void neverMatchForbiddenCombinations() {
+    double[][] costs = {
+        {X, X},
+        {1, X}
+    };
+
+    assertThat(MinCostMatching.solve(costs), is(new int[]{-1, 0}));
+  }
+
+  @Test
+  void preferMatchingMoreCombinationsOverLowerCosts() {
+    // Matching row 0 with column 0 would be cheapest, but would leave row 1 unmatched.
+    double[][] costs = {
+        {1, 1000},
+        {10, X}
+    };
+
+    assertThat(MinCostMatching.solve(costs), is(new int[]{1, 0}));
+  }
+
+  @Test
+  void rejectCostsTooHighToBeMatchedPrecisely() {
+    double[][] costs = {
+        {1E16, 1},
+        {1, X}
+    };
+
+    assertThrows(IllegalArgumentException.class, () -> MinCostMatching.solve(costs));
+  }
+
+  @Test
+  void findOptimalMatchingsForRandomMatrices() {
+    Random random = new Random(42);
+    for (int iteration = 0; iteration < 200; iteration++) {
+      int rowCount = 1 + random.nextInt(5);
+      int columnCount = 1 + random.nextInt(5);
+      double[][] costs = new double[rowCount][columnCount];
+      for (int i = 0; i < rowCount; i++) {
+        for (int j = 0; j < columnCount; j++) {
+          costs[i][j] = random.nextInt(10) == 0 ? X : random.nextInt(100);
+        }
+      }
+
+      int[] result = MinCostMatching.solve(costs);
+
+      assertThat(score(costs, result), is(bestScore(costs, 0, new boolean[columnCount])));
+    }
+  }
+
+  /**
+   * Scores a matching by the number of unmatched rows first and its total cost second.
+   */
+  private static double score(double[][] costs, int[] matching) {
+    double unmatched = 0;
+    double total = 0;
+    for (int i = 0; i < matching.length; i++) {
+      if (matching[i] < 0) {
+        unmatched++;
+      }
+      else {
+        total += costs[i][matching[i]];
+      }
+    }
+    return unmatched * 1000000 + total;
+  }
+
+  private static double bestScore(double[][] costs, int row, boolean[] usedColumns) {
+    if (row == costs.length) {
+      return 0;
+    }
+    double best = 1000000 + bestScore(costs, row + 1, usedColumns);
+    for (int j = 0; j < usedColumns.length; j++) {
+      if (!usedColumns[j] && costs[row][j] != X) {
+        usedColumns[j] = true;
+        best = Math.min(best, costs[row][j] + bestScore(costs, row + 1, usedColumns));
+        usedColumns[j] = false;
+      }
+    }
+    return best;
+  }
+}
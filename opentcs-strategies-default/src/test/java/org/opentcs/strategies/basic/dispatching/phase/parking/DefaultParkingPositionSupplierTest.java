@@ -7,6 +7,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -14,6 +15,7 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
@@ -102,19 +104,20 @@ class DefaultParkingPositionSupplierTest {
     Point point3 = new Point("another parking position closer to the vehicle")
         .withType(Point.Type.PARK_POSITION);
     vehicle = new Vehicle("vehicle").withCurrentPosition(point1.getReference());
-    when(router.getRoutes(vehicle, point1, point3, Set.of(), 1))
+    when(router.getRoutesToPoints(eq(vehicle), eq(point1), anySet(), eq(Set.of()), eq(1)))
         .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(new Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10))
-                )
-            )
-        );
-    when(router.getRoutes(vehicle, point1, point2, Set.of(), 1))
-        .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(new Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 30))
+            Map.of(
+                point3,
+                Set.of(
+                    new Route(
+                        List.of(new Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10))
+                    )
+                ),
+                point2,
+                Set.of(
+                    new Route(
+                        List.of(new Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 30))
+                    )
                 )
             )
         );
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -13,6 +14,7 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -69,22 +71,23 @@ class PrioritizedParkingPositionSupplierTest {
     Vehicle vehicle = new Vehicle("vehicle")
         .withCurrentPosition(point1.getReference());
 
-    when(router.getRoutes(vehicle, point1, point3, Set.of(), 1))
+    when(router.getRoutesToPoints(eq(vehicle), eq(point1), anySet(), eq(Set.of()), eq(1)))
         .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(
-                        new Route.Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10)
+            Map.of(
+                point3,
+                Set.of(
+                    new Route(
+                        List.of(
+                            new Route.Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10)
+                        )
                     )
-                )
-            )
-        );
-    when(router.getRoutes(vehicle, point1, point2, Set.of(), 1))
-        .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(
-                        new Route.Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 10)
+                ),
+                point2,
+                Set.of(
+                    new Route(
+                        List.of(
+                            new Route.Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 10)
+                        )
                     )
                 )
             )
@@ -109,22 +112,23 @@ class PrioritizedParkingPositionSupplierTest {
     Vehicle vehicle = new Vehicle("vehicle")
         .withCurrentPosition(point1.getReference());
 
-    when(router.getRoutes(vehicle, point1, point3, Set.of(), 1))
+    when(router.getRoutesToPoints(eq(vehicle), eq(point1), anySet(), eq(Set.of()), eq(1)))
         .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(
-                        new Route.Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10)
+            Map.of(
+                point3,
+                Set.of(
+                    new Route(
+                        List.of(
+                            new Route.Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10)
+                        )
                     )
-                )
-            )
-        );
-    when(router.getRoutes(vehicle, point1, point2, Set.of(), 1))
-        .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(
-                        new Route.Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 30)
+                ),
+                point2,
+                Set.of(
+                    new Route(
+                        List.of(
+                            new Route.Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 30)
+                        )
                     )
                 )
             )
@@ -151,22 +155,23 @@ class PrioritizedParkingPositionSupplierTest {
     Vehicle vehicle = new Vehicle("vehicle")
         .withCurrentPosition(point1.getReference());
 
-    when(router.getRoutes(vehicle, point1, point3, Set.of(), 1))
+    when(router.getRoutesToPoints(eq(vehicle), eq(point1), anySet(), eq(Set.of()), eq(1)))
         .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(
-                        new Route.Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10)
+            Map.of(
+                point3,
+                Set.of(
+                    new Route(
+                        List.of(
+                            new Route.Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10)
+                        )
                     )
-                )
-            )
-        );
-    when(router.getRoutes(vehicle, point1, point2, Set.of(), 1))
-        .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(
-                        new Route.Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 10)
+                ),
+                point2,
+                Set.of(
+                    new Route(
+                        List.of(
+                            new Route.Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 10)
+                        )
                     )
                 )
             )
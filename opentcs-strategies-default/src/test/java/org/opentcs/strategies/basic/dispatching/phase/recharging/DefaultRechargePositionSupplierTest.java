@@ -7,10 +7,13 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.oneOf;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -100,18 +103,21 @@ class DefaultRechargePositionSupplierTest {
     when(plantModelService.expandResources(Set.of(locationAccessPoint.getReference())))
         .thenReturn(Set.of(locationAccessPoint));
     when(configuration.maxRoutesToConsider()).thenReturn(1);
-    when(router.getRoutes(vehicle, currentPosition, locationAccessPoint, Set.of(), 1))
+    when(router.getRoutesToPoints(eq(vehicle), eq(currentPosition), anySet(), eq(Set.of()), eq(1)))
         .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(
-                        new Route.Step(
-                            null,
-                            currentPosition,
-                            locationAccessPoint,
-                            Vehicle.Orientation.FORWARD,
-                            0,
-                            10
+            Map.of(
+                locationAccessPoint,
+                Set.of(
+                    new Route(
+                        List.of(
+                            new Route.Step(
+                                null,
+                                currentPosition,
+                                locationAccessPoint,
+                                Vehicle.Orientation.FORWARD,
+                                0,
+                                10
+                            )
                         )
                     )
                 )
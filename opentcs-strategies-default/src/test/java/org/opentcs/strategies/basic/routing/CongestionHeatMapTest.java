@@ -0,0 +1,134 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link CongestionHeatMap}.
+ */
+class CongestionHeatMapTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Path pathAB;
+  private Path pathBC;
+  private TCSObjectService objectService;
+  private ShortestPathTreeCache shortestPathTreeCache;
+  private CongestionHeatMap heatMap;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+    pathBC = new Path("B --- C", pointB.getReference(), pointC.getReference());
+    objectService = mock();
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Set.of());
+    shortestPathTreeCache = new ShortestPathTreeCache(1);
+    heatMap = new CongestionHeatMap(objectService, shortestPathTreeCache, 100, 10);
+  }
+
+  @Test
+  void applyNoPenaltiesBeforeRefresh() {
+    assertEquals(0, heatMap.getPenalty(new Edge(pathAB, false)));
+  }
+
+  @Test
+  void applyPenaltiesForAllocatedAndClaimedResources() {
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(
+        Set.of(
+            new Vehicle("Vehicle-001")
+                .withAllocatedResources(List.of(Set.of(pathAB.getReference())))
+                .withClaimedResources(
+                    List.of(Set.of(pathBC.getReference(), pointC.getReference()))
+                ),
+            new Vehicle("Vehicle-002")
+                .withAllocatedResources(List.of(Set.of(pointB.getReference())))
+        )
+    );
+
+    heatMap.refresh();
+
+    // Penalties for the path itself and the point the edge leads to.
+    assertEquals(200, heatMap.getPenalty(new Edge(pathAB, false)));
+    assertEquals(100, heatMap.getPenalty(new Edge(pathAB, true)));
+    assertEquals(20, heatMap.getPenalty(new Edge(pathBC, false)));
+    assertEquals(110, heatMap.getPenalty(new Edge(pathBC, true)));
+  }
+
+  @Test
+  void excludePenaltiesCausedByRoutedVehicle() {
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(
+        Set.of(
+            new Vehicle("Vehicle-001")
+                .withAllocatedResources(
+                    List.of(Set.of(pathAB.getReference(), pointB.getReference()))
+                ),
+            new Vehicle("Vehicle-002")
+                .withClaimedResources(List.of(Set.of(pointB.getReference())))
+        )
+    );
+
+    heatMap.refresh();
+
+    assertEquals(210, heatMap.getPenalty(new Edge(pathAB, false)));
+    assertEquals(10, heatMap.getPenalty(new Edge(pathAB, false), "Vehicle-001"));
+    assertEquals(200, heatMap.getPenalty(new Edge(pathAB, false), "Vehicle-002"));
+    assertThat(heatMap.getCongestedResources("Vehicle-001"), is(Set.of("A --- B", "B")));
+    assertThat(heatMap.getCongestedResources("Vehicle-003"), is(Set.of()));
+  }
+
+  @Test
+  void incrementVersionOnlyIfPenaltiesChanged() {
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(
+        Set.of(
+            new Vehicle("Vehicle-001")
+                .withAllocatedResources(List.of(Set.of(pathAB.getReference())))
+        )
+    );
+    long version = heatMap.getVersion();
+
+    heatMap.refresh();
+    heatMap.refresh();
+
+    assertThat(heatMap.getVersion(), is(version + 1));
+  }
+
+  @Test
+  void dropShortestPathTreesIfPenaltiesChanged() {
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(
+        Set.of(
+            new Vehicle("Vehicle-001")
+                .withAllocatedResources(List.of(Set.of(pathAB.getReference())))
+        )
+    );
+    shortestPathTreeCache.getTree("some-group", "A", () -> mock(ShortestPathTree.class));
+
+    heatMap.refresh();
+
+    assertEquals(0, shortestPathTreeCache.getSize());
+  }
+
+  @Test
+  void indicateWhetherPenaltiesAreEnabled() {
+    assertFalse(new CongestionHeatMap(objectService, shortestPathTreeCache, 0, 0).isEnabled());
+  }
+}
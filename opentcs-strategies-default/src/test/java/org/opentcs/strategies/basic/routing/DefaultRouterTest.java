@@ -57,6 +57,10 @@ class DefaultRouterTest {
     );
 
     pointRouter = mock();
+    // Let the point router's shortest path trees look up each route separately, so tests only need
+    // to stub the point router's costs and routes.
+    when(pointRouter.getShortestPathTree(any(Point.class)))
+        .thenAnswer(invocation -> separateRoutesTree(invocation.getArgument(0)));
     Point point1 = new Point("P1").withType(Point.Type.HALT_POSITION);
     Point point2 = new Point("P2").withType(Point.Type.HALT_POSITION);
     order = new TransportOrder(
@@ -142,22 +146,33 @@ class DefaultRouterTest {
 
     when(pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder))
         .thenReturn(pointRouter);
-    when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
+    when(pointRouter.getRoute(any(Point.class), any(Point.class)))
         .thenAnswer(
             invocation -> {
               Point dest = invocation.getArgument(1);
-              return List.of(
-                  new Route.Step(
-                      null,
-                      null,
-                      dest,
-                      Vehicle.Orientation.UNDEFINED,
-                      0,
-                      Integer.parseInt(dest.getProperty("cost"))
+              long costs = Integer.parseInt(dest.getProperty("cost"));
+              return PointRoute.of(
+                  costs,
+                  List.of(
+                      new Route.Step(
+                          null,
+                          null,
+                          dest,
+                          Vehicle.Orientation.UNDEFINED,
+                          0,
+                          costs
+                      )
                   )
               );
             }
         );
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> {
+              Point dest = invocation.getArgument(1);
+              return Long.parseLong(dest.getProperty("cost"));
+            }
+        );
     when(objectService.fetchObject(Point.class, "D")).thenReturn(pointD);
     when(objectService.fetchObject(Point.class, pointB.getReference())).thenReturn(pointB);
     when(objectService.fetchObject(Point.class, pointC.getReference())).thenReturn(pointC);
@@ -171,4 +186,23 @@ class DefaultRouterTest {
     assertThat(orderRoutes.stream().findFirst().get().get(0).getCosts(), is(11L));
     assertThat(orderRoutes.stream().findFirst().get().get(1).getCosts(), is(13L));
   }
+
+  private ShortestPathTree separateRoutesTree(Point srcPoint) {
+    return new ShortestPathTree() {
+      @Override
+      public Point getSourcePoint() {
+        return srcPoint;
+      }
+
+      @Override
+      public long getCosts(Point destPoint) {
+        return pointRouter.getCosts(srcPoint, destPoint);
+      }
+
+      @Override
+      public PointRoute getRoute(Point destPoint) {
+        return pointRouter.getRoute(srcPoint, destPoint);
+      }
+    };
+  }
 }
@@ -0,0 +1,119 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link DerivedPointRouterCache}.
+ */
+class DerivedPointRouterCacheTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Path pathAB;
+  private DerivedPointRouterCache cache;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+    cache = new DerivedPointRouterCache(2);
+  }
+
+  @Test
+  void createPointRouterOnlyOnceForSameResourcesToAvoid() {
+    PointRouter pointRouter = mock();
+
+    assertThat(
+        cache.getPointRouter("some-group", Set.of(pointA), Set.of(pathAB), () -> pointRouter),
+        is(sameInstance(pointRouter))
+    );
+    assertThat(
+        cache.getPointRouter(
+            "some-group",
+            Set.of(new Point("A")),
+            Set.of(pathAB.withLocked(true)),
+            () -> mock()
+        ),
+        is(sameInstance(pointRouter))
+    );
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(2, cache.getAvoidedResourceCount());
+  }
+
+  @Test
+  void keepPointRoutersPerRoutingGroupAndResourcesToAvoid() {
+    PointRouter pointRouter = mock();
+
+    cache.getPointRouter("some-group", Set.of(pointA), Set.of(), () -> pointRouter);
+
+    assertThat(
+        cache.getPointRouter("other-group", Set.of(pointA), Set.of(), () -> mock()),
+        is(not(sameInstance(pointRouter)))
+    );
+    assertThat(
+        cache.getPointRouter("some-group", Set.of(pointB), Set.of(), () -> mock()),
+        is(not(sameInstance(pointRouter)))
+    );
+  }
+
+  @Test
+  void dropPointRoutersOnInvalidation() {
+    PointRouter pointRouter = mock();
+    cache.getPointRouter("some-group", Set.of(pointA), Set.of(), () -> pointRouter);
+    long topologyVersion = cache.getTopologyVersion();
+
+    cache.invalidate();
+
+    assertThat(cache.getTopologyVersion(), is(topologyVersion + 1));
+    assertEquals(0, cache.getSize());
+    assertEquals(0, cache.getAvoidedResourceCount());
+    assertThat(
+        cache.getPointRouter("some-group", Set.of(pointA), Set.of(), () -> mock()),
+        is(not(sameInstance(pointRouter)))
+    );
+  }
+
+  @Test
+  void dropLeastRecentlyUsedPointRouters() {
+    PointRouter pointRouterA = mock();
+    PointRouter pointRouterB = mock();
+    cache.getPointRouter("some-group", Set.of(pointA), Set.of(), () -> pointRouterA);
+    cache.getPointRouter("some-group", Set.of(pointB), Set.of(), () -> pointRouterB);
+    cache.getPointRouter("some-group", Set.of(pointA), Set.of(), () -> mock());
+
+    cache.getPointRouter("some-group", Set.of(pointA, pointB), Set.of(), () -> mock());
+
+    assertEquals(2, cache.getSize());
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(3, cache.getAvoidedResourceCount());
+    assertThat(
+        cache.getPointRouter("some-group", Set.of(pointA), Set.of(), () -> mock()),
+        is(sameInstance(pointRouterA))
+    );
+    assertThat(
+        cache.getPointRouter("some-group", Set.of(pointB), Set.of(), () -> mock()),
+        is(not(sameInstance(pointRouterB)))
+    );
+  }
+
+  @Test
+  void indicateWhetherCachingIsEnabled() {
+    assertFalse(new DerivedPointRouterCache(0).isEnabled());
+  }
+}
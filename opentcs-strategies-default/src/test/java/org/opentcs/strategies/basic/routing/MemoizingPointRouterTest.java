@@ -0,0 +1,113 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+
+/**
+ * Unit tests for {@link MemoizingPointRouter}.
+ */
+class MemoizingPointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private PointRoute routeAB;
+  private PointRouter delegate;
+  private PointRouteMemo memo;
+  private MemoizingPointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    routeAB = PointRoute.of(
+        42,
+        List.of(new Route.Step(pathAB, pointA, pointB, Vehicle.Orientation.FORWARD, 0, 42))
+    );
+
+    delegate = mock();
+    when(delegate.getRoute(pointA, pointB)).thenReturn(routeAB);
+    when(delegate.getRoute(pointB, pointA)).thenReturn(PointRoute.noRoute());
+    when(delegate.getCosts(pointB.getReference(), pointA.getReference()))
+        .thenReturn(PointRouter.INFINITE_COSTS);
+    memo = new PointRouteMemo();
+    pointRouter = new MemoizingPointRouter("some-group", delegate, memo);
+  }
+
+  @Test
+  void computeRouteOnlyOnce() {
+    assertEquals(42, pointRouter.getCosts(pointA, pointB));
+    assertThat(pointRouter.getRouteSteps(pointA, pointB), is(routeAB.getSteps()));
+    assertThat(pointRouter.getRoute(pointA, pointB), is(routeAB));
+
+    verify(delegate, times(1)).getRoute(pointA, pointB);
+    assertEquals(2, memo.getHitCount());
+    assertEquals(1, memo.getMissCount());
+  }
+
+  @Test
+  void rememberThatNoRouteExists() {
+    assertThat(pointRouter.getRouteSteps(pointB, pointA), is(nullValue()));
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointB.getReference(), pointA.getReference())
+    );
+
+    verify(delegate, times(1)).getRoute(pointB, pointA);
+    verify(delegate, never()).getCosts(pointB.getReference(), pointA.getReference());
+  }
+
+  @Test
+  void delegateCostsByReferenceIfRouteNotRemembered() {
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointB.getReference(), pointA.getReference())
+    );
+
+    verify(delegate, times(1)).getCosts(pointB.getReference(), pointA.getReference());
+    assertEquals(1, memo.getMissCount());
+  }
+
+  @Test
+  void shareRememberedRoutesWithinRoutingGroup() {
+    MemoizingPointRouter otherPointRouter
+        = new MemoizingPointRouter("some-group", delegate, memo);
+    MemoizingPointRouter otherGroupPointRouter
+        = new MemoizingPointRouter("other-group", delegate, memo);
+
+    pointRouter.getRoute(pointA, pointB);
+    otherPointRouter.getRoute(pointA, pointB);
+    verify(delegate, times(1)).getRoute(pointA, pointB);
+
+    otherGroupPointRouter.getRoute(pointA, pointB);
+    verify(delegate, times(2)).getRoute(pointA, pointB);
+  }
+
+  @Test
+  void computeRouteAgainAfterClearing() {
+    pointRouter.getRoute(pointA, pointB);
+    memo.clear();
+    pointRouter.getRoute(pointA, pointB);
+
+    verify(delegate, times(2)).getRoute(pointA, pointB);
+    assertEquals(0, memo.getHitCount());
+    assertEquals(1, memo.getMissCount());
+  }
+}
@@ -0,0 +1,193 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+
+/**
+ * Unit tests for {@link OrderRouteSearch}.
+ */
+class OrderRouteSearchTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+  private Point pointE;
+  private CountingPointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+    pointE = new Point("E");
+
+    pointRouter = new CountingPointRouter();
+    pointRouter.addRoute(pointA, pointB, 10);
+    pointRouter.addRoute(pointA, pointC, 20);
+    pointRouter.addRoute(pointB, pointD, 100);
+    pointRouter.addRoute(pointC, pointD, 5);
+    pointRouter.addRoute(pointC, pointE, 50);
+  }
+
+  @Test
+  void preferCheapestRouteOverCheapestFirstHop() {
+    List<Route> routes = OrderRouteSearch.computeCheapestRoute(
+        pointA,
+        List.of(Set.of(pointB, pointC), Set.of(pointD)),
+        pointRouter,
+        false
+    );
+
+    assertThat(
+        routes.stream().map(Route::getFinalDestinationPoint).toList(),
+        contains(pointC, pointD)
+    );
+    assertThat(routes.get(0).getCosts() + routes.get(1).getCosts(), is(25L));
+  }
+
+  @Test
+  void computeOneShortestPathTreePerReachedPoint() {
+    OrderRouteSearch.computeCheapestRoute(
+        pointA,
+        List.of(
+            Set.of(pointB, pointC),
+            Set.of(pointD, pointE),
+            Set.of(pointD, pointE)
+        ),
+        pointRouter,
+        true
+    );
+
+    // One tree for the start point and one for each point reached with the first two drive orders.
+    assertThat(pointRouter.treeCount, is(5));
+    // Routes are only looked up for the cheapest sequence of destination points.
+    assertThat(pointRouter.routeCount, is(3));
+  }
+
+  @Test
+  void stayAtCurrentPointIfItIsAcceptable() {
+    List<Route> routes = OrderRouteSearch.computeCheapestRoute(
+        pointA,
+        List.of(Set.of(pointA, pointB)),
+        pointRouter,
+        false
+    );
+
+    assertThat(routes.get(0).getFinalDestinationPoint(), is(pointA));
+    assertThat(routes.get(0).getSteps().get(0).getPath(), is(nullValue()));
+    assertThat(pointRouter.treeCount, is(0));
+  }
+
+  @Test
+  void returnNullIfNoRouteExists() {
+    assertThat(
+        OrderRouteSearch.computeCheapestRoute(
+            pointA,
+            List.of(Set.of(pointB), Set.of(pointE)),
+            pointRouter,
+            false
+        ),
+        is(nullValue())
+    );
+  }
+
+  @Test
+  void checkRoutabilityFromAnyStartPoint() {
+    assertTrue(
+        OrderRouteSearch.isRoutable(
+            Set.of(pointB, pointC),
+            List.of(Set.of(pointD, pointE)),
+            pointRouter
+        )
+    );
+    assertFalse(
+        OrderRouteSearch.isRoutable(
+            Set.of(pointB),
+            List.of(Set.of(pointE)),
+            pointRouter
+        )
+    );
+  }
+
+  private static class CountingPointRouter
+      implements
+        PointRouter {
+
+    private final Map<String, Long> costs = new HashMap<>();
+    private int routeCount;
+    private int treeCount;
+
+    void addRoute(Point srcPoint, Point destPoint, long routeCosts) {
+      costs.put(srcPoint.getName() + "->" + destPoint.getName(), routeCosts);
+    }
+
+    @Override
+    public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+      return getRoute(srcPoint, destPoint).getSteps();
+    }
+
+    @Override
+    public long getCosts(
+        TCSObjectReference<Point> srcPointRef,
+        TCSObjectReference<Point> destPointRef
+    ) {
+      if (srcPointRef.getName().equals(destPointRef.getName())) {
+        return 0;
+      }
+      return costs.getOrDefault(
+          srcPointRef.getName() + "->" + destPointRef.getName(),
+          INFINITE_COSTS
+      );
+    }
+
+    @Override
+    public ShortestPathTree getShortestPathTree(Point srcPoint) {
+      treeCount++;
+      return PointRouter.super.getShortestPathTree(srcPoint);
+    }
+
+    @Override
+    public PointRoute getRoute(Point srcPoint, Point destPoint) {
+      routeCount++;
+      long routeCosts = getCosts(srcPoint.getReference(), destPoint.getReference());
+      if (routeCosts == INFINITE_COSTS) {
+        return PointRoute.noRoute();
+      }
+      if (routeCosts == 0) {
+        return PointRoute.of(0, List.of());
+      }
+      return PointRoute.of(
+          routeCosts,
+          List.of(
+              new Route.Step(
+                  null,
+                  srcPoint,
+                  destPoint,
+                  Vehicle.Orientation.FORWARD,
+                  0,
+                  routeCosts
+              )
+          )
+      );
+    }
+  }
+}
@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ShortestPathTreeCache}.
+ */
+class ShortestPathTreeCacheTest {
+
+  private ShortestPathTreeCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new ShortestPathTreeCache(2);
+  }
+
+  @Test
+  void computeTreeOnlyOnce() {
+    ShortestPathTree tree = mock();
+
+    assertThat(cache.getTree("some-group", "A", () -> tree), is(sameInstance(tree)));
+    assertThat(cache.getTree("some-group", "A", () -> mock()), is(sameInstance(tree)));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  void keepTreesPerRoutingGroup() {
+    ShortestPathTree tree = mock();
+
+    cache.getTree("some-group", "A", () -> tree);
+
+    assertThat(cache.getTree("other-group", "A", () -> mock()), is(not(sameInstance(tree))));
+  }
+
+  @Test
+  void dropTreesOnInvalidation() {
+    ShortestPathTree tree = mock();
+    cache.getTree("some-group", "A", () -> tree);
+    long topologyVersion = cache.getTopologyVersion();
+
+    cache.invalidate();
+
+    assertThat(cache.getTopologyVersion(), is(topologyVersion + 1));
+    assertEquals(0, cache.getSize());
+    assertThat(cache.getTree("some-group", "A", () -> mock()), is(not(sameInstance(tree))));
+  }
+
+  @Test
+  void indicateWhetherCachingIsEnabled() {
+    assertFalse(new ShortestPathTreeCache(0).isEnabled());
+  }
+}
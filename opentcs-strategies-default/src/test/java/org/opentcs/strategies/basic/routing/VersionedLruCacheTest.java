@@ -0,0 +1,104 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link VersionedLruCache}.
+ */
+class VersionedLruCacheTest {
+
+  private VersionedLruCache<String, String> cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new VersionedLruCache<>("values", 2);
+  }
+
+  @Test
+  void computeValueOnlyOnce() {
+    assertThat(cache.get("A", () -> "value-1"), is("value-1"));
+    assertThat(cache.get("A", () -> "value-2"), is("value-1"));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  void countLookupsWithoutComputingValues() {
+    cache.get("A", () -> "value");
+
+    assertThat(cache.lookup("A"), is("value"));
+    assertThat(cache.lookup("B"), is(nullValue()));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+  }
+
+  @Test
+  void dropValuesOnInvalidation() {
+    cache.get("A", () -> "value-1");
+    long version = cache.getVersion();
+
+    cache.invalidate();
+
+    assertThat(cache.getVersion(), is(version + 1));
+    assertEquals(0, cache.getSize());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(0, cache.getMissCount());
+    assertThat(cache.get("A", () -> "value-2"), is("value-2"));
+  }
+
+  @Test
+  void doNotKeepValueComputedWithPreviousVersion() {
+    cache.get(
+        "A",
+        () -> {
+          cache.invalidate();
+          return "value";
+        }
+    );
+
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  void dropLeastRecentlyUsedValues() {
+    cache.get("A", () -> "value-A");
+    cache.get("B", () -> "value-B");
+    cache.get("A", () -> "other-value");
+
+    cache.get("C", () -> "value-C");
+
+    assertEquals(2, cache.getSize());
+    assertEquals(1, cache.getEvictionCount());
+    assertThat(cache.get("A", () -> "other-value"), is("value-A"));
+    assertThat(cache.get("B", () -> "other-value"), is("other-value"));
+  }
+
+  @Test
+  void keepTrackOfTotalWeightOfValues() {
+    VersionedLruCache<String, String> weightedCache
+        = new VersionedLruCache<>("values", 2, key -> key.length());
+    weightedCache.get("A", () -> "value");
+    weightedCache.get("BB", () -> "value");
+    weightedCache.get("CCC", () -> "value");
+
+    assertEquals(5, weightedCache.getTotalWeight());
+
+    weightedCache.invalidate();
+
+    assertEquals(0, weightedCache.getTotalWeight());
+  }
+
+  @Test
+  void indicateWhetherCachingIsEnabled() {
+    assertFalse(new VersionedLruCache<String, String>("values", 0).isEnabled());
+  }
+}
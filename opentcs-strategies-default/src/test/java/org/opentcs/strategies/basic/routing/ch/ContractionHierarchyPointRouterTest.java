@@ -0,0 +1,230 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.ch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.csr.CsrGraph;
+import org.opentcs.strategies.basic.routing.csr.CsrPointRouter;
+
+/**
+ * Unit tests for {@link ContractionHierarchyPointRouter}.
+ */
+class ContractionHierarchyPointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+  private Path pathAC;
+  private Path pathAD;
+  private Path pathCD;
+  private ContractionHierarchyPointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+    pathAD = new Path("A-->D", pointA.getReference(), pointD.getReference());
+    pathCD = new Path("C-->D", pointC.getReference(), pointD.getReference());
+
+    Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Point point : List.of(pointA, pointB, pointC, pointD)) {
+      graph.addVertex(point.getName());
+    }
+    addEdge(graph, new Edge(pathAC, false), 1234);
+    addEdge(graph, new Edge(pathAD, false), 1000);
+    addEdge(graph, new Edge(pathCD, true), 100);
+
+    List<Point> points = List.of(pointA, pointB, pointC, pointD);
+    ContractionHierarchyTopology topology
+        = ContractionHierarchyTopology.build(points, List.of(pathAC, pathAD, pathCD));
+    pointRouter = new ContractionHierarchyPointRouter(
+        ContractionHierarchy.customize(topology, CsrGraph.fromGraph(graph)),
+        points
+    );
+  }
+
+  @Test
+  void returnZeroCostsIfDestinationIsSource() {
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  void returnEmptyRouteIfDestinationIsSource() {
+    assertThat(pointRouter.getRouteSteps(pointA, pointA), is(empty()));
+  }
+
+  @Test
+  void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), pointB.getReference())
+    );
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointC.getReference(), pointA.getReference())
+    );
+  }
+
+  @Test
+  void returnNullIfNoRouteExists() {
+    assertNull(pointRouter.getRouteSteps(pointA, pointB));
+  }
+
+  @Test
+  void returnInfiniteCostsForUnknownPoints() {
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), new Point("X").getReference())
+    );
+  }
+
+  @Test
+  void returnCostsOfCheapestRoute() {
+    assertEquals(1100, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+  }
+
+  @Test
+  void returnStepsOfCheapestRoute() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointC);
+
+    assertThat(steps.stream().map(Step::getPath).toList(), contains(pathAD, pathCD));
+    assertThat(steps.get(0).getSourcePoint(), is(pointA));
+    assertThat(steps.get(0).getDestinationPoint(), is(pointD));
+    assertThat(steps.get(0).getVehicleOrientation(), is(Vehicle.Orientation.FORWARD));
+    assertThat(steps.get(0).getRouteIndex(), is(0));
+    assertThat(steps.get(0).getCosts(), is(1000L));
+    assertThat(steps.get(1).getSourcePoint(), is(pointD));
+    assertThat(steps.get(1).getDestinationPoint(), is(pointC));
+    assertThat(steps.get(1).getVehicleOrientation(), is(Vehicle.Orientation.BACKWARD));
+    assertThat(steps.get(1).getRouteIndex(), is(1));
+    assertThat(steps.get(1).getCosts(), is(100L));
+  }
+
+  @Test
+  void rejectGraphWithConnectionsUnknownToTopology() {
+    ContractionHierarchyTopology topology = ContractionHierarchyTopology.build(
+        List.of(pointA, pointB, pointC, pointD),
+        List.of(pathAD)
+    );
+    Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Point point : List.of(pointA, pointB, pointC, pointD)) {
+      graph.addVertex(point.getName());
+    }
+    addEdge(graph, new Edge(pathAC, false), 1234);
+
+    assertNull(ContractionHierarchy.customize(topology, CsrGraph.fromGraph(graph)));
+  }
+
+  @Test
+  void returnSameRoutesAsCsrPointRouterForRandomGraphsSharingTopology() {
+    Random random = new Random(42);
+    for (int iteration = 0; iteration < 10; iteration++) {
+      List<Point> points = new ArrayList<>();
+      for (int i = 0; i < 40; i++) {
+        points.add(new Point("P" + i));
+      }
+      List<Path> paths = new ArrayList<>();
+      for (int i = 0; i < 90; i++) {
+        Point source = points.get(random.nextInt(points.size()));
+        Point dest = points.get(random.nextInt(points.size()));
+        paths.add(new Path("Path" + i, source.getReference(), dest.getReference()));
+      }
+      ContractionHierarchyTopology topology = ContractionHierarchyTopology.build(points, paths);
+
+      // Customize the same topology with different graphs, as with paths being locked.
+      for (int customization = 0; customization < 5; customization++) {
+        Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+        for (Point point : points) {
+          graph.addVertex(point.getName());
+        }
+        for (Path path : paths) {
+          if (random.nextInt(5) == 0) {
+            continue;
+          }
+          addEdge(graph, new Edge(path, false), 1 + random.nextInt(1000));
+          if (random.nextBoolean()) {
+            addEdge(graph, new Edge(path, true), 1 + random.nextInt(1000));
+          }
+        }
+
+        CsrGraph csrGraph = CsrGraph.fromGraph(graph);
+        ContractionHierarchy hierarchy = ContractionHierarchy.customize(topology, csrGraph);
+        assertNotNull(hierarchy);
+        ContractionHierarchyPointRouter router
+            = new ContractionHierarchyPointRouter(hierarchy, points);
+        CsrPointRouter referenceRouter = new CsrPointRouter(csrGraph, points);
+
+        for (Point source : points) {
+          for (Point dest : points) {
+            long expectedCosts
+                = referenceRouter.getCosts(source.getReference(), dest.getReference());
+            assertEquals(
+                expectedCosts,
+                router.getCosts(source.getReference(), dest.getReference())
+            );
+            assertRouteMatchesCosts(
+                router.getRouteSteps(source, dest),
+                source,
+                dest,
+                expectedCosts
+            );
+          }
+        }
+      }
+    }
+  }
+
+  private static void assertRouteMatchesCosts(
+      List<Step> steps,
+      Point source,
+      Point dest,
+      long expectedCosts
+  ) {
+    if (expectedCosts == PointRouter.INFINITE_COSTS) {
+      assertNull(steps);
+      return;
+    }
+
+    assertNotNull(steps);
+    Point currentPoint = source;
+    long costs = 0;
+    for (int i = 0; i < steps.size(); i++) {
+      assertEquals(currentPoint, steps.get(i).getSourcePoint());
+      assertEquals(i, steps.get(i).getRouteIndex());
+      currentPoint = steps.get(i).getDestinationPoint();
+      costs += steps.get(i).getCosts();
+    }
+    assertEquals(dest, currentPoint);
+    assertEquals(expectedCosts, costs);
+  }
+
+  private static void addEdge(Graph<String, Edge> graph, Edge edge, double weight) {
+    graph.addEdge(edge.getSourceVertex(), edge.getTargetVertex(), edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+}
@@ -0,0 +1,309 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.csr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.CongestionHeatMap;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.ShortestPathTree;
+import org.opentcs.strategies.basic.routing.ShortestPathTreeCache;
+
+/**
+ * Unit tests for {@link CsrPointRouter}.
+ */
+class CsrPointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+  private Path pathAC;
+  private Path pathAD;
+  private Path pathCD;
+  private CsrGraph csrGraph;
+  private CsrPointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+    pathAD = new Path("A-->D", pointA.getReference(), pointD.getReference());
+    pathCD = new Path("C-->D", pointC.getReference(), pointD.getReference());
+
+    Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Point point : List.of(pointA, pointB, pointC, pointD)) {
+      graph.addVertex(point.getName());
+    }
+    addEdge(graph, new Edge(pathAC, false), 1234);
+    addEdge(graph, new Edge(pathAD, false), 1000);
+    addEdge(graph, new Edge(pathCD, true), 100);
+
+    csrGraph = CsrGraph.fromGraph(graph);
+    pointRouter = new CsrPointRouter(csrGraph, List.of(pointA, pointB, pointC, pointD));
+  }
+
+  @Test
+  void returnZeroCostsIfDestinationIsSource() {
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  void returnEmptyRouteIfDestinationIsSource() {
+    assertThat(pointRouter.getRouteSteps(pointA, pointA), is(empty()));
+  }
+
+  @Test
+  void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), pointB.getReference())
+    );
+  }
+
+  @Test
+  void returnNullIfNoRouteExists() {
+    assertNull(pointRouter.getRouteSteps(pointA, pointB));
+  }
+
+  @Test
+  void returnInfiniteCostsForUnknownPoints() {
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), new Point("X").getReference())
+    );
+  }
+
+  @Test
+  void returnCostsOfCheapestRoute() {
+    assertEquals(1100, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+  }
+
+  @Test
+  void returnStepsOfCheapestRoute() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointC);
+
+    assertThat(steps.stream().map(Step::getPath).toList(), contains(pathAD, pathCD));
+    assertThat(steps.get(0).getSourcePoint(), is(pointA));
+    assertThat(steps.get(0).getDestinationPoint(), is(pointD));
+    assertThat(steps.get(0).getVehicleOrientation(), is(Vehicle.Orientation.FORWARD));
+    assertThat(steps.get(0).getRouteIndex(), is(0));
+    assertThat(steps.get(0).getCosts(), is(1000L));
+    assertThat(steps.get(1).getSourcePoint(), is(pointD));
+    assertThat(steps.get(1).getDestinationPoint(), is(pointC));
+    assertThat(steps.get(1).getVehicleOrientation(), is(Vehicle.Orientation.BACKWARD));
+    assertThat(steps.get(1).getRouteIndex(), is(1));
+    assertThat(steps.get(1).getCosts(), is(100L));
+  }
+
+  @Test
+  void returnCostsAndStepsFromShortestPathTree() {
+    ShortestPathTree tree = pointRouter.getShortestPathTree(pointA);
+
+    assertEquals(0, tree.getCosts(pointA));
+    assertEquals(1000, tree.getCosts(pointD));
+    assertEquals(1100, tree.getCosts(pointC));
+    assertEquals(PointRouter.INFINITE_COSTS, tree.getCosts(pointB));
+    assertThat(tree.getRoute(pointA).getSteps(), is(empty()));
+    assertThat(
+        tree.getRoute(pointC).getSteps().stream().map(Step::getPath).toList(),
+        contains(pathAD, pathCD)
+    );
+    assertFalse(tree.getRoute(pointB).exists());
+  }
+
+  @Test
+  void returnSameCostsFromShortestPathTreeAsForSingleRoutes() {
+    Point pointE = new Point("E");
+    ShortestPathTree tree = pointRouter.getShortestPathTree(pointC);
+
+    for (Point destPoint : List.of(pointA, pointB, pointC, pointD, pointE)) {
+      assertEquals(
+          pointRouter.getCosts(pointC.getReference(), destPoint.getReference()),
+          tree.getCosts(destPoint)
+      );
+      assertEquals(
+          pointRouter.getRouteSteps(pointC, destPoint),
+          tree.getRoute(destPoint).getSteps()
+      );
+    }
+  }
+
+  @Test
+  void returnSameCostsAsJgraphtDijkstraForRandomGraphs() {
+    Random random = new Random(42);
+    for (int iteration = 0; iteration < 20; iteration++) {
+      List<Point> points = new ArrayList<>();
+      Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+      for (int i = 0; i < 30; i++) {
+        Triple position = new Triple(random.nextInt(1000), random.nextInt(1000), 0);
+        Point point = new Point("P" + i).withPose(new Pose(position, Double.NaN));
+        points.add(point);
+        graph.addVertex(point.getName());
+      }
+      for (int i = 0; i < 80; i++) {
+        Point source = points.get(random.nextInt(points.size()));
+        Point dest = points.get(random.nextInt(points.size()));
+        Path path = new Path("Path" + i, source.getReference(), dest.getReference());
+        // Edge weights are at least the straight-line distance between the points.
+        double distance = Math.hypot(
+            source.getPose().getPosition().getX() - dest.getPose().getPosition().getX(),
+            source.getPose().getPosition().getY() - dest.getPose().getPosition().getY()
+        );
+        addEdge(
+            graph,
+            new Edge(path, random.nextBoolean()),
+            Math.ceil(distance * (1 + random.nextDouble()))
+        );
+      }
+
+      CsrGraph csrGraph = CsrGraph.fromGraph(graph);
+      CsrPointRouter router = new CsrPointRouter(csrGraph, points);
+      CsrPointRouter aStarRouter = new CsrPointRouter(
+          csrGraph,
+          points,
+          EuclideanHeuristic.create(csrGraph, points).orElseThrow()
+      );
+      DijkstraShortestPath<String, Edge> dijkstra = new DijkstraShortestPath<>(graph);
+      for (Point source : points) {
+        for (Point dest : points) {
+          if (source.equals(dest)) {
+            continue;
+          }
+          GraphPath<String, Edge> graphPath = dijkstra.getPath(source.getName(), dest.getName());
+          long expectedCosts = graphPath == null
+              ? PointRouter.INFINITE_COSTS
+              : (long) graphPath.getWeight();
+
+          assertEquals(expectedCosts, router.getCosts(source.getReference(), dest.getReference()));
+          assertEquals(
+              expectedCosts,
+              aStarRouter.getCosts(source.getReference(), dest.getReference())
+          );
+        }
+      }
+    }
+  }
+
+  @Test
+  void computeRoutesOnGraphWithUpdatedPaths() {
+    Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Point point : List.of(pointA, pointB, pointC, pointD)) {
+      graph.addVertex(point.getName());
+    }
+    Edge edgeAD = new Edge(pathAD, false);
+    addEdge(graph, new Edge(pathAC, false), 1234);
+    addEdge(graph, edgeAD, 1000);
+    addEdge(graph, new Edge(pathCD, true), 100);
+    CsrGraph csrGraph = CsrGraph.fromGraph(graph);
+
+    graph.removeEdge(edgeAD);
+    addEdge(graph, new Edge(pathAD, false), 10);
+    CsrGraph updatedGraph = csrGraph.withUpdatedPaths(graph, List.of(pathAD));
+    CsrPointRouter updatedRouter
+        = new CsrPointRouter(updatedGraph, List.of(pointA, pointB, pointC, pointD));
+
+    assertEquals(3, updatedGraph.getEdgeCount());
+    assertEquals(10, updatedRouter.getCosts(pointA, pointD));
+    assertEquals(110, updatedRouter.getCosts(pointA, pointC));
+    // The original graph is not affected.
+    assertEquals(1000, pointRouter.getCosts(pointA, pointD));
+  }
+
+  @Test
+  void addCongestionPenaltiesToWeights() {
+    Set<Vehicle> vehicles = new HashSet<>();
+    TCSObjectService objectService = mock();
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(vehicles);
+    CongestionHeatMap heatMap
+        = new CongestionHeatMap(objectService, new ShortestPathTreeCache(0), 500, 0);
+    CsrPointRouter router
+        = new CsrPointRouter(csrGraph, List.of(pointA, pointB, pointC, pointD), null, heatMap);
+
+    assertThat(
+        router.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAD, pathCD)
+    );
+
+    vehicles.add(
+        new Vehicle("Vehicle-001").withAllocatedResources(List.of(Set.of(pathAD.getReference())))
+    );
+    heatMap.refresh();
+
+    List<Step> steps = router.getRouteSteps(pointA, pointC);
+    assertThat(steps.stream().map(Step::getPath).toList(), contains(pathAC));
+    assertEquals(1234, router.getCosts(pointA, pointC));
+    assertEquals(1500, router.getCosts(pointA, pointD));
+    assertThat(router.getRoute(pointA, pointD).getSteps().get(0).getCosts(), is(1500L));
+  }
+
+  @Test
+  void routeVehicleOverItsOwnAllocatedResources() {
+    Vehicle vehicle = new Vehicle("Vehicle-001")
+        .withAllocatedResources(List.of(Set.of(pathAD.getReference(), pointD.getReference())));
+    TCSObjectService objectService = mock();
+    when(objectService.fetchObjects(Vehicle.class)).thenReturn(Set.of(vehicle));
+    CongestionHeatMap heatMap
+        = new CongestionHeatMap(objectService, new ShortestPathTreeCache(0), 500, 0);
+    CsrPointRouter router
+        = new CsrPointRouter(csrGraph, List.of(pointA, pointB, pointC, pointD), null, heatMap);
+    heatMap.refresh();
+
+    PointRouter vehicleRouter = router.forVehicle(vehicle);
+
+    assertThat(
+        vehicleRouter.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAD, pathCD)
+    );
+    assertEquals(1100, vehicleRouter.getCosts(pointA, pointC));
+    assertEquals(1000, vehicleRouter.getShortestPathTree(pointA).getCosts(pointD));
+    assertThat(
+        vehicleRouter.getShortestPathTree(pointA).getRoute(pointD).getSteps().get(0).getCosts(),
+        is(1000L)
+    );
+    // Other vehicles are still routed around the allocated resources.
+    assertThat(
+        router.forVehicle(new Vehicle("Vehicle-002")).getRoute(pointA, pointC).getSteps().stream()
+            .map(Step::getPath)
+            .toList(),
+        contains(pathAC)
+    );
+    assertEquals(2000, router.getCosts(pointA, pointD));
+  }
+
+  private static void addEdge(Graph<String, Edge> graph, Edge edge, double weight) {
+    graph.addEdge(edge.getSourceVertex(), edge.getTargetVertex(), edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+}
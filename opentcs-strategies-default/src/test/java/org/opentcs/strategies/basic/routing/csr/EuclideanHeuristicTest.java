@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.csr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+
+/**
+ * Unit tests for {@link EuclideanHeuristic}.
+ */
+class EuclideanHeuristicTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Graph<String, Edge> graph;
+
+  @BeforeEach
+  void setUp() {
+    pointA = pointAt("A", 0, 0);
+    pointB = pointAt("B", 3000, 4000);
+    pointC = pointAt("C", 6000, 8000);
+
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
+    for (Point point : List.of(pointA, pointB, pointC)) {
+      graph.addVertex(point.getName());
+    }
+  }
+
+  @Test
+  void scaleDistancesByLowestRatioOfEdgeWeightToDistance() {
+    addEdge(pointA, pointB, 10);
+    addEdge(pointB, pointC, 20);
+    CsrGraph csrGraph = CsrGraph.fromGraph(graph);
+
+    EuclideanHeuristic heuristic
+        = EuclideanHeuristic.create(csrGraph, List.of(pointA, pointB, pointC)).orElseThrow();
+
+    assertThat(heuristic.getScale(), is(closeTo(0.002, 1.0E-9)));
+    assertThat(
+        heuristic.estimateDistance(
+            csrGraph.getVertexIndex(pointA.getName()),
+            csrGraph.getVertexIndex(pointC.getName())
+        ),
+        is(closeTo(20.0, 1.0E-6))
+    );
+  }
+
+  @Test
+  void provideNoHeuristicIfEdgeWeightIsZero() {
+    addEdge(pointA, pointB, 0);
+    addEdge(pointB, pointC, 20);
+
+    assertThat(
+        EuclideanHeuristic.create(CsrGraph.fromGraph(graph), List.of(pointA, pointB, pointC))
+            .isPresent(),
+        is(false)
+    );
+  }
+
+  @Test
+  void provideNoHeuristicIfPointsHaveSameCoordinates() {
+    Point pointD = pointAt("D", 0, 0);
+    graph.addVertex(pointD.getName());
+    addEdge(pointA, pointD, 10);
+
+    assertThat(
+        EuclideanHeuristic.create(
+            CsrGraph.fromGraph(graph),
+            List.of(pointA, pointB, pointC, pointD)
+        ).isPresent(),
+        is(false)
+    );
+  }
+
+  private void addEdge(Point source, Point dest, double weight) {
+    Path path = new Path(
+        source.getName() + "-->" + dest.getName(),
+        source.getReference(),
+        dest.getReference()
+    );
+    Edge edge = new Edge(path, false);
+    graph.addEdge(edge.getSourceVertex(), edge.getTargetVertex(), edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+
+  private static Point pointAt(String name, long x, long y) {
+    return new Point(name).withPose(new Pose(new Triple(x, y, 0), Double.NaN));
+  }
+}
@@ -117,4 +117,37 @@ class DefaultModelGraphMapperTest {
     assertThat(result.getEdgeWeight(edgeBC)).isEqualTo(29.0);
     verify(pathEdgeMapper).translatePaths(changedPaths, vehicle);
   }
+
+  @Test
+  void removeEdgesOfPathsNotTranslatedAnyMore() {
+    Graph<String, Edge> originalGraph = new DirectedWeightedMultigraph<>(Edge.class);
+    originalGraph.addVertex("A");
+    originalGraph.addVertex("B");
+    originalGraph.addVertex("C");
+    Edge edgeAB = new Edge(pathAB, false);
+    originalGraph.addEdge("A", "B", edgeAB);
+    originalGraph.setEdgeWeight(edgeAB, 42.0);
+    Edge edgeBC = new Edge(pathBC, false);
+    originalGraph.addEdge("B", "C", edgeBC);
+    originalGraph.setEdgeWeight(edgeBC, 29.0);
+
+    // The path is not translated to an edge any more, e.g. because it was locked.
+    when(pathEdgeMapper.translatePaths(any(), any())).thenReturn(Map.of());
+    Set<Path> changedPaths = Set.of(pathAB);
+
+    Graph<String, Edge> result = mapper.updateGraph(changedPaths, vehicle, originalGraph);
+
+    // Assert that the edge for the changed path was removed from the output graph only.
+    assertThat(result.vertexSet())
+        .hasSize(3)
+        .contains("A", "B", "C");
+    assertThat(result.edgeSet())
+        .hasSize(1)
+        .contains(edgeBC);
+    assertThat(result.getEdgeWeight(edgeBC)).isEqualTo(29.0);
+    assertThat(originalGraph.edgeSet())
+        .hasSize(2)
+        .contains(edgeAB, edgeBC);
+    verify(pathEdgeMapper).translatePaths(changedPaths, vehicle);
+  }
 }
@@ -2,6 +2,9 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anySet;
@@ -13,12 +16,15 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Set;
+import org.jgrapht.Graph;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
 
@@ -94,4 +100,24 @@ class GraphProviderTest {
     graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
     verify(graphMutator, times(2)).deriveGraph(anySet(), anySet(), any(GraphResult.class));
   }
+
+  @Test
+  void replaceGraphsInsteadOfModifyingThem() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Graph<String, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    when(groupMapper.apply(vehicle)).thenReturn("some-group");
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle)))
+        .thenReturn(graph);
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Set<Path> paths = Set.of(new Path("A-->B", pointA.getReference(), pointB.getReference()));
+    Graph<String, Edge> updatedGraph = new DirectedWeightedMultigraph<>(Edge.class);
+    when(defaultModelGraphMapper.updateGraph(paths, vehicle, graph)).thenReturn(updatedGraph);
+
+    graphProvider.getGraphResult(vehicle);
+    graphProvider.updateGraphResults(paths);
+
+    verify(defaultModelGraphMapper).updateGraph(paths, vehicle, graph);
+    assertThat(graphProvider.getGraphResult(vehicle).getGraph(), is(sameInstance(updatedGraph)));
+  }
 }
@@ -2,6 +2,12 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -14,6 +20,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
@@ -21,13 +28,24 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.CongestionHeatMap;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
+import org.opentcs.strategies.basic.routing.DerivedPointRouterCache;
+import org.opentcs.strategies.basic.routing.MemoizingPointRouter;
+import org.opentcs.strategies.basic.routing.PointRoute;
+import org.opentcs.strategies.basic.routing.PointRouteMemo;
 import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.ResourcesToAvoid;
+import org.opentcs.strategies.basic.routing.ShortestPathTree;
+import org.opentcs.strategies.basic.routing.ShortestPathTreeCache;
+import org.opentcs.strategies.basic.routing.ShortestPathTreeCachingPointRouter;
 
 /**
  * Tests for {@link PointRouterProvider}.
@@ -44,6 +62,10 @@ public class PointRouterProviderTest {
   private GroupMapper routingGroupMapper;
   private PointRouterFactory pointRouterFactory;
   private GraphProvider graphProvider;
+  private PointRouteMemo pointRouteMemo;
+  private ShortestPathTreeCache shortestPathTreeCache;
+  private DerivedPointRouterCache derivedPointRouterCache;
+  private DefaultRouterConfiguration configuration;
   private PointRouterProvider pointRouterProvider;
 
   @BeforeEach
@@ -66,13 +88,22 @@ public class PointRouterProviderTest {
     when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
         .thenReturn(mock(PointRouter.class));
     graphProvider = mock();
+    pointRouteMemo = new PointRouteMemo();
+    shortestPathTreeCache = new ShortestPathTreeCache(1);
+    derivedPointRouterCache = new DerivedPointRouterCache(1);
+    configuration = mock();
 
     pointRouterProvider = new PointRouterProvider(
         objectService,
         resourceAvoidanceExtractor,
         routingGroupMapper,
         pointRouterFactory,
-        graphProvider
+        graphProvider,
+        pointRouteMemo,
+        shortestPathTreeCache,
+        derivedPointRouterCache,
+        new CongestionHeatMap(objectService, shortestPathTreeCache, 0, 0),
+        configuration
     );
   }
 
@@ -153,6 +184,145 @@ public class PointRouterProviderTest {
     verify(pointRouterFactory, times(15)).createPointRouter(any(Vehicle.class), anySet(), anySet());
   }
 
+  @Test
+  void shouldProvideMemoizingPointRoutersIfConfigured() {
+    when(configuration.memoizeRoutes()).thenReturn(true);
+
+    PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
+        createVehicle("Vehicle-000", -1),
+        (TransportOrder) null
+    );
+
+    assertThat(pointRouter, is(instanceOf(MemoizingPointRouter.class)));
+  }
+
+  @Test
+  void shouldClearPointRouteMemoOnTopologyUpdate() {
+    pointRouteMemo.getRoute("some-group", "A", "B", () -> PointRoute.noRoute());
+
+    pointRouterProvider.updateRoutingTopology(Set.of());
+
+    assertThat(pointRouteMemo.lookupRoute("some-group", "A", "B"), is(nullValue()));
+  }
+
+  @Test
+  void shouldKeepPointRoutersUpdatedOnTopologyUpdate() {
+    when(pointRouterFactory.updatePointRouter(any(PointRouter.class), any(Vehicle.class), anySet()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    PointRouter pointRouter
+        = pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+    Set<Path> paths = Set.of(createPath());
+
+    pointRouterProvider.updateRoutingTopology(paths);
+
+    verify(pointRouterFactory).updatePointRouter(any(PointRouter.class), eq(vehicle), eq(paths));
+    assertThat(
+        pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null),
+        is(sameInstance(pointRouter))
+    );
+    verify(pointRouterFactory, times(1)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldCreatePointRoutersAgainIfTheyCannotBeUpdated() {
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+
+    pointRouterProvider.updateRoutingTopology(Set.of(createPath()));
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldReusePointRoutersForSameResourcesToAvoid() {
+    Path path = createPath();
+    ResourcesToAvoid resourcesToAvoid = mock();
+    when(resourcesToAvoid.getPoints()).thenReturn(Set.of());
+    when(resourcesToAvoid.getPaths()).thenReturn(Set.of(path));
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(Set.of(path.getReference())))
+        .thenReturn(resourcesToAvoid);
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+
+    PointRouter pointRouter
+        = pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of(path.getReference()));
+
+    assertThat(
+        pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of(path.getReference())),
+        is(sameInstance(pointRouter))
+    );
+    verify(pointRouterFactory, times(1)).createPointRouter(vehicle, Set.of(), Set.of(path));
+
+    pointRouterProvider.updateRoutingTopology(Set.of(path));
+    pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of(path.getReference()));
+
+    verify(pointRouterFactory, times(2)).createPointRouter(vehicle, Set.of(), Set.of(path));
+  }
+
+  @Test
+  void shouldInvalidateShortestPathTreeCacheOnTopologyUpdate() {
+    shortestPathTreeCache.getTree("some-group", "A", () -> mock(ShortestPathTree.class));
+    long topologyVersion = shortestPathTreeCache.getTopologyVersion();
+
+    pointRouterProvider.updateRoutingTopology(Set.of());
+
+    assertThat(shortestPathTreeCache.getTopologyVersion(), is(topologyVersion + 1));
+    assertThat(shortestPathTreeCache.getSize(), is(0));
+  }
+
+  @Test
+  void shouldCacheShortestPathTreesIfConfigured() {
+    PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
+        createVehicle("Vehicle-000", -1),
+        (TransportOrder) null
+    );
+
+    assertThat(pointRouter, is(instanceOf(ShortestPathTreeCachingPointRouter.class)));
+  }
+
+  @Test
+  void shouldWarmUpPointRoutersForAllRoutingGroupsIfConfigured() {
+    when(configuration.warmUpPointRoutersInParallel()).thenReturn(true);
+    createVehicle("Vehicle-000", 1);
+    createVehicle("Vehicle-001", 1);
+    createVehicle("Vehicle-002", 2);
+
+    pointRouterProvider.warmUp();
+    pointRouterProvider.awaitWarmUp();
+
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+    assertThat(pointRouterProvider.getPointRoutersByVehicleGroup().size(), is(2));
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldNotUseOutdatedPointRoutersDuringWarmUp() {
+    when(configuration.warmUpPointRoutersInParallel()).thenReturn(true);
+    Vehicle vehicle = createVehicle("Vehicle-000", 1);
+    Vehicle blockedVehicle = createVehicle("Vehicle-001", 2);
+    PointRouter pointRouter
+        = pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+    CountDownLatch warmUpReleased = new CountDownLatch(1);
+    when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
+        .thenAnswer(invocation -> {
+          if (invocation.getArgument(0) == blockedVehicle) {
+            warmUpReleased.await();
+          }
+          return mock(PointRouter.class);
+        });
+
+    pointRouterProvider.updateRoutingTopology(Set.of(createPath()));
+
+    assertThat(
+        pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null),
+        is(not(sameInstance(pointRouter)))
+    );
+
+    warmUpReleased.countDown();
+    pointRouterProvider.awaitWarmUp();
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
@@ -199,4 +369,8 @@ public class PointRouterProviderTest {
   private boolean filterByName(String name, TCSObject<?> object) {
     return name.equals(object.getName());
   }
+
+  private Path createPath() {
+    return new Path("A --- B", new Point("A").getReference(), new Point("B").getReference());
+  }
 }
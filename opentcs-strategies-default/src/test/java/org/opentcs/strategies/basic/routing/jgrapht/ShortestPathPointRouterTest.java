@@ -5,10 +5,13 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -22,7 +25,9 @@ import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.PointRoute;
 import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.ShortestPathTree;
 
 /**
  */
@@ -103,4 +108,34 @@ class ShortestPathPointRouterTest {
     assertThat(steps, is(not(empty())));
   }
 
+  @Test
+  void returnCostsAndStepsOfExistingRoute() {
+    PointRoute route = pointRouter.getRoute(pointA, pointC);
+    assertTrue(route.exists());
+    assertEquals(1234, route.getCosts());
+    assertThat(route.getSteps().stream().map(Step::getPath).toList(), contains(pathAC));
+  }
+
+  @Test
+  void returnNoRouteIfNoRouteExists() {
+    PointRoute route = pointRouter.getRoute(pointA, pointB);
+    assertFalse(route.exists());
+    assertEquals(PointRouter.INFINITE_COSTS, route.getCosts());
+  }
+
+  @Test
+  void returnCostsAndStepsFromShortestPathTree() {
+    ShortestPathTree tree = pointRouter.getShortestPathTree(pointA);
+    assertThat(tree.getSourcePoint(), is(pointA));
+    assertEquals(0, tree.getCosts(pointA));
+    assertEquals(1234, tree.getCosts(pointC));
+    assertEquals(PointRouter.INFINITE_COSTS, tree.getCosts(pointB));
+    assertThat(tree.getRoute(pointA).getSteps(), is(empty()));
+    assertThat(
+        tree.getRoute(pointC).getSteps().stream().map(Step::getPath).toList(),
+        contains(pathAC)
+    );
+    assertFalse(tree.getRoute(pointB).exists());
+  }
+
 }
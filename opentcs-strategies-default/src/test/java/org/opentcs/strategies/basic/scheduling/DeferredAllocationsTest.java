@@ -0,0 +1,124 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Unit tests for {@link DeferredAllocations}.
+ */
+class DeferredAllocationsTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Map<AllocatorCommand.Allocate, Set<TCSResource<?>>> blockingResources;
+  private DeferredAllocations deferredAllocations;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    blockingResources = new HashMap<>();
+    deferredAllocations = new DeferredAllocations();
+  }
+
+  @Test
+  void wakeUpOnlyAllocationsWaitingForReleasedResources() {
+    AllocatorCommand.Allocate allocateA = createAllocate("client-1", pointA);
+    AllocatorCommand.Allocate allocateB = createAllocate("client-2", pointB);
+    deferredAllocations.add(allocateA, Set.of(pointA));
+    deferredAllocations.add(allocateB, Set.of(pointB));
+
+    assertThat(wakeUp(pointA), contains(allocateA));
+    assertEquals(1, deferredAllocations.getWaiterCount());
+    assertEquals(1, deferredAllocations.getReleaseCount());
+    assertEquals(1, deferredAllocations.getWakeUpCount());
+  }
+
+  @Test
+  void keepAllocationsStillBlockedByOtherResources() {
+    AllocatorCommand.Allocate allocate = createAllocate("client-1", pointA, pointB);
+    deferredAllocations.add(allocate, Set.of(pointA, pointB));
+    blockingResources.put(allocate, Set.of(pointB));
+
+    assertThat(wakeUp(pointA), is(empty()));
+    assertEquals(1, deferredAllocations.getBlockedWaiterCount());
+
+    blockingResources.put(allocate, Set.of());
+
+    assertThat(wakeUp(pointB), contains(allocate));
+    assertEquals(0, deferredAllocations.getWaiterCount());
+  }
+
+  @Test
+  void wakeUpAllocationsNotBlockedByResourcesOnEveryRelease() {
+    AllocatorCommand.Allocate allocate = createAllocate("client-1", pointA);
+    deferredAllocations.add(allocate, Set.of());
+
+    assertThat(wakeUp(pointC), contains(allocate));
+  }
+
+  @Test
+  void wakeUpAllocationsInNaturalOrder() {
+    AllocatorCommand.Allocate olderAllocate = createAllocate("client-1", pointA);
+    AllocatorCommand.Allocate newerAllocate = createAllocate("client-2", pointB);
+    deferredAllocations.add(newerAllocate, Set.of());
+    deferredAllocations.add(olderAllocate, Set.of(pointA));
+
+    assertThat(wakeUp(pointA), contains(olderAllocate, newerAllocate));
+  }
+
+  @Test
+  void wakeUpAllAllocations() {
+    AllocatorCommand.Allocate allocateA = createAllocate("client-1", pointA);
+    AllocatorCommand.Allocate allocateB = createAllocate("client-2", pointB);
+    deferredAllocations.add(allocateA, Set.of(pointA));
+    deferredAllocations.add(allocateB, Set.of());
+
+    assertThat(deferredAllocations.wakeUpAll(), contains(allocateA, allocateB));
+    assertEquals(0, deferredAllocations.getWaiterCount());
+    assertThat(wakeUp(pointA), is(empty()));
+  }
+
+  @Test
+  void removeAllocationsOfClient() {
+    AllocatorCommand.Allocate allocate = createAllocate("client-1", pointA);
+    deferredAllocations.add(allocate, Set.of(pointA));
+
+    deferredAllocations.removeIf(cmd -> cmd.getClient().getId().equals("client-1"));
+
+    assertEquals(0, deferredAllocations.getWaiterCount());
+    assertThat(wakeUp(pointA), is(empty()));
+  }
+
+  private List<AllocatorCommand.Allocate> wakeUp(TCSResource<?> releasedResource) {
+    return deferredAllocations.wakeUp(
+        Set.of(releasedResource),
+        allocate -> blockingResources.getOrDefault(allocate, Set.of())
+    );
+  }
+
+  private AllocatorCommand.Allocate createAllocate(String clientId, TCSResource<?>... resources) {
+    Scheduler.Client client = mock();
+    when(client.getId()).thenReturn(clientId);
+    return new AllocatorCommand.Allocate(client, Set.of(resources));
+  }
+}
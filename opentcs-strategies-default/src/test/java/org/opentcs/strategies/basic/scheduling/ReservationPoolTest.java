@@ -5,13 +5,17 @@ package org.opentcs.strategies.basic.scheduling;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsMapWithSize.anEmptyMap;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -122,6 +126,47 @@ class ReservationPoolTest {
     assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
   }
 
+  @Test
+  void allocatedResourcesIsEmptyAfterFreeingAllocations() {
+    ReservationEntry entry = reservationPool.getReservationEntry(new Point("point1"));
+    entry.allocate(client);
+    entry.allocate(client);
+
+    entry.free();
+    assertThat(reservationPool.allocatedResources(client), hasSize(1));
+
+    entry.free();
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+    assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
+  }
+
+  @Test
+  void returnSameAllocationsSnapshotUntilAllocationsChange() {
+    reservationPool.getReservationEntry(new Point("point1")).allocate(client);
+    Map<String, Set<TCSResource<?>>> allocations = reservationPool.getAllocations();
+
+    assertThat(reservationPool.getAllocations(), is(sameInstance(allocations)));
+
+    reservationPool.getReservationEntry(new Point("point2")).allocate(client);
+
+    assertThat(reservationPool.getAllocations(), is(not(sameInstance(allocations))));
+    assertThat(reservationPool.getAllocations().get(client.getId()), hasSize(2));
+  }
+
+  @Test
+  void returnResourcesAllocatedByOtherClients() {
+    reservationPool.getReservationEntry(new Point("point1")).allocate(client);
+    reservationPool.getReservationEntry(new Point("point2")).allocate(new TestClient());
+
+    assertThat(
+        reservationPool.getBlockingResources(
+            Set.of(new Point("point1"), new Point("point2"), new Point("point3")),
+            client
+        ),
+        contains(new Point("point2"))
+    );
+  }
+
   /**
    * A dummy client for cases in which we need to provide a client but do not have a real one.
    */
@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling.modules;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.DeadlockPredictedEvent;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link DeadlockPredictionModule}.
+ */
+class DeadlockPredictionModuleTest {
+
+  private Point point1;
+  private Point point2;
+  private Point point3;
+  private Point point4;
+  private Scheduler.Client client1;
+  private Scheduler.Client client2;
+  private Scheduler.Client client3;
+  private List<DeadlockPredictedEvent> events;
+  private DeadlockPredictionModule module;
+
+  @BeforeEach
+  void setUp() {
+    point1 = new Point("point1");
+    point2 = new Point("point2");
+    point3 = new Point("point3");
+    point4 = new Point("point4");
+    client1 = new SampleClient("client1");
+    client2 = new SampleClient("client2");
+    client3 = new SampleClient("client3");
+    events = new ArrayList<>();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.subscribe(event -> {
+      if (event instanceof DeadlockPredictedEvent) {
+        events.add((DeadlockPredictedEvent) event);
+      }
+    });
+    module = new DeadlockPredictionModule(eventBus, new Object());
+    module.initialize();
+  }
+
+  @Test
+  void allowAllocationNotResultingInCycle() {
+    module.setAllocationState(client1, Set.of(point1), List.of(Set.of(point2), Set.of(point3)));
+    module.setAllocationState(client2, Set.of(point3), List.of(Set.of(point4)));
+
+    assertTrue(module.mayAllocate(client1, Set.of(point2)));
+    assertThat(events, is(empty()));
+  }
+
+  @Test
+  void refuseAllocationResultingInCycleOfTwoClients() {
+    module.setAllocationState(client1, Set.of(point1), List.of(Set.of(point2), Set.of(point3)));
+    module.setAllocationState(client2, Set.of(point3), List.of(Set.of(point2), Set.of(point1)));
+
+    assertFalse(module.mayAllocate(client1, Set.of(point2)));
+    assertThat(events, hasSize(1));
+    assertThat(events.get(0).getClientIds(), contains("client1", "client2"));
+  }
+
+  @Test
+  void refuseAllocationResultingInCycleOfThreeClients() {
+    module.setAllocationState(client1, Set.of(point1), List.of(Set.of(point2), Set.of(point3)));
+    module.setAllocationState(client2, Set.of(point3), List.of(Set.of(point4)));
+    module.setAllocationState(client3, Set.of(point4), List.of(Set.of(point1)));
+
+    assertFalse(module.mayAllocate(client1, Set.of(point2)));
+    assertThat(events.get(0).getClientIds(), contains("client1", "client2", "client3"));
+  }
+
+  @Test
+  void emitPredictedDeadlockOnlyOnce() {
+    module.setAllocationState(client1, Set.of(point1), List.of(Set.of(point2), Set.of(point3)));
+    module.setAllocationState(client2, Set.of(point3), List.of(Set.of(point2)));
+
+    assertFalse(module.mayAllocate(client1, Set.of(point2)));
+    assertFalse(module.mayAllocate(client1, Set.of(point2)));
+    assertThat(events, hasSize(1));
+  }
+
+  @Test
+  void allowAllocationAfterResourcesReleased() {
+    module.setAllocationState(client1, Set.of(point1), List.of(Set.of(point2), Set.of(point3)));
+    module.setAllocationState(client2, Set.of(point3), List.of(Set.of(point2)));
+
+    module.allocationReleased(client2, Set.of(point3));
+
+    assertTrue(module.mayAllocate(client1, Set.of(point2)));
+  }
+
+  private static class SampleClient
+      implements
+        Scheduler.Client {
+
+    private final String id;
+
+    SampleClient(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public TCSObjectReference<Vehicle> getRelatedVehicle() {
+      return null;
+    }
+
+    @Override
+    public boolean allocationSuccessful(Set<TCSResource<?>> resources) {
+      return false;
+    }
+
+    @Override
+    public void allocationFailed(Set<TCSResource<?>> resources) {
+    }
+  }
+}
@@ -106,6 +106,59 @@ class AreaAllocationsTest {
     assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
   }
 
+  @Test
+  void allowAreaAllocationWhenOnlyEnvelopesIntersectAreaAllocatedByAnotherVehicle() {
+    // Arrange
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(10, 0),
+        new Coordinate(0, 10),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(10, 10),
+        new Coordinate(10, 4),
+        new Coordinate(4, 10),
+        new Coordinate(10, 10)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), allocatedArea);
+
+    // Act & Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+  }
+
+  @Test
+  void allowAreaAllocationWhenAreaWasPreviouslyAllocatedByAnotherVehicle() {
+    // Arrange
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection otherArea = createCollectionWithOneGeometry(
+        new Coordinate(20, 0),
+        new Coordinate(20, 10),
+        new Coordinate(30, 10),
+        new Coordinate(30, 0),
+        new Coordinate(20, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    Vehicle vehicle3 = new Vehicle("yet-another-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), requestedArea);
+    areaAllocations.setAreaAllocation(vehicle3.getReference(), requestedArea);
+
+    // Act
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), otherArea);
+    areaAllocations.clearAreaAllocation(vehicle3.getReference());
+
+    // Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+    assertFalse(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), otherArea));
+  }
+
   private GeometryCollection createCollectionWithOneGeometry(Coordinate... coordinates) {
     GeometryFactory geometryFactory = new GeometryFactory();
     return geometryFactory.createGeometryCollection(
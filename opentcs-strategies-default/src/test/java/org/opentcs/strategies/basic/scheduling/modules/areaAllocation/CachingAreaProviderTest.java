@@ -3,7 +3,10 @@
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -16,6 +19,7 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Couple;
 import org.opentcs.data.model.Envelope;
@@ -185,4 +189,76 @@ class CachingAreaProviderTest {
     assertThat(result.getNumGeometries(), is(0));
     assertTrue(result.isEmpty());
   }
+
+  @Test
+  void providesPreparedAreasAndReusesAreaCollections() {
+    // Arrange
+    point2 = point2.withVehicleEnvelopes(
+        Map.of(
+            "some-envelope-key",
+            new Envelope(
+                List.of(
+                    new Couple(100, 0),
+                    new Couple(100, 10),
+                    new Couple(110, 10),
+                    new Couple(110, 0),
+                    new Couple(100, 0)
+                )
+            )
+        )
+    );
+    when(objectService.fetchObjects(eq(Point.class), any()))
+        .thenReturn(Set.of(point1, point2, point3));
+    when(objectService.fetchObjects(eq(Path.class), any()))
+        .thenReturn(Set.of(path1, path2));
+    areaProvider.initialize();
+
+    // Act
+    GeometryCollection result = areaProvider.getAreas(
+        "some-envelope-key", Set.of(point2, path1)
+    );
+
+    // Assert
+    assertThat(result.getNumGeometries(), is(1));
+    assertThat(result.getGeometryN(0).getUserData(), is(instanceOf(PreparedGeometry.class)));
+    assertThat(
+        areaProvider.getAreas("some-envelope-key", Set.of(path1, point2)),
+        is(sameInstance(result))
+    );
+  }
+
+  @Test
+  void limitsAreaCollectionsKeptToNumberOfAreas() {
+    // Arrange
+    point2 = point2.withVehicleEnvelopes(
+        Map.of(
+            "some-envelope-key",
+            new Envelope(
+                List.of(
+                    new Couple(100, 0),
+                    new Couple(100, 10),
+                    new Couple(110, 10),
+                    new Couple(110, 0),
+                    new Couple(100, 0)
+                )
+            )
+        )
+    );
+    when(objectService.fetchObjects(eq(Point.class), any()))
+        .thenReturn(Set.of(point1, point2, point3));
+    when(objectService.fetchObjects(eq(Path.class), any()))
+        .thenReturn(Set.of(path1, path2));
+    areaProvider.initialize();
+
+    // Act: With a single area, only two area collections are kept.
+    GeometryCollection result = areaProvider.getAreas("some-envelope-key", Set.of(point2));
+    areaProvider.getAreas("some-envelope-key", Set.of(point2, path1));
+    areaProvider.getAreas("some-envelope-key", Set.of(point2, path2));
+
+    // Assert
+    assertThat(
+        areaProvider.getAreas("some-envelope-key", Set.of(point2)),
+        is(not(sameInstance(result)))
+    );
+  }
 }